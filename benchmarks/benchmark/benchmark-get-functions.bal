@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkscheduler;
 import ballerina/io;
 
 map<function()> functions;
@@ -13,10 +14,14 @@ function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
     addFloatFunctions();
+    addDecimalFunctions();
+    addArrayFunctions();
     addTimeFunctions();
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addSchedulerFunctions();
+    addTypeCheckFunctions();
 }
 
 function addJSONFunctions() {
@@ -77,6 +82,25 @@ function addFloatFunctions() {
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
 }
 
+function addDecimalFunctions() {
+    functions["benchmarkDecimalAddition"] = benchmarktypes:benchmarkDecimalAddition;
+    functions["benchmarkDecimalMultiplication"] = benchmarktypes:benchmarkDecimalMultiplication;
+    functions["benchmarkDecimalSubtraction"] = benchmarktypes:benchmarkDecimalSubtraction;
+    functions["benchmarkDecimalDivision"] = benchmarktypes:benchmarkDecimalDivision;
+    functions["benchmarkDecimalRemainder"] = benchmarktypes:benchmarkDecimalRemainder;
+    functions["benchmarkDecimalLineTotal"] = benchmarktypes:benchmarkDecimalLineTotal;
+    functions["benchmarkDecimalSum"] = benchmarktypes:benchmarkDecimalSum;
+    functions["benchmarkDecimalMax"] = benchmarktypes:benchmarkDecimalMax;
+    functions["benchmarkDecimalAbs"] = benchmarktypes:benchmarkDecimalAbs;
+    functions["benchmarkDecimalRound"] = benchmarktypes:benchmarkDecimalRound;
+}
+
+function addArrayFunctions() {
+    functions["benchmarkIntArraySort"] = benchmarktypes:benchmarkIntArraySort;
+    functions["benchmarkSortedIntArraySort"] = benchmarktypes:benchmarkSortedIntArraySort;
+    functions["benchmarkStringArraySort"] = benchmarktypes:benchmarkStringArraySort;
+}
+
 function addTimeFunctions() {
     functions["benchmarkCurrentTimeFunction"] = benchmarktypes:benchmarkCurrentTimeFunction;
     functions["benchmarkCreateTimeWithZoneIDFunction"] = benchmarktypes:benchmarkCreateTimeWithZoneIDFunction;
@@ -113,6 +137,8 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadCsvRecords"] = benchmarkio:benchmarkReadCsvRecords;
+    functions["benchmarkReadCsvTable"] = benchmarkio:benchmarkReadCsvTable;
 }
 
 function addStringFunctions() {
@@ -140,3 +166,18 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addSchedulerFunctions() {
+    functions["benchmarkConcurrentBlockingCalls"] = benchmarkscheduler:benchmarkConcurrentBlockingCalls;
+    functions["benchmarkStrandSpawn"] = benchmarkscheduler:benchmarkStrandSpawn;
+    functions["benchmarkUncontendedLock"] = benchmarkscheduler:benchmarkUncontendedLock;
+    functions["benchmarkLockContention8Strands"] = benchmarkscheduler:benchmarkLockContention8Strands;
+    functions["benchmarkLockContention64Strands"] = benchmarkscheduler:benchmarkLockContention64Strands;
+}
+
+function addTypeCheckFunctions() {
+    functions["benchmarkRecordTypeTest"] = benchmarktypes:benchmarkRecordTypeTest;
+    functions["benchmarkUnionTypeTest"] = benchmarktypes:benchmarkUnionTypeTest;
+    functions["benchmarkRecordTypeCast"] = benchmarktypes:benchmarkRecordTypeCast;
+    functions["benchmarkRecordConstructFrom"] = benchmarktypes:benchmarkRecordConstructFrom;
+}
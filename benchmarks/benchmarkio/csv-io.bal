@@ -0,0 +1,22 @@
+import ballerina/io;
+
+type Employee record {
+    int id;
+    string name;
+    float salary;
+    boolean permanent;
+};
+
+public function benchmarkReadCsvRecords() {
+    io:ReadableCSVChannel csvChannel = checkpanic io:openReadableCsvFile("benchmarkio/resources/test.csv");
+    while (csvChannel.hasNext()) {
+        var records = csvChannel.getNext();
+    }
+    var result = csvChannel.close();
+}
+
+public function benchmarkReadCsvTable() {
+    io:ReadableCSVChannel csvChannel = checkpanic io:openReadableCsvFile("benchmarkio/resources/test.csv");
+    var tableResult = csvChannel.getTable(Employee);
+    var result = csvChannel.close();
+}
@@ -0,0 +1,27 @@
+import ballerinax/java;
+
+// Number of strands which are blocked on an extern call at the same time.
+const int CONCURRENT_BLOCKING_CALLS = 10000;
+
+// Time each blocking call takes, in milliseconds.
+const int BLOCKING_CALL_DURATION = 10;
+
+// Each strand blocks the worker thread it runs on in an in-process Java call, which measures the throughput of
+// blocking calls that hold a strand worker thread. Only extern calls made through BRuntime.runBlocking are moved to
+// the elastic blocking pool when the BALLERINA_OFFLOAD_BLOCKING=true environment variable is set.
+public function benchmarkConcurrentBlockingCalls() {
+    future<error?>[] futures = [];
+    int i = 0;
+    while (i < CONCURRENT_BLOCKING_CALLS) {
+        futures[i] = start blockingCall(BLOCKING_CALL_DURATION);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        var result = wait f;
+    }
+}
+
+function blockingCall(int millis) returns error? = @java:Method {
+    name: "sleep",
+    class: "java.lang.Thread"
+} external;
@@ -0,0 +1,40 @@
+// Number of times each strand enters the lock block in each iteration.
+const int LOCKS_PER_STRAND = 1000;
+
+int lockedCounter = 0;
+
+// Measures `lock` blocks on a module level variable when there is no contention, and when 8 and 64 strands
+// contend for the same lock.
+public function benchmarkUncontendedLock() {
+    runLockingStrands(1);
+}
+
+public function benchmarkLockContention8Strands() {
+    runLockingStrands(8);
+}
+
+public function benchmarkLockContention64Strands() {
+    runLockingStrands(64);
+}
+
+function runLockingStrands(int strandCount) {
+    future<()>[] futures = [];
+    int i = 0;
+    while (i < strandCount) {
+        futures[i] = start incrementLockedCounter();
+        i = i + 1;
+    }
+    foreach var f in futures {
+        var result = wait f;
+    }
+}
+
+function incrementLockedCounter() {
+    int i = 0;
+    while (i < LOCKS_PER_STRAND) {
+        lock {
+            lockedCounter = lockedCounter + 1;
+        }
+        i = i + 1;
+    }
+}
@@ -0,0 +1,20 @@
+// Number of strands started in each iteration.
+const int STRANDS_PER_ITERATION = 1000;
+
+// Starts short lived strands which neither yield nor use workers, to measure the cost of creating and scheduling a
+// strand. Run with GC logging enabled to get the bytes allocated per strand.
+public function benchmarkStrandSpawn() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < STRANDS_PER_ITERATION) {
+        futures[i] = start increment(i);
+        i = i + 1;
+    }
+    foreach var f in futures {
+        int result = wait f;
+    }
+}
+
+function increment(int value) returns int {
+    return value + 1;
+}
@@ -0,0 +1,30 @@
+int[] unsortedInts = [618917, 342612, 134235, 330412, 361634, 106132, 664844, 572601, 898935, 752462, 422849, 967630,
+    261402, 947587, 818112, 225958, 625762, 979376, -374104, 194169, 306130, 930271, 579739, 4141, 391419, 529224,
+    92583, 709992, 481213, 851703, 152557, 995605, 88360, 595013, 526619, 497868, -246544, 17351, 601903, 634524];
+
+string[] unsortedStrings = ["pear", "apple", "fig", "banana", "kiwi", "cherry", "grape", "lime", "mango", "date",
+    "plum", "peach", "melon", "lemon", "guava", "papaya", "apricot", "orange", "quince", "olive"];
+
+public function benchmarkIntArraySort() {
+    int[] arr = unsortedInts.clone();
+    int[] sorted = arr.sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+public function benchmarkSortedIntArraySort() {
+    int[] arr = [];
+    foreach int i in 0 ..< 100 {
+        arr[i] = i;
+    }
+    int[] sorted = arr.sort(function (int x, int y) returns int {
+        return x - y;
+    });
+}
+
+public function benchmarkStringArraySort() {
+    string[] arr = unsortedStrings.clone();
+    string[] sorted = arr.sort(function (string x, string y) returns int {
+        return x < y ? -1 : x == y ? 0 : 1;
+    });
+}
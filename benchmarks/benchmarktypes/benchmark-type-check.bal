@@ -0,0 +1,83 @@
+// Number of type checks done in each iteration, so that the cost of a check is not hidden by the benchmark harness.
+const int TYPE_CHECKS_PER_ITERATION = 1000;
+
+type Address record {|
+    string street;
+    string city;
+    int zip;
+|};
+
+type Employee record {
+    string name;
+    int age;
+    Address address;
+    string[] skills;
+};
+
+type Manager record {
+    string name;
+    int age;
+    Address address;
+    string[] skills;
+    Employee[] reports;
+};
+
+type Member Employee|Manager|int|string|();
+
+function createMembers() returns Member[] {
+    Address address = { street: "Palm Grove", city: "Colombo", zip: 300 };
+    Employee employee = { name: "Jane", age: 30, address: address, skills: ["java", "ballerina"] };
+    Manager manager = { name: "John", age: 45, address: address, skills: ["go"], reports: [employee] };
+    return [employee, manager, 10, "member", ()];
+}
+
+// Run with and without the type check cache to compare repeated structural checks of the same type pairs.
+public function benchmarkRecordTypeTest() {
+    Member[] members = createMembers();
+    int count = 0;
+    int i = 0;
+    while (i < TYPE_CHECKS_PER_ITERATION) {
+        Member member = members[i % members.length()];
+        if (member is Manager) {
+            count = count + 1;
+        } else if (member is Employee) {
+            count = count + 2;
+        }
+        i = i + 1;
+    }
+}
+
+public function benchmarkUnionTypeTest() {
+    Member[] members = createMembers();
+    int count = 0;
+    int i = 0;
+    while (i < TYPE_CHECKS_PER_ITERATION) {
+        anydata member = members[i % members.length()];
+        if (member is int|string|()) {
+            count = count + 1;
+        } else if (member is Employee|Manager) {
+            count = count + 2;
+        }
+        i = i + 1;
+    }
+}
+
+public function benchmarkRecordTypeCast() {
+    Member[] members = createMembers();
+    int i = 0;
+    while (i < TYPE_CHECKS_PER_ITERATION) {
+        anydata member = members[0];
+        Employee employee = <Employee> member;
+        i = i + 1;
+    }
+}
+
+public function benchmarkRecordConstructFrom() {
+    json employee = { name: "Jane", age: 30, address: { street: "Palm Grove", city: "Colombo", zip: 300 },
+                      skills: ["java", "ballerina"] };
+    int i = 0;
+    while (i < TYPE_CHECKS_PER_ITERATION) {
+        Employee|error result = Employee.constructFrom(employee);
+        i = i + 1;
+    }
+}
@@ -0,0 +1,58 @@
+import ballerina/lang.'decimal as decimals;
+
+public function benchmarkDecimalAddition() {
+    decimal a = 10.25;
+    decimal b = 9.99;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal a = 2.50;
+    decimal b = 5.5;
+    decimal c = a * b;
+}
+
+public function benchmarkDecimalSubtraction() {
+    decimal a = 25.50;
+    decimal b = 15.75;
+    decimal c = a - b;
+}
+
+public function benchmarkDecimalDivision() {
+    decimal a = 25.50;
+    decimal b = 5.1;
+    decimal c = a / b;
+}
+
+public function benchmarkDecimalRemainder() {
+    decimal a = 25.50;
+    decimal b = 4.25;
+    decimal c = a % b;
+}
+
+public function benchmarkDecimalLineTotal() {
+    decimal[] prices = [19.99, 4.50, 120.00, 0.99, 35.25];
+    int[] quantities = [3, 10, 1, 25, 2];
+    decimal total = 0.0;
+    foreach int i in 0 ..< prices.length() {
+        total += prices[i] * <decimal>quantities[i];
+    }
+    decimal tax = total * 0.08;
+    decimal c = total + tax;
+}
+
+public function benchmarkDecimalSum() {
+    decimal c = decimals:sum(19.99, 4.50, 120.00, 0.99, 35.25, 12.10, 7.75, 64.00);
+}
+
+public function benchmarkDecimalMax() {
+    decimal c = decimals:max(19.99, 4.50, 120.00, 0.99, 35.25, 12.10, 7.75, 64.00);
+}
+
+public function benchmarkDecimalAbs() {
+    decimal c = decimals:abs(-120.75);
+}
+
+public function benchmarkDecimalRound() {
+    decimal c = decimals:round(120.75);
+}
@@ -21,51 +21,87 @@ import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is reentrant. Acquiring a free lock, reentering it and releasing it without waiters are done with atomic
+ * operations on the owner strand. Only contended acquires and releases use the monitor of the lock, to queue the
+ * waiting strands. When a lock with waiters is released, it is handed off to the first waiting strand before that
+ * strand is unblocked. A blocked strand calls {@link #lock(Strand)} again when it resumes, and finds itself as the
+ * owner.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private final AtomicReference<Strand> owner = new AtomicReference<>();
 
-    private ArrayDeque<Strand> waitingForLock;
+    // number of times the owner has acquired the lock, only accessed by the owner
+    private int holdCount;
 
-    public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
-    }
+    // number of strands which are waiting or are about to wait for the lock, updated holding the monitor
+    private volatile int waiters;
+
+    private final ArrayDeque<Strand> waitingForLock = new ArrayDeque<>();
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            current.offerLast(strand);
+    public boolean lock(Strand strand) {
+        Strand current = owner.get();
+        if (current == strand) {
+            holdCount++;
             return true;
         }
 
-        waitingForLock.offerLast(strand);
+        if (current == null && owner.compareAndSet(null, strand)) {
+            holdCount = 1;
+            return true;
+        }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
-        return false;
-    }
+        synchronized (this) {
+            // Register as a waiter before retrying, so that a concurrent unlock() either lets this attempt succeed or
+            // sees the waiter and hands the lock off.
+            waiters++;
+            if (owner.compareAndSet(null, strand)) {
+                waiters--;
+                holdCount = 1;
+                return true;
+            }
+            waitingForLock.offerLast(strand);
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+            // Strand state change
+            strand.setState(State.BLOCK_AND_YIELD);
+            strand.blockedOnExtern = false;
+            return false;
         }
     }
 
-    private boolean isLockFree() {
-        return current.isEmpty();
-    }
+    public void unlock() {
+        //owner cannot be empty as unlock cannot be called without lock being called first.
+        if (--holdCount > 0) {
+            return;
+        }
 
-    private boolean lockedBySameContext(Strand ctx) {
-        return current.getLast() == ctx;
+        owner.set(null);
+        if (waiters == 0) {
+            return;
+        }
+
+        Strand next;
+        synchronized (this) {
+            // If another strand acquired the lock in the meantime, it hands the lock off when it releases it.
+            if (owner.get() != null) {
+                return;
+            }
+            next = waitingForLock.pollFirst();
+            if (next == null || !owner.compareAndSet(null, next)) {
+                if (next != null) {
+                    waitingForLock.offerFirst(next);
+                }
+                return;
+            }
+            waiters--;
+        }
+        next.scheduler.unblockStrand(next);
     }
 }
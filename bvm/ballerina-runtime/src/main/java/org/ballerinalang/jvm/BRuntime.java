@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * External API to be used by the interop users to control Ballerina runtime behavior.
@@ -54,6 +55,37 @@ public class BRuntime {
         return future;
     }
 
+    /**
+     * Runs a blocking call made from an extern function. If blocking offload is enabled, the call is run on the
+     * scheduler's elastic blocking pool and the calling strand yields until it completes, so that the strand worker
+     * thread is free to run other strands. Otherwise the call is run on the current thread.
+     * <p>
+     * When offloaded, the value returned from this method is ignored and the result of the call is used as the
+     * return value of the extern function instead. If the call throws, the strand panics with it when it resumes,
+     * the same as when the call is run inline.
+     *
+     * @param call blocking call to be made
+     * @return the result of the call, or null if the call was offloaded
+     */
+    public static Object runBlocking(Supplier<Object> call) {
+        if (!Scheduler.isBlockingOffloadEnabled()) {
+            return call.get();
+        }
+        Strand strand = Scheduler.getStrand();
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.scheduler.getBlockingExecutor().execute(() -> {
+            try {
+                strand.setReturnValues(call.get());
+            } catch (Throwable t) {
+                strand.setReturnValues(null);
+                strand.setExternPanic(t);
+            }
+            strand.scheduler.unblockStrand(strand);
+        });
+        return null;
+    }
+
     public static BRuntime getCurrentRuntime() {
         Strand strand = Scheduler.getStrand();
         return new BRuntime(strand.scheduler);
@@ -0,0 +1,297 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@code InMemoryTable} is the native row store of an in-memory table.
+ * <p>
+ * Rows are kept in insertion order in an array which is only ever appended to in place. Removing rows creates a new
+ * array, so an iterator can work on a snapshot of the array and its size without copying or locking. Uniqueness of
+ * the key columns is enforced with a hash index.
+ *
+ * @since 1.1.0
+ */
+public class InMemoryTable {
+
+    private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
+            "Corresponding Union type in the record is not an assignable nillable type";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final BStructureType constraintType;
+    private final List<ColumnDefinition> columnDefs;
+    private final String[] keyColumns;
+    private final Map<List<Object>, MapValueImpl<String, Object>> primaryKeyIndex;
+
+    private MapValueImpl<String, Object>[] rows;
+    private volatile int size;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryTable(BStructureType constraintType, ArrayValue primaryKeys) {
+        validateColumnTypes(constraintType);
+        this.constraintType = constraintType;
+        this.columnDefs = TableUtils.generateColumnDefinitions(constraintType);
+        if (primaryKeys != null && primaryKeys.size() > 0) {
+            this.keyColumns = new String[primaryKeys.size()];
+            for (int i = 0; i < keyColumns.length; i++) {
+                keyColumns[i] = primaryKeys.getString(i);
+            }
+            this.primaryKeyIndex = new HashMap<>();
+        } else {
+            this.keyColumns = null;
+            this.primaryKeyIndex = null;
+        }
+        this.rows = new MapValueImpl[INITIAL_CAPACITY];
+    }
+
+    public BStructureType getConstraintType() {
+        return constraintType;
+    }
+
+    public List<ColumnDefinition> getColumnDefinitions() {
+        return columnDefs;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the primary key columns of the table.
+     *
+     * @return primary key column names, or null if the table does not have a primary key
+     */
+    public String[] getKeyColumns() {
+        return keyColumns == null ? null : keyColumns.clone();
+    }
+
+    /**
+     * Returns the values of the given columns of each row in the table, in insertion order.
+     *
+     * @param columns names of the columns to be read
+     * @return column values of each row
+     */
+    public List<Object[]> getRows(String[] columns) {
+        MapValueImpl<String, Object>[] snapshot;
+        int snapshotSize;
+        synchronized (this) {
+            snapshotSize = size;
+            snapshot = rows;
+        }
+        List<Object[]> result = new ArrayList<>(snapshotSize);
+        for (int i = 0; i < snapshotSize; i++) {
+            result.add(getValues(snapshot[i], columns));
+        }
+        return result;
+    }
+
+    /**
+     * Looks up a row using the primary key index.
+     *
+     * @param key     values of the primary key columns, in the order of {@link #getKeyColumns()}
+     * @param columns names of the columns to be read
+     * @return column values of the matching row, or null if there is no such row
+     */
+    public Object[] getRow(Object[] key, String[] columns) {
+        if (primaryKeyIndex == null) {
+            return null;
+        }
+        MapValueImpl<String, Object> row;
+        synchronized (this) {
+            row = primaryKeyIndex.get(toKey(key));
+        }
+        return row == null ? null : getValues(row, columns);
+    }
+
+    /**
+     * Adds a copy of the given record as a new row.
+     *
+     * @param data record to be added
+     */
+    public synchronized void add(MapValueImpl<String, Object> data) {
+        MapValueImpl<String, Object> row = copyRow(data);
+        if (primaryKeyIndex != null) {
+            List<Object> key = getKey(row);
+            if (primaryKeyIndex.containsKey(key)) {
+                throw TableUtils.createTableOperationError("execute update failed: Unique index or primary key " +
+                        "violation: " + Arrays.toString(keyColumns) + " = " + key);
+            }
+            primaryKeyIndex.put(key, row);
+        }
+        int index = size;
+        if (index == rows.length) {
+            rows = Arrays.copyOf(rows, index * 2);
+        }
+        rows[index] = row;
+        size = index + 1;
+    }
+
+    /**
+     * Removes the rows which match the given predicate. The predicate is evaluated on copies of the rows and without
+     * holding the table lock, so it may access the table.
+     *
+     * @param filter predicate that selects the rows to be removed
+     * @return number of rows removed
+     */
+    public int removeIf(Predicate<MapValueImpl<String, Object>> filter) {
+        MapValueImpl<String, Object>[] snapshot;
+        int snapshotSize;
+        synchronized (this) {
+            snapshotSize = size;
+            snapshot = rows;
+        }
+
+        Set<MapValueImpl<String, Object>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < snapshotSize; i++) {
+            if (filter.test(copyRow(snapshot[i]))) {
+                removed.add(snapshot[i]);
+            }
+        }
+        if (removed.isEmpty()) {
+            return 0;
+        }
+
+        synchronized (this) {
+            // copy to a new array so that iterators over the current array are not affected
+            @SuppressWarnings("unchecked")
+            MapValueImpl<String, Object>[] remaining = new MapValueImpl[Math.max(INITIAL_CAPACITY, rows.length)];
+            int count = 0;
+            int removedCount = 0;
+            for (int i = 0; i < size; i++) {
+                MapValueImpl<String, Object> row = rows[i];
+                if (removed.contains(row)) {
+                    if (primaryKeyIndex != null) {
+                        primaryKeyIndex.remove(getKey(row));
+                    }
+                    removedCount++;
+                } else {
+                    remaining[count++] = row;
+                }
+            }
+            rows = remaining;
+            size = count;
+            return removedCount;
+        }
+    }
+
+    /**
+     * Creates an iterator over the rows which are in the table at the time of the call.
+     *
+     * @return table iterator
+     */
+    public synchronized InMemoryTableIterator createIterator() {
+        return new InMemoryTableIterator(this, rows, size);
+    }
+
+    /**
+     * Returns a copy of the given row, so that values returned from the table cannot modify the table content.
+     *
+     * @param row stored row
+     * @return copy of the row
+     */
+    @SuppressWarnings("unchecked")
+    static MapValueImpl<String, Object> copyRow(MapValueImpl<String, Object> row) {
+        return (MapValueImpl<String, Object>) row.copy(new HashMap<>());
+    }
+
+    private List<Object> getKey(MapValueImpl<String, Object> row) {
+        return toKey(getValues(row, keyColumns));
+    }
+
+    private static List<Object> toKey(Object[] values) {
+        Object[] key = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof DecimalValue) {
+                // decimal keys are compared by value, irrespective of the scale
+                value = ((DecimalValue) value).value().stripTrailingZeros();
+            }
+            key[i] = value;
+        }
+        return Arrays.asList(key);
+    }
+
+    private static Object[] getValues(MapValueImpl<String, Object> row, String[] columns) {
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = row.get(columns[i]);
+        }
+        return values;
+    }
+
+    private static void validateColumnTypes(BStructureType constrainedType) {
+        for (BField sf : constrainedType.getFields().values()) {
+            BType fieldType = sf.getFieldType();
+            if (fieldType.getTag() == TypeTags.UNION_TAG) {
+                List<BType> members = ((BUnionType) fieldType).getMemberTypes();
+                if (members.size() != 2) {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    fieldType = members.get(1);
+                } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    fieldType = members.get(0);
+                } else {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                if (!isSupportedColumnType(fieldType)) {
+                    throw TableUtils.createTableOperationError("Unsupported nillable field for table : " +
+                            sf.getFieldType());
+                }
+            } else if (!isSupportedColumnType(fieldType)) {
+                throw TableUtils.createTableOperationError("Unsupported column type for table : " +
+                        sf.getFieldType());
+            }
+        }
+    }
+
+    private static boolean isSupportedColumnType(BType type) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.ARRAY_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.util.List;
+
+/**
+ * {@link DataIterator} implementation over a snapshot of the rows of an {@link InMemoryTable}.
+ * <p>
+ * Column indexes are one based, in the order of the fields of the constraint type, as in a JDBC result set.
+ *
+ * @since 1.1.0
+ */
+public class InMemoryTableIterator implements DataIterator {
+
+    private final InMemoryTable table;
+    private MapValueImpl<String, Object>[] rows;
+    private int size;
+    private int cursor = -1;
+
+    InMemoryTableIterator(InMemoryTable table, MapValueImpl<String, Object>[] rows, int size) {
+        this.table = table;
+        this.rows = rows;
+        this.size = size;
+    }
+
+    @Override
+    public boolean next() {
+        if (cursor < size) {
+            cursor++;
+        }
+        return cursor < size;
+    }
+
+    @Override
+    public void close() {
+        this.rows = null;
+        this.size = 0;
+    }
+
+    @Override
+    public void reset() {
+        close();
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = getValue(columnIndex);
+        // json, xml and nillable columns are read as strings, as they were stored as text in a database table
+        return value == null ? null : StringUtils.getJsonString(value);
+    }
+
+    @Override
+    public Long getInt(int columnIndex) {
+        return (Long) getValue(columnIndex);
+    }
+
+    @Override
+    public Double getFloat(int columnIndex) {
+        return (Double) getValue(columnIndex);
+    }
+
+    @Override
+    public Boolean getBoolean(int columnIndex) {
+        return (Boolean) getValue(columnIndex);
+    }
+
+    @Override
+    public String getBlob(int columnIndex) {
+        Object value = getValue(columnIndex);
+        return value == null ? null : new String(((ArrayValue) value).getBytes());
+    }
+
+    @Override
+    public DecimalValue getDecimal(int columnIndex) {
+        return (DecimalValue) getValue(columnIndex);
+    }
+
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        // in-memory tables do not have struct columns
+        return null;
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        Object value = getValue(columnIndex);
+        return value == null ? null : TableUtils.getArrayData((ArrayValue) value);
+    }
+
+    @Override
+    public MapValue<String, Object> generateNext() {
+        return InMemoryTable.copyRow(rows[cursor]);
+    }
+
+    @Override
+    public List<ColumnDefinition> getColumnDefinitions() {
+        return table.getColumnDefinitions();
+    }
+
+    @Override
+    public BStructureType getStructType() {
+        return table.getConstraintType();
+    }
+
+    private Object getValue(int columnIndex) {
+        String columnName = table.getColumnDefinitions().get(columnIndex - 1).getName();
+        return rows[cursor].get(columnName);
+    }
+}
@@ -31,6 +31,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
@@ -74,6 +75,56 @@ public class JSONGenerator {
         this.writer = writer;
     }
 
+    /**
+     * Constructor for generators which write the content to their own output, instead of a {@link Writer}.
+     */
+    protected JSONGenerator() {
+    }
+
+    /**
+     * Creates a generator which writes to the given {@link OutputStream} using the default charset. If the default
+     * charset is UTF-8, the content is encoded directly to bytes, without an intermediate {@link Writer}.
+     *
+     * @param out output stream to write the content to
+     * @return JSON generator
+     */
+    public static JSONGenerator newGenerator(OutputStream out) {
+        if (StandardCharsets.UTF_8.equals(Charset.defaultCharset())) {
+            return new UTF8JSONGenerator(out);
+        }
+        return new JSONGenerator(out);
+    }
+
+    /**
+     * Checks whether the given string contains characters which must be escaped when written out as a JSON string.
+     * If it does, the string is written using {@link #writeStringEsc(char[])}.
+     *
+     * @param value string to be checked
+     * @return true if the string should be escaped
+     */
+    static boolean isEscapingRequired(String value) {
+        int count = value.length();
+        for (int i = 0; i < count; i++) {
+            char ch = value.charAt(i);
+            if (ch < escChars.length && escChars[ch]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void write(String str) throws IOException {
+        this.writer.write(str);
+    }
+
+    protected void write(char ch) throws IOException {
+        this.writer.write(ch);
+    }
+
+    protected void write(char[] chs, int offset, int length) throws IOException {
+        this.writer.write(chs, offset, length);
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -95,7 +146,7 @@ public class JSONGenerator {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.write(", ");
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -113,7 +164,7 @@ public class JSONGenerator {
 
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.write(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -126,7 +177,7 @@ public class JSONGenerator {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.write(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -134,39 +185,45 @@ public class JSONGenerator {
 
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.write('{');
     }
 
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.write('}');
         this.processEndLevel();
     }
 
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
+        this.writeFieldNameValue(fieldName);
+    }
+
+    /**
+     * Writes a field name, followed by the name separator.
+     *
+     * @param fieldName field name
+     * @throws IOException if an error occurs while writing
+     */
+    protected void writeFieldNameValue(String fieldName) throws IOException {
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.write(':');
     }
 
-    private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
-        int count = value.length();
-        char ch;
-        boolean escaped = false;
+    /**
+     * Writes a quoted string value.
+     *
+     * @param value string value
+     * @throws IOException if an error occurs while writing
+     */
+    protected void writeStringValue(String value) throws IOException {
+        this.write('"');
         char[] chs = value.toCharArray();
-        for (int i = 0; i < count; i++) {
-            ch = chs[i];
-            if (ch < escChars.length && escChars[ch]) {
-                escaped = true;
-                break;
-            }
-        }
-        if (escaped) {
+        if (isEscapingRequired(value)) {
             this.writeStringEsc(chs);
         } else {
-            this.writer.write(chs);
+            this.write(chs, 0, chs.length);
         }
-        this.writer.write("\"");
+        this.write('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -182,43 +239,43 @@ public class JSONGenerator {
             ch = chs[i];
             switch (ch) {
                 case '"':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\"");
+                    this.write(chs, index, i - index);
+                    this.write("\\\"");
                     index = i + 1;
                     break;
                 case '\\':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\\");
+                    this.write(chs, index, i - index);
+                    this.write("\\\\");
                     index = i + 1;
                     break;
                 case '/':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\/");
+                    this.write(chs, index, i - index);
+                    this.write("\\/");
                     index = i + 1;
                     break;
                 case '\b':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\b");
+                    this.write(chs, index, i - index);
+                    this.write("\\b");
                     index = i + 1;
                     break;
                 case '\n':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\n");
+                    this.write(chs, index, i - index);
+                    this.write("\\n");
                     index = i + 1;
                     break;
                 case '\r':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\r");
+                    this.write(chs, index, i - index);
+                    this.write("\\r");
                     index = i + 1;
                     break;
                 case '\f':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\f");
+                    this.write(chs, index, i - index);
+                    this.write("\\f");
                     index = i + 1;
                     break;
                 case '\t':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\t");
+                    this.write(chs, index, i - index);
+                    this.write("\\t");
                     index = i + 1;
                     break;
                 default:
@@ -227,43 +284,47 @@ public class JSONGenerator {
         }
 
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.write(chs, index, count - index);
         }
 
     }
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        this.writeLongValue(value);
+    }
+
+    protected void writeLongValue(long value) throws IOException {
+        this.write(Long.toString(value));
     }
 
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        this.write(Double.toString(value));
     }
 
     public void writeNumber(BigDecimal value) throws IOException {
         this.processValueInit();
-        this.writer.write(value.toString());
+        this.write(value.toString());
     }
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.write(Boolean.toString(value));
     }
 
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        this.write("null");
     }
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.write("[");
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.write("]");
         this.processEndLevel();
     }
 
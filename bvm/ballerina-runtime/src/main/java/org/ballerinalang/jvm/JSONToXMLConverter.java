@@ -52,6 +52,7 @@ public class JSONToXMLConverter {
     private static final String XSI_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
     private static final String XSI_PREFIX = "xsi";
     private static final String NIL = "nil";
+    private static final OMNamespace XSI_NAMESPACE_NODE = OM_FACTORY.createOMNamespace(XSI_NAMESPACE, XSI_PREFIX);
     public static final String OBJECT = "object";
     public static final String ARRAY = "array";
 
@@ -147,8 +148,7 @@ public class JSONToXMLConverter {
         }
 
         if (json == null) {
-            OMNamespace xsiNameSpace = OM_FACTORY.createOMNamespace(XSI_NAMESPACE, XSI_PREFIX);
-            currentRoot.addAttribute(NIL, "true", xsiNameSpace);
+            currentRoot.addAttribute(NIL, "true", XSI_NAMESPACE_NODE);
         } else {
             switch (TypeChecker.getType(json).getTag()) {
                 case TypeTags.JSON_TAG:
@@ -29,7 +29,6 @@ public class TableConstants {
     static final String DB_PASSWORD = "";
 
     static final String TABLE_PREFIX = "TABLE_";
-    static final String TABLE_NAME_REGEX = "\\[\\[tableName\\]\\]";
 
     public static final String SQL_SELECT = "SELECT * FROM ";
     static final String SQL_CREATE = "CREATE TABLE ";
@@ -36,6 +36,7 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -234,6 +235,42 @@ public class TableUtils {
         return arrayData;
     }
 
+    /**
+     * Generates the column definitions of a table from its constraint type.
+     *
+     * @param type constraint type of the table
+     * @return list of column definitions, in field order
+     */
+    public static List<ColumnDefinition> generateColumnDefinitions(BStructureType type) {
+        Collection<BField> structFields = type.getFields().values();
+        List<ColumnDefinition> columnDefs = new ArrayList<>(structFields.size());
+        for (BField sf : structFields) {
+            BType fieldType = sf.getFieldType();
+            int typeTag = TypeTags.ANY_TAG;
+            switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+                typeTag = fieldType.getTag();
+                break;
+            case TypeTags.ARRAY_TAG:
+                BType elementType = ((BArrayType) fieldType).getElementType();
+                if (elementType.getTag() == TypeTags.BYTE_TAG) {
+                    typeTag = TypeTags.BYTE_TAG;
+                } else {
+                    typeTag = TypeTags.ARRAY_TAG;
+                }
+                break;
+            }
+            ColumnDefinition def = new ColumnDefinition(sf.getFieldName(), typeTag);
+            columnDefs.add(def);
+        }
+        return columnDefs;
+    }
+
     public static ErrorValue createTableOperationError(Throwable throwable, String errorSuffix) {
         String detail = throwable.getMessage() != null ?
                 errorSuffix + ": " + throwable.getMessage() :
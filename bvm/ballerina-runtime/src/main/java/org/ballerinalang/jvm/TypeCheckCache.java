@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeTags;
+
+/**
+ * Bounded cache of the results of structural type checks, keyed by the identity of the source and the target types.
+ * <p>
+ * The cache is direct mapped: each pair of types maps to a single slot, and a new result replaces the one in its
+ * slot. Entries are immutable and slots are read and written without synchronization. A reader may miss an entry
+ * written by another thread, in which case the check is just done again.
+ *
+ * @since 1.1.0
+ */
+class TypeCheckCache {
+
+    static final int NOT_FOUND = -1;
+
+    private static final int SIZE = 1 << 12;
+    private static final int MASK = SIZE - 1;
+
+    private final Entry[] entries = new Entry[SIZE];
+
+    /**
+     * Returns whether checks against the given target type are cached. Checks against simple types are cheaper than a
+     * cache lookup, and are not cached.
+     *
+     * @param targetType target type of the check
+     * @return true if the check is cached
+     */
+    static boolean isCacheable(BType targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.FUNCTION_POINTER_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.ERROR_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return 1 if it is a subtype, 0 if it is not, and {@link #NOT_FOUND} if the result is not cached
+     */
+    int get(BType sourceType, BType targetType) {
+        Entry entry = entries[index(sourceType, targetType)];
+        if (entry == null || entry.sourceType != sourceType || entry.targetType != targetType) {
+            return NOT_FOUND;
+        }
+        return entry.result ? 1 : 0;
+    }
+
+    void put(BType sourceType, BType targetType, boolean result) {
+        entries[index(sourceType, targetType)] = new Entry(sourceType, targetType, result);
+    }
+
+    private static int index(BType sourceType, BType targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static final class Entry {
+
+        private final BType sourceType;
+        private final BType targetType;
+        private final boolean result;
+
+        Entry(BType sourceType, BType targetType, boolean result) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+        }
+    }
+}
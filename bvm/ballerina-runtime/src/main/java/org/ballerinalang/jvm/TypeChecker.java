@@ -75,6 +75,8 @@ import static org.ballerinalang.jvm.util.BLangConstants.BBYTE_MIN_VALUE;
 @SuppressWarnings({ "rawtypes" })
 public class TypeChecker {
 
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
+
     public static Object checkCast(Object sourceVal, BType targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -175,7 +177,7 @@ public class TypeChecker {
      */
     public static boolean checkIsType(Object sourceVal, BType targetType) {
         BType sourceType = getType(sourceVal);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
@@ -451,12 +453,47 @@ public class TypeChecker {
         return ((AnnotatableType) describingType).getAnnotation(annotTag);
     }
 
+    /**
+     * Check whether a given type is a subtype of the target type.
+     *
+     * @param sourceType type to check
+     * @param targetType type to be test against
+     * @return true if the source type is a subtype of the target type, false otherwise
+     */
+    public static boolean checkIsType(BType sourceType, BType targetType) {
+        return checkIsType(sourceType, targetType, null);
+    }
+
     public static boolean checkIsType(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         // First check whether both types are the same.
-        if (sourceType == targetType || sourceType.equals(targetType)) {
+        if (sourceType == targetType) {
             return true;
         }
 
+        if (!TypeCheckCache.isCacheable(targetType)) {
+            return sourceType.equals(targetType) || checkIsUncachedType(sourceType, targetType, unresolvedTypes);
+        }
+
+        int cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != TypeCheckCache.NOT_FOUND) {
+            return cachedResult == 1;
+        }
+
+        // Only a result which does not depend on pairs of types assumed to match further up in the check, can be
+        // cached.
+        boolean cacheable = unresolvedTypes == null || unresolvedTypes.isEmpty();
+        if (unresolvedTypes == null) {
+            unresolvedTypes = new ArrayList<>();
+        }
+        boolean result = sourceType.equals(targetType) ||
+                checkIsUncachedType(sourceType, targetType, unresolvedTypes);
+        if (cacheable) {
+            TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+        }
+        return result;
+    }
+
+    private static boolean checkIsUncachedType(BType sourceType, BType targetType, List<TypePair> unresolvedTypes) {
         switch (targetType.getTag()) {
             case TypeTags.BYTE_TAG:
             case TypeTags.FLOAT_TAG:
@@ -541,6 +578,9 @@ public class TypeChecker {
             case TypeTags.FINITE_TYPE_TAG:
                 return isFiniteTypeMatch((BFiniteType) sourceType, targetType);
             default:
+                if (targetType.acceptsSimpleBasicType(sourceType.getTag())) {
+                    return true;
+                }
                 for (BType type : targetType.getMemberTypes()) {
                     if (checkIsType(sourceType, type, unresolvedTypes)) {
                         return true;
@@ -835,7 +875,7 @@ public class TypeChecker {
                 !isInSameVisibilityRegion(Optional.ofNullable(lhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), Optional.ofNullable(rhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), lhsField.flags, rhsField.flags) ||
-                    !checkIsType(rhsField.type, lhsField.type, new ArrayList<>())) {
+                    !checkIsType(rhsField.type, lhsField.type)) {
                 return false;
             }
         }
@@ -910,12 +950,12 @@ public class TypeChecker {
         }
 
         for (int i = 0; i < source.paramTypes.length; i++) {
-            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i], new ArrayList<>())) {
+            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i])) {
                 return false;
             }
         }
 
-        return checkIsType(source.retType, targetType.retType, new ArrayList<>());
+        return checkIsType(source.retType, targetType.retType);
     }
 
     private static boolean checkIsServiceType(BType sourceType) {
@@ -980,7 +1020,7 @@ public class TypeChecker {
     private static boolean checkIsLikeType(Object sourceValue, BType targetType, List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion) {
         BType sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
@@ -1137,7 +1177,7 @@ public class TypeChecker {
         for (int i = 0; i < bound; i++) {
             BType elementType = getArrayElementType(source, i);
             if (BTypes.isValueType(elementType)) {
-                if (!checkIsType(elementType, targetType.getTupleTypes().get(i), new ArrayList<>())) {
+                if (!checkIsType(elementType, targetType.getTupleTypes().get(i))) {
                     return false;
                 }
             } else {
@@ -1181,7 +1221,7 @@ public class TypeChecker {
         if (source.getType().getTag() == TypeTags.ARRAY_TAG) {
             BType sourceElementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(sourceElementType)) {
-                boolean isType = checkIsType(sourceElementType, targetTypeElementType, new ArrayList<>());
+                boolean isType = checkIsType(sourceElementType, targetTypeElementType);
 
                 if (isType || !allowNumericConversion || !isNumericType(sourceElementType)) {
                     return isType;
@@ -1255,7 +1295,7 @@ public class TypeChecker {
             ArrayValue source = (ArrayValue) sourceValue;
             BType elementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(elementType)) {
-                return checkIsType(elementType, targetType, new ArrayList<>());
+                return checkIsType(elementType, targetType);
             }
 
             Object[] arrayValues = source.getValues();
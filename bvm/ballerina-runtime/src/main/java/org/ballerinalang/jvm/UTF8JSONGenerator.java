@@ -0,0 +1,329 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JSONGenerator} which encodes the JSON content directly to UTF-8 bytes.
+ * <p>
+ * The content is written to a byte buffer, which is taken from a per thread pool, and is written out to the output
+ * stream in large chunks. Encoded field names are cached, since the same names are written repeatedly. The output is
+ * the same as the output of a {@link JSONGenerator} which writes UTF-8 content.
+ *
+ * @since 1.1.0
+ */
+public class UTF8JSONGenerator extends JSONGenerator {
+
+    private static final int BUFFER_SIZE = 8192;
+    // large enough for any single character, escape sequence or number
+    private static final int MAX_WRITE_LENGTH = 32;
+    private static final int FIELD_NAME_CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
+    private static final byte[] DIGITS = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private static ThreadLocal<byte[]> tlBuffer = new ThreadLocal<>();
+    private static final Map<String, byte[]> fieldNameCache = new ConcurrentHashMap<>();
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int count;
+
+    /**
+     * Creates a generator which writes to the given output stream. The content is written out to the stream on
+     * {@link #flush()}, or when the buffer is full.
+     *
+     * @param out output stream to write the content to
+     */
+    public UTF8JSONGenerator(OutputStream out) {
+        this.out = out;
+    }
+
+    private UTF8JSONGenerator() {
+        this.out = null;
+    }
+
+    /**
+     * Serializes the given JSON value to a string.
+     *
+     * @param json JSON value
+     * @return JSON string
+     * @throws IOException if an error occurs while serializing
+     */
+    public static String toJSONString(Object json) throws IOException {
+        UTF8JSONGenerator gen = new UTF8JSONGenerator();
+        gen.serialize(json);
+        if (gen.buffer == null) {
+            return "";
+        }
+        String jsonString = new String(gen.buffer, 0, gen.count, StandardCharsets.UTF_8);
+        gen.releaseBuffer();
+        return jsonString;
+    }
+
+    @Override
+    protected void write(String str) throws IOException {
+        writeChars(str, 0, str.length());
+    }
+
+    @Override
+    protected void write(char ch) throws IOException {
+        ensureCapacity(MAX_WRITE_LENGTH);
+        if (ch < 0x80) {
+            buffer[count++] = (byte) ch;
+        } else {
+            writeChars(String.valueOf(ch), 0, 1);
+        }
+    }
+
+    @Override
+    protected void write(char[] chs, int offset, int length) throws IOException {
+        writeChars(new CharArrayView(chs), offset, offset + length);
+    }
+
+    @Override
+    protected void writeStringValue(String value) throws IOException {
+        ensureCapacity(MAX_WRITE_LENGTH);
+        buffer[count++] = '"';
+        if (isEscapingRequired(value)) {
+            writeEscapedChars(value);
+        } else {
+            writeChars(value, 0, value.length());
+        }
+        ensureCapacity(MAX_WRITE_LENGTH);
+        buffer[count++] = '"';
+    }
+
+    @Override
+    protected void writeFieldNameValue(String fieldName) throws IOException {
+        if (fieldName.length() > MAX_CACHED_FIELD_NAME_LENGTH) {
+            super.writeFieldNameValue(fieldName);
+            return;
+        }
+        byte[] encodedName = fieldNameCache.get(fieldName);
+        if (encodedName == null) {
+            encodedName = encodeFieldName(fieldName);
+            if (fieldNameCache.size() < FIELD_NAME_CACHE_SIZE) {
+                fieldNameCache.put(fieldName, encodedName);
+            }
+        }
+        ensureCapacity(encodedName.length);
+        System.arraycopy(encodedName, 0, buffer, count, encodedName.length);
+        count += encodedName.length;
+    }
+
+    @Override
+    protected void writeLongValue(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+        ensureCapacity(MAX_WRITE_LENGTH);
+        if (value < 0) {
+            buffer[count++] = '-';
+            value = -value;
+        }
+        int length = 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+            length++;
+        }
+        int end = count + length;
+        for (int i = end - 1; i >= count; i--) {
+            buffer[i] = DIGITS[(int) (value % 10)];
+            value /= 10;
+        }
+        count = end;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out == null) {
+            return;
+        }
+        if (buffer != null) {
+            out.write(buffer, 0, count);
+            releaseBuffer();
+        }
+        out.flush();
+    }
+
+    private static byte[] encodeFieldName(String fieldName) throws IOException {
+        UTF8JSONGenerator gen = new UTF8JSONGenerator();
+        gen.writeStringValue(fieldName);
+        gen.write(':');
+        byte[] encodedName = Arrays.copyOf(gen.buffer, gen.count);
+        gen.releaseBuffer();
+        return encodedName;
+    }
+
+    /**
+     * Writes the characters of a string which contains characters to be escaped, using the same escape sequences as
+     * {@link #writeStringEsc(char[])}.
+     */
+    private void writeEscapedChars(String value) throws IOException {
+        int length = value.length();
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            String escaped;
+            switch (value.charAt(i)) {
+                case '"':
+                    escaped = "\\\"";
+                    break;
+                case '\\':
+                    escaped = "\\\\";
+                    break;
+                case '/':
+                    escaped = "\\/";
+                    break;
+                case '\b':
+                    escaped = "\\b";
+                    break;
+                case '\n':
+                    escaped = "\\n";
+                    break;
+                case '\r':
+                    escaped = "\\r";
+                    break;
+                case '\f':
+                    escaped = "\\f";
+                    break;
+                case '\t':
+                    escaped = "\\t";
+                    break;
+                default:
+                    continue;
+            }
+            writeChars(value, index, i);
+            ensureCapacity(MAX_WRITE_LENGTH);
+            buffer[count++] = '\\';
+            buffer[count++] = (byte) escaped.charAt(1);
+            index = i + 1;
+        }
+        writeChars(value, index, length);
+    }
+
+    /**
+     * Encodes the given range of characters to UTF-8. Malformed surrogate characters are replaced with '?', as done
+     * by the charset encoder of a {@link java.io.Writer}.
+     */
+    private void writeChars(CharSequence chars, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            ensureCapacity(MAX_WRITE_LENGTH);
+            byte[] buffer = this.buffer;
+            int pos = count;
+            // encode as many characters as the buffer can hold without another capacity check
+            int limit = Math.min(end, i + (buffer.length - pos) / 4);
+            for (; i < limit; i++) {
+                char ch = chars.charAt(i);
+                if (ch < 0x80) {
+                    buffer[pos++] = (byte) ch;
+                } else if (ch < 0x800) {
+                    buffer[pos++] = (byte) (0xC0 | (ch >> 6));
+                    buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+                } else if (Character.isSurrogate(ch)) {
+                    if (Character.isHighSurrogate(ch) && i + 1 < end &&
+                            Character.isLowSurrogate(chars.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(ch, chars.charAt(++i));
+                        buffer[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                        buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                    } else {
+                        buffer[pos++] = '?';
+                    }
+                } else {
+                    buffer[pos++] = (byte) (0xE0 | (ch >> 12));
+                    buffer[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                    buffer[pos++] = (byte) (0x80 | (ch & 0x3F));
+                }
+            }
+            count = pos;
+        }
+    }
+
+    /**
+     * Makes sure that the given number of bytes can be written to the buffer, by writing out the buffer to the
+     * output stream, or by growing the buffer if the content is collected in memory.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer == null) {
+            buffer = acquireBuffer();
+        }
+        if (count + length <= buffer.length) {
+            return;
+        }
+        if (out != null && length <= buffer.length) {
+            out.write(buffer, 0, count);
+            count = 0;
+        } else {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+        }
+    }
+
+    private static byte[] acquireBuffer() {
+        byte[] pooledBuffer = tlBuffer.get();
+        if (pooledBuffer == null) {
+            return new byte[BUFFER_SIZE];
+        }
+        // a generator created while this one is in use gets its own buffer
+        tlBuffer.set(null);
+        return pooledBuffer;
+    }
+
+    private void releaseBuffer() {
+        if (buffer.length == BUFFER_SIZE) {
+            tlBuffer.set(buffer);
+        }
+        buffer = null;
+        count = 0;
+    }
+
+    /**
+     * {@link CharSequence} view of a character array, so that arrays and strings are encoded the same way.
+     */
+    private static class CharArrayView implements CharSequence {
+
+        private final char[] chars;
+
+        private CharArrayView(char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int length() {
+            return chars.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start, end - start);
+        }
+    }
+}
@@ -0,0 +1,900 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.commons.ArrayState;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.CONSTRUCT_FROM_CONVERSION_ERROR;
+
+/**
+ * JSON parser which reads UTF-8 encoded bytes directly, without decoding the content to characters first.
+ * <p>
+ * The content is scanned with lookup tables, numbers are parsed from the bytes and field names are cached per
+ * thread, so that repeated field names do not create new strings. The parser accepts the same documents and builds
+ * the same values as {@link JSONParser}. Errors are reported by re-parsing the content with {@link JSONParser}, so
+ * that both parsers report them in the same way.
+ * <p>
+ * The content can also be bound directly to an anydata type, such as a record type, without building a json value
+ * first. See {@link #parse(byte[], int, int, BType)}.
+ *
+ * @since 1.1.0
+ */
+@SuppressWarnings("unchecked")
+public class UTF8JSONParser {
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(BTypes.typeJSON);
+
+    private static ThreadLocal<ByteParser> tlParser = ThreadLocal.withInitial(ByteParser::new);
+    private static final Map<BType, Boolean> bindableTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link InputStream} and returns a json.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(InputStream in) throws BallerinaException {
+        ByteParser parser = tlParser.get();
+        try {
+            int length = parser.read(in);
+            return parser.parse(parser.inputBuff, 0, length);
+        } catch (IOException e) {
+            throw BallerinaErrors.createError("Error in parsing JSON data: " + e.getMessage());
+        } finally {
+            parser.reset();
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given buffer and returns a json.
+     *
+     * @param buffer buffer which contains the JSON content, from its position to its limit
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BallerinaException {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given byte array and returns a json.
+     *
+     * @param bytes  array which contains the JSON content
+     * @param offset index of the first byte of the content
+     * @param length number of bytes in the content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length) throws BallerinaException {
+        ByteParser parser = tlParser.get();
+        try {
+            return parser.parse(bytes, offset, length);
+        } finally {
+            parser.reset();
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given byte array directly into a value of the given type, without
+     * building a json value first.
+     * <p>
+     * The result is the same as converting the json value of the content to the type using
+     * {@code typedesc.constructFrom}. The type must be one for which {@link #isDirectlyBindable(BType)} is true. Values
+     * which can only be converted to the type with an inherent type ambiguity, such as mappings for anydata values,
+     * are reported as conversion errors, so such content should be converted from a json value instead.
+     *
+     * @param bytes      array which contains the JSON content
+     * @param offset     index of the first byte of the content
+     * @param length     number of bytes in the content
+     * @param targetType type of the value to be created
+     * @return value of the given type
+     * @throws ErrorValue        if the content cannot be bound to the type, with the JSON path of the offending value
+     * @throws BallerinaException for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, BType targetType) throws BallerinaException {
+        ByteParser parser = tlParser.get();
+        try {
+            return parser.parse(bytes, offset, length, targetType);
+        } finally {
+            parser.reset();
+        }
+    }
+
+    /**
+     * Checks whether JSON content can be bound directly to the given type using
+     * {@link #parse(byte[], int, int, BType)}. These are the simple basic types, json, anydata, and records, maps,
+     * open arrays and optional types of them.
+     *
+     * @param type type to be checked
+     * @return true if JSON content can be bound directly to the type
+     */
+    public static boolean isDirectlyBindable(BType type) {
+        Boolean bindable = bindableTypes.get(type);
+        if (bindable == null) {
+            bindable = isDirectlyBindable(type, new IdentityHashMap<>());
+            bindableTypes.put(type, bindable);
+        }
+        return bindable;
+    }
+
+    private static boolean isDirectlyBindable(BType type, Map<BType, Boolean> visitedTypes) {
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                return true;
+            case TypeTags.RECORD_TYPE_TAG:
+                if (visitedTypes.put(type, Boolean.TRUE) != null) {
+                    return true;
+                }
+                BRecordType recordType = (BRecordType) type;
+                for (BField field : recordType.getFields().values()) {
+                    if (!isDirectlyBindable(field.type, visitedTypes)) {
+                        return false;
+                    }
+                }
+                return recordType.sealed || isDirectlyBindable(recordType.restFieldType, visitedTypes);
+            case TypeTags.MAP_TAG:
+                return isDirectlyBindable(((BMapType) type).getConstrainedType(), visitedTypes);
+            case TypeTags.ARRAY_TAG:
+                BArrayType arrayType = (BArrayType) type;
+                return arrayType.getState() == ArrayState.UNSEALED &&
+                        isDirectlyBindable(arrayType.getElementType(), visitedTypes);
+            case TypeTags.UNION_TAG:
+                BType memberType = getOptionalMemberType((BUnionType) type);
+                return memberType != null && isDirectlyBindable(memberType, visitedTypes);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the non-nil member type of an optional type such as {@code T?}.
+     *
+     * @param unionType union type
+     * @return the non-nil member type, or null if the union is not of a single type and nil
+     */
+    private static BType getOptionalMemberType(BUnionType unionType) {
+        List<BType> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return null;
+        }
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(1).getTag() == TypeTags.NULL_TAG ? null : memberTypes.get(1);
+        }
+        return memberTypes.get(1).getTag() == TypeTags.NULL_TAG ? memberTypes.get(0) : null;
+    }
+
+    /**
+     * Signals a value which cannot be bound to the expected type.
+     */
+    private static class JsonBindingException extends Exception {
+
+        private static final long serialVersionUID = 4155329104616523390L;
+
+        private String path = "";
+
+        private JsonBindingException(String message) {
+            super(message, null, false, false);
+        }
+
+        private JsonBindingException at(String fieldName) {
+            path = "." + fieldName + path;
+            return this;
+        }
+
+        private JsonBindingException at(int index) {
+            path = "[" + index + "]" + path;
+            return this;
+        }
+
+        private String getPath() {
+            return "$" + path;
+        }
+    }
+
+    /**
+     * Signals a syntax error. The error is reported by {@link JSONParser}, so this does not need a stack trace.
+     */
+    private static class JsonSyntaxException extends Exception {
+
+        private static final long serialVersionUID = -2446137245542640398L;
+
+        private static final JsonSyntaxException INSTANCE = new JsonSyntaxException();
+
+        private JsonSyntaxException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Parser state of a thread. The input buffer and the field name cache are reused between documents.
+     */
+    private static class ByteParser {
+
+        private static final int INITIAL_BUFF_SIZE = 8192;
+        private static final int MAX_RETAINED_BUFF_SIZE = 1024 * 1024;
+        private static final int FIELD_NAME_CACHE_SIZE = 512;
+        private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
+        private static final int MAX_FAST_LONG_DIGITS = 18;
+        private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+        private static final int MAX_BINDING_DEPTH = 512;
+        private static final double[] POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17,
+                1e18, 1e19, 1e20, 1e21, 1e22
+        };
+
+        private static final byte OTHER = 0;
+        private static final byte WHITESPACE = 1;
+        private static final byte DELIMITER = 2;
+        private static final byte[] CHAR_CLASSES = new byte[256];
+
+        static {
+            CHAR_CLASSES[' '] = WHITESPACE;
+            CHAR_CLASSES['\t'] = WHITESPACE;
+            CHAR_CLASSES['\n'] = WHITESPACE;
+            CHAR_CLASSES['\r'] = WHITESPACE;
+            CHAR_CLASSES[','] = DELIMITER;
+            CHAR_CLASSES['}'] = DELIMITER;
+            CHAR_CLASSES[']'] = DELIMITER;
+            CHAR_CLASSES['{'] = DELIMITER;
+            CHAR_CLASSES['['] = DELIMITER;
+        }
+
+        private byte[] inputBuff = new byte[INITIAL_BUFF_SIZE];
+        private final String[] fieldNameCache = new String[FIELD_NAME_CACHE_SIZE];
+        private char[] charBuff = new char[1024];
+
+        private Object[] containers = new Object[16];
+        private String[] fieldNames = new String[16];
+        private int depth;
+
+        private byte[] bytes;
+        private int pos;
+        private int end;
+
+        private int read(InputStream in) throws IOException {
+            int length = 0;
+            int count;
+            while ((count = in.read(inputBuff, length, inputBuff.length - length)) != -1) {
+                length += count;
+                if (length == inputBuff.length) {
+                    inputBuff = Arrays.copyOf(inputBuff, length * 2);
+                }
+            }
+            return length;
+        }
+
+        private void reset() {
+            // release the references to the created values and to large buffers
+            Arrays.fill(containers, 0, depth, null);
+            Arrays.fill(fieldNames, 0, depth, null);
+            depth = 0;
+            bytes = null;
+            if (inputBuff.length > MAX_RETAINED_BUFF_SIZE) {
+                inputBuff = new byte[INITIAL_BUFF_SIZE];
+            }
+        }
+
+        private Object parse(byte[] bytes, int offset, int length) throws BallerinaException {
+            this.bytes = bytes;
+            this.pos = offset;
+            this.end = offset + length;
+            try {
+                Object value = parseValue();
+                if (skipWhitespace() != -1) {
+                    throw JsonSyntaxException.INSTANCE;
+                }
+                return value;
+            } catch (JsonSyntaxException e) {
+                // the content is parsed again to report the error, with its location
+                return JSONParser.parse(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+        }
+
+        private Object parse(byte[] bytes, int offset, int length, BType targetType) throws BallerinaException {
+            this.bytes = bytes;
+            this.pos = offset;
+            this.end = offset + length;
+            try {
+                Object value = bind(targetType, false, 0);
+                if (skipWhitespace() != -1) {
+                    throw JsonSyntaxException.INSTANCE;
+                }
+                return value;
+            } catch (JsonSyntaxException e) {
+                // the content is parsed again to report the error, with its location
+                JSONParser.parse(new String(bytes, offset, length, StandardCharsets.UTF_8));
+                throw BallerinaErrors.createError(CONSTRUCT_FROM_CONVERSION_ERROR,
+                                                  "JSON content cannot be converted to '" + targetType + "'");
+            } catch (JsonBindingException e) {
+                throw BallerinaErrors.createError(CONSTRUCT_FROM_CONVERSION_ERROR,
+                                                  "incompatible value at '" + e.getPath() + "': " + e.getMessage());
+            }
+        }
+
+        /**
+         * Binds the next value to the given type.
+         * <p>
+         * A record is checked the way {@code constructFrom} checks a record value, in which only the required fields
+         * must be present. Members of arrays and maps are checked the way their shape is checked, in which all the
+         * fields of a record which are not optional must be present.
+         *
+         * @param type   expected type
+         * @param strict whether all the non optional fields of records must be present
+         * @param level  nesting level of the value
+         * @return the value of the expected type
+         */
+        private Object bind(BType type, boolean strict, int level) throws JsonSyntaxException, JsonBindingException {
+            if (level > MAX_BINDING_DEPTH) {
+                throw new JsonBindingException("JSON value is nested too deeply");
+            }
+            int b = skipWhitespace();
+            if (b == '{' || b == '[') {
+                BType targetType = type;
+                if (type.getTag() == TypeTags.UNION_TAG) {
+                    targetType = getOptionalMemberType((BUnionType) type);
+                    if (targetType == null) {
+                        throw incompatibleValue(b == '{' ? "map<json>" : "json[]", type);
+                    }
+                }
+                switch (targetType.getTag()) {
+                    case TypeTags.RECORD_TYPE_TAG:
+                        if (b == '{') {
+                            return bindRecord((BRecordType) targetType, strict, level);
+                        }
+                        break;
+                    case TypeTags.MAP_TAG:
+                        if (b == '{') {
+                            return bindMap((BMapType) targetType, level);
+                        }
+                        break;
+                    case TypeTags.ARRAY_TAG:
+                        if (b == '[') {
+                            return bindArray((BArrayType) targetType, level);
+                        }
+                        break;
+                    case TypeTags.JSON_TAG:
+                        return parseValue();
+                    default:
+                        break;
+                }
+                throw incompatibleValue(b == '{' ? "map<json>" : "json[]", type);
+            }
+
+            Object value;
+            if (b == '"' || b == '\'') {
+                pos++;
+                value = readString((byte) b, false);
+            } else if (b == -1) {
+                throw JsonSyntaxException.INSTANCE;
+            } else {
+                value = readNonStringValue();
+            }
+            return bindSimpleValue(value, type);
+        }
+
+        private Object bindSimpleValue(Object value, BType type) throws JsonBindingException {
+            if (value == null) {
+                if (type.isNilable()) {
+                    return null;
+                }
+                throw incompatibleValue("()", type);
+            }
+            switch (type.getTag()) {
+                case TypeTags.UNION_TAG:
+                    BType memberType = getOptionalMemberType((BUnionType) type);
+                    if (memberType != null) {
+                        return bindSimpleValue(value, memberType);
+                    }
+                    break;
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                    return value;
+                case TypeTags.RECORD_TYPE_TAG:
+                case TypeTags.MAP_TAG:
+                case TypeTags.ARRAY_TAG:
+                    break;
+                default:
+                    if (TypeChecker.checkIsType(value, type)) {
+                        return value;
+                    }
+                    // numeric values are converted the same way as in constructFrom
+                    if (TypeChecker.checkIsLikeType(value, type, true)) {
+                        try {
+                            return TypeConverter.convertValues(type, value);
+                        } catch (ErrorValue e) {
+                            break;
+                        }
+                    }
+                    break;
+            }
+            throw incompatibleValue(TypeChecker.getType(value).toString(), type);
+        }
+
+        private MapValue<String, Object> bindRecord(BRecordType type, boolean strict, int level)
+                throws JsonSyntaxException, JsonBindingException {
+            pos++;
+            MapValue<String, Object> record = BallerinaValues.createRecordValue(type.getPackage(), type.getName());
+            Map<String, BField> fields = type.getFields();
+            Set<String> presentFields = new HashSet<>();
+            if (skipWhitespace() == '}') {
+                pos++;
+            } else {
+                for (;;) {
+                    String fieldName = readFieldName();
+                    BField field = fields.get(fieldName);
+                    BType fieldType;
+                    if (field != null) {
+                        fieldType = field.type;
+                        presentFields.add(fieldName);
+                    } else if (type.sealed) {
+                        throw new JsonBindingException("field '" + fieldName + "' cannot be added to the closed " +
+                                                               "record '" + type + "'");
+                    } else {
+                        fieldType = type.restFieldType;
+                    }
+                    try {
+                        record.put(fieldName, bind(fieldType, strict, level + 1));
+                    } catch (JsonBindingException e) {
+                        throw e.at(fieldName);
+                    }
+                    if (endOfMembers('}')) {
+                        break;
+                    }
+                }
+            }
+            for (BField field : fields.values()) {
+                boolean isMandatory = strict ? !Flags.isFlagOn(field.flags, Flags.OPTIONAL) :
+                        Flags.isFlagOn(field.flags, Flags.REQUIRED);
+                if (isMandatory && !presentFields.contains(field.name)) {
+                    throw new JsonBindingException("missing required field '" + field.name + "' of type '" +
+                                                           field.type + "' in record '" + type + "'");
+                }
+            }
+            return record;
+        }
+
+        private MapValueImpl<String, Object> bindMap(BMapType type, int level)
+                throws JsonSyntaxException, JsonBindingException {
+            pos++;
+            MapValueImpl<String, Object> map = new MapValueImpl<>(type);
+            if (skipWhitespace() == '}') {
+                pos++;
+                return map;
+            }
+            for (;;) {
+                String key = readFieldName();
+                try {
+                    map.put(key, bind(type.getConstrainedType(), true, level + 1));
+                } catch (JsonBindingException e) {
+                    throw e.at(key);
+                }
+                if (endOfMembers('}')) {
+                    return map;
+                }
+            }
+        }
+
+        private ArrayValue bindArray(BArrayType type, int level) throws JsonSyntaxException, JsonBindingException {
+            pos++;
+            ArrayValue array = new ArrayValueImpl(type);
+            if (skipWhitespace() == ']') {
+                pos++;
+                return array;
+            }
+            for (int i = 0; ; i++) {
+                try {
+                    array.add(i, bind(type.getElementType(), true, level + 1));
+                } catch (JsonBindingException e) {
+                    throw e.at(i);
+                }
+                if (endOfMembers(']')) {
+                    return array;
+                }
+            }
+        }
+
+        private boolean endOfMembers(char closingChar) throws JsonSyntaxException {
+            int b = skipWhitespace();
+            pos++;
+            if (b == ',') {
+                return false;
+            }
+            if (b == closingChar) {
+                return true;
+            }
+            throw JsonSyntaxException.INSTANCE;
+        }
+
+        private static JsonBindingException incompatibleValue(String sourceType, BType targetType) {
+            return new JsonBindingException("'" + sourceType + "' value cannot be converted to '" + targetType + "'");
+        }
+
+        private Object parseValue() throws JsonSyntaxException {
+            // json values can be parsed within a value which is bound to a type
+            int baseDepth = depth;
+            Object value;
+            for (;;) {
+                int b = skipWhitespace();
+                if (b == '{') {
+                    pos++;
+                    MapValueImpl<String, Object> map = new MapValueImpl<>(JSON_MAP_TYPE);
+                    if (skipWhitespace() == '}') {
+                        pos++;
+                        value = map;
+                    } else {
+                        push(map);
+                        fieldNames[depth - 1] = readFieldName();
+                        continue;
+                    }
+                } else if (b == '[') {
+                    pos++;
+                    ArrayValue array = new ArrayValueImpl(JSON_ARRAY_TYPE);
+                    if (skipWhitespace() == ']') {
+                        pos++;
+                        value = array;
+                    } else {
+                        push(array);
+                        continue;
+                    }
+                } else if (b == '"' || b == '\'') {
+                    pos++;
+                    value = readString((byte) b, false);
+                } else if (b == -1) {
+                    throw JsonSyntaxException.INSTANCE;
+                } else {
+                    value = readNonStringValue();
+                }
+
+                // add the value to the enclosing containers, completing the ones which end after it
+                for (;;) {
+                    if (depth == baseDepth) {
+                        return value;
+                    }
+                    Object container = containers[depth - 1];
+                    boolean isMap = container instanceof MapValueImpl;
+                    if (isMap) {
+                        ((MapValueImpl<String, Object>) container).put(fieldNames[depth - 1], value);
+                    } else {
+                        ((ArrayValue) container).append(value);
+                    }
+                    b = skipWhitespace();
+                    if (b == ',') {
+                        pos++;
+                        if (isMap) {
+                            fieldNames[depth - 1] = readFieldName();
+                        }
+                        break;
+                    }
+                    if (b != (isMap ? '}' : ']')) {
+                        throw JsonSyntaxException.INSTANCE;
+                    }
+                    pos++;
+                    depth--;
+                    containers[depth] = null;
+                    fieldNames[depth] = null;
+                    value = container;
+                }
+            }
+        }
+
+        private void push(Object container) {
+            if (depth == containers.length) {
+                containers = Arrays.copyOf(containers, depth * 2);
+                fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+            }
+            containers[depth++] = container;
+        }
+
+        private int skipWhitespace() {
+            byte[] bytes = this.bytes;
+            int i = pos;
+            while (i < end && CHAR_CLASSES[bytes[i] & 0xFF] == WHITESPACE) {
+                i++;
+            }
+            pos = i;
+            return i < end ? bytes[i] & 0xFF : -1;
+        }
+
+        private String readFieldName() throws JsonSyntaxException {
+            int quote = skipWhitespace();
+            if (quote != '"' && quote != '\'') {
+                throw JsonSyntaxException.INSTANCE;
+            }
+            pos++;
+            String name = readString((byte) quote, true);
+            if (skipWhitespace() != ':') {
+                throw JsonSyntaxException.INSTANCE;
+            }
+            pos++;
+            return name;
+        }
+
+        private String readString(byte quote, boolean isFieldName) throws JsonSyntaxException {
+            byte[] bytes = this.bytes;
+            int start = pos;
+            int i = start;
+            int hash = 0;
+            boolean isAscii = true;
+            boolean hasEscapes = false;
+            for (;;) {
+                if (i >= end) {
+                    throw JsonSyntaxException.INSTANCE;
+                }
+                byte b = bytes[i];
+                if (b == quote) {
+                    break;
+                }
+                if (b == '\\') {
+                    hasEscapes = true;
+                    i++;
+                } else if (b < 0) {
+                    isAscii = false;
+                }
+                hash = 31 * hash + b;
+                i++;
+            }
+            pos = i + 1;
+            int length = i - start;
+            if (hasEscapes) {
+                return unescape(start, i);
+            }
+            if (!isAscii) {
+                return new String(bytes, start, length, StandardCharsets.UTF_8);
+            }
+            if (!isFieldName || length > MAX_CACHED_FIELD_NAME_LENGTH) {
+                return new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+            }
+            int cacheIndex = hash & (FIELD_NAME_CACHE_SIZE - 1);
+            String cached = fieldNameCache[cacheIndex];
+            if (cached != null && matches(cached, start, length)) {
+                return cached;
+            }
+            String name = new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+            fieldNameCache[cacheIndex] = name;
+            return name;
+        }
+
+        private boolean matches(String str, int start, int length) {
+            if (str.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (str.charAt(i) != bytes[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String unescape(int start, int end) throws JsonSyntaxException {
+            byte[] bytes = this.bytes;
+            int length = 0;
+            int i = start;
+            while (i < end) {
+                byte b = bytes[i];
+                if (b == '\\') {
+                    ensureCharBuffCapacity(length + 1);
+                    charBuff[length++] = unescapeChar(i + 1, end);
+                    i += bytes[i + 1] == 'u' ? 6 : 2;
+                } else if (b >= 0) {
+                    ensureCharBuffCapacity(length + 1);
+                    charBuff[length++] = (char) b;
+                    i++;
+                } else {
+                    // decode the run of non escaped characters
+                    int runEnd = i + 1;
+                    while (runEnd < end && bytes[runEnd] != '\\') {
+                        runEnd++;
+                    }
+                    String run = new String(bytes, i, runEnd - i, StandardCharsets.UTF_8);
+                    ensureCharBuffCapacity(length + run.length());
+                    run.getChars(0, run.length(), charBuff, length);
+                    length += run.length();
+                    i = runEnd;
+                }
+            }
+            return new String(charBuff, 0, length);
+        }
+
+        private char unescapeChar(int i, int end) throws JsonSyntaxException {
+            switch (bytes[i]) {
+                case '"':
+                    return '"';
+                case '\\':
+                    return '\\';
+                case '/':
+                    return '/';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    if (i + 4 >= end) {
+                        throw JsonSyntaxException.INSTANCE;
+                    }
+                    int ch = 0;
+                    for (int j = i + 1; j <= i + 4; j++) {
+                        int digit = Character.digit(bytes[j], 16);
+                        if (digit < 0) {
+                            throw JsonSyntaxException.INSTANCE;
+                        }
+                        ch = (ch << 4) | digit;
+                    }
+                    return (char) ch;
+                default:
+                    throw JsonSyntaxException.INSTANCE;
+            }
+        }
+
+        private void ensureCharBuffCapacity(int capacity) {
+            if (capacity > charBuff.length) {
+                charBuff = Arrays.copyOf(charBuff, Math.max(capacity, charBuff.length * 2));
+            }
+        }
+
+        private Object readNonStringValue() throws JsonSyntaxException {
+            byte[] bytes = this.bytes;
+            int start = pos;
+            int i = start;
+            boolean hasPoint = false;
+            while (i < end && CHAR_CLASSES[bytes[i] & 0xFF] == OTHER) {
+                if (bytes[i] == '.') {
+                    hasPoint = true;
+                }
+                i++;
+            }
+            pos = i;
+            int length = i - start;
+            if (hasPoint) {
+                return readDouble(start, length);
+            }
+            switch (bytes[start]) {
+                case 't':
+                    if (isLiteral(start, length, "true")) {
+                        return Boolean.TRUE;
+                    }
+                    break;
+                case 'f':
+                    if (isLiteral(start, length, "false")) {
+                        return Boolean.FALSE;
+                    }
+                    break;
+                case 'n':
+                    if (isLiteral(start, length, "null")) {
+                        return null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return readLong(start, length);
+        }
+
+        private boolean isLiteral(int start, int length, String literal) {
+            return length == literal.length() && matches(literal, start, length);
+        }
+
+        private Object readLong(int start, int length) throws JsonSyntaxException {
+            boolean negative = bytes[start] == '-';
+            int digitsStart = negative ? start + 1 : start;
+            int digits = start + length - digitsStart;
+            if (digits > 0 && digits <= MAX_FAST_LONG_DIGITS) {
+                long value = 0;
+                int i = digitsStart;
+                for (; i < start + length; i++) {
+                    int digit = bytes[i] - '0';
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+                    value = value * 10 + digit;
+                }
+                if (i == start + length) {
+                    return negative ? -value : value;
+                }
+            }
+            // values which are not plain decimal digits are parsed the same way as in JSONParser
+            try {
+                return Long.parseLong(new String(bytes, start, length, StandardCharsets.UTF_8));
+            } catch (NumberFormatException e) {
+                throw JsonSyntaxException.INSTANCE;
+            }
+        }
+
+        private Object readDouble(int start, int length) throws JsonSyntaxException {
+            boolean negative = bytes[start] == '-';
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = -1;
+            int i = negative ? start + 1 : start;
+            for (; i < start + length; i++) {
+                byte b = bytes[i];
+                if (b == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                    continue;
+                }
+                if (b < '0' || b > '9') {
+                    break;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            }
+            // the mantissa and the power of ten are exact doubles, so the quotient is correctly rounded
+            if (i == start + length && digits > 0 && fractionDigits > 0 && digits <= MAX_FAST_DOUBLE_DIGITS &&
+                    fractionDigits < POWERS_OF_TEN.length) {
+                double value = mantissa / POWERS_OF_TEN[fractionDigits];
+                return negative ? -value : value;
+            }
+            try {
+                return Double.parseDouble(new String(bytes, start, length, StandardCharsets.UTF_8));
+            } catch (NumberFormatException e) {
+                throw JsonSyntaxException.INSTANCE;
+            }
+        }
+    }
+}
@@ -486,63 +486,72 @@ public class XMLFactory {
      * @param preserveNamespaces preserve the namespaces when converting
      * @return ObjectNode Json object node corresponding to the given xml element
      */
-    @SuppressWarnings("rawtypes")
     private static MapValueImpl<String, Object> traverseXMLElement(OMElement omElement, String attributePrefix,
                                                                    boolean preserveNamespaces) {
         MapValueImpl<String, Object> rootNode = new MapValueImpl<>(jsonMapType);
         LinkedHashMap<String, String> attributeMap = collectAttributesAndNamespaces(omElement, preserveNamespaces);
+        rootNode.put(getElementKey(omElement, preserveNamespaces),
+                     convertElementContent(omElement, attributeMap, attributePrefix, preserveNamespaces));
+        return rootNode;
+    }
+
+    /**
+     * Converts the content of the given xml element to the corresponding json, without wrapping it in an object
+     * with the element name as the key.
+     *
+     * @param omElement XML element to traverse
+     * @param attributeMap Attributes and namespaces of the element
+     * @param attributePrefix Prefix to use in attributes
+     * @param preserveNamespaces preserve the namespaces when converting
+     * @return Json value corresponding to the content of the element
+     */
+    @SuppressWarnings("rawtypes")
+    private static Object convertElementContent(OMElement omElement, LinkedHashMap<String, String> attributeMap,
+                                                String attributePrefix, boolean preserveNamespaces) {
         Iterator iterator = omElement.getChildElements();
-        String keyValue = getElementKey(omElement, preserveNamespaces);
-        if (iterator.hasNext()) {
-            MapValueImpl<String, Object> currentRoot = new MapValueImpl<>(jsonMapType);
-            ArrayList<OMElement> childArray = new ArrayList<>();
-            LinkedHashMap<String, ArrayList<Object>> rootMap = new LinkedHashMap<>();
-            while (iterator.hasNext()) {
-                // Process all child elements
-                OMNode node = (OMNode) iterator.next();
-                if (OMNode.ELEMENT_NODE == node.getType()) {
-                    OMElement omChildElement = (OMElement) node;
-                    LinkedHashMap<String, String> childAttributeMap =
-                            collectAttributesAndNamespaces(omChildElement, preserveNamespaces);
-                    Iterator iteratorChild = omChildElement.getChildElements();
-                    String childKeyValue = getElementKey(omChildElement, preserveNamespaces);
-                    if (iteratorChild.hasNext()) {
-                        // The child element itself has more child elements
-                        MapValueImpl<String, ?> nodeIntermediate =
-                                traverseXMLElement(omChildElement, attributePrefix, preserveNamespaces);
-                        addToRootMap(rootMap, childKeyValue, nodeIntermediate.get(childKeyValue));
-                    } else {
-                        // The child element is a single element with no child elements
-                        if (childAttributeMap.size() > 0) {
-                            Object attrObject = processAttributeAndNamespaces(null, childAttributeMap, attributePrefix,
-                                    omChildElement.getText());
-                            addToRootMap(rootMap, childKeyValue, attrObject);
-                        } else {
-                            childArray.add(omChildElement);
-                        }
-                    }
-                }
-            }
-            // Add attributes and namespaces
-            processAttributeAndNamespaces(currentRoot, attributeMap, attributePrefix, null);
-            // Add child arrays to the current node
-            processChildelements(currentRoot, childArray, attributePrefix, preserveNamespaces);
-            // Add child objects to the current node
-            processRootNodes(currentRoot, rootMap);
-            // Create the outermost root node
-            rootNode.put(keyValue, currentRoot);
-        } else {
+        if (!iterator.hasNext()) {
             // Process the single element
             if (attributeMap.size() > 0) {
                 // Element has attributes or namespaces
-                MapValueImpl<String, Object> attrObject =
-                        processAttributeAndNamespaces(null, attributeMap, attributePrefix, omElement.getText());
-                rootNode.put(keyValue, attrObject);
-            } else {
-                rootNode.put(keyValue, omElement.getText());
+                return processAttributeAndNamespaces(null, attributeMap, attributePrefix, omElement.getText());
             }
+            return omElement.getText();
         }
-        return rootNode;
+
+        MapValueImpl<String, Object> currentRoot = new MapValueImpl<>(jsonMapType);
+        ArrayList<OMElement> childArray = new ArrayList<>();
+        LinkedHashMap<String, ArrayList<Object>> rootMap = new LinkedHashMap<>();
+        while (iterator.hasNext()) {
+            // Process all child elements
+            OMNode node = (OMNode) iterator.next();
+            if (OMNode.ELEMENT_NODE == node.getType()) {
+                OMElement omChildElement = (OMElement) node;
+                LinkedHashMap<String, String> childAttributeMap =
+                        collectAttributesAndNamespaces(omChildElement, preserveNamespaces);
+                String childKeyValue = getElementKey(omChildElement, preserveNamespaces);
+                if (omChildElement.getFirstElement() != null) {
+                    // The child element itself has more child elements
+                    addToRootMap(rootMap, childKeyValue, convertElementContent(omChildElement, childAttributeMap,
+                                                                               attributePrefix, preserveNamespaces));
+                } else {
+                    // The child element is a single element with no child elements
+                    if (childAttributeMap.size() > 0) {
+                        Object attrObject = processAttributeAndNamespaces(null, childAttributeMap, attributePrefix,
+                                omChildElement.getText());
+                        addToRootMap(rootMap, childKeyValue, attrObject);
+                    } else {
+                        childArray.add(omChildElement);
+                    }
+                }
+            }
+        }
+        // Add attributes and namespaces
+        processAttributeAndNamespaces(currentRoot, attributeMap, attributePrefix, null);
+        // Add child arrays to the current node
+        processChildelements(currentRoot, childArray, attributePrefix, preserveNamespaces);
+        // Add child objects to the current node
+        processRootNodes(currentRoot, rootMap);
+        return currentRoot;
     }
 
     /**
@@ -613,11 +622,12 @@ public class XMLFactory {
                 String nodeKey = getElementKey(elementList.get(0), preserveNamespaces);
                 if (elementList.size() == 1) {
                     OMElement element = elementList.get(0);
-                    if (element.getChildElements().hasNext()) {
+                    if (element.getFirstElement() != null) {
                         // If the element it self has child elements traverse through them
-                        MapValueImpl<String, Object> node =
-                                traverseXMLElement(element, attributePrefix, preserveNamespaces);
-                        root.put(nodeKey, node.get(nodeKey));
+                        root.put(nodeKey, convertElementContent(element,
+                                                                collectAttributesAndNamespaces(element,
+                                                                                               preserveNamespaces),
+                                                                attributePrefix, preserveNamespaces));
                     } else {
                         root.put(nodeKey, elementList.get(0).getText());
                     }
@@ -680,15 +690,9 @@ public class XMLFactory {
         Iterator attributeIterator = element.getAllAttributes();
         while (attributeIterator.hasNext()) {
             OMAttribute attribute = (OMAttribute) attributeIterator.next();
-            StringBuffer key = new StringBuffer();
-            if (preserveNamespaces) {
-                String prefix = attribute.getPrefix();
-                if (prefix != null) {
-                    key.append(prefix).append(":");
-                }
-            }
-            key.append(attribute.getLocalName());
-            attributeMap.put(key.toString(), attribute.getAttributeValue());
+            String prefix = preserveNamespaces ? attribute.getPrefix() : null;
+            String key = prefix == null ? attribute.getLocalName() : prefix + ":" + attribute.getLocalName();
+            attributeMap.put(key, attribute.getAttributeValue());
         }
         return attributeMap;
     }
@@ -747,15 +751,8 @@ public class XMLFactory {
      */
     private static String getElementKey(OMElement omElement, boolean preserveNamespaces) {
         // Construct the element key based on the namespaces
-        StringBuffer stringBuffer = new StringBuffer();
-        if (preserveNamespaces) {
-            String prefix = omElement.getPrefix();
-            if (prefix != null) {
-                stringBuffer.append(prefix).append(":");
-            }
-        }
-        stringBuffer.append(omElement.getLocalName());
-        return stringBuffer.toString();
+        String prefix = preserveNamespaces ? omElement.getPrefix() : null;
+        return prefix == null ? omElement.getLocalName() : prefix + ":" + omElement.getLocalName();
     }
 
     /**
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.Locale;
+
+/**
+ * An aggregate function call of a table query, computed by a {@link GroupOperator} over each group of rows.
+ *
+ * @since 1.1.0
+ */
+class Aggregate {
+
+    /**
+     * Aggregate functions supported in table queries.
+     */
+    enum Function {
+        COUNT, SUM, AVG, MIN, MAX
+    }
+
+    private final Function function;
+    private final Expression argument;
+
+    /**
+     * Creates an aggregate.
+     *
+     * @param function aggregate function
+     * @param argument argument of the function, or null to count rows
+     */
+    Aggregate(Function function, Expression argument) {
+        this.function = function;
+        this.argument = argument;
+    }
+
+    static Function getFunction(String name) {
+        try {
+            return Function.valueOf(name.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    Accumulator createAccumulator() {
+        return new Accumulator();
+    }
+
+    /**
+     * Accumulates the aggregate over the rows of a single group. Nil values are ignored.
+     */
+    class Accumulator {
+
+        private long count;
+        private Object value;
+
+        void add(Object[] row, QueryContext context) {
+            if (argument == null) {
+                count++;
+                return;
+            }
+            Object argValue = argument.evaluate(row, context);
+            if (argValue == null) {
+                return;
+            }
+            count++;
+            if (value == null) {
+                value = argValue;
+                return;
+            }
+            switch (function) {
+                case SUM:
+                case AVG:
+                    value = QueryValues.add(value, argValue);
+                    break;
+                case MIN:
+                    if (QueryValues.compare(argValue, value) < 0) {
+                        value = argValue;
+                    }
+                    break;
+                case MAX:
+                    if (QueryValues.compare(argValue, value) > 0) {
+                        value = argValue;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Object getResult() {
+            switch (function) {
+                case COUNT:
+                    return count;
+                case AVG:
+                    return value == null ? null : QueryValues.divide(value, count);
+                default:
+                    return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.TableUtils;
+
+/**
+ * A binary operation of a table query. Comparisons and arithmetic on nil yield nil, and logical operators use three
+ * valued logic, as in SQL.
+ *
+ * @since 1.1.0
+ */
+class BinaryExpression implements Expression {
+
+    /**
+     * Binary operators supported in table queries.
+     */
+    enum Kind {
+        ADD, SUB, MUL, DIV, MOD, POW, EQUAL, NOT_EQUAL, LESS_THAN, LESS_EQUAL, GREATER_THAN, GREATER_EQUAL, AND, OR;
+
+        static Kind fromSymbol(String symbol) {
+            switch (symbol) {
+                case "+":
+                    return ADD;
+                case "-":
+                    return SUB;
+                case "*":
+                    return MUL;
+                case "/":
+                    return DIV;
+                case "%":
+                    return MOD;
+                case "pow":
+                    return POW;
+                case "==":
+                    return EQUAL;
+                case "!=":
+                    return NOT_EQUAL;
+                case "<":
+                    return LESS_THAN;
+                case "<=":
+                    return LESS_EQUAL;
+                case ">":
+                    return GREATER_THAN;
+                case ">=":
+                    return GREATER_EQUAL;
+                case "and":
+                    return AND;
+                case "or":
+                    return OR;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private final Kind kind;
+    private final Expression lhs;
+    private final Expression rhs;
+
+    BinaryExpression(Kind kind, Expression lhs, Expression rhs) {
+        this.kind = kind;
+        this.lhs = lhs;
+        this.rhs = rhs;
+    }
+
+    @Override
+    public Object evaluate(Object[] row, QueryContext context) {
+        Object lhsValue = lhs.evaluate(row, context);
+        switch (kind) {
+            case AND:
+                if (Boolean.FALSE.equals(lhsValue)) {
+                    return false;
+                }
+                return and(lhsValue, rhs.evaluate(row, context));
+            case OR:
+                if (Boolean.TRUE.equals(lhsValue)) {
+                    return true;
+                }
+                return or(lhsValue, rhs.evaluate(row, context));
+            default:
+                break;
+        }
+
+        Object rhsValue = rhs.evaluate(row, context);
+        if (lhsValue == null || rhsValue == null) {
+            return null;
+        }
+        switch (kind) {
+            case ADD:
+                return QueryValues.add(lhsValue, rhsValue);
+            case SUB:
+                return QueryValues.subtract(lhsValue, rhsValue);
+            case MUL:
+                return QueryValues.multiply(lhsValue, rhsValue);
+            case DIV:
+                return QueryValues.divide(lhsValue, rhsValue);
+            case MOD:
+                return QueryValues.remainder(lhsValue, rhsValue);
+            case POW:
+                return QueryValues.power(lhsValue, rhsValue);
+            case EQUAL:
+                return QueryValues.compare(lhsValue, rhsValue) == 0;
+            case NOT_EQUAL:
+                return QueryValues.compare(lhsValue, rhsValue) != 0;
+            case LESS_THAN:
+                return QueryValues.compare(lhsValue, rhsValue) < 0;
+            case LESS_EQUAL:
+                return QueryValues.compare(lhsValue, rhsValue) <= 0;
+            case GREATER_THAN:
+                return QueryValues.compare(lhsValue, rhsValue) > 0;
+            case GREATER_EQUAL:
+                return QueryValues.compare(lhsValue, rhsValue) >= 0;
+            default:
+                throw TableUtils.createTableOperationError("unsupported operator in table query: " + kind);
+        }
+    }
+
+    private static Object and(Object lhsValue, Object rhsValue) {
+        if (Boolean.FALSE.equals(rhsValue)) {
+            return false;
+        }
+        if (lhsValue == null || rhsValue == null) {
+            return null;
+        }
+        return true;
+    }
+
+    private static Object or(Object lhsValue, Object rhsValue) {
+        if (Boolean.TRUE.equals(rhsValue)) {
+            return true;
+        }
+        if (lhsValue == null || rhsValue == null) {
+            return null;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the rows for which the condition evaluates to true.
+ *
+ * @since 1.1.0
+ */
+class FilterOperator extends Operator {
+
+    private final Expression condition;
+    private final Operator input;
+
+    FilterOperator(Expression condition, Operator input) {
+        this.condition = condition;
+        this.input = input;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        return filter(condition, input.execute(context), context);
+    }
+
+    static List<Object[]> filter(Expression condition, List<Object[]> rows, QueryContext context) {
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (QueryValues.isTrue(condition.evaluate(row, context))) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+}
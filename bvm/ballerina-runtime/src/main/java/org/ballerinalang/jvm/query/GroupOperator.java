@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups rows by key expressions and computes aggregates over each group. Each group produces one row, made of the
+ * first row of the group followed by the aggregate values. Without key expressions all the rows form a single group,
+ * which produces a row even when there are no input rows.
+ *
+ * @since 1.1.0
+ */
+class GroupOperator extends Operator {
+
+    private final Expression[] keys;
+    private final Aggregate[] aggregates;
+    private final int width;
+    private final Operator input;
+
+    /**
+     * Creates a group operator.
+     *
+     * @param keys       key expressions
+     * @param aggregates aggregates to compute
+     * @param width      number of columns of the input rows
+     * @param input      input operator
+     */
+    GroupOperator(Expression[] keys, Aggregate[] aggregates, int width, Operator input) {
+        this.keys = keys;
+        this.aggregates = aggregates;
+        this.width = width;
+        this.input = input;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        Map<Object, Group> groups = new LinkedHashMap<>();
+        for (Object[] row : input.execute(context)) {
+            Object key = getKey(row, context);
+            Group group = groups.get(key);
+            if (group == null) {
+                group = new Group(row);
+                groups.put(key, group);
+            }
+            group.add(row, context);
+        }
+        if (groups.isEmpty() && keys.length == 0) {
+            groups.put(Boolean.TRUE, new Group(new Object[width]));
+        }
+
+        List<Object[]> result = new ArrayList<>(groups.size());
+        for (Group group : groups.values()) {
+            result.add(group.getRow());
+        }
+        return result;
+    }
+
+    private Object getKey(Object[] row, QueryContext context) {
+        Object[] key = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            key[i] = QueryValues.toKey(keys[i].evaluate(row, context));
+        }
+        return Arrays.asList(key);
+    }
+
+    private class Group {
+
+        private final Object[] firstRow;
+        private final Aggregate.Accumulator[] accumulators;
+
+        Group(Object[] firstRow) {
+            this.firstRow = firstRow;
+            this.accumulators = new Aggregate.Accumulator[aggregates.length];
+            for (int i = 0; i < aggregates.length; i++) {
+                accumulators[i] = aggregates[i].createAccumulator();
+            }
+        }
+
+        void add(Object[] row, QueryContext context) {
+            for (Aggregate.Accumulator accumulator : accumulators) {
+                accumulator.add(row, context);
+            }
+        }
+
+        Object[] getRow() {
+            Object[] row = Arrays.copyOf(firstRow, width + accumulators.length);
+            for (int i = 0; i < accumulators.length; i++) {
+                row[width + i] = accumulators[i].getResult();
+            }
+            return row;
+        }
+    }
+}
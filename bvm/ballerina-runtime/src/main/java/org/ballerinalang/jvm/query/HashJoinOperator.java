@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Joins two inputs on equality of key expressions. The right input is loaded into a hash table, which is then probed
+ * with each row of the left input. Rows of the result are in the order of the left input.
+ *
+ * @since 1.1.0
+ */
+class HashJoinOperator extends Operator {
+
+    private final Expression[] leftKeys;
+    private final Expression[] rightKeys;
+    private final Expression condition;
+    private final Operator left;
+    private final Operator right;
+
+    /**
+     * Creates a hash join.
+     *
+     * @param leftKeys  key expressions evaluated on the left rows
+     * @param rightKeys key expressions evaluated on the right rows
+     * @param condition remaining join condition evaluated on joined rows, or null
+     * @param left      left input
+     * @param right     right input
+     */
+    HashJoinOperator(Expression[] leftKeys, Expression[] rightKeys, Expression condition, Operator left,
+                     Operator right) {
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.condition = condition;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        List<Object[]> rightRows = right.execute(context);
+        Map<Object, List<Object[]>> hashTable = new HashMap<>();
+        for (Object[] row : rightRows) {
+            Object key = getKey(rightKeys, row, context);
+            if (key != null) {
+                hashTable.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row);
+            }
+        }
+
+        List<Object[]> result = new ArrayList<>();
+        if (hashTable.isEmpty()) {
+            return result;
+        }
+        for (Object[] leftRow : left.execute(context)) {
+            Object key = getKey(leftKeys, leftRow, context);
+            List<Object[]> matches = key == null ? null : hashTable.get(key);
+            if (matches == null) {
+                continue;
+            }
+            for (Object[] rightRow : matches) {
+                Object[] row = concat(leftRow, rightRow);
+                if (condition == null || QueryValues.isTrue(condition.evaluate(row, context))) {
+                    result.add(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    static Object[] concat(Object[] leftRow, Object[] rightRow) {
+        Object[] row = Arrays.copyOf(leftRow, leftRow.length + rightRow.length);
+        System.arraycopy(rightRow, 0, row, leftRow.length, rightRow.length);
+        return row;
+    }
+
+    /**
+     * Returns the hash key of a row, or null if any of the key values is nil, as nil does not equal any value.
+     */
+    private static Object getKey(Expression[] keys, Object[] row, QueryContext context) {
+        if (keys.length == 1) {
+            Object value = keys[0].evaluate(row, context);
+            return value == null ? null : QueryValues.toKey(value);
+        }
+        Object[] key = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Object value = keys[i].evaluate(row, context);
+            if (value == null) {
+                return null;
+            }
+            key[i] = QueryValues.toKey(value);
+        }
+        return Arrays.asList(key);
+    }
+}
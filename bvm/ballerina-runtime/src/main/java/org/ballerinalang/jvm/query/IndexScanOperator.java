@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the rows of an input table which match a condition that fixes the values of some columns. If these columns
+ * cover the primary key of the table at execution time, the matching row is looked up using the primary key index.
+ * Otherwise all the rows are scanned.
+ *
+ * @since 1.1.0
+ */
+class IndexScanOperator extends Operator {
+
+    private final int tableIndex;
+    private final String[] columns;
+    private final String[] keyColumns;
+    private final BType[] keyTypes;
+    private final Expression[] keyValues;
+    private final Expression condition;
+
+    /**
+     * Creates an index scan.
+     *
+     * @param tableIndex index of the input table
+     * @param columns    columns to read
+     * @param keyColumns columns with values fixed by the condition
+     * @param keyTypes   types of the key columns
+     * @param keyValues  row independent expressions which give the values of the key columns
+     * @param condition  full condition, which is applied to the rows that are found
+     */
+    IndexScanOperator(int tableIndex, String[] columns, String[] keyColumns, BType[] keyTypes,
+                      Expression[] keyValues, Expression condition) {
+        this.tableIndex = tableIndex;
+        this.columns = columns;
+        this.keyColumns = keyColumns;
+        this.keyTypes = keyTypes;
+        this.keyValues = keyValues;
+        this.condition = condition;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        InMemoryTable table = context.getTable(tableIndex);
+        Object[] key = getPrimaryKey(table.getKeyColumns(), context);
+        if (key == null) {
+            return FilterOperator.filter(condition, table.getRows(columns), context);
+        }
+        Object[] row = table.getRow(key, columns);
+        if (row == null || !QueryValues.isTrue(condition.evaluate(row, context))) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(row);
+    }
+
+    private Object[] getPrimaryKey(String[] primaryKeyColumns, QueryContext context) {
+        if (primaryKeyColumns == null) {
+            return null;
+        }
+        Object[] key = new Object[primaryKeyColumns.length];
+        for (int i = 0; i < primaryKeyColumns.length; i++) {
+            int index = indexOf(primaryKeyColumns[i]);
+            if (index < 0) {
+                return null;
+            }
+            Object value = keyValues[index].evaluate(null, context);
+            if (value == null) {
+                // the condition cannot hold for nil, scanning will not find a row either
+                return null;
+            }
+            key[i] = QueryValues.convert(value, keyTypes[index]);
+        }
+        return key;
+    }
+
+    private int indexOf(String column) {
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (keyColumns[i].equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.List;
+
+/**
+ * Keeps the first given number of rows.
+ *
+ * @since 1.1.0
+ */
+class LimitOperator extends Operator {
+
+    private final int limit;
+    private final Operator input;
+
+    LimitOperator(int limit, Operator input) {
+        this.limit = limit;
+        this.input = input;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        List<Object[]> rows = input.execute(context);
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+}
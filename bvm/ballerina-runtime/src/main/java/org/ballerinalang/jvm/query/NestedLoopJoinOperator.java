@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Joins two inputs by evaluating the join condition on every pair of rows. This is used when the join condition does
+ * not contain an equality between the two inputs.
+ *
+ * @since 1.1.0
+ */
+class NestedLoopJoinOperator extends Operator {
+
+    private final Expression condition;
+    private final Operator left;
+    private final Operator right;
+
+    NestedLoopJoinOperator(Expression condition, Operator left, Operator right) {
+        this.condition = condition;
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        List<Object[]> rightRows = right.execute(context);
+        List<Object[]> result = new ArrayList<>();
+        for (Object[] leftRow : left.execute(context)) {
+            for (Object[] rightRow : rightRows) {
+                Object[] row = HashJoinOperator.concat(leftRow, rightRow);
+                if (QueryValues.isTrue(condition.evaluate(row, context))) {
+                    result.add(row);
+                }
+            }
+        }
+        return result;
+    }
+}
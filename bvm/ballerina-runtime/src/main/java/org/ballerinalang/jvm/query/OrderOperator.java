@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sorts rows by the order by expressions. The sort is stable, and nil is ordered before any other value.
+ *
+ * @since 1.1.0
+ */
+class OrderOperator extends Operator {
+
+    private final Expression[] expressions;
+    private final boolean[] descending;
+    private final Operator input;
+
+    OrderOperator(Expression[] expressions, boolean[] descending, Operator input) {
+        this.expressions = expressions;
+        this.descending = descending;
+        this.input = input;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        List<Object[]> rows = input.execute(context);
+        // evaluate the sort keys once per row, rather than once per comparison
+        List<Object[]> keyedRows = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] keys = new Object[expressions.length + 1];
+            for (int i = 0; i < expressions.length; i++) {
+                keys[i] = expressions[i].evaluate(row, context);
+            }
+            keys[expressions.length] = row;
+            keyedRows.add(keys);
+        }
+        keyedRows.sort(this::compare);
+
+        List<Object[]> result = new ArrayList<>(keyedRows.size());
+        for (Object[] keys : keyedRows) {
+            result.add((Object[]) keys[expressions.length]);
+        }
+        return result;
+    }
+
+    private int compare(Object[] lhs, Object[] rhs) {
+        for (int i = 0; i < expressions.length; i++) {
+            int result;
+            if (lhs[i] == null) {
+                result = rhs[i] == null ? 0 : -1;
+            } else if (rhs[i] == null) {
+                result = 1;
+            } else {
+                result = QueryValues.compare(lhs[i], rhs[i]);
+            }
+            if (result != 0) {
+                return descending[i] ? -result : result;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.TableUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the textual form of a table query plan, which is emitted by the compiler. The plan is an s-expression: an
+ * atom is a sequence of non whitespace characters other than parentheses, and a list is a parenthesized sequence of
+ * atoms and lists. Atoms are parsed into strings and lists into {@link List}s.
+ *
+ * @since 1.1.0
+ */
+class PlanParser {
+
+    private final String plan;
+    private int index;
+
+    private PlanParser(String plan) {
+        this.plan = plan;
+    }
+
+    static Object parse(String plan) {
+        PlanParser parser = new PlanParser(plan);
+        Object result = parser.parseElement();
+        parser.skipWhitespace();
+        if (parser.index != plan.length()) {
+            throw parser.createError("unexpected content");
+        }
+        return result;
+    }
+
+    private Object parseElement() {
+        skipWhitespace();
+        if (index == plan.length()) {
+            throw createError("unexpected end of plan");
+        }
+        char ch = plan.charAt(index);
+        if (ch == ')') {
+            throw createError("unexpected ')'");
+        }
+        if (ch != '(') {
+            int start = index;
+            while (index < plan.length() && !isDelimiter(plan.charAt(index))) {
+                index++;
+            }
+            return plan.substring(start, index);
+        }
+
+        index++;
+        List<Object> list = new ArrayList<>();
+        while (true) {
+            skipWhitespace();
+            if (index == plan.length()) {
+                throw createError("unexpected end of plan");
+            }
+            if (plan.charAt(index) == ')') {
+                index++;
+                return list;
+            }
+            list.add(parseElement());
+        }
+    }
+
+    private void skipWhitespace() {
+        while (index < plan.length() && Character.isWhitespace(plan.charAt(index))) {
+            index++;
+        }
+    }
+
+    private static boolean isDelimiter(char ch) {
+        return ch == '(' || ch == ')' || Character.isWhitespace(ch);
+    }
+
+    private RuntimeException createError(String message) {
+        return TableUtils.createTableOperationError("invalid table query plan, " + message + " at index " + index +
+                ": " + plan);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the select expressions of each row.
+ *
+ * @since 1.1.0
+ */
+class ProjectOperator extends Operator {
+
+    private final Expression[] expressions;
+    private final Operator input;
+
+    ProjectOperator(Expression[] expressions, Operator input) {
+        this.expressions = expressions;
+        this.input = input;
+    }
+
+    @Override
+    List<Object[]> execute(QueryContext context) {
+        List<Object[]> rows = input.execute(context);
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] projected = new Object[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                projected[i] = expressions[i].evaluate(row, context);
+            }
+            result.add(projected);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.TableUtils;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.values.ErrorValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the operator tree of a parsed table query plan for given input table types. Column references are resolved
+ * to positions in the rows produced by each operator, so that no name lookups happen while the query is executed.
+ * <p>
+ * Plan operators:
+ * <pre>
+ * (scan TABLE ALIAS)
+ * (indexscan TABLE ALIAS ((COLUMN EXPR) ...) CONDITION)
+ * (filter CONDITION INPUT)
+ * (hashjoin (LEFT_KEY ...) (RIGHT_KEY ...) CONDITION|- LEFT RIGHT)
+ * (join CONDITION LEFT RIGHT)
+ * (group (KEY ...) INPUT)
+ * (having CONDITION INPUT)
+ * (order ((EXPR asc|desc) ...) INPUT)
+ * (project *|((EXPR ALIAS|-) ...) INPUT)
+ * (limit COUNT INPUT)
+ * </pre>
+ * Expressions are {@code (col ALIAS|- NAME)}, {@code (param INDEX)}, {@code (not EXPR)}, {@code (neg EXPR)},
+ * {@code (call NAME ARG ...)} and binary operations such as {@code (== LHS RHS)}. TABLE is 0 for the from table and 1
+ * for the join table.
+ *
+ * @since 1.1.0
+ */
+class QueryCompiler {
+
+    private static final String NONE = "-";
+    private static final String ALL = "*";
+
+    private final BStructureType[] tableTypes;
+    private final Map<String, Object> selectAliases = new HashMap<>();
+
+    QueryCompiler(BStructureType fromType, BStructureType joinType) {
+        this.tableTypes = new BStructureType[]{fromType, joinType};
+    }
+
+    Operator compile(Object plan) {
+        return compileNode(plan, new ArrayList<>()).operator;
+    }
+
+    private CompiledNode compileNode(Object node, List<Object> aggregates) {
+        List<Object> list = asList(node);
+        String kind = atom(list.get(0));
+        switch (kind) {
+            case "scan":
+                return compileScan(list);
+            case "indexscan":
+                return compileIndexScan(list);
+            case "filter": {
+                CompiledNode input = compileNode(list.get(2), new ArrayList<>());
+                Expression condition = compileExpression(list.get(1), input.schema);
+                return new CompiledNode(new FilterOperator(condition, input.operator), input.schema);
+            }
+            case "hashjoin":
+                return compileHashJoin(list);
+            case "join": {
+                CompiledNode left = compileNode(list.get(2), new ArrayList<>());
+                CompiledNode right = compileNode(list.get(3), new ArrayList<>());
+                Schema schema = left.schema.join(right.schema);
+                Expression condition = compileExpression(list.get(1), schema);
+                return new CompiledNode(new NestedLoopJoinOperator(condition, left.operator, right.operator),
+                                        schema);
+            }
+            case "group":
+                return compileGroup(asList(list.get(1)), list.get(2), aggregates);
+            case "having": {
+                collectAggregates(list.get(1), aggregates);
+                CompiledNode input = compileGroupedInput(list.get(2), aggregates);
+                Expression condition = compileExpression(list.get(1), input.schema);
+                return new CompiledNode(new FilterOperator(condition, input.operator), input.schema);
+            }
+            case "order":
+                return compileOrder(list, aggregates);
+            case "project":
+                return compileProject(list, aggregates);
+            case "limit": {
+                CompiledNode input = compileNode(list.get(2), aggregates);
+                int limit = Integer.parseInt(atom(list.get(1)));
+                return new CompiledNode(new LimitOperator(limit, input.operator), input.schema);
+            }
+            default:
+                throw createError("unknown operator '" + kind + "'");
+        }
+    }
+
+    private CompiledNode compileScan(List<Object> list) {
+        int tableIndex = Integer.parseInt(atom(list.get(1)));
+        Schema schema = Schema.of(tableTypes[tableIndex], atom(list.get(2)));
+        return new CompiledNode(new ScanOperator(tableIndex, schema.getNames()), schema);
+    }
+
+    private CompiledNode compileIndexScan(List<Object> list) {
+        int tableIndex = Integer.parseInt(atom(list.get(1)));
+        Schema schema = Schema.of(tableTypes[tableIndex], atom(list.get(2)));
+        List<Object> keys = asList(list.get(3));
+        String[] keyColumns = new String[keys.size()];
+        BType[] keyTypes = new BType[keys.size()];
+        Expression[] keyValues = new Expression[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            List<Object> key = asList(keys.get(i));
+            int slot = schema.resolve(NONE, atom(key.get(0)));
+            if (slot < 0) {
+                throw createError("column '" + key.get(0) + "' not found");
+            }
+            keyColumns[i] = schema.names.get(slot);
+            keyTypes[i] = schema.types.get(slot);
+            keyValues[i] = compileExpression(key.get(1), Schema.EMPTY);
+        }
+        Expression condition = compileExpression(list.get(4), schema);
+        return new CompiledNode(new IndexScanOperator(tableIndex, schema.getNames(), keyColumns, keyTypes,
+                                                      keyValues, condition), schema);
+    }
+
+    private CompiledNode compileHashJoin(List<Object> list) {
+        CompiledNode left = compileNode(list.get(4), new ArrayList<>());
+        CompiledNode right = compileNode(list.get(5), new ArrayList<>());
+        Schema schema = left.schema.join(right.schema);
+        Expression[] leftKeys = compileExpressions(asList(list.get(1)), left.schema);
+        Expression[] rightKeys = compileExpressions(asList(list.get(2)), right.schema);
+        Expression condition = NONE.equals(list.get(3)) ? null : compileExpression(list.get(3), schema);
+        return new CompiledNode(new HashJoinOperator(leftKeys, rightKeys, condition, left.operator,
+                                                     right.operator), schema);
+    }
+
+    private CompiledNode compileGroup(List<Object> keys, Object inputNode, List<Object> aggregates) {
+        CompiledNode input = compileNode(inputNode, new ArrayList<>());
+        Expression[] keyExpressions = compileExpressions(keys, input.schema);
+        Aggregate[] compiledAggregates = new Aggregate[aggregates.size()];
+        for (int i = 0; i < aggregates.size(); i++) {
+            List<Object> call = asList(aggregates.get(i));
+            Aggregate.Function function = Aggregate.getFunction(atom(call.get(1)));
+            if (call.size() != 3) {
+                throw createError("aggregate function '" + call.get(1) + "' expects one argument");
+            }
+            Expression argument = ALL.equals(call.get(2)) ? null : compileExpression(call.get(2), input.schema);
+            compiledAggregates[i] = new Aggregate(function, argument);
+        }
+        Schema schema = input.schema.withAggregates(aggregates);
+        return new CompiledNode(new GroupOperator(keyExpressions, compiledAggregates, input.schema.getColumnCount(),
+                                                  input.operator), schema);
+    }
+
+    private CompiledNode compileOrder(List<Object> list, List<Object> aggregates) {
+        List<Object> items = asList(list.get(1));
+        for (Object item : items) {
+            collectAggregates(substituteAliases(asList(item).get(0)), aggregates);
+        }
+        CompiledNode input = compileGroupedInput(list.get(2), aggregates);
+        Expression[] expressions = new Expression[items.size()];
+        boolean[] descending = new boolean[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            List<Object> item = asList(items.get(i));
+            expressions[i] = compileExpression(item.get(0), input.schema);
+            descending[i] = "desc".equals(item.get(1));
+        }
+        return new CompiledNode(new OrderOperator(expressions, descending, input.operator), input.schema);
+    }
+
+    private CompiledNode compileProject(List<Object> list, List<Object> aggregates) {
+        if (ALL.equals(list.get(1))) {
+            CompiledNode input = compileNode(list.get(2), aggregates);
+            int width = input.schema.getColumnCount();
+            Expression[] expressions = new Expression[width];
+            for (int i = 0; i < width; i++) {
+                expressions[i] = new ColumnExpression(i);
+            }
+            return new CompiledNode(new ProjectOperator(expressions, input.operator), input.schema);
+        }
+
+        List<Object> items = asList(list.get(1));
+        for (Object item : items) {
+            List<Object> selectItem = asList(item);
+            collectAggregates(selectItem.get(0), aggregates);
+            if (!NONE.equals(selectItem.get(1))) {
+                selectAliases.put(atom(selectItem.get(1)), selectItem.get(0));
+            }
+        }
+        CompiledNode input = compileGroupedInput(list.get(2), aggregates);
+        Expression[] expressions = new Expression[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            expressions[i] = compileExpression(asList(items.get(i)).get(0), input.schema);
+        }
+        return new CompiledNode(new ProjectOperator(expressions, input.operator), input.schema);
+    }
+
+    /**
+     * Compiles the input of an operator which may refer to aggregates. Aggregates are computed by the group operator
+     * of the plan. If there is none, all the rows form a single group, as in SQL.
+     */
+    private CompiledNode compileGroupedInput(Object inputNode, List<Object> aggregates) {
+        String kind = atom(asList(inputNode).get(0));
+        if (aggregates.isEmpty() || "group".equals(kind) || "having".equals(kind) || "order".equals(kind)) {
+            return compileNode(inputNode, aggregates);
+        }
+        return compileGroup(Collections.emptyList(), inputNode, aggregates);
+    }
+
+    private Expression[] compileExpressions(List<Object> expressions, Schema schema) {
+        Expression[] result = new Expression[expressions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = compileExpression(expressions.get(i), schema);
+        }
+        return result;
+    }
+
+    private Expression compileExpression(Object expression, Schema schema) {
+        List<Object> list = asList(expression);
+        String kind = atom(list.get(0));
+        switch (kind) {
+            case "col": {
+                int slot = schema.resolve(atom(list.get(1)), atom(list.get(2)));
+                if (slot >= 0) {
+                    return new ColumnExpression(slot);
+                }
+                Object aliased = NONE.equals(list.get(1)) ? selectAliases.get(atom(list.get(2))) : null;
+                if (aliased == null) {
+                    throw createError("column '" + list.get(2) + "' not found");
+                }
+                return compileExpression(aliased, schema);
+            }
+            case "param":
+                return new ParameterExpression(Integer.parseInt(atom(list.get(1))));
+            case "not":
+                return new UnaryExpression(true, compileExpression(list.get(1), schema));
+            case "neg":
+                return new UnaryExpression(false, compileExpression(list.get(1), schema));
+            case "call": {
+                int slot = schema.resolveAggregate(list);
+                if (slot >= 0) {
+                    return new ColumnExpression(slot);
+                }
+                if (Aggregate.getFunction(atom(list.get(1))) != null) {
+                    throw createError("aggregate function '" + list.get(1) + "' is not allowed here");
+                }
+                throw createError("unsupported function '" + list.get(1) + "'");
+            }
+            default:
+                BinaryExpression.Kind operator = BinaryExpression.Kind.fromSymbol(kind);
+                if (operator == null) {
+                    throw createError("unsupported operator '" + kind + "'");
+                }
+                return new BinaryExpression(operator, compileExpression(list.get(1), schema),
+                                            compileExpression(list.get(2), schema));
+        }
+    }
+
+    private Object substituteAliases(Object expression) {
+        List<Object> list = asList(expression);
+        if ("col".equals(list.get(0)) && NONE.equals(list.get(1)) && selectAliases.containsKey(list.get(2))) {
+            return selectAliases.get(list.get(2));
+        }
+        return expression;
+    }
+
+    private static void collectAggregates(Object expression, List<Object> aggregates) {
+        if (!(expression instanceof List)) {
+            return;
+        }
+        List<?> list = (List<?>) expression;
+        if ("call".equals(list.get(0)) && Aggregate.getFunction(atom(list.get(1))) != null) {
+            if (!aggregates.contains(list)) {
+                aggregates.add(list);
+            }
+            return;
+        }
+        for (Object element : list) {
+            collectAggregates(element, aggregates);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object element) {
+        if (!(element instanceof List) || ((List<Object>) element).isEmpty()) {
+            throw createError("expected a non empty list, but found '" + element + "'");
+        }
+        return (List<Object>) element;
+    }
+
+    private static String atom(Object element) {
+        if (!(element instanceof String)) {
+            throw createError("expected an atom, but found '" + element + "'");
+        }
+        return (String) element;
+    }
+
+    private static ErrorValue createError(String message) {
+        return TableUtils.createTableOperationError("invalid table query plan, " + message);
+    }
+
+    private static class CompiledNode {
+
+        private final Operator operator;
+        private final Schema schema;
+
+        CompiledNode(Operator operator, Schema schema) {
+            this.operator = operator;
+            this.schema = schema;
+        }
+    }
+
+    /**
+     * Columns of the rows produced by an operator. Aggregates computed by a group operator follow the columns.
+     */
+    private static class Schema {
+
+        private static final Schema EMPTY = new Schema(Collections.emptyList(), Collections.emptyList(),
+                                                       Collections.emptyList(), Collections.emptyList());
+
+        private final List<String> aliases;
+        private final List<String> names;
+        private final List<BType> types;
+        private final List<Object> aggregates;
+
+        Schema(List<String> aliases, List<String> names, List<BType> types, List<Object> aggregates) {
+            this.aliases = aliases;
+            this.names = names;
+            this.types = types;
+            this.aggregates = aggregates;
+        }
+
+        static Schema of(BStructureType type, String alias) {
+            List<String> aliases = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            List<BType> types = new ArrayList<>();
+            for (BField field : type.getFields().values()) {
+                aliases.add(alias);
+                names.add(field.getFieldName());
+                types.add(field.getFieldType());
+            }
+            return new Schema(aliases, names, types, Collections.emptyList());
+        }
+
+        Schema join(Schema other) {
+            List<String> joinedAliases = new ArrayList<>(aliases);
+            joinedAliases.addAll(other.aliases);
+            List<String> joinedNames = new ArrayList<>(names);
+            joinedNames.addAll(other.names);
+            List<BType> joinedTypes = new ArrayList<>(types);
+            joinedTypes.addAll(other.types);
+            return new Schema(joinedAliases, joinedNames, joinedTypes, Collections.emptyList());
+        }
+
+        Schema withAggregates(List<Object> aggregates) {
+            return new Schema(aliases, names, types, new ArrayList<>(aggregates));
+        }
+
+        int getColumnCount() {
+            return names.size();
+        }
+
+        String[] getNames() {
+            return names.toArray(new String[0]);
+        }
+
+        /**
+         * Returns the position of a column, matching names case insensitively if there is no exact match, as SQL
+         * identifiers are case insensitive.
+         */
+        int resolve(String alias, String name) {
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).equals(name) && (NONE.equals(alias) || alias.equals(aliases.get(i)))) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).equalsIgnoreCase(name) &&
+                        (NONE.equals(alias) || alias.equalsIgnoreCase(aliases.get(i)))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int resolveAggregate(List<Object> call) {
+            int index = aggregates.indexOf(call);
+            return index < 0 ? -1 : names.size() + index;
+        }
+    }
+}
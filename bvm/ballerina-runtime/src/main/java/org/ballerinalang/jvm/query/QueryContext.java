@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.values.ArrayValue;
+
+/**
+ * Holds the inputs of a single execution of a {@link TableQuery}.
+ *
+ * @since 1.1.0
+ */
+class QueryContext {
+
+    private final InMemoryTable[] tables;
+    private final ArrayValue params;
+
+    QueryContext(InMemoryTable[] tables, ArrayValue params) {
+        this.tables = tables;
+        this.params = params;
+    }
+
+    InMemoryTable getTable(int index) {
+        return tables[index];
+    }
+
+    Object getParam(int index) {
+        return params.get(index);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.TableUtils;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Value operations used by table queries. These follow SQL semantics: operations on nil yield nil, and numeric values
+ * of different types are compared by value.
+ *
+ * @since 1.1.0
+ */
+class QueryValues {
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private QueryValues() {
+    }
+
+    static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    /**
+     * Compares two non nil values.
+     *
+     * @param lhs left hand side value
+     * @param rhs right hand side value
+     * @return a negative integer, zero, or a positive integer as the lhs is less than, equal to, or greater than the
+     * rhs
+     */
+    static int compare(Object lhs, Object rhs) {
+        if (isNumber(lhs) || isNumber(rhs)) {
+            if (lhs instanceof Long && rhs instanceof Long) {
+                return Long.compare((Long) lhs, (Long) rhs);
+            }
+            if (lhs instanceof DecimalValue || rhs instanceof DecimalValue || lhs instanceof String ||
+                    rhs instanceof String) {
+                return toBigDecimal(lhs).compareTo(toBigDecimal(rhs));
+            }
+            return Double.compare(toDouble(lhs), toDouble(rhs));
+        }
+        if (lhs instanceof String && rhs instanceof String) {
+            return ((String) lhs).compareTo((String) rhs);
+        }
+        if (lhs instanceof Boolean && rhs instanceof Boolean) {
+            return Boolean.compare((Boolean) lhs, (Boolean) rhs);
+        }
+        if (lhs.equals(rhs)) {
+            return 0;
+        }
+        throw TableUtils.createTableOperationError("values of types '" + lhs.getClass().getSimpleName() + "' and '" +
+                rhs.getClass().getSimpleName() + "' cannot be compared");
+    }
+
+    static Object add(Object lhs, Object rhs) {
+        if (lhs instanceof String && rhs instanceof String) {
+            return (String) lhs + rhs;
+        }
+        switch (numericKind(lhs, rhs)) {
+            case TypeTags.INT_TAG:
+                return Math.addExact((Long) lhs, (Long) rhs);
+            case TypeTags.FLOAT_TAG:
+                return toDouble(lhs) + toDouble(rhs);
+            default:
+                return new DecimalValue(toBigDecimal(lhs).add(toBigDecimal(rhs), MathContext.DECIMAL128));
+        }
+    }
+
+    static Object subtract(Object lhs, Object rhs) {
+        switch (numericKind(lhs, rhs)) {
+            case TypeTags.INT_TAG:
+                return Math.subtractExact((Long) lhs, (Long) rhs);
+            case TypeTags.FLOAT_TAG:
+                return toDouble(lhs) - toDouble(rhs);
+            default:
+                return new DecimalValue(toBigDecimal(lhs).subtract(toBigDecimal(rhs), MathContext.DECIMAL128));
+        }
+    }
+
+    static Object multiply(Object lhs, Object rhs) {
+        switch (numericKind(lhs, rhs)) {
+            case TypeTags.INT_TAG:
+                return Math.multiplyExact((Long) lhs, (Long) rhs);
+            case TypeTags.FLOAT_TAG:
+                return toDouble(lhs) * toDouble(rhs);
+            default:
+                return new DecimalValue(toBigDecimal(lhs).multiply(toBigDecimal(rhs), MathContext.DECIMAL128));
+        }
+    }
+
+    static Object divide(Object lhs, Object rhs) {
+        switch (numericKind(lhs, rhs)) {
+            case TypeTags.INT_TAG:
+                if ((Long) rhs == 0) {
+                    throw TableUtils.createTableOperationError("Division by zero");
+                }
+                return (Long) lhs / (Long) rhs;
+            case TypeTags.FLOAT_TAG:
+                return toDouble(lhs) / toDouble(rhs);
+            default:
+                BigDecimal divisor = toBigDecimal(rhs);
+                if (divisor.signum() == 0) {
+                    throw TableUtils.createTableOperationError("Division by zero");
+                }
+                return new DecimalValue(toBigDecimal(lhs).divide(divisor, MathContext.DECIMAL128));
+        }
+    }
+
+    static Object remainder(Object lhs, Object rhs) {
+        switch (numericKind(lhs, rhs)) {
+            case TypeTags.INT_TAG:
+                if ((Long) rhs == 0) {
+                    throw TableUtils.createTableOperationError("Division by zero");
+                }
+                return (Long) lhs % (Long) rhs;
+            case TypeTags.FLOAT_TAG:
+                return toDouble(lhs) % toDouble(rhs);
+            default:
+                BigDecimal divisor = toBigDecimal(rhs);
+                if (divisor.signum() == 0) {
+                    throw TableUtils.createTableOperationError("Division by zero");
+                }
+                return new DecimalValue(toBigDecimal(lhs).remainder(divisor, MathContext.DECIMAL128));
+        }
+    }
+
+    static Object power(Object lhs, Object rhs) {
+        return Math.pow(toDouble(lhs), toDouble(rhs));
+    }
+
+    static Object negate(Object value) {
+        switch (numericKind(value, value)) {
+            case TypeTags.INT_TAG:
+                return Math.negateExact((Long) value);
+            case TypeTags.FLOAT_TAG:
+                return -toDouble(value);
+            default:
+                return new DecimalValue(toBigDecimal(value).negate());
+        }
+    }
+
+    /**
+     * Returns a representation of a value which is equal to the representation of any other value which compares
+     * equal to it, so that values can be used as hash keys.
+     *
+     * @param value value
+     * @return key representation of the value
+     */
+    static Object toKey(Object value) {
+        BigDecimal decimal;
+        if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return value;
+            }
+            decimal = BigDecimal.valueOf(doubleValue);
+        } else if (value instanceof DecimalValue) {
+            decimal = ((DecimalValue) value).value();
+        } else {
+            return value;
+        }
+        decimal = decimal.stripTrailingZeros();
+        if (decimal.scale() <= 0 && decimal.compareTo(MIN_LONG) >= 0 && decimal.compareTo(MAX_LONG) <= 0) {
+            return decimal.longValue();
+        }
+        return decimal;
+    }
+
+    /**
+     * Converts a value to the given column type, as it would be stored in a table with that column type.
+     *
+     * @param value value to convert
+     * @param type  column type
+     * @return converted value
+     */
+    static Object convert(Object value, BType type) {
+        if (value == null) {
+            return null;
+        }
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                if (memberType.getTag() != TypeTags.NULL_TAG) {
+                    return convert(value, memberType);
+                }
+            }
+            return value;
+        }
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+                if (value instanceof Long) {
+                    return value;
+                }
+                return isNumber(value) || value instanceof String ? toBigDecimal(value).longValue() : value;
+            case TypeTags.FLOAT_TAG:
+                if (value instanceof Double) {
+                    return value;
+                }
+                return isNumber(value) || value instanceof String ? toDouble(value) : value;
+            case TypeTags.DECIMAL_TAG:
+                if (value instanceof DecimalValue) {
+                    return value;
+                }
+                return isNumber(value) || value instanceof String ? new DecimalValue(toBigDecimal(value)) : value;
+            case TypeTags.STRING_TAG:
+                return value instanceof String ? value : StringUtils.getStringValue(value);
+            case TypeTags.BOOLEAN_TAG:
+                return value instanceof String ? Boolean.valueOf((String) value) : value;
+            default:
+                return value;
+        }
+    }
+
+    private static boolean isNumber(Object value) {
+        return value instanceof Long || value instanceof Double || value instanceof DecimalValue;
+    }
+
+    private static int numericKind(Object lhs, Object rhs) {
+        if (!isNumber(lhs) && !(lhs instanceof String) || !isNumber(rhs) && !(rhs instanceof String)) {
+            throw TableUtils.createTableOperationError("arithmetic operation on non numeric values of types '" +
+                    lhs.getClass().getSimpleName() + "' and '" + rhs.getClass().getSimpleName() + "'");
+        }
+        if (lhs instanceof Long && rhs instanceof Long) {
+            return TypeTags.INT_TAG;
+        }
+        if (lhs instanceof DecimalValue || rhs instanceof DecimalValue || lhs instanceof String ||
+                rhs instanceof String) {
+            return TypeTags.DECIMAL_TAG;
+        }
+        return TypeTags.FLOAT_TAG;
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        return toBigDecimal(value).doubleValue();
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).value();
+        }
+        if (value instanceof Long) {
+            return BigDecimal.valueOf((Long) value);
+        }
+        if (value instanceof Double) {
+            return BigDecimal.valueOf((Double) value);
+        }
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException e) {
+            throw TableUtils.createTableOperationError("value '" + value + "' is not a number");
+        }
+    }
+}
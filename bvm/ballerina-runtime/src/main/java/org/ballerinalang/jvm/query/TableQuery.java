@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.query;
+
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code TableQuery} executes a table query plan over in-memory tables.
+ * <p>
+ * The compiler emits a plan for each {@code from ... select} expression over tables. A plan is parsed once, and
+ * compiled into an operator tree when it is first executed with a given pair of input table types. Later executions
+ * only run the operators. See {@link QueryCompiler} for the plan format.
+ *
+ * @since 1.1.0
+ */
+public class TableQuery {
+
+    // plans are constants in the compiled program, so the number of cached queries is bounded
+    private static final Map<String, TableQuery> QUERIES = new ConcurrentHashMap<>();
+
+    private final Object plan;
+    private volatile CompiledQuery compiledQuery;
+
+    private TableQuery(String plan) {
+        this.plan = PlanParser.parse(plan);
+    }
+
+    /**
+     * Returns the query of the given plan.
+     *
+     * @param plan query plan emitted by the compiler
+     * @return table query
+     */
+    public static TableQuery getQuery(String plan) {
+        return QUERIES.computeIfAbsent(plan, TableQuery::new);
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @param fromTable  table of the from clause
+     * @param joinTable  table of the join clause, or null if there is no join
+     * @param resultType constraint type of the result table
+     * @param params     literals used in the query
+     * @return a new table with the result of the query
+     */
+    public InMemoryTable execute(InMemoryTable fromTable, InMemoryTable joinTable, BStructureType resultType,
+                                 ArrayValue params) {
+        BStructureType fromType = fromTable.getConstraintType();
+        BStructureType joinType = joinTable == null ? null : joinTable.getConstraintType();
+        CompiledQuery query = compiledQuery;
+        if (query == null || query.fromType != fromType || query.joinType != joinType) {
+            query = new CompiledQuery(fromType, joinType, new QueryCompiler(fromType, joinType).compile(plan));
+            compiledQuery = query;
+        }
+
+        QueryContext context = new QueryContext(new InMemoryTable[]{fromTable, joinTable}, params);
+        List<Object[]> rows = query.operator.execute(context);
+        BField[] fields = resultType.getFields().values().toArray(new BField[0]);
+        InMemoryTable result = new InMemoryTable(resultType, null);
+        for (Object[] row : rows) {
+            // select expressions are matched to the fields of the result type by position
+            MapValueImpl<String, Object> record = new MapValueImpl<>(resultType);
+            int columnCount = Math.min(row.length, fields.length);
+            for (int i = 0; i < columnCount; i++) {
+                record.put(fields[i].getFieldName(), QueryValues.convert(row[i], fields[i].getFieldType()));
+            }
+            result.add(record);
+        }
+        return result;
+    }
+
+    private static class CompiledQuery {
+
+        private final BStructureType fromType;
+        private final BStructureType joinType;
+        private final Operator operator;
+
+        CompiledQuery(BStructureType fromType, BStructureType joinType, Operator operator) {
+            this.fromType = fromType;
+            this.joinType = joinType;
+            this.operator = operator;
+        }
+    }
+}
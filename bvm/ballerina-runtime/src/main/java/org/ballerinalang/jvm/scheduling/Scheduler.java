@@ -30,12 +30,17 @@ import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 import java.io.PrintStream;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -43,6 +48,10 @@ import static org.ballerinalang.jvm.scheduling.SchedulerItem.POISON_PILL;
 
 /**
  * Strand scheduler for JBallerina.
+ * <p>
+ * Each worker thread owns a run queue of unpinned strands and a queue of strands pinned to it. A worker serves its
+ * own queues first and steals from a randomly chosen victim when they are empty, parking itself when there is no
+ * work left anywhere.
  *
  * @since 0.995.0
  */
@@ -55,9 +64,33 @@ public class Scheduler {
      */
     public boolean immortal;
     /**
-     * Strands that are ready for execution.
+     * Strands that are ready for execution and may run on any worker. The owning worker takes from the head while
+     * other workers steal from the tail.
+     */
+    private ConcurrentLinkedDeque<SchedulerItem>[] runQueues;
+
+    /**
+     * Strands that are ready for execution and are bound to a given worker through {@link Strand#threadId}. These
+     * are never stolen.
+     */
+    private Queue<SchedulerItem>[] pinnedQueues;
+
+    private Thread[] workers;
+
+    /**
+     * Parked state of each worker, 1 if the worker is parked or about to park.
+     */
+    private AtomicIntegerArray parkedWorkers;
+
+    private AtomicInteger idleWorkers = new AtomicInteger();
+
+    private AtomicInteger nextQueue = new AtomicInteger();
+
+    /**
+     * Number of consecutive polls after which a worker gives its run queue precedence over the pinned queue, so
+     * that a busy pinned strand cannot starve new strands.
      */
-    private BlockingQueue<SchedulerItem>[] blockingQueues;
+    private static final int FAIRNESS_INTERVAL = 32;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -75,6 +108,17 @@ public class Scheduler {
 
     private Semaphore mainBlockSem;
 
+    /**
+     * Blocking extern calls are run on an elastic thread pool instead of the strand worker threads if the
+     * BALLERINA_OFFLOAD_BLOCKING system variable is set to true.
+     */
+    private static final boolean offloadBlocking =
+            Boolean.parseBoolean(System.getenv(BLangConstants.BALLERINA_OFFLOAD_BLOCKING_ENV_VAR));
+
+    private volatile ExecutorService blockingExecutor;
+
+    private final AtomicInteger blockingThreadCount = new AtomicInteger();
+
     public Scheduler(boolean immortal) {
         try {
             if (poolSizeConf != null) {
@@ -104,6 +148,35 @@ public class Scheduler {
         return strand;
     }
 
+    public static boolean isBlockingOffloadEnabled() {
+        return offloadBlocking;
+    }
+
+    /**
+     * Returns the elastic thread pool used to run blocking extern calls. Threads are created on demand and are
+     * discarded after being idle, so blocked calls never hold a strand worker thread.
+     *
+     * @return executor for blocking calls
+     */
+    public ExecutorService getBlockingExecutor() {
+        ExecutorService executor = this.blockingExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.blockingExecutor;
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable,
+                                "jbal-strand-blocking-" + blockingThreadCount.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.blockingExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     public FutureValue scheduleFunction(Object[] params, FPValue<?, ?> fp, Strand parent, BType returnType) {
         return schedule(params, fp.getFunction(), parent, null, null, returnType);
     }
@@ -161,11 +234,15 @@ public class Scheduler {
     }
 
     private FutureValue schedule(Object[] params, Function function, Strand parent, FutureValue future, int id) {
+        if (id < 0) {
+            return scheduleMultiple(params, function, parent, future);
+        }
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
-        blockingQueues[id].add(item);
+        pinnedQueues[id].add(item);
+        signal(id);
         return future;
     }
 
@@ -173,22 +250,141 @@ public class Scheduler {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
-        for (int i = 0; i < numThreads; i++) {
-            totalStrands.incrementAndGet();
-            blockingQueues[i].add(item);
-        }
+        submit(item, parent);
         return future;
     }
 
+    /**
+     * Submits an unpinned item. Strands spawned from a worker go to the head of that worker's run queue for locality,
+     * others are spread across the workers in round robin order and are appended to the tail, so that they are served
+     * in the order they were submitted. Idle workers will steal the item if the owner is busy.
+     */
+    private void submit(SchedulerItem item, Strand parent) {
+        totalStrands.incrementAndGet();
+        int id;
+        if (parent != null && parent.scheduler == this && parent.threadId >= 0 &&
+                workers[parent.threadId] == Thread.currentThread()) {
+            id = parent.threadId;
+            runQueues[id].addFirst(item);
+        } else {
+            id = (nextQueue.getAndIncrement() & Integer.MAX_VALUE) % numThreads;
+            runQueues[id].addLast(item);
+        }
+        if (!signal(id)) {
+            signalAny();
+        }
+    }
+
     private void initRunnableLists() {
-        this.blockingQueues = new BlockingQueue[numThreads];
+        this.runQueues = new ConcurrentLinkedDeque[numThreads];
+        this.pinnedQueues = new Queue[numThreads];
+        this.workers = new Thread[numThreads];
+        this.parkedWorkers = new AtomicIntegerArray(numThreads);
         int i = 0;
         while (i < numThreads) {
-            blockingQueues[i] = new LinkedBlockingDeque<>();
+            runQueues[i] = new ConcurrentLinkedDeque<>();
+            pinnedQueues[i] = new ConcurrentLinkedQueue<>();
             i++;
         }
     }
 
+    /**
+     * Wakes up the given worker if it is parked.
+     *
+     * @param id - worker ID
+     * @return true if the worker was parked
+     */
+    private boolean signal(int id) {
+        if (parkedWorkers.get(id) == 1 && parkedWorkers.compareAndSet(id, 1, 0)) {
+            idleWorkers.decrementAndGet();
+            LockSupport.unpark(workers[id]);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Wakes up one parked worker, if there is any, so that it can steal the newly submitted work.
+     */
+    private void signalAny() {
+        if (idleWorkers.get() == 0) {
+            return;
+        }
+        int start = ThreadLocalRandom.current().nextInt(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            if (signal((start + i) % numThreads)) {
+                return;
+            }
+        }
+    }
+
+    private SchedulerItem poll(int id, boolean runQueueFirst) {
+        SchedulerItem item;
+        if (runQueueFirst) {
+            item = runQueues[id].pollFirst();
+            if (item == null) {
+                item = pinnedQueues[id].poll();
+            }
+        } else {
+            item = pinnedQueues[id].poll();
+            if (item == null) {
+                item = runQueues[id].pollFirst();
+            }
+        }
+        if (item != null) {
+            return item;
+        }
+        return steal(id);
+    }
+
+    private SchedulerItem steal(int id) {
+        if (numThreads == 1) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            int victim = (start + i) % numThreads;
+            if (victim == id) {
+                continue;
+            }
+            SchedulerItem item = runQueues[victim].pollLast();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the next item for the given worker, parking the worker until some work is available.
+     */
+    private SchedulerItem take(int id, boolean runQueueFirst) {
+        while (true) {
+            SchedulerItem item = poll(id, runQueueFirst);
+            if (item != null) {
+                return item;
+            }
+
+            // Announce that this worker is idle before checking the queues again. A submitter either sees this worker
+            // as parked and wakes it up, or the item it added is visible to the check below.
+            parkedWorkers.set(id, 1);
+            idleWorkers.incrementAndGet();
+            item = poll(id, runQueueFirst);
+            if (item != null) {
+                if (parkedWorkers.compareAndSet(id, 1, 0)) {
+                    idleWorkers.decrementAndGet();
+                }
+                return item;
+            }
+
+            LockSupport.park(this);
+            if (parkedWorkers.compareAndSet(id, 1, 0)) {
+                // spurious wake up
+                idleWorkers.decrementAndGet();
+            }
+        }
+    }
+
     /**
      * Add a void returning task to the runnable list, which will eventually be executed by the Scheduler.
      *
@@ -204,10 +400,7 @@ public class Scheduler {
         params[0] = future.strand;
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
-        for (int i = 0; i < numThreads; i++) {
-            totalStrands.incrementAndGet();
-            blockingQueues[i].add(item);
-        }
+        submit(item, parent);
         return future;
     }
 
@@ -252,29 +445,16 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void runTask(int id) {
+        workers[id] = Thread.currentThread();
+        int polls = 0;
         while (true) {
-            SchedulerItem item;
-            try {
-                item = blockingQueues[id].take();
-            } catch (InterruptedException ignored) {
-                continue;
-            }
+            SchedulerItem item = take(id, ++polls % FAIRNESS_INTERVAL == 0);
 
             if (item == POISON_PILL) {
                 this.mainBlockSem.release();
                 break;
             }
 
-            if (item.future.strand.threadId >= 0 && item.future.strand.threadId != id) {
-                ignoreItem();
-                continue;
-            }
-
-            if (!item.picked.compareAndSet(false, true)) {
-                ignoreItem();
-                continue;
-            }
-
             // only ID's permitted here are -1 or same ID
             assert (item.future.strand.threadId == -1 || item.future.strand.threadId == id) : "Invalid strand thread " +
                     "ID : " + item.future.strand.threadId;
@@ -348,7 +528,7 @@ public class Scheduler {
                     justCompleted.setState(State.DONE);
 
 
-                    for (WaitContext ctx : justCompleted.waitingContexts) {
+                    for (WaitContext ctx : justCompleted.getWaitingContexts()) {
                         ctx.lock();
                         if (!ctx.completed) {
                             if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
@@ -369,10 +549,7 @@ public class Scheduler {
                     if (strandsLeft == 0) {
                         // (number of started stands - finished stands) = 0, all the work is done
                         if (!immortal) {
-                            for (int i = 0; i < numThreads; i++) {
-                                assert blockingQueues[i].size() == 0;
-                                blockingQueues[i].add(POISON_PILL);
-                            }
+                            shutdown();
                         }
                     }
                     break;
@@ -382,16 +559,11 @@ public class Scheduler {
         }
     }
 
-    private void ignoreItem() {
-        int strandsLeft = totalStrands.decrementAndGet();
-        if (strandsLeft == 0) {
-            // (number of started stands - finished stands) = 0, all the work is done
-            if (!immortal) {
-                for (int i = 0; i < numThreads; i++) {
-                    assert blockingQueues[i].size() == 0;
-                    blockingQueues[i].add(POISON_PILL);
-                }
-            }
+    private void shutdown() {
+        for (int i = 0; i < numThreads; i++) {
+            assert runQueues[i].isEmpty() && pinnedQueues[i].isEmpty();
+            pinnedQueues[i].add(POISON_PILL);
+            signal(i);
         }
     }
 
@@ -426,6 +598,9 @@ public class Scheduler {
 
     private void notifyChannels(SchedulerItem item, Throwable panic) {
         Set<ChannelDetails> channels = item.future.strand.channelDetails;
+        if (channels == null) {
+            return;
+        }
 
         for (ChannelDetails details: channels) {
             WorkerDataChannel wdChannel;
@@ -448,8 +623,9 @@ public class Scheduler {
             if (!item.getState().equals(State.RUNNABLE)) {
                 // release if the same strand is waiting for others as well (wait multiple)
                 item.setState(State.RUNNABLE);
-                item.picked.set(false);
-                blockingQueues[item.future.strand.threadId].add(item);
+                int id = item.future.strand.threadId;
+                pinnedQueues[id].add(item);
+                signal(id);
             }
     }
 
@@ -460,9 +636,7 @@ public class Scheduler {
         if (parent != null) {
             newStrand.observerContext = parent.observerContext;
         }
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 }
 
@@ -476,7 +650,6 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
-    AtomicBoolean picked = new AtomicBoolean(false);
 
     public static final SchedulerItem POISON_PILL = new SchedulerItem();
 
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.scheduling;
 
+import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.observability.ObserverContext;
 import org.ballerinalang.jvm.transactions.TransactionLocalContext;
@@ -27,6 +28,8 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.MapValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,7 +51,15 @@ import static org.ballerinalang.jvm.scheduling.State.YIELD;
 
 public class Strand {
 
-    public Object[] frames;
+    /**
+     * Initial size of the frame stack. Most strands never yield, and the ones that do rarely yield from deep call
+     * stacks, so the stack starts small and grows on demand.
+     */
+    private static final int INITIAL_FRAME_STACK_SIZE = 8;
+
+    private static final Object[] EMPTY_FRAMES = new Object[0];
+
+    public Object[] frames = EMPTY_FRAMES;
     public int resumeIndex;
     public Object returnValue;
     public Scheduler scheduler;
@@ -56,8 +67,8 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    private Throwable externPanic;
     public Set<ChannelDetails> channelDetails;
-    public Set<SchedulerItem> dependants;
     public ObserverContext observerContext;
     public boolean cancel;
     public int threadId;
@@ -72,21 +83,30 @@ public class Strand {
     private final ReentrantLock strandLock;
 
 
+    // channel details, properties and waiting contexts are created on first use, since most strands never use them
     public Strand(Scheduler scheduler) {
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
-        this.channelDetails = new HashSet<>();
-        this.globalProps = new HashMap<>();
         this.state = RUNNABLE;
-        this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
     }
 
     public Strand(Scheduler scheduler, Strand parent, Map<String, Object> properties) {
         this(scheduler);
         this.parent = parent;
-        this.globalProps = properties != null ? properties : new HashMap<>();
+        this.globalProps = properties;
+    }
+
+    /**
+     * Saves the frame of a yielding function, growing the frame stack if needed.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (this.resumeIndex == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, Math.max(INITIAL_FRAME_STACK_SIZE, this.resumeIndex * 2));
+        }
+        this.frames[this.resumeIndex++] = frame;
     }
 
     public void handleChannelError(ChannelDetails[] channels, ErrorValue error) {
@@ -106,11 +126,48 @@ public class Strand {
         this.returnValue = returnValue;
     }
 
+    /**
+     * Sets the panic raised by an extern call which was run while this strand was blocked on it. The panic is raised
+     * again when the strand resumes and reads the result of the call.
+     *
+     * @param panic panic raised by the extern call
+     */
+    public void setExternPanic(Throwable panic) {
+        this.externPanic = panic;
+    }
+
+    /**
+     * Returns the result of the extern call this strand was blocked on. If the call panicked, the panic is raised
+     * here so that it surfaces at the call site, as it would if the call had been run on the strand itself.
+     *
+     * @return value returned from the extern call
+     */
+    public Object getExternReturnValue() {
+        Throwable panic = this.externPanic;
+        if (panic == null) {
+            return this.returnValue;
+        }
+        this.externPanic = null;
+        if (panic instanceof RuntimeException) {
+            throw (RuntimeException) panic;
+        }
+        if (panic instanceof Error) {
+            throw (Error) panic;
+        }
+        throw BallerinaErrors.createError(panic);
+    }
+
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
         this.globalProps.put(key, value);
     }
 
@@ -192,7 +249,7 @@ public class Strand {
                 target.put(entry.getKey(), future.result);
             } else {
                 this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+                entry.getValue().strand.addWaitingContext(ctx);
             }
             future.strand.unlock();
         }
@@ -232,7 +289,7 @@ public class Strand {
                     waitResult = new WaitResult(true, future.result);
                     break;
                 } else {
-                    future.strand.waitingContexts.add(ctx);
+                    future.strand.addWaitingContext(ctx);
                 }
             } finally {
                 future.strand.unlock();
@@ -254,7 +311,22 @@ public class Strand {
         return waitResult;
     }
 
+    List<WaitContext> getWaitingContexts() {
+        return this.waitingContexts != null ? this.waitingContexts : Collections.emptyList();
+    }
+
+    private void addWaitingContext(WaitContext ctx) {
+        // always called while holding the strand lock
+        if (this.waitingContexts == null) {
+            this.waitingContexts = new ArrayList<>();
+        }
+        this.waitingContexts.add(ctx);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
+        if (this.channelDetails == null) {
+            this.channelDetails = new HashSet<>();
+        }
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
         }
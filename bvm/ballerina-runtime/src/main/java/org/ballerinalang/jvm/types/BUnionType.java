@@ -33,6 +33,8 @@ public class BUnionType extends BType {
     private Boolean nullable;
     private String cachedToString;
     private int typeFlags;
+    // tags of the simple basic types whose values belong to the union, computed on first use
+    private long simpleBasicTypeTags = -1;
 
     /**
      * Create a {@code BUnionType} which represents the union type.
@@ -81,6 +83,59 @@ public class BUnionType extends BType {
         return memberTypes;
     }
 
+    /**
+     * Checks whether all the values of the simple basic type with the given tag belong to this union, because the
+     * union has a member which contains that type. This does not look into finite type members.
+     *
+     * @param typeTag tag of the type
+     * @return true if the type is a subtype of a member of this union, false if it is not or cannot be decided
+     * without a full type check
+     */
+    public boolean acceptsSimpleBasicType(int typeTag) {
+        if (!isSimpleBasicTypeTag(typeTag)) {
+            return false;
+        }
+        long tags = simpleBasicTypeTags;
+        if (tags == -1) {
+            tags = computeSimpleBasicTypeTags();
+            simpleBasicTypeTags = tags;
+        }
+        return (tags & (1L << typeTag)) != 0;
+    }
+
+    private long computeSimpleBasicTypeTags() {
+        long tags = 0;
+        for (BType memberType : memberTypes) {
+            switch (memberType.getTag()) {
+                case TypeTags.INT_TAG:
+                    tags |= (1L << TypeTags.INT_TAG) | (1L << TypeTags.BYTE_TAG);
+                    break;
+                case TypeTags.BYTE_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                case TypeTags.NULL_TAG:
+                    tags |= 1L << memberType.getTag();
+                    break;
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                case TypeTags.ANY_TAG:
+                    tags |= (1L << TypeTags.INT_TAG) | (1L << TypeTags.BYTE_TAG) | (1L << TypeTags.FLOAT_TAG) |
+                            (1L << TypeTags.DECIMAL_TAG) | (1L << TypeTags.STRING_TAG) |
+                            (1L << TypeTags.BOOLEAN_TAG) | (1L << TypeTags.NULL_TAG);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return tags;
+    }
+
+    private static boolean isSimpleBasicTypeTag(int typeTag) {
+        return typeTag <= TypeTags.BOOLEAN_TAG || typeTag == TypeTags.NULL_TAG;
+    }
+
     public boolean isNullable() {
         return isNilable();
     }
@@ -584,9 +584,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public void serialize(OutputStream outputStream) {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
             try {
-                for (int i = 0; i < this.size; i++) {
-                    outputStream.write(this.byteValues[i]);
-                }
+                outputStream.write(this.byteValues, 0, this.size);
             } catch (IOException e) {
                 throw new BallerinaException("error occurred while writing the binary content to the output stream", e);
             }
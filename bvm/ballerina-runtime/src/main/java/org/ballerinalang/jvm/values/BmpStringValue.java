@@ -47,11 +47,7 @@ public class BmpStringValue implements StringValue {
 
      @Override
      public StringValue concat(StringValue str) {
-         if (str instanceof BmpStringValue) {
-             return new BmpStringValue(this.value + ((BmpStringValue) str).value);
-         } else {
-             throw new RuntimeException("not impl yet");
-         }
+         return RopeStringValue.concat(this, str);
      }
 
     @Override
@@ -35,7 +35,13 @@ import java.math.MathContext;
  * </p>
  * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
- * </p> 
+ * </p>
+ * <p>
+ * Values with a small unscaled value are also kept as an unscaled {@code long} and a scale. Arithmetic on two such
+ * values is done on the longs when the exact result fits in a long, which gives the same result as the
+ * {@code BigDecimal} operation with {@link MathContext#DECIMAL128}. The {@code BigDecimal} of such a result is created
+ * only when it is requested.
+ * </p>
  * @since 0.995.0
  */
 public class DecimalValue implements SimpleValue, BDecimal {
@@ -52,27 +58,44 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final long[] LONG_TEN_POWERS = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    // created lazily for values computed in the compact form
     private BigDecimal value;
+    private final boolean compact;
+    private final long unscaledValue;
+    private final int scale;
 
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        this.compact = value.precision() <= MAX_COMPACT_PRECISION;
+        this.unscaledValue = compact ? value.unscaledValue().longValue() : 0;
+        this.scale = value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
-    public DecimalValue(String value) {
-        // Check whether the number provided is a hexadecimal value.
-        if (isHexValueString(value)) {
-            this.value = hexToDecimalFloatingPointNumber(value);
-        } else {
-            this.value = new BigDecimal(value, MathContext.DECIMAL128);
-        }
-        if (!this.booleanValue()) {
+    private DecimalValue(long unscaledValue, int scale) {
+        this.compact = true;
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    public DecimalValue(String value) {
+        // Check whether the number provided is a hexadecimal value.
+        this(isHexValueString(value) ? hexToDecimalFloatingPointNumber(value) :
+                     new BigDecimal(value, MathContext.DECIMAL128));
+    }
+
     public DecimalValue(String value, DecimalValueKind valueKind) {
         this(value);
         this.valueKind = valueKind;
@@ -140,7 +163,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal decimal = this.value;
+        if (decimal == null) {
+            decimal = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = decimal;
+        }
+        return decimal;
     }
 
     /**
@@ -158,6 +186,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw BallerinaErrors.createNumericConversionError(POSITIVE_INF, BTypes.typeInt);
         }
 
+        BigDecimal value = decimalValue();
         if (!isDecimalWithinIntRange(value)) {
             throw BallerinaErrors.createNumericConversionError(this.stringValue(), BTypes.typeDecimal, BTypes.typeInt);
         }
@@ -189,7 +218,8 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw BallerinaErrors.createNumericConversionError(POSITIVE_INF, BTypes.typeByte);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        BigDecimal value = decimalValue();
+        int intVal = (int) Math.rint(value.doubleValue());
         if (!isByteLiteral(intVal)) {
             throw BallerinaErrors.createNumericConversionError(value, BTypes.typeDecimal, BTypes.typeByte);
         }
@@ -208,7 +238,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -216,6 +246,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (compact) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -227,7 +260,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -235,7 +268,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -276,6 +309,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue sum = compactAdd(this, augend.unscaledValue, augend);
+                    if (sum != null) {
+                        return sum;
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -314,6 +351,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    if (subtrahend.unscaledValue != Long.MIN_VALUE) {
+                        DecimalValue difference = compactAdd(this, -subtrahend.unscaledValue, subtrahend);
+                        if (difference != null) {
+                            return difference;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -357,6 +400,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue product = compactMultiply(this, multiplicand);
+                    if (product != null) {
+                        return product;
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -406,6 +453,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue quotient = compactDivide(this, divisor);
+                    if (quotient != null) {
+                        return quotient;
+                    }
                     return new DecimalValue(this.decimalValue().divide(divisor.decimalValue(), MathContext.DECIMAL128));
                 }
                 if (divisor.valueKind == DecimalValueKind.POSITIVE_INFINITY ||
@@ -430,6 +481,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
             case ZERO:
             case OTHER:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    DecimalValue remainder = compactRemainder(this, divisor);
+                    if (remainder != null) {
+                        return remainder;
+                    }
                     return new DecimalValue(this.decimalValue().remainder(divisor.decimalValue(),
                                                                           MathContext.DECIMAL128));
                 }
@@ -449,6 +504,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (compact && unscaledValue != Long.MIN_VALUE) {
+                    return new DecimalValue(-unscaledValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -492,6 +550,111 @@ public class DecimalValue implements SimpleValue, BDecimal {
         return valueKind;
     }
 
+    //========================= Arithmetic on the compact form ==================================
+
+    // Each of these returns null if an operand is not compact or the exact result does not fit in a long, in which
+    // case the BigDecimal operation is used. An exact result of at most 19 digits is never rounded with DECIMAL128, so
+    // the results match the BigDecimal operations, including the scale.
+
+    /**
+     * Adds the given unscaled value, with the scale of {@code augend}, to {@code decimal}.
+     */
+    private static DecimalValue compactAdd(DecimalValue decimal, long augendUnscaled, DecimalValue augend) {
+        if (!decimal.compact || !augend.compact) {
+            return null;
+        }
+        long first = decimal.unscaledValue;
+        long second = augendUnscaled;
+        int scale = decimal.scale;
+        if (decimal.scale < augend.scale) {
+            first = scaleUp(first, (long) augend.scale - decimal.scale);
+            scale = augend.scale;
+        } else if (decimal.scale > augend.scale) {
+            second = scaleUp(second, (long) decimal.scale - augend.scale);
+        }
+        if (first == Long.MIN_VALUE || second == Long.MIN_VALUE) {
+            return null;
+        }
+        long sum = first + second;
+        // overflow iff both operands have the same sign and the sum has a different sign
+        if (((first ^ sum) & (second ^ sum)) < 0) {
+            return null;
+        }
+        return new DecimalValue(sum, scale);
+    }
+
+    private static DecimalValue compactMultiply(DecimalValue decimal, DecimalValue multiplicand) {
+        if (!decimal.compact || !multiplicand.compact) {
+            return null;
+        }
+        long scale = (long) decimal.scale + multiplicand.scale;
+        if (scale != (int) scale) {
+            return null;
+        }
+        long first = decimal.unscaledValue;
+        long second = multiplicand.unscaledValue;
+        long product = first * second;
+        long high = Math.abs(first) | Math.abs(second);
+        if ((high >>> 31 != 0) &&
+                ((second != 0 && product / second != first) || (first == Long.MIN_VALUE && second == -1))) {
+            return null;
+        }
+        return new DecimalValue(product, (int) scale);
+    }
+
+    /**
+     * Divides when the quotient is an integer at the preferred scale, i.e. when no rounding and no trailing zero
+     * handling is involved.
+     */
+    private static DecimalValue compactDivide(DecimalValue decimal, DecimalValue divisor) {
+        if (!decimal.compact || !divisor.compact || divisor.unscaledValue == 0) {
+            return null;
+        }
+        long scale = (long) decimal.scale - divisor.scale;
+        if (scale != (int) scale || (decimal.unscaledValue == Long.MIN_VALUE && divisor.unscaledValue == -1)) {
+            return null;
+        }
+        if (decimal.unscaledValue % divisor.unscaledValue != 0) {
+            return null;
+        }
+        return new DecimalValue(decimal.unscaledValue / divisor.unscaledValue, (int) scale);
+    }
+
+    /**
+     * Computes the remainder when the dividend has at least the scale of the divisor, in which case the integral
+     * quotient has the preferred scale and the remainder has the scale of the dividend.
+     */
+    private static DecimalValue compactRemainder(DecimalValue decimal, DecimalValue divisor) {
+        if (!decimal.compact || !divisor.compact || decimal.scale < divisor.scale) {
+            return null;
+        }
+        long divisorUnscaled = scaleUp(divisor.unscaledValue, (long) decimal.scale - divisor.scale);
+        if (divisorUnscaled == Long.MIN_VALUE || divisorUnscaled == 0) {
+            return null;
+        }
+        return new DecimalValue(decimal.unscaledValue % divisorUnscaled, decimal.scale);
+    }
+
+    /**
+     * Multiplies the unscaled value by the given power of ten.
+     *
+     * @return the scaled value, or {@link Long#MIN_VALUE} if it does not fit in a long
+     */
+    private static long scaleUp(long unscaledValue, long power) {
+        if (unscaledValue == 0) {
+            return 0;
+        }
+        if (power >= LONG_TEN_POWERS.length) {
+            return Long.MIN_VALUE;
+        }
+        long multiplier = LONG_TEN_POWERS[(int) power];
+        long scaled = unscaledValue * multiplier;
+        if (unscaledValue == Long.MIN_VALUE || scaled / multiplier != unscaledValue) {
+            return Long.MIN_VALUE;
+        }
+        return scaled;
+    }
+
     //===========================================================================================
 
     @Override
@@ -505,12 +668,18 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        if (this.valueKind != bDecimal.valueKind) {
+            return false;
+        }
+        if (compact && bDecimal.compact && scale == bDecimal.scale) {
+            return unscaledValue == bDecimal.unscaledValue;
+        }
+        return decimalValue().compareTo(bDecimal.decimalValue()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -528,7 +697,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return valueOf((long) value);
     }
 
     /**
@@ -537,6 +706,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        long unscaledValue = scaleUp(value, 1);
+        if (unscaledValue != Long.MIN_VALUE) {
+            return new DecimalValue(unscaledValue, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
     }
 
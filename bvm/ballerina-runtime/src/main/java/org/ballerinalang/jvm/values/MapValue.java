@@ -50,6 +50,18 @@ public interface MapValue<K, V> extends RefValue, CollectionValue, BMap<K, V> {
 
     long getDefaultableIntValue(String key);
 
+    long getUnboxedIntValue(String key);
+
+    double getUnboxedFloatValue(String key);
+
+    boolean getUnboxedBooleanValue(String key);
+
+    void putUnboxedIntValue(String key, long value);
+
+    void putUnboxedFloatValue(String key, double value);
+
+    void putUnboxedBooleanValue(String key, boolean value);
+
     Object merge(MapValue v2, boolean checkMergeability);
 
     void addNativeData(String key, Object data);
@@ -18,9 +18,10 @@
 package org.ballerinalang.jvm.values;
 
 import org.ballerinalang.jvm.BallerinaErrors;
-import org.ballerinalang.jvm.JSONGenerator;
 import org.ballerinalang.jvm.JSONUtils;
+import org.ballerinalang.jvm.MapUtils;
 import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.UTF8JSONGenerator;
 import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BRecordType;
@@ -36,7 +37,6 @@ import org.ballerinalang.jvm.values.freeze.State;
 import org.ballerinalang.jvm.values.freeze.Status;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -75,8 +75,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
 
     private static final long serialVersionUID = 1L;
     private BType type;
-    private volatile Status freezeStatus = new Status(State.UNFROZEN);
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // freeze status and native data are created on first use, since most maps and records never need them
+    private volatile Status freezeStatus;
+    private volatile Map<String, Object> nativeData;
 
     public MapValueImpl(BType type) {
         super();
@@ -128,6 +129,75 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return (ArrayValue) get(key);
     }
 
+    /**
+     * Retrieve the value of an int field without boxing it. Generated record values override this to read the field
+     * directly.
+     *
+     * @param key key of the field
+     * @return value of the field
+     */
+    public long getUnboxedIntValue(String key) {
+        return TypeChecker.anyToInt(get(key));
+    }
+
+    /**
+     * Retrieve the value of a float field without boxing it. Generated record values override this to read the field
+     * directly.
+     *
+     * @param key key of the field
+     * @return value of the field
+     */
+    public double getUnboxedFloatValue(String key) {
+        return TypeChecker.anyToFloat(get(key));
+    }
+
+    /**
+     * Retrieve the value of a boolean field without boxing it. Generated record values override this to read the
+     * field directly.
+     *
+     * @param key key of the field
+     * @return value of the field
+     */
+    public boolean getUnboxedBooleanValue(String key) {
+        return TypeChecker.anyToBoolean(get(key));
+    }
+
+    /**
+     * Store an int value in a field without boxing it. Generated record values override this to write fields which
+     * are of type int directly. Other fields go through the type checked store.
+     *
+     * @param key   key of the field
+     * @param value value to be stored
+     */
+    @SuppressWarnings("unchecked")
+    public void putUnboxedIntValue(String key, long value) {
+        MapUtils.handleMapStore((MapValue<String, Object>) this, key, value);
+    }
+
+    /**
+     * Store a float value in a field without boxing it. Generated record values override this to write fields which
+     * are of type float directly. Other fields go through the type checked store.
+     *
+     * @param key   key of the field
+     * @param value value to be stored
+     */
+    @SuppressWarnings("unchecked")
+    public void putUnboxedFloatValue(String key, double value) {
+        MapUtils.handleMapStore((MapValue<String, Object>) this, key, value);
+    }
+
+    /**
+     * Store a boolean value in a field without boxing it. Generated record values override this to write fields
+     * which are of type boolean directly. Other fields go through the type checked store.
+     *
+     * @param key   key of the field
+     * @param value value to be stored
+     */
+    @SuppressWarnings("unchecked")
+    public void putUnboxedBooleanValue(String key, boolean value) {
+        MapUtils.handleMapStore((MapValue<String, Object>) this, key, value);
+    }
+
     public long getDefaultableIntValue(String key) {
         if (get(key) != null) {
             return getIntValue(key);
@@ -219,11 +289,12 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * then a {@link ErrorValue} will be thrown.
      */
     protected void checkFreezeStatus() {
+        Status status = freezeStatus;
+        if (status == null || status.getState() == State.UNFROZEN) {
+            return;
+        }
         try {
-            if (freezeStatus.getState() == State.UNFROZEN) {
-                return;
-            }
-            handleInvalidUpdate(freezeStatus.getState(), MAP_LANG_LIB);
+            handleInvalidUpdate(status.getState(), MAP_LANG_LIB);
         } catch (BLangFreezeException e) {
             // we would only reach here for record or map, not for object
             String errMessage = "";
@@ -243,8 +314,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * Clear map entries.
      */
     public void clear() {
-        if (freezeStatus.getState() != State.UNFROZEN) {
-            handleInvalidUpdate(freezeStatus.getState(), MAP_LANG_LIB);
+        State state = getFreezeState();
+        if (state != State.UNFROZEN) {
+            handleInvalidUpdate(state, MAP_LANG_LIB);
         }
         super.clear();
     }
@@ -278,8 +350,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public V remove(Object key) {
-        if (freezeStatus.getState() != State.UNFROZEN) {
-            handleInvalidUpdate(freezeStatus.getState(), MAP_LANG_LIB);
+        State state = getFreezeState();
+        if (state != State.UNFROZEN) {
+            handleInvalidUpdate(state, MAP_LANG_LIB);
         }
         return super.remove(key);
     }
@@ -384,7 +457,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             throw new BLangFreezeException("'freeze()' not allowed on '" + getType() + "'");
         }
 
-        if (FreezeUtils.isOpenForFreeze(this.freezeStatus, freezeStatus)) {
+        if (this.freezeStatus == null || FreezeUtils.isOpenForFreeze(this.freezeStatus, freezeStatus)) {
             this.freezeStatus = freezeStatus;
             this.values().forEach(val -> {
                 if (val instanceof RefValue) {
@@ -403,7 +476,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         if (isFrozen()) {
             return;
         }
-        this.freezeStatus.setFrozen();
+        if (this.freezeStatus == null) {
+            this.freezeStatus = new Status(State.FROZEN);
+        } else {
+            this.freezeStatus.setFrozen();
+        }
         this.values().forEach(val -> {
             if (val instanceof RefValue) {
                 ((RefValue) val).freezeDirect();
@@ -416,19 +493,20 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public synchronized boolean isFrozen() {
-        return freezeStatus.isFrozen();
+        return freezeStatus != null && freezeStatus.isFrozen();
+    }
+
+    private State getFreezeState() {
+        Status status = freezeStatus;
+        return status == null ? State.UNFROZEN : status.getState();
     }
 
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JSONGenerator gen = new JSONGenerator(byteOut);
         try {
-            gen.serialize(this);
-            gen.flush();
+            return UTF8JSONGenerator.toJSONString(this);
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
     }
 
     @Override
@@ -478,7 +556,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -487,7 +565,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     /**
@@ -495,7 +573,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      *
      * @return nativeData map
      */
-    public Map<String, Object> getNativeDataMap() {
+    public synchronized Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
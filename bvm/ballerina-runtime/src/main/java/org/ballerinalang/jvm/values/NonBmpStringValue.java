@@ -46,17 +46,13 @@ public class NonBmpStringValue implements StringValue {
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        // the surrogate pairs before the index shift its char offset by one each
+        int pos = Arrays.binarySearch(surrogates, index);
+        if (pos >= 0) {
+            int offset = index + pos;
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
-        return value.charAt(offset);
+        return value.charAt(index - pos - 1);
     }
 
     @Override
@@ -66,14 +62,11 @@ public class NonBmpStringValue implements StringValue {
 
     @Override
     public StringValue concat(StringValue str) {
-        if (str instanceof NonBmpStringValue) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
-            return new NonBmpStringValue(this.value + other.value, both);
-        } else {
-            throw new RuntimeException("not impl yet");
-        }
+        return RopeStringValue.concat(this, str);
+    }
+
+    int[] getSurrogates() {
+        return surrogates;
     }
 
     @Override
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Represent ballerina strings created by concatenating other strings.
+ * <p>
+ * The operands are kept as a tree and are copied to a single flat string only when the content is read, so that
+ * repeated concatenation takes linear time in the total length. Small flat operands are concatenated eagerly instead.
+ *
+ * @since 1.1.0
+ */
+public class RopeStringValue implements StringValue {
+
+    // flat strings up to this many chars are copied, rather than referenced from a new rope
+    private static final int FLAT_CONCAT_THRESHOLD = 64;
+    private static final int[] NO_SURROGATES = new int[0];
+
+    private final int length;
+    private final int charLength;
+
+    // guarded by this, and cleared once the rope is flattened
+    private StringValue left;
+    private StringValue right;
+    private volatile StringValue flat;
+
+    private RopeStringValue(StringValue left, StringValue right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+    }
+
+    /**
+     * Concatenates two strings.
+     *
+     * @param left  left operand
+     * @param right right operand
+     * @return concatenated string
+     */
+    static StringValue concat(StringValue left, StringValue right) {
+        if (right.length() == 0) {
+            return left;
+        }
+        if (left.length() == 0) {
+            return right;
+        }
+        if (!(left instanceof RopeStringValue) && !(right instanceof RopeStringValue) &&
+                charLength(left) + charLength(right) <= FLAT_CONCAT_THRESHOLD) {
+            return flatConcat(left, right);
+        }
+        return new RopeStringValue(left, right);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public StringValue concat(StringValue str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    private StringValue flatten() {
+        StringValue flatValue = flat;
+        if (flatValue != null) {
+            return flatValue;
+        }
+        synchronized (this) {
+            if (flat != null) {
+                return flat;
+            }
+            flatValue = flatten(left, right, charLength);
+            flat = flatValue;
+            left = null;
+            right = null;
+            return flatValue;
+        }
+    }
+
+    /**
+     * Copies the leaves of the rope to a single string, in order. The surrogate indexes of the leaves are shifted and
+     * merged, so that the result does not have to be scanned again.
+     */
+    private static StringValue flatten(StringValue left, StringValue right, int charLength) {
+        StringBuilder sb = new StringBuilder(charLength);
+        int[] surrogates = NO_SURROGATES;
+        int surrogateCount = 0;
+        int codePointCount = 0;
+
+        Deque<StringValue> pending = new ArrayDeque<>();
+        pending.push(right);
+        pending.push(left);
+        while (!pending.isEmpty()) {
+            StringValue str = pending.pop();
+            if (str instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) str;
+                synchronized (rope) {
+                    if (rope.flat == null) {
+                        pending.push(rope.right);
+                        pending.push(rope.left);
+                        continue;
+                    }
+                    str = rope.flat;
+                }
+            }
+
+            sb.append(str.getValue());
+            int[] strSurrogates = getSurrogates(str);
+            if (strSurrogates.length > 0) {
+                if (surrogateCount + strSurrogates.length > surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates,
+                            Math.max(surrogates.length * 2, surrogateCount + strSurrogates.length));
+                }
+                for (int surrogate : strSurrogates) {
+                    surrogates[surrogateCount++] = surrogate + codePointCount;
+                }
+            }
+            codePointCount += str.length();
+        }
+
+        if (surrogateCount == 0) {
+            return new BmpStringValue(sb.toString());
+        }
+        return new NonBmpStringValue(sb.toString(), Arrays.copyOf(surrogates, surrogateCount));
+    }
+
+    private static StringValue flatConcat(StringValue left, StringValue right) {
+        String value = left.getValue() + right.getValue();
+        int[] leftSurrogates = getSurrogates(left);
+        int[] rightSurrogates = getSurrogates(right);
+        if (leftSurrogates.length == 0 && rightSurrogates.length == 0) {
+            return new BmpStringValue(value);
+        }
+
+        int[] surrogates = Arrays.copyOf(leftSurrogates, leftSurrogates.length + rightSurrogates.length);
+        int shift = left.length();
+        for (int i = 0; i < rightSurrogates.length; i++) {
+            surrogates[leftSurrogates.length + i] = rightSurrogates[i] + shift;
+        }
+        return new NonBmpStringValue(value, surrogates);
+    }
+
+    private static int[] getSurrogates(StringValue str) {
+        if (str instanceof NonBmpStringValue) {
+            return ((NonBmpStringValue) str).getSurrogates();
+        }
+        if (str instanceof BmpStringValue) {
+            return NO_SURROGATES;
+        }
+        // code point indexes of the high surrogates, as in org.ballerinalang.jvm.StringUtils#fromString
+        String value = str.getValue();
+        int[] surrogates = NO_SURROGATES;
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isHighSurrogate(value.charAt(i))) {
+                if (count == surrogates.length) {
+                    surrogates = Arrays.copyOf(surrogates, Math.max(4, count * 2));
+                }
+                surrogates[count] = i - count;
+                count++;
+            }
+        }
+        return Arrays.copyOf(surrogates, count);
+    }
+
+    private static int charLength(StringValue str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+}
@@ -119,7 +119,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Override
     public void serialize(OutputStream outputStream) {
-        serialize(new JSONGenerator(outputStream));
+        serialize(JSONGenerator.newGenerator(outputStream));
     }
 
     @Override
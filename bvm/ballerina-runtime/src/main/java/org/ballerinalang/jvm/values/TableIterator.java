@@ -70,7 +70,7 @@ public class TableIterator implements DataIterator {
         this.resourceManager = rm;
         this.rs = rs;
         this.type = type;
-        generateColumnDefinitions();
+        this.columnDefs = TableUtils.generateColumnDefinitions(type);
     }
 
     @Override
@@ -443,35 +443,6 @@ public class TableIterator implements DataIterator {
         return arrayElementAttributes;
     }
 
-    private void generateColumnDefinitions() {
-        Collection<BField> structFields = this.type.getFields().values();
-        columnDefs = new ArrayList<>(structFields.size());
-        for (BField sf : structFields) {
-            BType type = sf.getFieldType();
-            int typeTag = TypeTags.ANY_TAG;
-            switch (type.getTag()) {
-            case TypeTags.INT_TAG:
-            case TypeTags.STRING_TAG:
-            case TypeTags.FLOAT_TAG:
-            case TypeTags.BOOLEAN_TAG:
-            case TypeTags.JSON_TAG:
-            case TypeTags.XML_TAG:
-                typeTag = type.getTag();
-                break;
-            case TypeTags.ARRAY_TAG:
-                BType elementType = ((BArrayType) type).getElementType();
-                if (elementType.getTag() == TypeTags.BYTE_TAG) {
-                    typeTag = TypeTags.BYTE_TAG;
-                } else {
-                    typeTag = TypeTags.ARRAY_TAG;
-                }
-                break;
-            }
-            ColumnDefinition def = new ColumnDefinition(sf.getFieldName(), typeTag);
-            columnDefs.add(def);
-        }
-    }
-
     private static class ArrayElementAttributes {
         private Object firstNonNullElement;
         private boolean containsNull;
@@ -20,8 +20,9 @@ package org.ballerinalang.jvm.values;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.ColumnDefinition;
 import org.ballerinalang.jvm.DataIterator;
-import org.ballerinalang.jvm.TableProvider;
+import org.ballerinalang.jvm.InMemoryTable;
 import org.ballerinalang.jvm.TableUtils;
+import org.ballerinalang.jvm.query.TableQuery;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BFunctionType;
@@ -58,7 +59,7 @@ public class TableValue implements RefValue, BTable {
     protected DataIterator iterator;
     private boolean hasNextVal;
     private boolean nextPrefetched;
-    private TableProvider tableProvider;
+    private InMemoryTable store;
     private String tableName;
     private BStructureType constraintType;
     private ArrayValue primaryKeys;
@@ -69,7 +70,7 @@ public class TableValue implements RefValue, BTable {
     @Deprecated
     public TableValue() {
         this.iterator = null;
-        this.tableProvider = null;
+        this.store = null;
         this.nextPrefetched = false;
         this.hasNextVal = false;
         this.tableName = null;
@@ -93,21 +94,19 @@ public class TableValue implements RefValue, BTable {
     @Deprecated
     public TableValue(String query, TableValue fromTable, TableValue joinTable,
                       BStructureType constraintType, ArrayValue params) {
-        this.tableProvider = TableProvider.getInstance();
         if (!fromTable.isInMemoryTable()) {
             throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
                     "Table query over a cursor table not supported");
         }
+        InMemoryTable joinStore = null;
         if (joinTable != null) {
             if (!joinTable.isInMemoryTable()) {
                 throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
                         "Table query over a cursor table not supported");
             }
-            this.tableName = tableProvider.createTable(fromTable.tableName, joinTable.tableName, query,
-                                                       constraintType, params);
-        } else {
-            this.tableName = tableProvider.createTable(fromTable.tableName, query, constraintType, params);
+            joinStore = joinTable.store;
         }
+        this.store = TableQuery.getQuery(query).execute(fromTable.store, joinStore, constraintType, params);
         this.constraintType = constraintType;
         this.type = new BTableType(constraintType);
     }
@@ -116,8 +115,7 @@ public class TableValue implements RefValue, BTable {
     public TableValue(BType type, ArrayValue keyColumns, ArrayValue dataRows) {
         //Create table with given constraints.
         BType constrainedType = ((BTableType) type).getConstrainedType();
-        this.tableProvider = TableProvider.getInstance();
-        this.tableName = tableProvider.createTable(constrainedType, keyColumns);
+        this.store = new InMemoryTable((BStructureType) constrainedType, keyColumns);
         this.constraintType = (BStructureType) constrainedType;
         this.type = new BTableType(constraintType);
         this.primaryKeys = keyColumns;
@@ -257,7 +255,7 @@ public class TableValue implements RefValue, BTable {
     }
 
     /**
-     * Performs addition of a record to the database.
+     * Performs addition of a record to the table.
      *
      * @param data The record to be inserted
      */
@@ -267,7 +265,7 @@ public class TableValue implements RefValue, BTable {
                     "incompatible types: record of type:" + data.getType().getName()
                             + " cannot be added to a table with type:" + this.constraintType.getName());
         }
-        tableProvider.insertData(tableName, data);
+        store.add(data);
         reset();
     }
 
@@ -294,14 +292,8 @@ public class TableValue implements RefValue, BTable {
                             .getName() + " cannot be used to remove records from a table with type:"
                             + this.constraintType.getName()));
         }
-        int deletedCount = 0;
-        while (this.hasNext()) {
-            MapValueImpl<String, Object> row = this.getNext();
-            if (func.call(new Object[] { strand, row, true })) {
-                tableProvider.deleteData(this.tableName, row);
-                ++deletedCount;
-            }
-        }
+        int deletedCount = store.removeIf(row -> func.call(new Object[] { strand, row, true }));
+        reset();
         return deletedCount;
     }
 
@@ -412,7 +404,7 @@ public class TableValue implements RefValue, BTable {
             return refs.get(this);
         }
 
-        TableIterator cloneIterator = tableProvider.createIterator(this.tableName, this.constraintType);
+        DataIterator cloneIterator = store.createIterator();
         ArrayValue data = new ArrayValueImpl(new BArrayType(this.constraintType));
         int cursor = 0;
         try {
@@ -445,7 +437,7 @@ public class TableValue implements RefValue, BTable {
     }
 
     private void generateIterator() {
-        this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        this.iterator = store.createIterator();
         resetIterationHelperAttributes();
     }
 
@@ -458,14 +450,6 @@ public class TableValue implements RefValue, BTable {
         this.hasNextVal = false;
     }
 
-    @Override
-    public void finalize() {
-        if (this.iterator != null) {
-            this.iterator.close();
-        }
-        tableProvider.dropTable(this.tableName);
-    }
-
     private void insertInitialData(ArrayValue data) {
         int count = data.size();
         for (int i = 0; i < count; i++) {
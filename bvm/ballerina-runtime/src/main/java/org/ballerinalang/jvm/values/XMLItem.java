@@ -80,6 +80,9 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
 @SuppressWarnings("unchecked")
 public final class XMLItem extends XMLValue<OMNode> {
 
+    // output factories are thread safe once configured, and looking up the implementation is expensive
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
     OMNode omNode;
     private XMLNodeType nodeType;
 
@@ -352,7 +355,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
         switch (nodeType) {
             case ELEMENT:
-                if (getElementName().toString().equals(getQname(qname).toString())) {
+                if (getQname(qname).equals(((OMElement) omNode).getQName())) {
                     elementsSeq.add(0, this);
                 }
                 break;
@@ -370,10 +373,10 @@ public final class XMLItem extends XMLValue<OMNode> {
         ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
         switch (nodeType) {
             case ELEMENT:
-                Iterator<OMNode> childrenItr = ((OMElement) omNode).getChildren();
                 int i = 0;
-                while (childrenItr.hasNext()) {
-                    elementsSeq.add(i++, new XMLItem(childrenItr.next()));
+                for (OMNode child = ((OMElement) omNode).getFirstOMChild(); child != null;
+                     child = child.getNextOMSibling()) {
+                    elementsSeq.add(i++, new XMLItem(child));
                 }
                 break;
             default:
@@ -543,7 +546,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         List<XMLValue<?>> descendants = new ArrayList<XMLValue<?>>();
         switch (nodeType) {
             case ELEMENT:
-                addDescendants(descendants, (OMElement) omNode, getQname(qname).toString());
+                addDescendants(descendants, (OMElement) omNode, getQname(qname));
                 break;
             default:
                 break;
@@ -563,8 +566,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 // not using the xml-factory here because of the namespace serializing issues.
                 this.omNode.serializeAndConsume(outputStream);
             } else {
-                XMLOutputFactory factory = XMLOutputFactory.newInstance();
-                XMLStreamWriter writer = factory.createXMLStreamWriter(outputStream);
+                XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream);
                 this.omNode.serializeAndConsume(writer);
             }
         } catch (Throwable t) {
@@ -18,9 +18,7 @@
 package org.ballerinalang.jvm.values;
 
 import org.apache.axiom.om.OMText;
-import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.XMLNodeType;
-import org.ballerinalang.jvm.types.TypeTags;
 
 /**
  * <p>
@@ -112,8 +110,7 @@ public class XMLIterator {
             }
 
             Object curVal = value.sequence.getRefValue(cursor++);
-            if (TypeChecker.getType(curVal).getTag() == TypeTags.XML_TAG &&
-                    ((XMLItem) curVal).getNodeType() == XMLNodeType.TEXT) {
+            if (curVal instanceof XMLItem && ((XMLItem) curVal).getNodeType() == XMLNodeType.TEXT) {
                 iterMode = IterMode.CODE_POINT;
                 codePointIterator = CodePointIterator.from(curVal.toString());
                 return codePointIterator.next();
@@ -150,12 +147,12 @@ public class XMLIterator {
         @Override
         public Object next() {
             int codePoint = charSequence.codePointAt(offset);
-            offset += Character.charCount(codePoint);
-
-            // Max 2 chars per code point.
-            StringBuilder sb = new StringBuilder(2);
-            sb.appendCodePoint(codePoint);
-            return sb.toString();
+            int charCount = Character.charCount(codePoint);
+            offset += charCount;
+            if (charCount == 1) {
+                return String.valueOf((char) codePoint);
+            }
+            return charSequence.substring(offset - charCount, offset);
         }
 
         @Override
@@ -217,11 +217,11 @@ public final class XMLSequence extends XMLValue<ArrayValue> {
     @Override
     public XMLValue<?> elements(String qname) {
         ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
-        String qnameStr = getQname(qname).toString();
+        QName name = getQname(qname);
         int j = 0;
         for (int i = 0; i < sequence.size(); i++) {
             XMLItem item = (XMLItem) sequence.getRefValue(i);
-            if (item.getNodeType() == XMLNodeType.ELEMENT && item.getElementName().toString().equals(qnameStr)) {
+            if (item.getNodeType() == XMLNodeType.ELEMENT && name.equals(((OMElement) item.value()).getQName())) {
                 elementsSeq.add(j++, item);
             }
         }
@@ -386,11 +386,12 @@ public final class XMLSequence extends XMLValue<ArrayValue> {
     @Override
     public XMLValue<?> descendants(String qname) {
         List<XMLValue<?>> descendants = new ArrayList<XMLValue<?>>();
+        QName name = getQname(qname);
         for (int i = 0; i < sequence.size(); i++) {
             XMLItem element = (XMLItem) sequence.getRefValue(i);
             switch (element.getNodeType()) {
                 case ELEMENT:
-                    addDescendants(descendants, (OMElement) element.value(), getQname(qname).toString());
+                    addDescendants(descendants, (OMElement) element.value(), name);
                     break;
                 default:
                     break;
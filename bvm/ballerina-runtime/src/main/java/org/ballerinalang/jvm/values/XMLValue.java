@@ -28,7 +28,6 @@ import org.ballerinalang.jvm.values.api.BXMLQName;
 import org.ballerinalang.jvm.values.freeze.State;
 import org.ballerinalang.jvm.values.freeze.Status;
 
-import java.util.Iterator;
 import java.util.List;
 
 import javax.xml.namespace.QName;
@@ -322,15 +321,14 @@ public abstract class XMLValue<T> implements RefValue, BXML<T>, CollectionValue
      * @param currentElement Current node
      * @param qname Qualified name of the descendants to search
      */
-    @SuppressWarnings("unchecked")
-    protected void addDescendants(List<XMLValue<?>> descendants, OMElement currentElement, String qname) {
-        Iterator<OMNode> childrenItr = currentElement.getChildren();
-        while (childrenItr.hasNext()) {
-            OMNode child = childrenItr.next();
+    protected void addDescendants(List<XMLValue<?>> descendants, OMElement currentElement, QName qname) {
+        // siblings are followed directly, and names are compared as qualified names, so that neither an iterator nor
+        // the string form of the name is created for each node
+        for (OMNode child = currentElement.getFirstOMChild(); child != null; child = child.getNextOMSibling()) {
             if (child.getType() != OMNode.ELEMENT_NODE) {
                 continue;
             }
-            if (qname.equals(((OMElement) child).getQName().toString())) {
+            if (qname.equals(((OMElement) child).getQName())) {
                 descendants.add(new XMLItem(child));
                 continue;
             }
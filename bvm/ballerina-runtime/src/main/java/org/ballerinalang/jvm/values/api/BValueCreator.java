@@ -266,7 +266,7 @@ import java.util.function.Function;
      /**
       * Create a table based on given parameters.
       *
-      * @param query string query for table creation
+      * @param query query plan of the table query
       * @param fromTable from {@code TableValue}
       * @param joinTable join {@code TableValue}
       * @param constraintType structure type of the table
@@ -0,0 +1,86 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Test cases for {@link DecimalValue} arithmetic, which is done on longs when the operands are small enough.
+ */
+public class DecimalValueTests {
+
+    @DataProvider
+    public Object[][] operands() {
+        return new Object[][]{
+                {"19.99", "3"},
+                {"-4.50", "0.25"},
+                {"25.50", "4.25"},
+                {"1", "3"},
+                {"1E+3", "0.001"},
+                {"922337203685477580.7", "10"},
+                {"9223372036854775807", "-9223372036854775808"},
+                {"12345678901234567890123456789.5", "2.5"}
+        };
+    }
+
+    @Test(dataProvider = "operands")
+    public void testArithmetic(String first, String second) {
+        BigDecimal x = new BigDecimal(first, MathContext.DECIMAL128);
+        BigDecimal y = new BigDecimal(second, MathContext.DECIMAL128);
+        DecimalValue dx = new DecimalValue(first);
+        DecimalValue dy = new DecimalValue(second);
+
+        assertDecimal(dx.add(dy), x.add(y, MathContext.DECIMAL128));
+        assertDecimal(dx.subtract(dy), x.subtract(y, MathContext.DECIMAL128));
+        assertDecimal(dx.multiply(dy), x.multiply(y, MathContext.DECIMAL128));
+        assertDecimal(dx.divide(dy), x.divide(y, MathContext.DECIMAL128));
+        assertDecimal(dx.remainder(dy), x.remainder(y, MathContext.DECIMAL128));
+        assertDecimal(dx.negate(), x.negate());
+    }
+
+    @Test
+    public void testRepeatedArithmetic() {
+        DecimalValue total = new DecimalValue("0.00");
+        DecimalValue price = new DecimalValue("19.99");
+        for (int i = 0; i < 1000; i++) {
+            total = total.add(price.multiply(DecimalValue.valueOf(i)));
+        }
+        Assert.assertEquals(total.stringValue(), "9985005.000");
+        Assert.assertEquals(total, new DecimalValue("9985005"));
+        Assert.assertEquals(total.hashCode(), new DecimalValue("9985005.000").hashCode());
+    }
+
+    @Test
+    public void testValueOfLong() {
+        Assert.assertEquals(DecimalValue.valueOf(42L).stringValue(), "42.0");
+        Assert.assertEquals(DecimalValue.valueOf(Long.MAX_VALUE).stringValue(), "9223372036854775807.0");
+        Assert.assertEquals(DecimalValue.valueOf(Long.MIN_VALUE).stringValue(), "-9223372036854775808.0");
+    }
+
+    private static void assertDecimal(DecimalValue actual, BigDecimal expected) {
+        Assert.assertEquals(actual.decimalValue().toString(), expected.toString());
+        Assert.assertEquals(actual.decimalValue().scale(), expected.scale());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler}.
+ */
+public class SchedulerTests {
+
+    @Test(description = "Test whether strands submitted from outside the scheduler are run in submission order")
+    public void testExternalSubmissionOrder() {
+        Scheduler scheduler = new Scheduler(1, false);
+        List<Integer> executionOrder = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int index = i;
+            Function<Object[], Object> function = params -> {
+                executionOrder.add(index);
+                return null;
+            };
+            scheduler.schedule(new Object[1], function, null, null);
+        }
+
+        // The single worker runs on the calling thread and the scheduler shuts down once all strands are done.
+        scheduler.start();
+
+        Assert.assertEquals(executionOrder, Arrays.asList(0, 1, 2, 3, 4));
+    }
+}
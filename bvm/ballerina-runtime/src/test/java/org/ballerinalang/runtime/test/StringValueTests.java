@@ -1,6 +1,9 @@
 package org.ballerinalang.runtime.test;
 
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.BmpStringValue;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
+import org.ballerinalang.jvm.values.StringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,53 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatBmpAndNonBmp() {
+        StringValue str = new BmpStringValue("Hi ").concat(SUBJECT);
+        Assert.assertEquals(str.getValue(), "Hi " + UNICODE_STR);
+        Assert.assertEquals(str.length(), 19);
+        Assert.assertEquals(str.getCodePoint(4), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(17), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(18), 'r');
+    }
+
+    @Test
+    void testConcatNonBmpAndBmp() {
+        StringValue str = SUBJECT.concat(new BmpStringValue("!"));
+        Assert.assertEquals(str.getValue(), UNICODE_STR + "!");
+        Assert.assertEquals(str.length(), 17);
+        Assert.assertEquals(str.getCodePoint(14), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(16), '!');
+    }
+
+    @Test
+    void testConcatNonBmpAndNonBmp() {
+        StringValue str = SUBJECT.concat(SUBJECT);
+        Assert.assertEquals(str.getValue(), UNICODE_STR + UNICODE_STR);
+        Assert.assertEquals(str.length(), 32);
+        Assert.assertEquals(str.getCodePoint(17), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(30), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(31), 'r');
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        StringValue str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            StringValue part = StringUtils.fromString(i % 3 == 0 ? UNICODE_STR : "part" + i);
+            str = str.concat(part);
+            expected.append(part.getValue());
+        }
+        StringValue expectedStr = StringUtils.fromString(expected.toString());
+        Assert.assertEquals(str.length(), expectedStr.length());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        for (int i = 0; i < expectedStr.length(); i++) {
+            Assert.assertEquals(str.getCodePoint(i), expectedStr.getCodePoint(i));
+        }
+        // appending to a flattened string keeps the content of both
+        StringValue appended = str.concat(SUBJECT);
+        Assert.assertEquals(appended.getValue(), expected + UNICODE_STR);
+        Assert.assertEquals(appended.getCodePoint(expectedStr.length() + 14), 0x1F47D);
+    }
 }
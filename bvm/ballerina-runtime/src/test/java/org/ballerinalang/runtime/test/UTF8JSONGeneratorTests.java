@@ -0,0 +1,64 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.UTF8JSONGenerator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link UTF8JSONGenerator class}, which should write the same content as {@link JSONGenerator}.
+ */
+public class UTF8JSONGeneratorTests {
+
+    @DataProvider(name = "json")
+    public Object[][] json() {
+        return new Object[][] {
+                { "{\"name\":\"John\", \"age\":30, \"married\":true, \"spouse\":null, \"height\":1.85}" },
+                { "[1, -2, 9223372036854775807, -9223372036854775808, 0.1, [], {}, [{\"a\":[1]}]]" },
+                { "{\"escaped\":\"a\\\"b\\\\c/d\\b\\f\\n\\r\\t\", \"slash\":\"a/b\"}" },
+                { "{\"unicode\":\"\u00e9t\u00e9 \u4e2d\u6587 \uD83D\uDE00\", \"\u00e9\":\"\u00e9\\n\u00e9\"}" },
+                { "\"top level string\"" }
+        };
+    }
+
+    @Test(dataProvider = "json")
+    public void testSerialize(String json) throws IOException {
+        Object value = JSONParser.parse(json);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        JSONGenerator gen = new JSONGenerator(expected, StandardCharsets.UTF_8);
+        gen.serialize(value);
+        gen.flush();
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        gen = new UTF8JSONGenerator(actual);
+        gen.serialize(value);
+        gen.flush();
+        Assert.assertEquals(actual.toByteArray(), expected.toByteArray());
+        Assert.assertEquals(UTF8JSONGenerator.toJSONString(value),
+                            new String(expected.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,302 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.UTF8JSONParser;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link UTF8JSONParser class}, which should build the same values as {@link JSONParser}.
+ */
+public class UTF8JSONParserTests {
+
+    private static final BPackage BINDING_PKG = new BPackage("test", "binding");
+
+    private BRecordType addressType;
+    private BRecordType personType;
+    private BRecordType entryType;
+
+    @BeforeClass
+    public void setup() {
+        // type Address record {| string street; string city; int zip?; |};
+        Map<String, BField> addressFields = new LinkedHashMap<>();
+        addressFields.put("street", new BField(BTypes.typeString, "street", Flags.REQUIRED));
+        addressFields.put("city", new BField(BTypes.typeString, "city", Flags.REQUIRED));
+        addressFields.put("zip", new BField(BTypes.typeInt, "zip", Flags.OPTIONAL));
+        addressType = new BRecordType("Address", BINDING_PKG, 0, addressFields, null, true, 0);
+
+        // type Person record {| string name; int age = 0; string? email?; Address address; |};
+        Map<String, BField> personFields = new LinkedHashMap<>();
+        personFields.put("name", new BField(BTypes.typeString, "name", Flags.REQUIRED));
+        personFields.put("age", new BField(BTypes.typeInt, "age", 0));
+        personFields.put("email", new BField(new BUnionType(Arrays.asList(BTypes.typeString, BTypes.typeNull)),
+                                             "email", Flags.OPTIONAL));
+        personFields.put("address", new BField(addressType, "address", Flags.REQUIRED));
+        personType = new BRecordType("Person", BINDING_PKG, 0, personFields, null, true, 0);
+
+        // type Entry record { int id; };
+        Map<String, BField> entryFields = new LinkedHashMap<>();
+        entryFields.put("id", new BField(BTypes.typeInt, "id", Flags.REQUIRED));
+        entryType = new BRecordType("Entry", BINDING_PKG, 0, entryFields, BTypes.typeAnydata, false, 0);
+
+        Map<String, BRecordType> recordTypes = new HashMap<>();
+        recordTypes.put(addressType.getName(), addressType);
+        recordTypes.put(personType.getName(), personType);
+        recordTypes.put(entryType.getName(), entryType);
+        ValueCreator.addValueCreator(BINDING_PKG.getOrg(), BINDING_PKG.getName(), BINDING_PKG.getVersion(),
+                                     new ValueCreator() {
+            @Override
+            public MapValue<String, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordTypes.get(recordTypeName));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @DataProvider(name = "validJson")
+    public Object[][] validJson() {
+        return new Object[][] {
+                { "{\"name\":\"John\", \"age\":30, \"married\":true, \"spouse\":null}" },
+                { " [1, -2, 3.5, -0.25, 1.5e3, 9223372036854775807, -9223372036854775808] " },
+                { "{'single':'quoted', \"nested\":{\"array\":[[], {}, [{\"a\":[1]}]]}}" },
+                { "{\"escaped\":\"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u0041\\uD83D\\uDE00\"}" },
+                { "{\"unicode\":\"\u00e9t\u00e9 \u4e2d\u6587 \uD83D\uDE00\", \"mixed\":\"\u00e9\\n\u00e9\"}" },
+                { "{\"field\":1, \"field\":2, \"Field\":3}" },
+                { "\"top level string\"" },
+                { "12345" },
+                { "0.1" },
+                { "false" },
+                { "[0.30000000000000004, 123456789.123456, 1e-7, 1.7976931348623157E308]" }
+        };
+    }
+
+    @DataProvider(name = "invalidJson")
+    public Object[][] invalidJson() {
+        return new Object[][] {
+                { "" },
+                { "ballerina" },
+                { "{\"a\":1,}" },
+                { "{\"a\" 1}" },
+                { "[1, 2" },
+                { "{\"a\":\"\\x\"}" },
+                { "{\"a\":\"\\u12G4\"}" },
+                { "{\"a\":1} {}" },
+                { "[1e5]" }
+        };
+    }
+
+    @Test(dataProvider = "validJson")
+    public void testParse(String json) {
+        String expected = StringUtils.getJsonString(JSONParser.parse(json));
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(StringUtils.getJsonString(UTF8JSONParser.parse(new ByteArrayInputStream(bytes))),
+                            expected);
+        Assert.assertEquals(StringUtils.getJsonString(UTF8JSONParser.parse(ByteBuffer.wrap(bytes))), expected);
+    }
+
+    @Test
+    public void testParseArrayRange() {
+        byte[] bytes = "xx{\"a\":[1, 2]}yy".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(StringUtils.getJsonString(UTF8JSONParser.parse(bytes, 2, bytes.length - 4)),
+                            StringUtils.getJsonString(JSONParser.parse("{\"a\":[1, 2]}")));
+    }
+
+    @Test(dataProvider = "invalidJson")
+    public void testParseErrors(String json) {
+        String expected = null;
+        try {
+            JSONParser.parse(json);
+        } catch (BallerinaException e) {
+            expected = e.getMessage();
+        }
+        try {
+            UTF8JSONParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected a parsing error for: " + json);
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), expected);
+        }
+    }
+
+    @Test
+    public void testParseToType() {
+        BType type = new BArrayType(new BMapType(BTypes.typeFloat));
+        byte[] bytes = "[{\"a\":1, \"b\":2.5}, {}]".getBytes(StandardCharsets.UTF_8);
+        ArrayValue value = (ArrayValue) UTF8JSONParser.parse(bytes, 0, bytes.length, type);
+        Assert.assertEquals(value.size(), 2);
+        Assert.assertEquals(((MapValue) value.getRefValue(0)).get("a"), 1.0);
+        Assert.assertEquals(((MapValue) value.getRefValue(0)).get("b"), 2.5);
+        Assert.assertEquals(((MapValue) value.getRefValue(1)).size(), 0);
+        Assert.assertTrue(UTF8JSONParser.isDirectlyBindable(type));
+    }
+
+    @Test
+    public void testParseToTypeError() {
+        BType type = new BArrayType(new BMapType(BTypes.typeString));
+        byte[] bytes = "[{\"a\":\"x\"}, {\"a\":1}]".getBytes(StandardCharsets.UTF_8);
+        try {
+            UTF8JSONParser.parse(bytes, 0, bytes.length, type);
+            Assert.fail("expected a conversion error");
+        } catch (ErrorValue e) {
+            Assert.assertTrue(e.stringValue().contains("'$[1].a'"), e.stringValue());
+        }
+    }
+
+    @Test
+    public void testParseToRecord() {
+        MapValue person = (MapValue) parseToType("{\"name\":\"John\", \"age\":30, \"email\":null, " +
+                                                         "\"address\":{\"street\":\"Main St\", \"city\":\"Colombo\", " +
+                                                         "\"zip\":10300}}", personType);
+        Assert.assertEquals(person.getType(), personType);
+        Assert.assertEquals(person.get("name"), "John");
+        Assert.assertEquals(person.get("age"), 30L);
+        Assert.assertTrue(person.containsKey("email"));
+        Assert.assertNull(person.get("email"));
+        MapValue address = (MapValue) person.get("address");
+        Assert.assertEquals(address.getType(), addressType);
+        Assert.assertEquals(address.get("street"), "Main St");
+        Assert.assertEquals(address.get("city"), "Colombo");
+        Assert.assertEquals(address.get("zip"), 10300L);
+        Assert.assertTrue(UTF8JSONParser.isDirectlyBindable(personType));
+    }
+
+    @Test
+    public void testParseToRecordWithoutOptionalFields() {
+        // fields which are optional or have a default value need not be present
+        MapValue person = (MapValue) parseToType("{\"name\":\"John\", \"address\":{\"street\":\"Main St\", " +
+                                                         "\"city\":\"Colombo\"}}", personType);
+        Assert.assertEquals(person.get("name"), "John");
+        Assert.assertFalse(person.containsKey("email"));
+        Assert.assertFalse(((MapValue) person.get("address")).containsKey("zip"));
+    }
+
+    @Test
+    public void testParseToRecordMissingRequiredField() {
+        assertBindingError("{\"age\":30, \"address\":{\"street\":\"Main St\", \"city\":\"Colombo\"}}", personType,
+                           "'$'", "missing required field 'name'");
+        assertBindingError("{\"name\":\"John\", \"address\":{\"street\":\"Main St\"}}", personType, "'$.address'",
+                           "missing required field 'city'");
+    }
+
+    @Test
+    public void testParseToRecordArrayMissingField() {
+        // members of an array are checked by shape, so all the fields which are not optional must be present
+        BType type = new BArrayType(personType);
+        ArrayValue people = (ArrayValue) parseToType("[{\"name\":\"John\", \"age\":30, \"address\":" +
+                                                             "{\"street\":\"Main St\", \"city\":\"Colombo\"}}]", type);
+        Assert.assertEquals(people.size(), 1);
+        Assert.assertEquals(((MapValue) people.getRefValue(0)).get("age"), 30L);
+        assertBindingError("[{\"name\":\"John\", \"address\":{\"street\":\"Main St\", \"city\":\"Colombo\"}}]",
+                           type, "'$[0]'", "missing required field 'age'");
+    }
+
+    @Test
+    public void testParseToClosedRecordWithUnknownField() {
+        assertBindingError("{\"name\":\"John\", \"phone\":\"0112\", \"address\":{\"street\":\"Main St\", " +
+                                   "\"city\":\"Colombo\"}}", personType, "'$'",
+                           "field 'phone' cannot be added to the closed record");
+        assertBindingError("{\"name\":\"John\", \"address\":{\"street\":\"Main St\", \"city\":\"Colombo\", " +
+                                   "\"country\":\"LK\"}}", personType, "'$.address'",
+                           "field 'country' cannot be added to the closed record");
+    }
+
+    @Test
+    public void testParseToNestedRecordWithIncompatibleField() {
+        assertBindingError("{\"name\":\"John\", \"address\":{\"street\":\"Main St\", \"city\":\"Colombo\", " +
+                                   "\"zip\":\"10300\"}}", personType, "'$.address.zip'", null);
+        assertBindingError("{\"name\":\"John\", \"address\":\"Colombo\"}", personType, "'$.address'", null);
+    }
+
+    @Test
+    public void testParseToOpenRecord() {
+        // simple values of the anydata rest field are bound directly
+        MapValue entry = (MapValue) parseToType("{\"id\":1, \"tag\":\"x\", \"count\":2, \"rate\":0.5, " +
+                                                        "\"none\":null}", entryType);
+        Assert.assertEquals(entry.get("id"), 1L);
+        Assert.assertEquals(entry.get("tag"), "x");
+        Assert.assertEquals(entry.get("count"), 2L);
+        Assert.assertEquals(entry.get("rate"), 0.5);
+        Assert.assertTrue(entry.containsKey("none"));
+        Assert.assertTrue(UTF8JSONParser.isDirectlyBindable(entryType));
+    }
+
+    @Test
+    public void testParseToOpenRecordWithStructuredRestField() {
+        // the type of a structured anydata value is ambiguous, so the binding fails and the caller converts the
+        // json value instead, as HttpDispatcher does
+        String json = "{\"id\":1, \"meta\":{\"a\":[1, 2]}}";
+        assertBindingError(json, entryType, "'$.meta'", null);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        MapValue jsonValue = (MapValue) UTF8JSONParser.parse(bytes, 0, bytes.length);
+        Assert.assertEquals(StringUtils.getJsonString(jsonValue), StringUtils.getJsonString(JSONParser.parse(json)));
+    }
+
+    private static Object parseToType(String json, BType type) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return UTF8JSONParser.parse(bytes, 0, bytes.length, type);
+    }
+
+    private static void assertBindingError(String json, BType type, String path, String reason) {
+        try {
+            parseToType(json, type);
+            Assert.fail("expected a conversion error");
+        } catch (ErrorValue e) {
+            String message = e.stringValue();
+            Assert.assertTrue(message.contains("at " + path + ":"), message);
+            if (reason != null) {
+                Assert.assertTrue(message.contains(reason), message);
+            }
+        }
+    }
+}
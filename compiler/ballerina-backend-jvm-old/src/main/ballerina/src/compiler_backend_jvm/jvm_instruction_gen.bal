@@ -661,6 +661,15 @@ type InstructionGenerator object {
         // visit value_expr
         bir:BType valueType = mapStoreIns.rhsOp.variableDcl.typeValue;
         self.loadVar(mapStoreIns.rhsOp.variableDcl);
+
+        // int, float and boolean values are stored in records without boxing
+        string? unboxedTypeName = getUnboxedRecordFieldTypeName(varRefType, valueType);
+        if (unboxedTypeName is string) {
+            self.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, io:sprintf("putUnboxed%sValue", unboxedTypeName),
+                                    io:sprintf("(L%s;%s)V", STRING_VALUE, getTypeDesc(valueType)), true);
+            return;
+        }
+
         addBoxInsn(self.mv, valueType);
 
         if (varRefType is bir:BJSONType) {
@@ -677,6 +686,7 @@ type InstructionGenerator object {
         // visit map_ref
         self.loadVar(mapLoadIns.rhsOp.variableDcl);
         bir:BType varRefType = mapLoadIns.rhsOp.variableDcl.typeValue;
+        bir:BType targetType = mapLoadIns.lhsOp.variableDcl.typeValue;
         addUnboxInsn(self.mv, varRefType);
 
         // visit key_expr
@@ -693,6 +703,16 @@ type InstructionGenerator object {
                         io:sprintf("(L%s;L%s;)L%s;", OBJECT, STRING_VALUE, OBJECT), false);
             }
         } else {
+            // int, float and boolean fields of records are read without boxing
+            string? unboxedTypeName = getUnboxedRecordFieldTypeName(varRefType, targetType);
+            if (unboxedTypeName is string && !mapLoadIns.fillingRead) {
+                self.mv.visitTypeInsn(CHECKCAST, STRING_VALUE);
+                self.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, io:sprintf("getUnboxed%sValue", unboxedTypeName),
+                                        io:sprintf("(L%s;)%s", STRING_VALUE, getTypeDesc(targetType)), true);
+                self.storeToVar(mapLoadIns.lhsOp.variableDcl);
+                return;
+            }
+
             if (mapLoadIns.fillingRead) {
                 self.mv.visitMethodInsn(INVOKEINTERFACE, MAP_VALUE, "fillAndGet",
                                         io:sprintf("(L%s;)L%s;", OBJECT, OBJECT), true);
@@ -703,7 +723,6 @@ type InstructionGenerator object {
         }
 
         // store in the target reg
-        bir:BType targetType = mapLoadIns.lhsOp.variableDcl.typeValue;
         addUnboxInsn(self.mv, targetType);
         self.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
@@ -1148,6 +1167,21 @@ type InstructionGenerator object {
     }
 };
 
+function getUnboxedRecordFieldTypeName(bir:BType mapType, bir:BType fieldType) returns string? {
+    if !(mapType is bir:BRecordType) {
+        return ();
+    }
+
+    if (fieldType is bir:BTypeInt) {
+        return "Int";
+    } else if (fieldType is bir:BTypeFloat) {
+        return "Float";
+    } else if (fieldType is bir:BTypeBoolean) {
+        return "Boolean";
+    }
+    return ();
+}
+
 function addBoxInsn(jvm:MethodVisitor mv, bir:BType? bType) {
     if (bType is ()) {
         return;
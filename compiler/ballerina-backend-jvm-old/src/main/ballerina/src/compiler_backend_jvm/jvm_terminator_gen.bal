@@ -290,15 +290,18 @@ type TerminatorGenerator object {
         self.mv.visitInsn(ICONST_0);
         self.mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "blockedOnExtern", "Z");
 
+        // reading the return value raises the panic of the extern call, if any, hence it is read even if unused
+        self.mv.visitVarInsn(ALOAD, localVarOffset);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND, "getExternReturnValue", "()Ljava/lang/Object;", false);
         if (callIns.lhsOp?.variableDcl is bir:VariableDcl) {
-            self.mv.visitVarInsn(ALOAD, localVarOffset);
-            self.mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "returnValue", "Ljava/lang/Object;");
             addUnboxInsn(self.mv, callIns.lhsOp?.typeValue); // store return
             bir:VariableDcl? lhsOpVarDcl = callIns.lhsOp?.variableDcl;
 
             if (lhsOpVarDcl is bir:VariableDcl) {
                 self.storeToVar(lhsOpVarDcl);
             }
+        } else {
+            self.mv.visitInsn(POP);
         }
 
         self.mv.visitJumpInsn(GOTO, notBlockedOnExternLabel);
@@ -352,9 +355,10 @@ type TerminatorGenerator object {
         self.mv.visitInsn(ICONST_0);
         self.mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "blockedOnExtern", "Z");
 
+        // reading the return value raises the panic of the extern call, if any, hence it is read even if unused
+        self.mv.visitVarInsn(ALOAD, localVarOffset);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND, "getExternReturnValue", "()Ljava/lang/Object;", false);
         if (callIns.lhsOp?.variableDcl is bir:VariableDcl) {
-            self.mv.visitVarInsn(ALOAD, localVarOffset);
-            self.mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "returnValue", "Ljava/lang/Object;");
             addJUnboxInsn(self.mv, callIns.lhsOp?.typeValue);
             // store return
             bir:VariableDcl? lhsOpVarDcl = callIns.lhsOp?.variableDcl;
@@ -362,6 +366,8 @@ type TerminatorGenerator object {
             if (lhsOpVarDcl is bir:VariableDcl) {
                 self.storeToVar(lhsOpVarDcl);
             }
+        } else {
+            self.mv.visitInsn(POP);
         }
 
         self.mv.visitJumpInsn(GOTO, notBlockedOnExternLabel);
@@ -435,9 +441,10 @@ type TerminatorGenerator object {
         self.mv.visitInsn(ICONST_0);
         self.mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "blockedOnExtern", "Z");
 
+        // reading the return value raises the panic of the extern call, if any, hence it is read even if unused
+        self.mv.visitVarInsn(ALOAD, localVarOffset);
+        self.mv.visitMethodInsn(INVOKEVIRTUAL, STRAND, "getExternReturnValue", "()Ljava/lang/Object;", false);
         if (callIns.lhsOp?.variableDcl is bir:VariableDcl) {
-            self.mv.visitVarInsn(ALOAD, localVarOffset);
-            self.mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "returnValue", "Ljava/lang/Object;");
             addUnboxInsn(self.mv, callIns.lhsOp?.typeValue);
             // store return
             bir:VariableDcl? lhsOpVarDcl = callIns.lhsOp?.variableDcl;
@@ -445,6 +452,8 @@ type TerminatorGenerator object {
             if (lhsOpVarDcl is bir:VariableDcl) {
                 self.storeToVar(lhsOpVarDcl);
             }
+        } else {
+            self.mv.visitInsn(POP);
         }
 
         self.mv.visitJumpInsn(GOTO, notBlockedOnExternLabel);
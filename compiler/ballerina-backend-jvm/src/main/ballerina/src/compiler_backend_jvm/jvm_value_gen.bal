@@ -323,6 +323,12 @@ public type ObjectGenerator object {
         self.createRecordFields(cw, fields);
         self.createRecordGetMethod(cw, fields, className);
         self.createRecordSetMethod(cw, fields, className);
+        self.createRecordUnboxedGetMethod(cw, fields, className, "getUnboxedIntValue", "J", LRETURN);
+        self.createRecordUnboxedGetMethod(cw, fields, className, "getUnboxedFloatValue", "D", DRETURN);
+        self.createRecordUnboxedGetMethod(cw, fields, className, "getUnboxedBooleanValue", "Z", IRETURN);
+        self.createRecordUnboxedSetMethod(cw, fields, className, "putUnboxedIntValue", "J", LLOAD);
+        self.createRecordUnboxedSetMethod(cw, fields, className, "putUnboxedFloatValue", "D", DLOAD);
+        self.createRecordUnboxedSetMethod(cw, fields, className, "putUnboxedBooleanValue", "Z", ILOAD);
         self.createRecordEntrySetMethod(cw, fields, className);
         self.createRecordContainsKeyMethod(cw, fields, className);
         self.createRecordGetValuesMethod(cw, fields, className);
@@ -549,6 +555,124 @@ public type ObjectGenerator object {
         mv.visitEnd();
     }
 
+    // Returns the fields of the record which are stored in JVM fields of the given primitive type descriptor.
+    private function getPrimitiveRecordFields(bir:BRecordField?[] fields, string typeDesc, boolean includeOptional)
+            returns bir:BRecordField?[] {
+        bir:BRecordField?[] primitiveFields = [];
+        foreach var optionalField in fields {
+            bir:BRecordField field = getRecordField(optionalField);
+            if (getTypeDesc(field.typeValue) == typeDesc && (includeOptional || !self.isOptionalRecordField(field))) {
+                primitiveFields[primitiveFields.length()] = field;
+            }
+        }
+        return primitiveFields;
+    }
+
+    // Generates an override of an unboxed getter of `MapValueImpl`, which reads the required fields of the given
+    // primitive type without boxing the value. Other keys are handled by the super class.
+    private function createRecordUnboxedGetMethod(jvm:ClassWriter cw, bir:BRecordField?[] fields, string className,
+                                                  string methodName, string typeDesc, int returnIns) {
+        bir:BRecordField?[] primitiveFields = self.getPrimitiveRecordFields(fields, typeDesc, false);
+        if (primitiveFields.length() == 0) {
+            return;
+        }
+
+        string methodDesc = io:sprintf("(L%s;)%s", STRING_VALUE, typeDesc);
+        jvm:MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, methodDesc, (), ());
+        mv.visitCode();
+
+        int strKeyVarIndex = 1;
+        jvm:Label defaultCaseLabel = new jvm:Label();
+
+        // sort the fields before generating switch case
+        NodeSorter sorter = new();
+        sorter.sortByHash(primitiveFields);
+
+        jvm:Label[] labels = createLabelsforSwitch(mv, strKeyVarIndex, primitiveFields, defaultCaseLabel);
+        jvm:Label[] targetLabels = createLabelsForEqualCheck(mv, strKeyVarIndex, primitiveFields, labels,
+                defaultCaseLabel);
+
+        int i = 0;
+        foreach var optionalField in primitiveFields {
+            bir:BRecordField field = getRecordField(optionalField);
+            mv.visitLabel(targetLabels[i]);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, className, field.name.value, typeDesc);
+            mv.visitInsn(returnIns);
+            i += 1;
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, strKeyVarIndex);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, methodName, methodDesc, false);
+        mv.visitInsn(returnIns);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    // Generates an override of an unboxed setter of `MapValueImpl`, which writes the fields of the given primitive
+    // type without boxing the value. Since the field type is exactly the type of the value, no type check is needed.
+    // Other keys are handled by the super class.
+    private function createRecordUnboxedSetMethod(jvm:ClassWriter cw, bir:BRecordField?[] fields, string className,
+                                                  string methodName, string typeDesc, int loadIns) {
+        bir:BRecordField?[] primitiveFields = self.getPrimitiveRecordFields(fields, typeDesc, true);
+        if (primitiveFields.length() == 0) {
+            return;
+        }
+
+        string methodDesc = io:sprintf("(L%s;%s)V", STRING_VALUE, typeDesc);
+        jvm:MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, methodName, methodDesc, (), ());
+        mv.visitCode();
+
+        int strKeyVarIndex = 1;
+        int valueRegIndex = 2;
+        jvm:Label defaultCaseLabel = new jvm:Label();
+
+        // sort the fields before generating switch case
+        NodeSorter sorter = new();
+        sorter.sortByHash(primitiveFields);
+
+        jvm:Label[] labels = createLabelsforSwitch(mv, strKeyVarIndex, primitiveFields, defaultCaseLabel);
+        jvm:Label[] targetLabels = createLabelsForEqualCheck(mv, strKeyVarIndex, primitiveFields, labels,
+                defaultCaseLabel);
+
+        int i = 0;
+        foreach var optionalField in primitiveFields {
+            bir:BRecordField field = getRecordField(optionalField);
+            mv.visitLabel(targetLabels[i]);
+
+            // check whether the record is frozen, same as `put()`
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKEVIRTUAL, className, "checkFreezeStatus", "()V", false);
+
+            string fieldName = field.name.value;
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(loadIns, valueRegIndex);
+            mv.visitFieldInsn(PUTFIELD, className, fieldName, typeDesc);
+
+            // if the field is an optional-field, then also set the isPresent flag of that field to true.
+            if (self.isOptionalRecordField(field)) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(ICONST_1);
+                mv.visitFieldInsn(PUTFIELD, className, self.getFieldIsPresentFlagName(fieldName),
+                                    getTypeDesc(bir:TYPE_BOOLEAN));
+            }
+
+            mv.visitInsn(RETURN);
+            i += 1;
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, strKeyVarIndex);
+        mv.visitVarInsn(loadIns, valueRegIndex);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, methodName, methodDesc, false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     private function createRecordPutDefaultCase(jvm:MethodVisitor mv, jvm:Label defaultCaseLabel, int nameRegIndex,
                                                 int valueRegIndex) {
         mv.visitLabel(defaultCaseLabel);
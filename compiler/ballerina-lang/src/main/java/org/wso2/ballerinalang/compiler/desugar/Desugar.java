@@ -272,7 +272,7 @@ public class Desugar extends BLangNodeVisitor {
     private ClosureDesugar closureDesugar;
     private StreamingCodeDesugar streamingCodeDesugar;
     private AnnotationDesugar annotationDesugar;
-    private InMemoryTableQueryBuilder inMemoryTableQueryBuilder;
+    private TableQueryPlanBuilder tableQueryPlanBuilder;
     private Types types;
     private Names names;
     private ServiceDesugar serviceDesugar;
@@ -318,7 +318,7 @@ public class Desugar extends BLangNodeVisitor {
         this.closureDesugar = ClosureDesugar.getInstance(context);
         this.streamingCodeDesugar = StreamingCodeDesugar.getInstance(context);
         this.annotationDesugar = AnnotationDesugar.getInstance(context);
-        this.inMemoryTableQueryBuilder = InMemoryTableQueryBuilder.getInstance(context);
+        this.tableQueryPlanBuilder = TableQueryPlanBuilder.getInstance(context);
         this.types = Types.getInstance(context);
         this.names = Names.getInstance(context);
         this.names = Names.getInstance(context);
@@ -4170,7 +4170,7 @@ public class Desugar extends BLangNodeVisitor {
     }
 
     public void visit(BLangTableQueryExpression tableQueryExpression) {
-        inMemoryTableQueryBuilder.visit(tableQueryExpression);
+        tableQueryPlanBuilder.visit(tableQueryExpression);
 
         /*replace the table expression with a function invocation,
          so that we manually call a native function "queryTable". */
@@ -4490,7 +4490,7 @@ public class Desugar extends BLangNodeVisitor {
         List<BLangExpression> args = new ArrayList<>();
         String functionName = QUERY_TABLE_WITHOUT_JOIN_CLAUSE;
         //Order matters, because these are the args for a function invocation.
-        args.add(getSQLPreparedStatement(tableQueryExpression));
+        args.add(getQueryPlan(tableQueryExpression));
         args.add(getFromTableVarRef(tableQueryExpression));
         // BLangTypeofExpr
         BType retType = tableQueryExpression.type;
@@ -4499,7 +4499,7 @@ public class Desugar extends BLangNodeVisitor {
             args.add(joinTable);
             functionName = QUERY_TABLE_WITH_JOIN_CLAUSE;
         }
-        args.add(getSQLStatementParameters(tableQueryExpression));
+        args.add(getQueryParameters(tableQueryExpression));
         args.add(getReturnType(tableQueryExpression));
         BInvokableSymbol symbol =
                 (BInvokableSymbol) symTable.langTableModuleSymbol.scope.lookup(names.fromString(functionName)).symbol;
@@ -4525,15 +4525,14 @@ public class Desugar extends BLangNodeVisitor {
         return invocationNode;
     }
 
-    private BLangLiteral getSQLPreparedStatement(BLangTableQueryExpression
-                                                         tableQueryExpression) {
-        //create a literal to represent the sql query.
-        BLangLiteral sqlQueryLiteral = (BLangLiteral) TreeBuilder.createLiteralExpression();
+    private BLangLiteral getQueryPlan(BLangTableQueryExpression tableQueryExpression) {
+        //create a literal to represent the query plan.
+        BLangLiteral queryPlanLiteral = (BLangLiteral) TreeBuilder.createLiteralExpression();
 
-        //assign the sql query from table expression to the literal.
-        sqlQueryLiteral.value = tableQueryExpression.getSqlQuery();
-        sqlQueryLiteral.type = symTable.stringType;
-        return sqlQueryLiteral;
+        //assign the query plan from table expression to the literal.
+        queryPlanLiteral.value = tableQueryExpression.getQueryPlan();
+        queryPlanLiteral.type = symTable.stringType;
+        return queryPlanLiteral;
     }
 
     private BLangStructLiteral getReturnType(BLangTableQueryExpression
@@ -4544,7 +4543,7 @@ public class Desugar extends BLangNodeVisitor {
         return new BLangStructLiteral(tableQueryExpression.pos, new ArrayList<>(), structType);
     }
 
-    private BLangArrayLiteral getSQLStatementParameters(BLangTableQueryExpression tableQueryExpression) {
+    private BLangArrayLiteral getQueryParameters(BLangTableQueryExpression tableQueryExpression) {
         BLangArrayLiteral expr = createArrayLiteralExprNode();
         List<BLangExpression> params = tableQueryExpression.getParams();
 
@@ -0,0 +1,373 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.desugar;
+
+import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
+import org.ballerinalang.model.tree.clauses.OrderByVariableNode;
+import org.ballerinalang.model.tree.clauses.SelectExpressionNode;
+import org.ballerinalang.model.tree.clauses.WhereNode;
+import org.ballerinalang.model.tree.expressions.ExpressionNode;
+import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangGroupBy;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangHaving;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangJoinStreamingInput;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangLimit;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangOrderBy;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangOrderByVariable;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangSelectClause;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangSelectExpression;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangStreamingInput;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangTableQuery;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangWhere;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangBinaryExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangFieldBasedAccess;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangGroupExpr;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangTableQueryExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangUnaryExpr;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * This class generates the query plan of a table query, which is executed over in memory tables by the runtime.
+ * <p>
+ * The plan is an s-expression of operators, such as {@code (filter CONDITION (scan 0 alias))}. Literals are passed to
+ * the runtime as parameters and referred to in the plan by their index. Equality conditions are planned as primary
+ * key lookups for the from and join clause filters, and as hash joins for the join condition.
+ *
+ * @since 1.1.0
+ */
+public class TableQueryPlanBuilder extends BLangNodeVisitor {
+
+    private static final CompilerContext.Key<TableQueryPlanBuilder> TABLE_QUERY_PLAN_BUILDER_KEY =
+            new CompilerContext.Key<>();
+
+    private static final String NONE = "-";
+    private static final int FROM_TABLE = 0;
+    private static final int JOIN_TABLE = 1;
+
+    private List<BLangExpression> params = new ArrayList<>();
+    private Map<BLangExpression, String> paramRefs = new IdentityHashMap<>();
+    private String planExpr;
+
+    public static TableQueryPlanBuilder getInstance(CompilerContext context) {
+        TableQueryPlanBuilder tableQueryPlanBuilder = context.get(TABLE_QUERY_PLAN_BUILDER_KEY);
+        if (tableQueryPlanBuilder == null) {
+            tableQueryPlanBuilder = new TableQueryPlanBuilder(context);
+        }
+
+        return tableQueryPlanBuilder;
+    }
+
+    private TableQueryPlanBuilder(CompilerContext context) {
+        context.put(TABLE_QUERY_PLAN_BUILDER_KEY, this);
+    }
+
+    @Override
+    public void visit(BLangTableQueryExpression tableQueryExpression) {
+        params = new ArrayList<>();
+        paramRefs = new IdentityHashMap<>();
+
+        BLangTableQuery tableQuery = ((BLangTableQuery) tableQueryExpression.getTableQuery());
+        tableQuery.accept(this);
+        tableQueryExpression.setQueryPlan(tableQuery.getQueryPlan());
+        tableQueryExpression.addParams(tableQuery.getParams());
+    }
+
+    @Override
+    public void visit(BLangTableQuery tableQuery) {
+        BLangStreamingInput streamingInput = (BLangStreamingInput) tableQuery.getStreamingInput();
+        BLangJoinStreamingInput joinStreamingInput = (BLangJoinStreamingInput) tableQuery.getJoinStreamingInput();
+        BLangSelectClause selectClause = (BLangSelectClause) tableQuery.getSelectClauseNode();
+        BLangOrderBy orderBy = (BLangOrderBy) tableQuery.getOrderByNode();
+        BLangLimit limit = (BLangLimit) tableQuery.getLimitClause();
+
+        String plan = createInputPlan(streamingInput, FROM_TABLE);
+        if (joinStreamingInput != null) {
+            plan = createJoinPlan(getAlias(streamingInput), plan, joinStreamingInput);
+        }
+        if (selectClause.getGroupBy() != null) {
+            plan = "(group " + createList(((BLangGroupBy) selectClause.getGroupBy()).getVariables()) + " " + plan +
+                    ")";
+        }
+        if (selectClause.getHaving() != null) {
+            plan = "(having " + createExpr(((BLangHaving) selectClause.getHaving()).getExpression()) + " " + plan +
+                    ")";
+        }
+        if (orderBy != null) {
+            plan = "(order " + createOrderByList(orderBy) + " " + plan + ")";
+        }
+        plan = "(project " + createSelectList(selectClause) + " " + plan + ")";
+        if (limit != null) {
+            plan = "(limit " + limit.getLimitValue() + " " + plan + ")";
+        }
+
+        tableQuery.setQueryPlan(plan);
+        tableQuery.addParams(params);
+    }
+
+    private String createInputPlan(BLangStreamingInput streamingInput, int table) {
+        String alias = getAlias(streamingInput);
+        String scan = "(scan " + table + " " + alias + ")";
+        WhereNode where = streamingInput.getBeforeStreamingCondition();
+        if (where == null) {
+            where = streamingInput.getAfterStreamingCondition();
+        }
+        /* for tables there can only be one whereClause and there is no windowClause.
+         So we don't care about the windowClause. */
+        if (where == null) {
+            return scan;
+        }
+
+        BLangExpression condition = (BLangExpression) ((BLangWhere) where).getExpression();
+        String conditionExpr = createExpr(condition);
+        StringJoiner keys = new StringJoiner(" ", "(", ")");
+        for (BLangExpression conjunct : getConjuncts(condition)) {
+            if (!isEquality(conjunct)) {
+                continue;
+            }
+            BLangBinaryExpr equality = (BLangBinaryExpr) conjunct;
+            String column = getColumnName(equality.lhsExpr, alias);
+            BLangExpression value = equality.rhsExpr;
+            if (column == null) {
+                column = getColumnName(equality.rhsExpr, alias);
+                value = equality.lhsExpr;
+            }
+            if (column != null && value.getKind() == NodeKind.LITERAL) {
+                keys.add("(" + column + " " + createExpr(value) + ")");
+            }
+        }
+        if (keys.length() == 2) {
+            return "(filter " + conditionExpr + " " + scan + ")";
+        }
+        return "(indexscan " + table + " " + alias + " " + keys + " " + conditionExpr + ")";
+    }
+
+    private String createJoinPlan(String leftAlias, String leftPlan, BLangJoinStreamingInput joinStreamingInput) {
+        BLangStreamingInput streamingInput = (BLangStreamingInput) joinStreamingInput.getStreamingInput();
+        String rightAlias = getAlias(streamingInput);
+        String rightPlan = createInputPlan(streamingInput, JOIN_TABLE);
+        BLangExpression onExpr = (BLangExpression) joinStreamingInput.getOnExpression();
+
+        StringJoiner leftKeys = new StringJoiner(" ", "(", ")");
+        StringJoiner rightKeys = new StringJoiner(" ", "(", ")");
+        String residual = null;
+        for (BLangExpression conjunct : getConjuncts(onExpr)) {
+            if (isEquality(conjunct)) {
+                BLangBinaryExpr equality = (BLangBinaryExpr) conjunct;
+                String lhsAlias = getAliasOf(equality.lhsExpr);
+                String rhsAlias = getAliasOf(equality.rhsExpr);
+                if (leftAlias.equals(lhsAlias) && rightAlias.equals(rhsAlias) && !leftAlias.equals(rightAlias)) {
+                    leftKeys.add(createExpr(equality.lhsExpr));
+                    rightKeys.add(createExpr(equality.rhsExpr));
+                    continue;
+                }
+                if (leftAlias.equals(rhsAlias) && rightAlias.equals(lhsAlias) && !leftAlias.equals(rightAlias)) {
+                    leftKeys.add(createExpr(equality.rhsExpr));
+                    rightKeys.add(createExpr(equality.lhsExpr));
+                    continue;
+                }
+            }
+            String conjunctExpr = createExpr(conjunct);
+            residual = residual == null ? conjunctExpr : "(and " + residual + " " + conjunctExpr + ")";
+        }
+
+        if (leftKeys.length() == 2) {
+            return "(join " + createExpr(onExpr) + " " + leftPlan + " " + rightPlan + ")";
+        }
+        return "(hashjoin " + leftKeys + " " + rightKeys + " " + (residual == null ? NONE : residual) + " " +
+                leftPlan + " " + rightPlan + ")";
+    }
+
+    private String createSelectList(BLangSelectClause selectClause) {
+        List<? extends SelectExpressionNode> selectExprList = selectClause.getSelectExpressions();
+        if (selectExprList == null || selectExprList.isEmpty()) {
+            return "*";
+        }
+        StringJoiner selectList = new StringJoiner(" ", "(", ")");
+        for (SelectExpressionNode selectExpressionNode : selectExprList) {
+            BLangSelectExpression selectExpression = (BLangSelectExpression) selectExpressionNode;
+            String identifier = selectExpression.getIdentifier();
+            selectList.add("(" + createExpr(selectExpression.getExpression()) + " " +
+                                   (identifier == null ? NONE : identifier) + ")");
+        }
+        return selectList.toString();
+    }
+
+    private String createOrderByList(BLangOrderBy orderBy) {
+        StringJoiner orderByList = new StringJoiner(" ", "(", ")");
+        for (OrderByVariableNode orderByVariableNode : orderBy.getVariables()) {
+            BLangOrderByVariable orderByVariable = (BLangOrderByVariable) orderByVariableNode;
+            String orderByType = "desc".equals(orderByVariable.getOrderByType()) ? "desc" : "asc";
+            orderByList.add("(" + createExpr(orderByVariable.getVariableReference()) + " " + orderByType + ")");
+        }
+        return orderByList.toString();
+    }
+
+    private String createList(List<? extends ExpressionNode> exprs) {
+        StringJoiner list = new StringJoiner(" ", "(", ")");
+        for (ExpressionNode expr : exprs) {
+            list.add(createExpr(expr));
+        }
+        return list.toString();
+    }
+
+    private String createExpr(ExpressionNode expr) {
+        ((BLangExpression) expr).accept(this);
+        return planExpr;
+    }
+
+    private static String getAlias(BLangStreamingInput streamingInput) {
+        String alias = streamingInput.getAlias();
+        return alias == null ? NONE : alias;
+    }
+
+    private static List<BLangExpression> getConjuncts(BLangExpression expr) {
+        List<BLangExpression> conjuncts = new ArrayList<>();
+        addConjuncts(expr, conjuncts);
+        return conjuncts;
+    }
+
+    private static void addConjuncts(BLangExpression expr, List<BLangExpression> conjuncts) {
+        if (expr instanceof BLangGroupExpr) {
+            addConjuncts(((BLangGroupExpr) expr).expression, conjuncts);
+        } else if (expr instanceof BLangBinaryExpr && ((BLangBinaryExpr) expr).opKind == OperatorKind.AND) {
+            addConjuncts(((BLangBinaryExpr) expr).lhsExpr, conjuncts);
+            addConjuncts(((BLangBinaryExpr) expr).rhsExpr, conjuncts);
+        } else {
+            conjuncts.add(expr);
+        }
+    }
+
+    private static boolean isEquality(BLangExpression expr) {
+        return expr instanceof BLangBinaryExpr && ((BLangBinaryExpr) expr).opKind == OperatorKind.EQUAL;
+    }
+
+    /**
+     * Returns the name of the column the given expression refers to, if it is a column of the input with the given
+     * alias.
+     */
+    private static String getColumnName(BLangExpression expr, String alias) {
+        if (expr instanceof BLangSimpleVarRef) {
+            return ((BLangSimpleVarRef) expr).variableName.value;
+        }
+        if (expr instanceof BLangFieldBasedAccess && alias.equals(getAliasOf(expr))) {
+            return ((BLangFieldBasedAccess) expr).field.value;
+        }
+        return null;
+    }
+
+    private static String getAliasOf(BLangExpression expr) {
+        if (expr instanceof BLangFieldBasedAccess && ((BLangFieldBasedAccess) expr).expr instanceof BLangSimpleVarRef) {
+            return ((BLangSimpleVarRef) ((BLangFieldBasedAccess) expr).expr).variableName.value;
+        }
+        return null;
+    }
+
+    @Override
+    public void visit(BLangLiteral literalExpr) {
+        String paramRef = paramRefs.get(literalExpr);
+        if (paramRef == null) {
+            paramRef = "(param " + params.size() + ")";
+            params.add(literalExpr);
+            paramRefs.put(literalExpr, paramRef);
+        }
+        planExpr = paramRef;
+    }
+
+    @Override
+    public void visit(BLangSimpleVarRef varRefExpr) {
+        planExpr = "(col " + NONE + " " + varRefExpr.variableName.value + ")";
+    }
+
+    @Override
+    public void visit(BLangFieldBasedAccess fieldAccessExpr) {
+        BLangSimpleVarRef expr = (BLangSimpleVarRef) fieldAccessExpr.expr;
+        planExpr = "(col " + expr.variableName.value + " " + fieldAccessExpr.field.value + ")";
+    }
+
+    @Override
+    public void visit(BLangGroupExpr groupExpr) {
+        groupExpr.expression.accept(this);
+    }
+
+    @Override
+    public void visit(BLangBinaryExpr binaryExpr) {
+        String lhsExpr = createExpr(binaryExpr.lhsExpr);
+        String rhsExpr = createExpr(binaryExpr.rhsExpr);
+        String operator;
+        switch (binaryExpr.opKind) {
+            case AND:
+                operator = "and";
+                break;
+            case OR:
+                operator = "or";
+                break;
+            case BITWISE_XOR:
+                operator = "pow";
+                break;
+            default:
+                operator = binaryExpr.opKind.value();
+                break;
+        }
+        planExpr = "(" + operator + " " + lhsExpr + " " + rhsExpr + ")";
+    }
+
+    @Override
+    public void visit(BLangUnaryExpr unaryExpr) {
+        String expr = createExpr(unaryExpr.expr);
+        switch (unaryExpr.operator) {
+            case NOT:
+                planExpr = "(not " + expr + ")";
+                break;
+            case SUB:
+                planExpr = "(neg " + expr + ")";
+                break;
+            default:
+                planExpr = expr;
+                break;
+        }
+    }
+
+    @Override
+    public void visit(BLangInvocation invocationExpr) {
+        String name = invocationExpr.getName().getValue();
+        if (invocationExpr.pkgAlias != null) {
+            String pkgAlias = invocationExpr.pkgAlias.value;
+            if (pkgAlias != null && !pkgAlias.isEmpty()) {
+                name = pkgAlias + ":" + name;
+            }
+        }
+        StringJoiner call = new StringJoiner(" ", "(", ")");
+        call.add("call").add(name);
+        for (BLangExpression arg : invocationExpr.argExprs) {
+            call.add(createExpr(arg));
+        }
+        planExpr = call.toString();
+    }
+}
@@ -46,7 +46,7 @@ public class BLangTableQuery extends BLangNode implements TableQuery {
     public BLangLimit limitNode;
 
     //This will be generated in desugar phase
-    public String sqlQuery;
+    public String queryPlan;
     public List<BLangExpression> params = new ArrayList<>();
 
     @Override
@@ -114,12 +114,12 @@ public class BLangTableQuery extends BLangNode implements TableQuery {
         return NodeKind.TABLE_QUERY;
     }
 
-    public String getSqlQuery() {
-        return sqlQuery;
+    public String getQueryPlan() {
+        return queryPlan;
     }
 
-    public void setSqlQuery(String sqlQuery) {
-        this.sqlQuery = sqlQuery;
+    public void setQueryPlan(String queryPlan) {
+        this.queryPlan = queryPlan;
     }
 
     public List<BLangExpression> getParams() {
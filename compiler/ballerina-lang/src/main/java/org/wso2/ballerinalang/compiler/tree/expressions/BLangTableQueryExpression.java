@@ -36,7 +36,7 @@ public class BLangTableQueryExpression extends BLangExpression implements TableQ
     public TableQuery tableQuery;
 
     //This will be generated in desugar phase
-    private String sqlQuery;
+    private String queryPlan;
     private List<BLangExpression> params = new ArrayList<>();
 
     @Override
@@ -59,12 +59,12 @@ public class BLangTableQueryExpression extends BLangExpression implements TableQ
         return NodeKind.TABLE_QUERY_EXPRESSION;
     }
 
-    public String getSqlQuery() {
-        return sqlQuery;
+    public String getQueryPlan() {
+        return queryPlan;
     }
 
-    public void setSqlQuery(String sqlQuery) {
-        this.sqlQuery = sqlQuery;
+    public void setQueryPlan(String queryPlan) {
+        this.queryPlan = queryPlan;
     }
 
     public List<BLangExpression> getParams() {
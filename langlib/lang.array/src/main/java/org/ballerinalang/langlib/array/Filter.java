@@ -47,11 +47,12 @@ public class Filter {
         ArrayValue newArr = new ArrayValueImpl((BArrayType) arr.getType());
         int elemTypeTag = newArr.getElementType().getTag();
         int size = arr.size();
-        Object val;
+        Object[] args = new Object[]{strand, null, true};
 
         for (int i = 0, j = 0; i < size; i++) {
-            val = arr.get(i);
-            if (func.apply(new Object[]{strand, arr.get(i), true})) {
+            Object val = arr.get(i);
+            args[1] = val;
+            if (func.apply(args)) {
                 add(newArr, elemTypeTag, j++, val);
             }
         }
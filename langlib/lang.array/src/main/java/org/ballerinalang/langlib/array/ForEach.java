@@ -46,8 +46,11 @@ public class ForEach {
         BType arrType = arr.getType();
         GetFunction getFn = getElementAccessFunction(arrType, "forEach()");
 
+        Object[] args = new Object[]{strand, null, true};
+
         for (int i = 0; i < size; i++) {
-            func.call(new Object[]{strand, getFn.get(arr, i), true});
+            args[1] = getFn.get(arr, i);
+            func.call(args);
         }
     }
 }
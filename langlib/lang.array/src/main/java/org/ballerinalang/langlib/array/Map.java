@@ -32,6 +32,8 @@ import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
+import java.util.function.Function;
+
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.add;
 import static org.ballerinalang.jvm.values.utils.ArrayUtils.createOpNotSupportedError;
 
@@ -70,9 +72,12 @@ public class Map {
                 throw createOpNotSupportedError(arrType, "map()");
         }
 
+        // the argument array is reused, since the function does not hold on to it
+        Object[] args = new Object[]{strand, null, true};
+        Function<Object, Object> function = func.getFunction();
         for (int i = 0; i < size; i++) {
-            Object newVal = func.getFunction().apply(new Object[]{strand, getFn.get(arr, i), true});
-            add(retArr, elemTypeTag, i, newVal);
+            args[1] = getFn.get(arr, i);
+            add(retArr, elemTypeTag, i, function.apply(args));
         }
 
         return retArr;
@@ -50,8 +50,12 @@ public class Reduce {
         Object accum = initial;
         GetFunction getFn = getElementAccessFunction(arrType, "reduce()");
 
+        Object[] args = new Object[]{strand, null, true, null, true};
+
         for (int i = 0; i < size; i++) {
-            accum = func.apply(new Object[]{strand, accum, true, getFn.get(arr, i), true});
+            args[1] = accum;
+            args[3] = getFn.get(arr, i);
+            accum = func.apply(args);
         }
 
         return accum;
@@ -19,9 +19,7 @@
 package org.ballerinalang.langlib.array;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.values.ArrayValue;
-import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
@@ -44,46 +42,102 @@ import static org.ballerinalang.jvm.values.utils.ArrayUtils.checkIsArrayOnlyOper
 )
 public class Sort {
 
+    // runs up to this length are sorted with an insertion sort before merging
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
     public static ArrayValue sort(Strand strand, ArrayValue arr, FPValue<Object, Long> func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
-        ArrayValue aux = new ArrayValueImpl((BArrayType) arr.getType());
-        mergesort(arr, aux, 0, arr.size() - 1, strand, func);
+        int size = arr.size();
+        if (size < 2) {
+            return arr;
+        }
+
+        // the members are read and written once, rather than on every merge
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.get(i);
+        }
+
+        mergesort(values, new FunctionComparator(strand, func));
+
+        int elemTypeTag = arr.getElementType().getTag();
+        for (int i = 0; i < size; i++) {
+            add(arr, elemTypeTag, i, values[i]);
+        }
         return arr;
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(ArrayValue input, ArrayValue aux, int lo, int hi, Strand strand,
-                                  FPValue<Object, Long> comparator) {
-        if (hi <= lo) {
-            return;
+    /**
+     * Stable bottom-up merge sort. Runs are first sorted with an insertion sort, and two runs which are already in
+     * order are not merged, so that sorted and nearly sorted input needs close to n comparisons. Unlike
+     * {@link java.util.Arrays#sort(Object[], java.util.Comparator)}, this does not fail if the comparator is not
+     * consistent.
+     */
+    private static void mergesort(Object[] values, FunctionComparator comparator) {
+        int size = values.length;
+        for (int lo = 0; lo < size; lo += INSERTION_SORT_THRESHOLD) {
+            insertionSort(values, lo, Math.min(lo + INSERTION_SORT_THRESHOLD, size), comparator);
         }
 
-        int mid = lo + (hi - lo) / 2;
+        Object[] aux = null;
+        for (int width = INSERTION_SORT_THRESHOLD; width < size; width *= 2) {
+            for (int lo = 0; lo < size - width; lo += 2 * width) {
+                int mid = lo + width;
+                if (comparator.compare(values[mid], values[mid - 1]) >= 0) {
+                    continue;
+                }
+                if (aux == null) {
+                    aux = new Object[size];
+                }
+                merge(values, aux, lo, mid, Math.min(lo + 2 * width, size), comparator);
+            }
+        }
+    }
 
-        mergesort(input, aux, lo, mid, strand, comparator);
-        mergesort(input, aux, mid + 1, hi, strand, comparator);
+    private static void insertionSort(Object[] values, int lo, int hi, FunctionComparator comparator) {
+        for (int i = lo + 1; i < hi; i++) {
+            Object value = values[i];
+            int j = i;
+            while (j > lo && comparator.compare(value, values[j - 1]) < 0) {
+                values[j] = values[j - 1];
+                j--;
+            }
+            values[j] = value;
+        }
+    }
 
-        merge(input, aux, lo, mid, hi, strand, comparator);
+    private static void merge(Object[] values, Object[] aux, int lo, int mid, int hi, FunctionComparator comparator) {
+        System.arraycopy(values, lo, aux, lo, hi - lo);
+        for (int i = lo, j = mid, k = lo; k < hi; k++) {
+            if (i >= mid) {
+                values[k] = aux[j++];
+            } else if (j >= hi) {
+                values[k] = aux[i++];
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
+                values[k] = aux[j++];
+            } else {
+                values[k] = aux[i++];
+            }
+        }
     }
 
-    private static void merge(ArrayValue input, ArrayValue aux, int lo, int mid, int hi, Strand strand,
-                              FPValue<Object, Long> comparator) {
-        int elemTypeTag = input.getElementType().getTag();
+    /**
+     * Calls the comparator function with a single argument array, which is filled in for each comparison.
+     */
+    private static class FunctionComparator {
+
+        private final FPValue<Object, Long> func;
+        private final Object[] args;
 
-        for (int i = lo; i <= hi; i++) {
-            add(aux, elemTypeTag, i, input.get(i));
+        FunctionComparator(Strand strand, FPValue<Object, Long> func) {
+            this.func = func;
+            this.args = new Object[]{strand, null, true, null, true};
         }
 
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            if (i > mid) {
-                add(input, elemTypeTag, k, aux.get(j++));
-            } else if (j > hi) {
-                add(input, elemTypeTag, k, aux.get(i++));
-            } else if (comparator.apply(new Object[]{strand, aux.get(j), true, aux.get(i), true}) < 0) {
-                add(input, elemTypeTag, k, aux.get(j++));
-            } else {
-                add(input, elemTypeTag, k, aux.get(i++));
-            }
+        long compare(Object first, Object second) {
+            args[1] = first;
+            args[3] = second;
+            return func.apply(args);
         }
     }
 }
@@ -63,9 +63,13 @@ public class Filter {
         }
         MapValue newMap = new MapValueImpl(newMapType);
 
+        Object[] args = new Object[]{strand, null, true};
+
         m.entrySet().forEach(entry -> {
-            if (func.apply(new Object[]{strand, entry.getValue(), true})) {
-                newMap.put(entry.getKey(), entry.getValue());
+            Object value = entry.getValue();
+            args[1] = value;
+            if (func.apply(args)) {
+                newMap.put(entry.getKey(), value);
             }
         });
 
@@ -38,6 +38,10 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 public class ForEach {
 
     public static void forEach(Strand strand, MapValue<?, ?> m, FPValue<Object, Object> func) {
-        m.entrySet().forEach(entry -> func.call(new Object[]{strand, entry.getValue(), true}));
+        Object[] args = new Object[]{strand, null, true};
+        for (Object value : m.values()) {
+            args[1] = value;
+            func.call(args);
+        }
     }
 }
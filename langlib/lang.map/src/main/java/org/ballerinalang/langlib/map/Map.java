@@ -46,9 +46,11 @@ public class Map {
         BMapType newMapType = new BMapType(((BFunctionType) func.getType()).retType);
         MapValue newMap = new MapValueImpl(newMapType);
 
+        Object[] args = new Object[]{strand, null, true};
+
         m.entrySet().forEach(entry -> {
-            Object newVal = func.apply(new Object[]{strand, entry.getValue(), true});
-            newMap.put(entry.getKey(), newVal);
+            args[1] = entry.getValue();
+            newMap.put(entry.getKey(), func.apply(args));
         });
 
         return newMap;
@@ -42,8 +42,11 @@ public class Reduce {
 
     public static Object reduce(Strand strand, MapValue<?, ?> m, FPValue<Object, Object> func, Object initial) {
         Object accum = initial;
+        Object[] args = new Object[]{strand, null, true, null, true};
         for (Object value : m.values()) {
-            accum = func.apply(new Object[]{strand, accum, true, value, true});
+            args[1] = accum;
+            args[3] = value;
+            accum = func.apply(args);
         }
         return accum;
     }
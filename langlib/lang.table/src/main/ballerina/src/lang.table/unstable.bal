@@ -46,23 +46,23 @@ public function add(table<RowType> tbl, RowType data) returns error|() = externa
 # + return - An `int` the number of deleted record count or `error` if any error occurred during removing data
 public function remove(table<RowType> tbl, function (RowType) returns (boolean) func) returns int|error = external;
 
-# Execute the given sql query to fetch the records and return as a new in memory table.
+# Execute the given query plan to fetch the records and return as a new in memory table.
 #
-# + sqlQuery - The query to execute
+# + queryPlan - The query plan to execute
 # + fromTable - The table on which the query is executed
 # + joinTable - The table which is joined with 'fromTable'
-# + parameters - liternal parameters to be passed to prepared statement 'sqlQuery'
+# + parameters - literal parameters referred to in 'queryPlan'
 # + retType - return type of the resultant table instance
 # + return - table value
-function queryTableWithJoinClause(string sqlQuery, table<RowType> fromTable, table<RowType> joinTable, any parameters,
+function queryTableWithJoinClause(string queryPlan, table<RowType> fromTable, table<RowType> joinTable, any parameters,
                                   any retType) returns table<RowType> = external;
 
-# Execute the given sql query to fetch the records and return as a new in memory table.
+# Execute the given query plan to fetch the records and return as a new in memory table.
 #
-# + sqlQuery - The query to execute
+# + queryPlan - The query plan to execute
 # + fromTable - The table on which the query is executed
-# + parameters - literal parameters to be passed to prepared statement 'sqlQuery'
+# + parameters - literal parameters referred to in 'queryPlan'
 # + retType - return type of the resultant table instance
 # + return - table value
-function queryTableWithoutJoinClause(string sqlQuery, table<RowType> fromTable, any parameters,
+function queryTableWithoutJoinClause(string queryPlan, table<RowType> fromTable, any parameters,
                                      any retType) returns table<RowType> = external;
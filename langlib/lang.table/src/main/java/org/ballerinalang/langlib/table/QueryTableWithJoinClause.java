@@ -29,12 +29,12 @@ import org.ballerinalang.natives.annotations.ReturnType;
 
 /**
  * This class represents the implementation of creating a new table from an existing in memory table. The records
- * which are fetched according to the given sqlQuery is inserted to the new in memory table.
+ * which are fetched according to the given queryPlan is inserted to the new in memory table.
  */
 @BallerinaFunction(orgName = "ballerina", packageName = "lang.table",
         functionName = "queryTableWithJoinClause",
         args = {
-                @Argument(name = "sqlQuery",
+                @Argument(name = "queryPlan",
                         type = TypeKind.STRING),
                 @Argument(name = "fromTable",
                         type = TypeKind.TABLE),
@@ -186,6 +186,13 @@ public class LangLibArrayTest {
         }
     }
 
+    @Test
+    public void testSortStability() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSortStability");
+        assertEquals(returns[0].stringValue(), "Bob Dave Grace Judy Olivia Sybil Walter Carol Frank Heidi Mallory " +
+                "Peggy Trent Alice Eve Ivan Niaj Rupert Victor ");
+    }
+
     @Test
     public void testReduce() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testReduce");
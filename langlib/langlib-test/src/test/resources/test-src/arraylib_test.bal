@@ -319,3 +319,19 @@ function testSort2() returns int[] {
 
     return sorted;
 }
+
+function testSortStability() returns string {
+    [string, int][] grades = [["Alice", 3], ["Bob", 1], ["Carol", 2], ["Dave", 1], ["Eve", 3], ["Frank", 2],
+    ["Grace", 1], ["Heidi", 2], ["Ivan", 3], ["Judy", 1], ["Mallory", 2], ["Niaj", 3], ["Olivia", 1], ["Peggy", 2],
+    ["Rupert", 3], ["Sybil", 1], ["Trent", 2], ["Victor", 3], ["Walter", 1]];
+
+    [string, int][] sorted = grades.sort(function ([string, int] x, [string, int] y) returns int {
+        return x[1] - y[1];
+    });
+
+    string names = "";
+    foreach var grade in sorted {
+        names += grade[0] + " ";
+    }
+    return names;
+}
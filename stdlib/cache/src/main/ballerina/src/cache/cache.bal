@@ -16,7 +16,7 @@
 
 import ballerina/system;
 import ballerina/task;
-import ballerina/time;
+import ballerinax/java;
 
 # Cache cleanup task starting delay in ms.
 const int CACHE_CLEANUP_START_DELAY = 0;
@@ -36,20 +36,21 @@ task:Scheduler cacheCleanupTimer = new(cacheCleanupTimerConfiguration);
 
 boolean timerStarted = false;
 
-# Represents a cache entry.
+# Represents the statistics of a cache.
 #
-# + value - cache value
-# + lastAccessedTime - last accessed time in ms of this value which is used to remove LRU cached values
-type CacheEntry record {|
-    any value;
-    int lastAccessedTime;
+# + hitCount - number of lookups which found a cached value
+# + missCount - number of lookups which did not find a cached value
+# + evictionCount - number of entries removed because the cache was full
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
 |};
 
 # Represents a Ballerina `Cache` which can hold multiple entries and remove entries based on time and size.
 public type Cache object {
 
     private int capacity;
-    map<CacheEntry> entries = {};
     int expiryTimeInMillis;
     private float evictionFactor;
     private string uuid;
@@ -76,14 +77,17 @@ public type Cache object {
             Error e = error(CACHE_ERROR, message = "Cache eviction factor must be between 0.0 (exclusive) and 1.0 (inclusive).");
             panic e;
         }
+        self.expiryTimeInMillis = expiryTimeInMillis;
+        self.capacity = capacity;
+        self.evictionFactor = evictionFactor;
+        // The entries are kept in a native store, which evicts the least recently used entries when it is full.
+        externInit(self, capacity, <int>(capacity * evictionFactor), expiryTimeInMillis);
+
         // We remove empty caches to prevent OOM issues. So in such scenarios, the cache will not be in the `cacheMap`
         // when we are trying to add a new cache entry to that cache. So we need to create a new cache. For that, keep
         // track of the UUID.
         self.uuid = system:uuid();
         cacheMap[self.uuid] = self;
-        self.expiryTimeInMillis = expiryTimeInMillis;
-        self.capacity = capacity;
-        self.evictionFactor = evictionFactor;
 
         var attachCacheCleanerResult = cacheCleanupTimer.attach(cacheCleanupService);
         if (attachCacheCleanerResult is error) {
@@ -112,14 +116,14 @@ public type Cache object {
     # + key - The key to be checked.
     # + return - `true` if the given key has an associated value, `false` otherwise.
     public function hasKey(string key) returns boolean {
-        return self.entries.hasKey(key);
+        return externHasKey(self, java:fromString(key));
     }
 
     # Returns the size of the cache.
     #
     # + return - The size of the cache.
     public function size() returns int {
-        return self.entries.length();
+        return externSize(self);
     }
 
     # Adds the given key, value pair to the provided cache.
@@ -127,39 +131,15 @@ public type Cache object {
     # + key - Value which should be used as the key.
     # + value - Value to be cached.
     public function put(string key, any value) {
-        // We need to synchronize this process otherwise concurrency might cause issues.
-         lock {
-            int cacheCapacity = self.capacity;
-            int cacheSize = self.entries.length();
-
-            // If the current cache is full, evict cache.
-            if (cacheCapacity <= cacheSize) {
-                self.evict();
-            }
-            // Add the new cache entry.
-            int time = time:currentTime().time;
-            CacheEntry entry = { value: value, lastAccessedTime: time };
-            self.entries[key] = entry;
-
-            // If the UUID is not found, that means that cache was removed after being empty. So we need to create a
-            // new cache with the current cache object.
-            if (!cacheMap.hasKey(self.uuid)) {
+        // If the cache is full, the native store evicts the least recently used entries.
+        externPut(self, java:fromString(key), value);
+
+        // If the UUID is not found, that means that cache was removed after being empty. So we need to create a
+        // new cache with the current cache object.
+        if (!cacheMap.hasKey(self.uuid)) {
+            lock {
                 cacheMap[self.uuid] = self;
             }
-         }
-    }
-
-    # Evicts the cache when the cache is full.
-    function evict() {
-        int maxCapacity = self.capacity;
-        float ef = self.evictionFactor;
-        int numberOfKeysToEvict = <int>(maxCapacity * ef);
-        // Get the above number of least recently used cache entry keys from the cache
-        string[] cacheKeys = self.getLRUCacheKeys(numberOfKeysToEvict);
-        // Iterate through the map and remove entries.
-        foreach var c in cacheKeys {
-            // These cache values are ignored. So it is not needed to check the return value for the remove function.
-            var tempVar = self.entries.remove(c);
         }
     }
 
@@ -169,70 +149,33 @@ public type Cache object {
     # + key - Key which is used to retrieve the cached value.
     # + return - The cached value associated with the given key.
     public function get(string key) returns any? {
-        // Check whether the requested cache is available.
-        if (!self.hasKey(key)) {
-            return ();
-        }
-        // Get the requested cache entry from the map.
-        CacheEntry? cacheEntry = self.entries[key];
-
-        if (cacheEntry is CacheEntry) {
-            // Check whether the cache entry is already expired. Since the cache cleaning task runs in predefined intervals,
-            // sometimes the cache entry might not have been removed at this point even though it is expired. So this check
-            // guarantees that the expired cache entries will not be returned.
-            int currentSystemTime = time:currentTime().time;
-            if (currentSystemTime >= cacheEntry.lastAccessedTime + self.expiryTimeInMillis) {
-                // If it is expired, remove the cache and return nil.
-                self.remove(key);
-                return ();
-            }
-            // Modify the last accessed time and return the cache if it is not expired.
-            cacheEntry.lastAccessedTime = time:currentTime().time;
-            return cacheEntry.value;
-        } else {
-            return ();
-        }
+        // Expired entries are removed by the native store before the lookup, so an expired value is never returned.
+        return externGet(self, java:fromString(key));
     }
 
     # Removes a cached value from a cache.
     #
     # + key - Key of the cache entry which needs to be removed.
     public function remove(string key) {
-        // Cache might already be removed by the cache clearing task. So no need to check the return value.
-        if (self.entries.hasKey(key)) {
-            var tempVar = self.entries.remove(key);
-        }
+        externRemove(self, java:fromString(key));
     }
 
     # Returns all keys from current cache.
     #
     # + return - Array of all keys from the current cache.
     public function keys() returns string[] {
-        return self.entries.keys();
+        return externKeys(self);
     }
 
-    # Returns the key of the least recently used cache entry.
-    # This is used to remove entries if the cache is full.
+    # Returns the hit, miss and eviction counts of the cache.
     #
-    # + numberOfKeysToEvict - The number of keys which should be evicted.
-    # + return - Number of keys to be evicted.
-    function getLRUCacheKeys(int numberOfKeysToEvict) returns string[] {
-        // Create new arrays to hold keys to be removed and hold the corresponding timestamps.
-        string[] cacheKeysToBeRemoved = [];
-        int[] timestamps = [];
-        string[] keys = self.entries.keys();
-        // Iterate through the keys.
-        foreach var key in keys {
-            CacheEntry? cacheEntry = self.entries[key];
-            if (cacheEntry is CacheEntry) {
-                // Check and add the key to the cacheKeysToBeRemoved if it matches the conditions.
-                checkAndAdd(numberOfKeysToEvict, cacheKeysToBeRemoved, timestamps, key, cacheEntry.lastAccessedTime);
-            }
-            // If the key is not found in the map, that means that the corresponding cache is already removed
-            // (possibly by a another worker).
-        }
-        // Return the array.
-        return cacheKeysToBeRemoved;
+    # + return - Statistics of the cache.
+    public function getStats() returns CacheStats {
+        return {
+            hitCount: externGetHitCount(self),
+            missCount: externGetMissCount(self),
+            evictionCount: externGetEvictionCount(self)
+        };
     }
 };
 
@@ -240,65 +183,15 @@ public type Cache object {
 function runCacheExpiry() {
 
     // We need to keep track of empty caches. We remove these to prevent OOM issues.
-    int emptyCacheCount = 0;
     string[] emptyCacheKeys = [];
 
     // Iterate through all caches.
-    int keyIndex = 0;
-    string[] currentCacheKeys = cacheMap.keys();
-    int cacheKeysLength = currentCacheKeys.length();
-    while (keyIndex < cacheKeysLength) {
-
-        string currentCacheKey = currentCacheKeys[keyIndex];
-        keyIndex += 1;
+    foreach var currentCacheKey in cacheMap.keys() {
         Cache? currentCache = cacheMap[currentCacheKey];
-        if (currentCache is ()) {
-            continue;
-        } else {
-            // Get the expiry time of the current cache
-            int currentCacheExpiryTime = currentCache.expiryTimeInMillis;
-
-            // Create a new array to store keys of cache entries which needs to be removed.
-            string[] cachesToBeRemoved = [];
-
-            int cachesToBeRemovedIndex = 0;
-            // Iterate through all keys.
-            int entrykeyIndex = 0;
-            string[] entryKeys = currentCache.entries.keys();
-            int entryKeysLength = entryKeys.length();
-            while (entrykeyIndex < entryKeysLength) {
-
-                var key = entryKeys[entrykeyIndex];
-                entrykeyIndex += 1;
-                CacheEntry? entry = currentCache.entries[key];
-                if (entry is ()) {
-                    continue;
-                } else {
-                    // Get the current system time.
-                    int currentSystemTime = time:currentTime().time;
-
-                    // Check whether the cache entry needs to be removed.
-                    if (currentSystemTime >= entry.lastAccessedTime + currentCacheExpiryTime) {
-                        cachesToBeRemoved[cachesToBeRemovedIndex] = key;
-                        cachesToBeRemovedIndex += 1;
-                    }
-                }
-            }
-
-            // Iterate through the key list which needs to be removed.
-            int currentKeyIndex = 0;
-            while(currentKeyIndex < cachesToBeRemovedIndex) {
-                string key = cachesToBeRemoved[currentKeyIndex];
-                // Remove the cache entry.
-                var tempVar = currentCache.entries.remove(key);
-                currentKeyIndex += 1;
-            }
-
-            // If there are no entries, we add that cache key to the `emptyCacheKeys`.
-            int size = currentCache.entries.length();
-            if (size == 0) {
-                emptyCacheKeys[emptyCacheCount] = currentCacheKey;
-                emptyCacheCount += 1;
+        if (currentCache is Cache) {
+            // Remove the expired entries. If there are no entries left, we add that cache key to the `emptyCacheKeys`.
+            if (externExpire(currentCache) == 0) {
+                emptyCacheKeys[emptyCacheKeys.length()] = currentCacheKey;
             }
         }
     }
@@ -312,41 +205,64 @@ function runCacheExpiry() {
     return ();
 }
 
-# Utility function to identify which cache entries should be evicted.
-function checkAndAdd(int numberOfKeysToEvict, string[] cacheKeys, int[] timestamps, string key, int lastAccessTime) {
-    string myKey = key;
-    int myLastAccessTime = lastAccessTime;
-
-    // Iterate while we count all values from 0 to numberOfKeysToEvict exclusive of numberOfKeysToEvict since the
-    // array size should be numberOfKeysToEvict.
-    foreach var index in 0..<numberOfKeysToEvict {
-        // If we have encountered the end of the array, that means we can add the new values to the end of the
-        // array since we haven’t reached the numberOfKeysToEvict limit.
-        if (cacheKeys.length() == index) {
-            cacheKeys[index] = myKey;
-            timestamps[index] = myLastAccessTime;
-            // Break the loop since we don't have any more elements to compare since we are at the end
-            break;
-        } else {
-            // If the timestamps[index] > lastAccessTime, that means the cache which corresponds to the 'key' is
-            // older than the current entry at the array which we are checking.
-            if (timestamps[index] > myLastAccessTime) {
-                // Swap the values. We use the swapped value to continue to check whether we can find any place to
-                // add it in the array.
-                string tempKey = cacheKeys[index];
-                int tempTimeStamp = timestamps[index];
-                cacheKeys[index] = myKey;
-                timestamps[index] = myLastAccessTime;
-                myKey = tempKey;
-                myLastAccessTime = tempTimeStamp;
-            }
-        }
-    }
-}
-
 # Cleanup service which cleans the cache periodically.
 service cacheCleanupService = service {
     resource function onTrigger() {
         runCacheExpiry();
     }
 };
+
+function externInit(Cache cache, int capacity, int evictionCount, int expiryTimeInMillis) = @java:Method {
+    name: "init",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externPut(Cache cache, handle key, any value) = @java:Method {
+    name: "put",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGet(Cache cache, handle key) returns any? = @java:Method {
+    name: "get",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externHasKey(Cache cache, handle key) returns boolean = @java:Method {
+    name: "hasKey",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externRemove(Cache cache, handle key) = @java:Method {
+    name: "remove",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externSize(Cache cache) returns int = @java:Method {
+    name: "size",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externKeys(Cache cache) returns string[] = @java:Method {
+    name: "keys",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externExpire(Cache cache) returns int = @java:Method {
+    name: "expire",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGetHitCount(Cache cache) returns int = @java:Method {
+    name: "getHitCount",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGetMissCount(Cache cache) returns int = @java:Method {
+    name: "getMissCount",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
+
+function externGetEvictionCount(Cache cache) returns int = @java:Method {
+    name: "getEvictionCount",
+    class: "org.ballerinalang.stdlib.cache.nativeimpl.ExternMethods"
+} external;
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+
+/**
+ * Extern methods used in Ballerina Cache library.
+ *
+ * @since 1.1.0
+ */
+public class ExternMethods {
+    private ExternMethods() {}
+
+    private static final String CACHE = "cache";
+
+    public static void init(ObjectValue cache, long capacity, long evictionCount, long expiryTimeInMillis) {
+        cache.addNativeData(CACHE, new LRUCache((int) capacity, (int) evictionCount, expiryTimeInMillis));
+    }
+
+    public static void put(ObjectValue cache, String key, Object value) {
+        getCache(cache).put(key, value);
+    }
+
+    public static Object get(ObjectValue cache, String key) {
+        return getCache(cache).get(key);
+    }
+
+    public static boolean hasKey(ObjectValue cache, String key) {
+        return getCache(cache).hasKey(key);
+    }
+
+    public static void remove(ObjectValue cache, String key) {
+        getCache(cache).remove(key);
+    }
+
+    public static long size(ObjectValue cache) {
+        return getCache(cache).size();
+    }
+
+    public static ArrayValue keys(ObjectValue cache) {
+        return new ArrayValueImpl(getCache(cache).keys());
+    }
+
+    public static long expire(ObjectValue cache) {
+        return getCache(cache).expire();
+    }
+
+    public static long getHitCount(ObjectValue cache) {
+        return getCache(cache).getHitCount();
+    }
+
+    public static long getMissCount(ObjectValue cache) {
+        return getCache(cache).getMissCount();
+    }
+
+    public static long getEvictionCount(ObjectValue cache) {
+        return getCache(cache).getEvictionCount();
+    }
+
+    private static LRUCache getCache(ObjectValue cache) {
+        return (LRUCache) cache.getNativeData(CACHE);
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Native store of a Ballerina cache, which evicts the least recently used entries when it is full.
+ * <p>
+ * Entries are kept in a concurrent hash map and in a doubly linked list in access order. Since all entries of a
+ * cache expire after the same time since their last access, the access order is also the expiry order. So lookups,
+ * updates and evictions are O(1), and removing expired entries is proportional to the number of expired entries.
+ * <p>
+ * Lookups do not lock the cache. An entry read by {@link #get(String)} is recorded in a read buffer, which is
+ * replayed on the access order list by the next thread that holds the lock, either a writer or a reader which finds
+ * the buffer full. Writers and operations which need an exact view of the cache drain the buffer first, so the least
+ * recently used entries are evicted just as if every read had updated the list. Expired entries are removed on each
+ * of these operations, and by the periodic cleanup task of the cache module.
+ *
+ * @since 1.1.0
+ */
+public class LRUCache {
+
+    // number of buffered reads after which a reader tries to replay them on the access order list
+    private static final int READ_BUFFER_THRESHOLD = 64;
+
+    private final Map<String, Node> entries = new ConcurrentHashMap<>();
+    private final Queue<Node> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedReads = new AtomicInteger();
+    // guards the access order list, and serializes the updates of the entry map
+    private final ReentrantLock lock = new ReentrantLock();
+    // sentinel of the circular access order list, head.next is the least recently used entry
+    private final Node head = new Node(null, null, 0, 0);
+    private final int capacity;
+    private final int evictionCount;
+    private final long expiryTimeInMillis;
+
+    private long insertionCount;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong evictionTotal = new AtomicLong();
+
+    public LRUCache(int capacity, int evictionCount, long expiryTimeInMillis) {
+        this.capacity = capacity;
+        // evict at least one entry, so that the size of the cache never exceeds the capacity
+        this.evictionCount = Math.max(1, evictionCount);
+        this.expiryTimeInMillis = expiryTimeInMillis;
+        head.prev = head;
+        head.next = head;
+    }
+
+    public void put(String key, Object value) {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            drainReadBuffer();
+            expire(now);
+            Node node = entries.get(key);
+            if (node != null) {
+                node.value = value;
+                node.lastAccessedTime = now;
+                moveToTail(node);
+                return;
+            }
+
+            if (entries.size() >= capacity) {
+                evict();
+            }
+            node = new Node(key, value, now, insertionCount++);
+            entries.put(key, node);
+            linkLast(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value associated with the given key and marks the entry as the most recently used one.
+     *
+     * @param key key of the entry
+     * @return the cached value, or null if there is no entry for the key or if the entry has expired
+     */
+    public Object get(String key) {
+        long now = System.currentTimeMillis();
+        Node node = entries.get(key);
+        if (node == null || isExpired(node, now)) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        node.lastAccessedTime = now;
+        readBuffer.add(node);
+        if (bufferedReads.incrementAndGet() >= READ_BUFFER_THRESHOLD && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    public boolean hasKey(String key) {
+        Node node = entries.get(key);
+        return node != null && !isExpired(node, System.currentTimeMillis());
+    }
+
+    public void remove(String key) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            Node node = entries.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return expire();
+    }
+
+    /**
+     * Returns the keys of the entries in the cache, in the order in which they were added.
+     *
+     * @return keys of the cache entries
+     */
+    public String[] keys() {
+        Node[] nodes;
+        lock.lock();
+        try {
+            drainReadBuffer();
+            expire(System.currentTimeMillis());
+            nodes = entries.values().toArray(new Node[0]);
+        } finally {
+            lock.unlock();
+        }
+        Arrays.sort(nodes, Comparator.comparingLong(node -> node.insertionOrder));
+        String[] keys = new String[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            keys[i] = nodes[i].key;
+        }
+        return keys;
+    }
+
+    /**
+     * Removes the entries which have not been accessed within the expiry time of the cache.
+     *
+     * @return the number of entries left in the cache
+     */
+    public int expire() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            expire(System.currentTimeMillis());
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionTotal.get();
+    }
+
+    private boolean isExpired(Node node, long now) {
+        return now >= node.lastAccessedTime + expiryTimeInMillis;
+    }
+
+    /**
+     * Moves the entries read since the last drain to the tail of the access order list, in the order they were read.
+     * Must be called while holding the lock.
+     */
+    private void drainReadBuffer() {
+        Node node;
+        while ((node = readBuffer.poll()) != null) {
+            bufferedReads.decrementAndGet();
+            // skip entries which were removed after they were read
+            if (node.prev != null) {
+                moveToTail(node);
+            }
+        }
+    }
+
+    private void expire(long now) {
+        Node node = head.next;
+        while (node != head && isExpired(node, now)) {
+            Node next = node.next;
+            entries.remove(node.key);
+            unlink(node);
+            node = next;
+        }
+    }
+
+    private void evict() {
+        for (int i = 0; i < evictionCount && head.next != head; i++) {
+            Node node = head.next;
+            entries.remove(node.key);
+            unlink(node);
+            evictionTotal.incrementAndGet();
+        }
+    }
+
+    private void moveToTail(Node node) {
+        unlink(node);
+        linkLast(node);
+    }
+
+    private void linkLast(Node node) {
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static class Node {
+
+        private final String key;
+        private final long insertionOrder;
+        private volatile Object value;
+        private volatile long lastAccessedTime;
+        private Node prev;
+        private Node next;
+
+        Node(String key, Object value, long lastAccessedTime, long insertionOrder) {
+            this.key = key;
+            this.value = value;
+            this.lastAccessedTime = lastAccessedTime;
+            this.insertionOrder = insertionOrder;
+        }
+    }
+}
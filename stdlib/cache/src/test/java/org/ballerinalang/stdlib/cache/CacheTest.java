@@ -194,6 +194,16 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), 5);
     }
 
+    @Test
+    public void testCacheStats() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheStats");
+        Assert.assertEquals(returns.length, 4);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 2);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 3);
+    }
+
     @Test
     public void testExpiredCacheAccess() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testExpiredCacheAccess");
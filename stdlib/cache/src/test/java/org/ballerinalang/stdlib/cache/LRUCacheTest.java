@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.LRUCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Test cases for the native store of the cache package.
+ */
+public class LRUCacheTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 20000;
+    private static final int KEY_COUNT = 200;
+    private static final int CAPACITY = 100;
+
+    @Test(description = "Test concurrent reads and writes on the same cache")
+    public void testConcurrentGetAndPut() throws Exception {
+        LRUCache cache = new LRUCache(CAPACITY, 10, 60000);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                results.add(executor.submit(new CacheClient(cache)));
+            }
+            long gets = 0;
+            for (Future<Integer> result : results) {
+                gets += result.get();
+            }
+            Assert.assertEquals(cache.getHitCount() + cache.getMissCount(), gets);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(cache.size() <= CAPACITY, "Cache grew beyond its capacity: " + cache.size());
+        Assert.assertEquals(cache.keys().length, cache.size());
+        Assert.assertTrue(cache.getEvictionCount() > 0);
+        for (String key : cache.keys()) {
+            Assert.assertEquals(cache.get(key), "value-" + key);
+        }
+    }
+
+    @Test(description = "Test whether entries read from another thread are not evicted as least recently used")
+    public void testReadsFromOtherThreadUpdateRecency() throws Exception {
+        LRUCache cache = new LRUCache(3, 1, 60000);
+        cache.put("A", "A");
+        cache.put("B", "B");
+        cache.put("C", "C");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assert.assertEquals(executor.submit(() -> cache.get("A")).get(), "A");
+        } finally {
+            executor.shutdownNow();
+        }
+        cache.put("D", "D");
+
+        Assert.assertEquals(cache.keys(), new String[]{"A", "C", "D"});
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+    }
+
+    /**
+     * Puts and reads random keys, checking that a read never returns the value of another key.
+     */
+    private static class CacheClient implements Callable<Integer> {
+
+        private final LRUCache cache;
+
+        CacheClient(LRUCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Integer call() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int gets = 0;
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                String key = Integer.toString(random.nextInt(KEY_COUNT));
+                if (random.nextInt(4) == 0) {
+                    cache.put(key, "value-" + key);
+                } else {
+                    Object value = cache.get(key);
+                    gets++;
+                    if (value != null) {
+                        Assert.assertEquals(value, "value-" + key);
+                    }
+                }
+            }
+            return gets;
+        }
+    }
+}
@@ -177,3 +177,16 @@ function testCreateCacheWithZeroEvictionFactor() {
 function testCreateCacheWithInvalidEvictionFactor() {
     cache:Cache c = new(900000, 100, 1.1);
 }
+
+function testCacheStats() returns [int, int, int, int] {
+    cache:Cache cache = new(20000, 4, 0.5);
+    cache.put("A", "A");
+    cache.put("B", "B");
+    cache.put("C", "C");
+    cache.put("D", "D");
+    _ = cache.get("A");
+    _ = cache.get("X");
+    cache.put("E", "E");
+    cache:CacheStats stats = cache.getStats();
+    return [stats.hitCount, stats.missCount, stats.evictionCount, cache.size()];
+}
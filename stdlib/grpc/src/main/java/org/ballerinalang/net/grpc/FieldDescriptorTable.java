@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+
+import java.util.List;
+
+/**
+ * Field lookup table of a proto message type.
+ * <p>
+ * Built once per message descriptor and indexed by field number, so that decoding a tag does not need a map lookup
+ * or a per field type conversion.
+ *
+ * @since 1.1.0
+ */
+final class FieldDescriptorTable {
+
+    // Field numbers above this bound are looked up through a linear scan instead of the indexed table.
+    private static final int MAX_INDEXED_FIELD_NUMBER = 1024;
+
+    private final Descriptors.Descriptor messageDescriptor;
+    private final List<Descriptors.FieldDescriptor> fields;
+    private final Descriptors.FieldDescriptor[] fieldsByNumber;
+    private final int[] tagsByNumber;
+    private final int[] typesByNumber;
+
+    FieldDescriptorTable(Descriptors.Descriptor messageDescriptor) {
+        this.messageDescriptor = messageDescriptor;
+        this.fields = messageDescriptor.getFields();
+        int maxFieldNumber = 0;
+        for (Descriptors.FieldDescriptor fieldDescriptor : fields) {
+            if (fieldDescriptor.getNumber() <= MAX_INDEXED_FIELD_NUMBER) {
+                maxFieldNumber = Math.max(maxFieldNumber, fieldDescriptor.getNumber());
+            }
+        }
+        this.fieldsByNumber = new Descriptors.FieldDescriptor[maxFieldNumber + 1];
+        this.tagsByNumber = new int[maxFieldNumber + 1];
+        this.typesByNumber = new int[maxFieldNumber + 1];
+        for (Descriptors.FieldDescriptor fieldDescriptor : fields) {
+            int number = fieldDescriptor.getNumber();
+            if (number <= MAX_INDEXED_FIELD_NUMBER) {
+                fieldsByNumber[number] = fieldDescriptor;
+                tagsByNumber[number] = getTag(fieldDescriptor);
+                typesByNumber[number] = fieldDescriptor.getType().toProto().getNumber();
+            }
+        }
+    }
+
+    /**
+     * Returns the message descriptor this table is built from.
+     *
+     * @return message descriptor.
+     */
+    Descriptors.Descriptor getMessageDescriptor() {
+        return messageDescriptor;
+    }
+
+    /**
+     * Returns the fields of the message in declaration order.
+     *
+     * @return list of field descriptors.
+     */
+    List<Descriptors.FieldDescriptor> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the field descriptor which matches the wire tag, or null if the tag is unknown to this message.
+     *
+     * @param tag wire tag read from the input.
+     * @return matching field descriptor or null.
+     */
+    Descriptors.FieldDescriptor getField(int tag) {
+        int number = tag >>> 3;
+        if (number < fieldsByNumber.length) {
+            return tagsByNumber[number] == tag ? fieldsByNumber[number] : null;
+        }
+        for (Descriptors.FieldDescriptor fieldDescriptor : fields) {
+            if (fieldDescriptor.getNumber() == number && getTag(fieldDescriptor) == tag) {
+                return fieldDescriptor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the packable repeated field which matches the wire tag, when the tag carries the field in the packed,
+     * length delimited encoding.
+     *
+     * @param tag wire tag read from the input.
+     * @return matching packable field descriptor or null.
+     */
+    Descriptors.FieldDescriptor getPackedField(int tag) {
+        if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+            return null;
+        }
+        int number = WireFormat.getTagFieldNumber(tag);
+        Descriptors.FieldDescriptor fieldDescriptor = number < fieldsByNumber.length ? fieldsByNumber[number] :
+                messageDescriptor.findFieldByNumber(number);
+        return fieldDescriptor != null && fieldDescriptor.isPackable() ? fieldDescriptor : null;
+    }
+
+    /**
+     * Returns the proto field type number of the given field.
+     *
+     * @param fieldDescriptor field descriptor of this message.
+     * @return field type number as defined in {@code FieldDescriptorProto.Type}.
+     */
+    int getFieldType(Descriptors.FieldDescriptor fieldDescriptor) {
+        int number = fieldDescriptor.getNumber();
+        if (number < typesByNumber.length) {
+            return typesByNumber[number];
+        }
+        return fieldDescriptor.getType().toProto().getNumber();
+    }
+
+    private static int getTag(Descriptors.FieldDescriptor fieldDescriptor) {
+        return (fieldDescriptor.getNumber() << 3) + MessageUtils.getFieldWireType(fieldDescriptor.getType());
+    }
+}
@@ -34,7 +34,6 @@ import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
-import java.util.Map;
 
 import static org.ballerinalang.net.grpc.builder.utils.BalGenerationUtils.toCamelCase;
 
@@ -63,6 +62,12 @@ public class Message {
         this.messageName = messageName;
     }
 
+    private Message(Descriptors.Descriptor descriptor, Object bMessage) {
+        this.messageName = descriptor.getName();
+        this.bMessage = bMessage;
+        this.descriptor = descriptor;
+    }
+
     public HttpHeaders getHeaders() {
         return headers;
     }
@@ -88,11 +93,11 @@ public class Message {
         this.isError = true;
     }
 
-    public Message(
+    Message(
             String messageName,
             BType bType,
             com.google.protobuf.CodedInputStream input,
-            Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors)
+            FieldDescriptorTable fieldDescriptors)
             throws IOException {
         this(messageName);
         MapValue<String, Object> bMapValue = null;
@@ -103,21 +108,20 @@ public class Message {
 
         if (input == null) {
             if (bMapValue != null) {
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
-                            !entry.getValue().isRepeated()) {
-                        bMapValue.put(entry.getValue().getName(), null);
-                    } else if (entry.getValue().getType().toProto().getNumber() ==
-                            DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
-                        bMapValue.put(entry.getValue().getName(),
-                                entry.getValue().getEnumType().findValueByNumber(0).toString());
+                for (Descriptors.FieldDescriptor fieldDescriptor : fieldDescriptors.getFields()) {
+                    int fieldType = fieldDescriptors.getFieldType(fieldDescriptor);
+                    if (fieldType == DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE &&
+                            !fieldDescriptor.isRepeated()) {
+                        bMapValue.put(fieldDescriptor.getName(), null);
+                    } else if (fieldType == DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE) {
+                        bMapValue.put(fieldDescriptor.getName(),
+                                fieldDescriptor.getEnumType().findValueByNumber(0).toString());
                     }
                 }
             } else {
                 // Here fieldDescriptors map size should be one. Because the value can assign to one scalar field.
-                for (Map.Entry<Integer, Descriptors.FieldDescriptor> entry : fieldDescriptors.entrySet()) {
-                    switch (entry.getValue().getType().toProto().getNumber()) {
+                for (Descriptors.FieldDescriptor fieldDescriptor : fieldDescriptors.getFields()) {
+                    switch (fieldDescriptors.getFieldType(fieldDescriptor)) {
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE:
                         case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                             bMessage = (double) 0;
@@ -142,7 +146,7 @@ public class Message {
                         default: {
                             throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
                                     "message. Field type is not supported : " +
-                                    entry.getValue().getType()).asRuntimeException();
+                                    fieldDescriptor.getType()).asRuntimeException();
                         }
                     }
                 }
@@ -154,271 +158,249 @@ public class Message {
             int tag = input.readTag();
             if (tag == 0) {
                 done = true;
-            } else if (fieldDescriptors.containsKey(tag)) {
-                Descriptors.FieldDescriptor fieldDescriptor = fieldDescriptors.get(tag);
-                String name = fieldDescriptor.getName();
-                switch (fieldDescriptor.getType().toProto().getNumber()) {
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = new ArrayValueImpl(new BArrayType(BTypes.typeFloat));
-                                if (bMapValue.containsKey(name)) {
-                                    floatArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, floatArray);
-                                }
-                                floatArray.add(floatArray.size(), input.readDouble());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readDouble());
-                            } else {
-                                bMapValue.put(name, input.readDouble());
-                            }
-                        } else {
-                            bMessage = input.readDouble();
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = new ArrayValueImpl(new BArrayType(BTypes.typeFloat));
-                                if (bMapValue.containsKey(name)) {
-                                    floatArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, floatArray);
-                                }
-                                floatArray.add(floatArray.size(),
-                                        Double.parseDouble(String.valueOf(input.readFloat())));
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                double bValue = Double.parseDouble(String.valueOf(input.readFloat()));
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
-                            } else {
-                                bMapValue.put(name, Double.parseDouble(String.valueOf(input.readFloat())));
-                            }
-                        } else {
-                            bMessage = Double.parseDouble(String.valueOf(input.readFloat()));
-                        }
-                        break;
-                    }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readInt64());
-                            } else {
-                                bMapValue.put(name, input.readInt64());
-                            }
-                        } else {
-                            bMessage = input.readInt64();
-                        }
-                        break;
+                continue;
+            }
+            Descriptors.FieldDescriptor fieldDescriptor = fieldDescriptors.getField(tag);
+            if (fieldDescriptor != null) {
+                readField(input, bType, bMapValue, fieldDescriptor, fieldDescriptors.getFieldType(fieldDescriptor));
+                continue;
+            }
+            fieldDescriptor = fieldDescriptors.getPackedField(tag);
+            if (fieldDescriptor == null) {
+                // Unknown fields are skipped so that the next tag is read from the correct position.
+                input.skipField(tag);
+                continue;
+            }
+            // Elements of a packed repeated field follow each other within a single length delimited record.
+            int fieldType = fieldDescriptors.getFieldType(fieldDescriptor);
+            int oldLimit = input.pushLimit(input.readRawVarint32());
+            while (input.getBytesUntilLimit() > 0) {
+                readField(input, bType, bMapValue, fieldDescriptor, fieldType);
+            }
+            input.popLimit(oldLimit);
+        }
+    }
+
+    private void readField(com.google.protobuf.CodedInputStream input, BType bType,
+                           MapValue<String, Object> bMapValue, Descriptors.FieldDescriptor fieldDescriptor,
+                           int protoFieldType) throws IOException {
+        String name = fieldDescriptor.getName();
+        switch (protoFieldType) {
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue floatArray = getArrayValue(bMapValue, name, BTypes.typeFloat);
+                        floatArray.add(floatArray.size(), input.readDouble());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readDouble());
+                    } else {
+                        bMapValue.put(name, input.readDouble());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readUInt64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readUInt64());
-                            } else {
-                                bMapValue.put(name, input.readUInt64());
-                            }
-                        } else {
-                            bMessage = input.readUInt64();
-                        }
-                        break;
+                } else {
+                    bMessage = input.readDouble();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue floatArray = getArrayValue(bMapValue, name, BTypes.typeFloat);
+                        floatArray.add(floatArray.size(),
+                                Double.parseDouble(String.valueOf(input.readFloat())));
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        double bValue = Double.parseDouble(String.valueOf(input.readFloat()));
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
+                    } else {
+                        bMapValue.put(name, Double.parseDouble(String.valueOf(input.readFloat())));
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readInt32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readInt32());
-                            } else {
-                                bMapValue.put(name, input.readInt32());
-                            }
-                        } else {
-                            bMessage = input.readInt32();
-                        }
-                        break;
+                } else {
+                    bMessage = Double.parseDouble(String.valueOf(input.readFloat()));
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue intArray = getArrayValue(bMapValue, name, BTypes.typeInt);
+                        intArray.add(intArray.size(), input.readInt64());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readInt64());
+                    } else {
+                        bMapValue.put(name, input.readInt64());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readFixed64());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readFixed64());
-                            } else {
-                                bMapValue.put(name, input.readFixed64());
-                            }
-                        } else {
-                            bMessage = input.readFixed64();
-                        }
-                        break;
+                } else {
+                    bMessage = input.readInt64();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue intArray = getArrayValue(bMapValue, name, BTypes.typeInt);
+                        intArray.add(intArray.size(), input.readUInt64());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readUInt64());
+                    } else {
+                        bMapValue.put(name, input.readUInt64());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
-                                intArray.add(intArray.size(), input.readFixed32());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readFixed32());
-                            } else {
-                                bMapValue.put(name, input.readFixed32());
-                            }
-                        } else {
-                            bMessage = input.readFixed32();
-                        }
-                        break;
+                } else {
+                    bMessage = input.readUInt64();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue intArray = getArrayValue(bMapValue, name, BTypes.typeInt);
+                        intArray.add(intArray.size(), input.readInt32());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readInt32());
+                    } else {
+                        bMapValue.put(name, input.readInt32());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue booleanArray = new ArrayValueImpl(new BArrayType(BTypes.typeBoolean));
-                                if (bMapValue.containsKey(name)) {
-                                    booleanArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, booleanArray);
-                                }
-                                booleanArray.add(booleanArray.size(), input.readBool());
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readBool());
-                            } else {
-                                bMapValue.put(name, input.readBool());
-                            }
-                        } else {
-                            bMessage = input.readBool();
-                        }
-                        break;
+                } else {
+                    bMessage = input.readInt32();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue intArray = getArrayValue(bMapValue, name, BTypes.typeInt);
+                        intArray.add(intArray.size(), input.readFixed64());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readFixed64());
+                    } else {
+                        bMapValue.put(name, input.readFixed64());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = new ArrayValueImpl(new BArrayType(BTypes.typeString));
-                                if (bMapValue.containsKey(name)) {
-                                    stringArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, stringArray);
-                                }
-                                stringArray.add(stringArray.size(), input.readStringRequireUtf8());
-                                bMapValue.put(name, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, input.readStringRequireUtf8());
-                            } else {
-                                bMapValue.put(name, input.readStringRequireUtf8());
-                            }
-                        } else {
-                            bMessage = input.readStringRequireUtf8();
-                        }
-                        break;
+                } else {
+                    bMessage = input.readFixed64();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue intArray = getArrayValue(bMapValue, name, BTypes.typeInt);
+                        intArray.add(intArray.size(), input.readFixed32());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readFixed32());
+                    } else {
+                        bMapValue.put(name, input.readFixed32());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = new ArrayValueImpl(new BArrayType(BTypes.typeString));
-                                if (bMapValue.containsKey(name)) {
-                                    stringArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, stringArray);
-                                }
-                                stringArray.add(stringArray.size(), fieldDescriptor.getEnumType().findValueByNumber
-                                        (input.readEnum()).toString());
-                                bMapValue.put(name, stringArray);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                Object bValue = fieldDescriptor.getEnumType().findValueByNumber(input
-                                        .readEnum()).toString();
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
-                            } else {
-                                bMapValue.put(name, fieldDescriptor.getEnumType().findValueByNumber(input
-                                        .readEnum()).toString());
-                            }
-                        } else {
-                            bMessage = fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString();
-                        }
-                        break;
+                } else {
+                    bMessage = input.readFixed32();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue booleanArray = getArrayValue(bMapValue, name, BTypes.typeBoolean);
+                        booleanArray.add(booleanArray.size(), input.readBool());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readBool());
+                    } else {
+                        bMapValue.put(name, input.readBool());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
-                        if (bMapValue != null) {
-                             if (fieldDescriptor.getContainingOneof() != null) {
-                                Object bValue = new ArrayValueImpl(input.readByteArray());
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
-                             } else {
-                                 bMapValue.put(name, new ArrayValueImpl(input.readByteArray()));
-                             }
-                        } else {
-                            bMessage = new ArrayValueImpl(input.readByteArray());
-                        }
-                        break;
+                } else {
+                    bMessage = input.readBool();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue stringArray = getArrayValue(bMapValue, name, BTypes.typeString);
+                        stringArray.add(stringArray.size(), input.readStringRequireUtf8());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, input.readStringRequireUtf8());
+                    } else {
+                        bMapValue.put(name, input.readStringRequireUtf8());
                     }
-                    case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
-                        BRecordType recordType;
-                        if (bType instanceof BRecordType) {
-                            recordType = (BRecordType) bType;
-                        } else {
-                            throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
-                                    "message. record type is not supported : " +
-                                    fieldDescriptor.getType()).asRuntimeException();
-                        }
-                        if (bMapValue != null) {
-                            if (fieldDescriptor.isRepeated()) {
-                                ArrayValue structArray = bMapValue.get(name) != null ?
-                                        (ArrayValue) bMapValue.get(name) : null;
-                                BType fieldType = recordType.getFields().get(name).getFieldType();
-                                if (structArray == null || structArray.size() == 0) {
-                                    structArray = new ArrayValueImpl((BArrayType) fieldType);
-                                    bMapValue.put(name, structArray);
-                                }
-                                structArray.add(structArray.size(), readMessage(fieldDescriptor,
-                                        ((BArrayType) fieldType).getElementType(), input).bMessage);
-                            } else if (fieldDescriptor.getContainingOneof() != null) {
-                                Object bValue = readMessage(fieldDescriptor, bType, input).bMessage;
-                                updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
-                            } else {
-                                BType fieldType = recordType.getFields().get(name).getFieldType();
-                                bMapValue.put(name, readMessage(fieldDescriptor, fieldType, input).bMessage);
-                            }
-                        } else {
-                            BType fieldType = recordType.getFields().get(name).getFieldType();
-                            bMessage = readMessage(fieldDescriptor, fieldType, input).bMessage;
-                        }
-                        break;
+                } else {
+                    bMessage = input.readStringRequireUtf8();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue stringArray = getArrayValue(bMapValue, name, BTypes.typeString);
+                        stringArray.add(stringArray.size(), fieldDescriptor.getEnumType().findValueByNumber
+                                (input.readEnum()).toString());
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        Object bValue = fieldDescriptor.getEnumType().findValueByNumber(input
+                                .readEnum()).toString();
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
+                    } else {
+                        bMapValue.put(name, fieldDescriptor.getEnumType().findValueByNumber(input
+                                .readEnum()).toString());
                     }
-                    default: {
-                        throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
-                                "Field type is not supported : " + fieldDescriptor.getType()).asRuntimeException();
+                } else {
+                    bMessage = fieldDescriptor.getEnumType().findValueByNumber(input.readEnum()).toString();
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BYTES_VALUE: {
+                if (bMapValue != null) {
+                     if (fieldDescriptor.getContainingOneof() != null) {
+                        Object bValue = new ArrayValueImpl(input.readByteArray());
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
+                     } else {
+                         bMapValue.put(name, new ArrayValueImpl(input.readByteArray()));
+                     }
+                } else {
+                    bMessage = new ArrayValueImpl(input.readByteArray());
+                }
+                break;
+            }
+            case DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE_VALUE: {
+                BRecordType recordType;
+                if (bType instanceof BRecordType) {
+                    recordType = (BRecordType) bType;
+                } else {
+                    throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request " +
+                            "message. record type is not supported : " +
+                            fieldDescriptor.getType()).asRuntimeException();
+                }
+                if (bMapValue != null) {
+                    if (fieldDescriptor.isRepeated()) {
+                        ArrayValue structArray = (ArrayValue) bMapValue.get(name);
+                        BType fieldType = recordType.getFields().get(name).getFieldType();
+                        if (structArray == null || structArray.size() == 0) {
+                            structArray = new ArrayValueImpl((BArrayType) fieldType);
+                            bMapValue.put(name, structArray);
+                        }
+                        structArray.add(structArray.size(), readMessage(fieldDescriptor,
+                                ((BArrayType) fieldType).getElementType(), input).bMessage);
+                    } else if (fieldDescriptor.getContainingOneof() != null) {
+                        Object bValue = readMessage(fieldDescriptor, bType, input).bMessage;
+                        updateBMapValue(bType, bMapValue, fieldDescriptor, bValue);
+                    } else {
+                        BType fieldType = recordType.getFields().get(name).getFieldType();
+                        bMapValue.put(name, readMessage(fieldDescriptor, fieldType, input).bMessage);
                     }
+                } else {
+                    BType fieldType = recordType.getFields().get(name).getFieldType();
+                    bMessage = readMessage(fieldDescriptor, fieldType, input).bMessage;
                 }
+                break;
             }
+            default: {
+                throw Status.Code.INTERNAL.toStatus().withDescription("Error while decoding request message. " +
+                        "Field type is not supported : " + fieldDescriptor.getType()).asRuntimeException();
+            }
+        }
+    }
+
+    private static ArrayValue getArrayValue(MapValue<String, Object> bMapValue, String name, BType elementType) {
+        ArrayValue arrayValue = (ArrayValue) bMapValue.get(name);
+        if (arrayValue == null) {
+            arrayValue = new ArrayValueImpl(new BArrayType(elementType));
+            bMapValue.put(name, arrayValue);
         }
+        return arrayValue;
     }
 
     private void updateBMapValue(BType bType, MapValue<String, Object> bMapValue,
@@ -668,14 +650,14 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                                Message message = new Message(fieldDescriptor.getMessageType(),
                                         valueArray.getRefValue(i));
                                 output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                                 output.writeUInt32NoTag(message.getSerializedSize());
                                 message.writeTo(output);
                             }
                         } else {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                            Message message = new Message(fieldDescriptor.getMessageType(),
                                     bValue);
                             output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                             output.writeUInt32NoTag(message.getSerializedSize());
@@ -684,7 +666,7 @@ public class Message {
                     } else if (isOneofField(bMapValue, fieldDescriptor)) {
                         Object bValue = getOneofFieldMap(bMapValue, fieldDescriptor);
                         if (hasOneofFieldValue(fieldDescriptor.getName(), bValue)) {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                            Message message = new Message(fieldDescriptor.getMessageType(),
                                     ((MapValue) bValue).get(fieldDescriptor.getName()));
                             output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                             output.writeUInt32NoTag(message.getSerializedSize());
@@ -1001,18 +983,18 @@ public class Message {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
                                 MapValue<String, Object> value = (MapValue) valueArray.getRefValue(i);
-                                Message message = new Message(fieldDescriptor.getMessageType().getName(), value);
+                                Message message = new Message(fieldDescriptor.getMessageType(), value);
                                 size += computeMessageSize(fieldDescriptor, message);
                             }
                         } else {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                            Message message = new Message(fieldDescriptor.getMessageType(),
                                     bValue);
                             size += computeMessageSize(fieldDescriptor, message);
                         }
                     } else if (isOneofField(bMapValue, fieldDescriptor)) {
                         Object bValue = getOneofFieldMap(bMapValue, fieldDescriptor);
                         if (hasOneofFieldValue(fieldDescriptor.getName(), bValue)) {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                            Message message = new Message(fieldDescriptor.getMessageType(),
                                     ((MapValue) bValue).get(fieldDescriptor.getName()));
                             size += computeMessageSize(fieldDescriptor, message);
                         }
@@ -16,12 +16,9 @@
 package org.ballerinalang.net.grpc;
 
 import com.google.protobuf.CodedInputStream;
-import com.google.protobuf.Descriptors;
 import org.ballerinalang.jvm.types.BType;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Proto Message Parser.
@@ -32,12 +29,12 @@ public class MessageParser {
 
     private final String messageName;
     private final BType bType;
-    private final Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors;
+    private final FieldDescriptorTable fieldDescriptors;
 
     public MessageParser(String messageName, BType bType) {
         this.messageName = messageName;
         this.bType = bType;
-        this.fieldDescriptors = computeFieldTagValues();
+        this.fieldDescriptors = MessageRegistry.getInstance().getFieldDescriptorTable(messageName);
     }
 
     /**
@@ -56,16 +53,4 @@ public class MessageParser {
     Message getDefaultInstance() throws IOException {
         return new Message(messageName, bType, null, fieldDescriptors);
     }
-
-    private Map<Integer, Descriptors.FieldDescriptor> computeFieldTagValues() {
-        Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors = new HashMap<>();
-        Descriptors.Descriptor messageDescriptor = MessageRegistry.getInstance().getMessageDescriptor(messageName);
-        for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
-            Descriptors.FieldDescriptor.Type fieldType = fieldDescriptor.getType();
-            int number = fieldDescriptor.getNumber();
-            int byteCode = ((number << 3) + MessageUtils.getFieldWireType(fieldType));
-            fieldDescriptors.put(byteCode, fieldDescriptor);
-        }
-        return fieldDescriptors;
-    }
 }
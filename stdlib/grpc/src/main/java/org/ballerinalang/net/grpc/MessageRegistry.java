@@ -20,6 +20,7 @@ import com.google.protobuf.Descriptors;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proto Message Registry.
@@ -30,6 +31,7 @@ import java.util.Map;
 public class MessageRegistry {
 
     private Map<String, Descriptors.Descriptor> messageDescriptors = new HashMap<>();
+    private Map<String, FieldDescriptorTable> fieldDescriptorTables = new ConcurrentHashMap<>();
 
     private static volatile MessageRegistry messageRegistry = new MessageRegistry();
 
@@ -41,12 +43,29 @@ public class MessageRegistry {
 
     public void addMessageDescriptor(String messageName, Descriptors.Descriptor messageDescriptor) {
         messageDescriptors.put(messageName, messageDescriptor);
+        fieldDescriptorTables.remove(messageName);
     }
 
     public Descriptors.Descriptor getMessageDescriptor(String messageName) {
         return messageDescriptors.get(messageName);
     }
 
+    /**
+     * Returns the field lookup table of the message. The table is built on first use and reused afterwards.
+     *
+     * @param messageName message name.
+     * @return field lookup table of the message.
+     */
+    FieldDescriptorTable getFieldDescriptorTable(String messageName) {
+        Descriptors.Descriptor messageDescriptor = messageDescriptors.get(messageName);
+        FieldDescriptorTable fieldDescriptorTable = fieldDescriptorTables.get(messageName);
+        if (fieldDescriptorTable == null || fieldDescriptorTable.getMessageDescriptor() != messageDescriptor) {
+            fieldDescriptorTable = new FieldDescriptorTable(messageDescriptor);
+            fieldDescriptorTables.put(messageName, fieldDescriptorTable);
+        }
+        return fieldDescriptorTable;
+    }
+
     public Map<String, Descriptors.Descriptor> getMessageDescriptorMap() {
         return Collections.unmodifiableMap(messageDescriptors);
     }
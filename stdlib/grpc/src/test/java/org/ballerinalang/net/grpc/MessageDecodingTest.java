@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Test class for decoding proto messages.
+ *
+ * @since 1.1.0
+ */
+public class MessageDecodingTest {
+
+    private static final String MESSAGE_NAME = "DecodingTestMessage";
+
+    @SuppressWarnings("unchecked")
+    @Test(description = "Test decoding a message skips unknown fields and reads packed repeated fields")
+    public void testDecodeUnknownAndPackedFields() throws IOException, Descriptors.DescriptorValidationException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(content);
+        // unknown varint and length delimited fields
+        output.writeInt64(5, 42);
+        output.writeString(6, "unknown");
+        // packed encoding of the repeated ids field
+        output.writeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(CodedOutputStream.computeInt64SizeNoTag(1) +
+                CodedOutputStream.computeInt64SizeNoTag(2));
+        output.writeInt64NoTag(1);
+        output.writeInt64NoTag(2);
+        output.writeString(1, "ballerina");
+        // unpacked encoding of the repeated ids field
+        output.writeInt64(2, 3);
+        output.flush();
+
+        Message message = new Message(MESSAGE_NAME,
+                new BRecordType(MESSAGE_NAME, new BPackage("grpc", "test"), 0, false, 0),
+                CodedInputStream.newInstance(content.toByteArray()), new FieldDescriptorTable(getDescriptor()));
+        MapValue<String, Object> bMessage = (MapValue<String, Object>) message.getbMessage();
+        Assert.assertEquals(bMessage.get("name"), "ballerina");
+        // elements of both the packed and the unpacked encodings are read in order
+        ArrayValue ids = (ArrayValue) bMessage.get("ids");
+        Assert.assertEquals(ids.size(), 3);
+        Assert.assertEquals(ids.getInt(0), 1);
+        Assert.assertEquals(ids.getInt(1), 2);
+        Assert.assertEquals(ids.getInt(2), 3);
+    }
+
+    private static Descriptors.Descriptor getDescriptor() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.DescriptorProto messageProto = DescriptorProtos.DescriptorProto.newBuilder()
+                .setName(MESSAGE_NAME)
+                .addField(DescriptorProtos.FieldDescriptorProto.newBuilder()
+                        .setName("name").setNumber(1)
+                        .setType(DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING)
+                        .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL))
+                .addField(DescriptorProtos.FieldDescriptorProto.newBuilder()
+                        .setName("ids").setNumber(2)
+                        .setType(DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64)
+                        .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED))
+                .build();
+        DescriptorProtos.FileDescriptorProto fileProto = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("decoding_test.proto")
+                .setSyntax("proto3")
+                .addMessageType(messageProto)
+                .build();
+        return Descriptors.FileDescriptor.buildFrom(fileProto, new Descriptors.FileDescriptor[0])
+                .findMessageTypeByName(MESSAGE_NAME);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.net.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Segment trie of the base paths of the services registered under a host. Finds the most specific base path of a
+ * request path by walking the path segments once, instead of comparing the path with every registered base path.
+ * <p>
+ * A base path matches a request path which is either equal to it ignoring case, or which starts with it followed by
+ * a '/'. The longest such base path is the most specific one.
+ *
+ * @since 1.1.0
+ */
+class BasePathTrie {
+
+    private final Node root = new Node();
+    private final Map<String, String> basePathsByLowerCase = new ConcurrentHashMap<>();
+
+    void add(String basePath) {
+        Node node = root;
+        int start = 1;
+        int length = basePath.length();
+        while (start <= length && length > 1) {
+            int end = nextDelimiter(basePath, start);
+            node = node.children.computeIfAbsent(basePath.substring(start, end), segment -> new Node());
+            start = end + 1;
+        }
+        node.basePath = basePath;
+        basePathsByLowerCase.put(basePath.toLowerCase(), basePath);
+    }
+
+    void remove(String basePath) {
+        Node node = root;
+        int start = 1;
+        int length = basePath.length();
+        while (node != null && start <= length && length > 1) {
+            int end = nextDelimiter(basePath, start);
+            node = node.children.get(basePath.substring(start, end));
+            start = end + 1;
+        }
+        if (node != null && basePath.equals(node.basePath)) {
+            // emptied nodes are left in the trie, as services are rarely detached
+            node.basePath = null;
+        }
+        basePathsByLowerCase.remove(basePath.toLowerCase(), basePath);
+    }
+
+    /**
+     * Finds the most specific base path of the given request path.
+     *
+     * @param requestPath raw path of the request, without the query
+     * @return the matching base path, or null if no base path matches
+     */
+    String match(String requestPath) {
+        Node node = root;
+        String basePath = root.basePath;
+        int basePathLength = basePath == null ? 0 : basePath.length();
+        int length = requestPath.length();
+        int start = requestPath.startsWith(HttpConstants.DEFAULT_BASE_PATH) ? 1 : 0;
+        while (start <= length) {
+            int end = nextDelimiter(requestPath, start);
+            node = node.children.get(requestPath.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            String nodeBasePath = node.basePath;
+            if (nodeBasePath != null) {
+                basePath = nodeBasePath;
+                basePathLength = end;
+            }
+            start = end + 1;
+        }
+        if (basePathLength == length) {
+            return basePath;
+        }
+        // a base path which covers the whole request path is matched ignoring case, as it was before
+        String caseInsensitiveMatch = basePathsByLowerCase.get(requestPath.toLowerCase());
+        return caseInsensitiveMatch != null ? caseInsensitiveMatch : basePath;
+    }
+
+    private static int nextDelimiter(String path, int start) {
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private volatile String basePath;
+    }
+}
@@ -128,8 +128,7 @@ public class HTTPServicesRegistry {
             logger.info(errLog);
 
             //basePath will get cached after registering service
-            sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).addBasePath(basePath);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -163,23 +162,15 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
+    /**
+     * Find the base path of the service which should handle the given request path.
+     *
+     * @param requestURIPath    raw path of the request, without the query
+     * @param servicesMapHolder services registered under the host of the request
+     * @return the most specific matching base path, or null if there is no such service
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath, ServicesMapHolder servicesMapHolder) {
+        return servicesMapHolder.basePathTrie.match(requestURIPath);
     }
 
     public void setScheduler(Scheduler scheduler) {
@@ -196,10 +187,25 @@ public class HTTPServicesRegistry {
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private final BasePathTrie basePathTrie = new BasePathTrie();
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            for (String basePath : sortedServiceURIs) {
+                basePathTrie.add(basePath);
+            }
+        }
+
+        public void addBasePath(String basePath) {
+            sortedServiceURIs.add(basePath);
+            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            basePathTrie.add(basePath);
+        }
+
+        public void removeBasePath(String basePath) {
+            sortedServiceURIs.remove(basePath);
+            basePathTrie.remove(basePath);
         }
     }
 
@@ -224,7 +230,7 @@ public class HTTPServicesRegistry {
                 continue;
             }
             servicesByBasePath.remove(basePath);
-            sortedServiceURIs.remove(basePath);
+            servicesMapHolder.removeBasePath(basePath);
             if (logger.isDebugEnabled()) {
                 logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(),
                                            basePath));
@@ -18,10 +18,12 @@
 package org.ballerinalang.net.http;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
+import org.ballerinalang.jvm.UTF8JSONParser;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaConnectorException;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
@@ -36,8 +38,8 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -50,53 +52,136 @@ import static org.ballerinalang.net.http.compiler.ResourceSignatureValidator.COM
  */
 public class HttpDispatcher {
 
+    private static final boolean[] LEGAL_URI_CHARS = new boolean[128];
+
+    static {
+        for (char c : ("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789" +
+                "-._~!$&'()*+,;=:@/").toCharArray()) {
+            LEGAL_URI_CHARS[c] = true;
+        }
+    }
+
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
-            Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+            HTTPServicesRegistry.ServicesMapHolder servicesMapHolder = hostName == null ? null :
+                    servicesRegistry.getServicesMapHolder(hostName);
+            if (servicesMapHolder == null) {
+                hostName = DEFAULT_HOST;
+                servicesMapHolder = servicesRegistry.getServicesMapHolder(DEFAULT_HOST);
             }
+            Map<String, HttpService> servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
             inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
+            // an absolute-form target is dispatched by its path and query, the same as an origin-form target
+            String requestTarget = rawUri.substring(getPathStart(rawUri));
             Map<String, Map<String, String>> matrixParams = new HashMap<>();
-            String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+            String uriWithoutMatrixParams = requestTarget.startsWith(HttpConstants.DEFAULT_BASE_PATH) ?
+                    URIUtil.extractMatrixParams(requestTarget, matrixParams) : requestTarget;
 
             inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
             inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+            // the path and the query are split in place, instead of parsing the request target as a java.net.URI
+            int pathEnd = validateRequestTarget(uriWithoutMatrixParams);
+            String rawPath = uriWithoutMatrixParams.substring(0, pathEnd);
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPath, servicesMapHolder);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
-                throw new BallerinaConnectorException("no matching service found for path : " +
-                        validatedUri.getRawPath());
+                throw new BallerinaConnectorException("no matching service found for path : " + rawPath);
             }
 
             HttpService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+            setInboundReqProperties(inboundReqMsg, uriWithoutMatrixParams, pathEnd, basePath);
             return service;
         } catch (Exception e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
     }
 
-    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
-        String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
+    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, String requestTarget, int pathEnd,
+                                                String basePath) throws UnsupportedEncodingException {
+        String subPath = URIUtil.getSubPath(requestTarget.substring(0, pathEnd), basePath);
+        String rawQuery = null;
+        if (pathEnd < requestTarget.length() && requestTarget.charAt(pathEnd) == '?') {
+            int queryEnd = requestTarget.indexOf('#', pathEnd);
+            rawQuery = requestTarget.substring(pathEnd + 1, queryEnd < 0 ? requestTarget.length() : queryEnd);
+        }
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
         inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
+        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, decodeQuery(rawQuery));
         //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
+        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, rawQuery);
+    }
+
+    /**
+     * Finds the start of the path of a request target. The scheme and the authority of an absolute-form target are
+     * skipped, while an asterisk-form or authority-form target has an empty path.
+     *
+     * @param requestTarget request target as received
+     * @return index of the start of the path
+     */
+    static int getPathStart(String requestTarget) {
+        if (requestTarget.startsWith(HttpConstants.DEFAULT_BASE_PATH)) {
+            return 0;
+        }
+        int length = requestTarget.length();
+        int schemeEnd = requestTarget.indexOf("://");
+        if (schemeEnd < 0) {
+            return length;
+        }
+        for (int i = schemeEnd + 3; i < length; i++) {
+            char c = requestTarget.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Validates the characters of a request target in origin form, as {@link URI#create(String)} would.
+     *
+     * @param requestTarget request path followed by the optional query
+     * @return index of the end of the path
+     */
+    static int validateRequestTarget(String requestTarget) {
+        int pathEnd = -1;
+        int length = requestTarget.length();
+        for (int i = 0; i < length; i++) {
+            char c = requestTarget.charAt(i);
+            if (c == '?' || c == '#') {
+                if (pathEnd < 0) {
+                    pathEnd = i;
+                }
+                continue;
+            }
+            if (c == '%') {
+                if (i + 2 >= length || Character.digit(requestTarget.charAt(i + 1), 16) < 0 ||
+                        Character.digit(requestTarget.charAt(i + 2), 16) < 0) {
+                    throw new BallerinaConnectorException("Malformed escape pair at index " + i + ": " +
+                                                                  requestTarget);
+                }
+                i += 2;
+                continue;
+            }
+            if (c < 128 ? !LEGAL_URI_CHARS[c] : Character.isSpaceChar(c) || Character.isISOControl(c)) {
+                throw new BallerinaConnectorException("Illegal character in " + (pathEnd < 0 ? "path" : "query") +
+                                                              " at index " + i + ": " + requestTarget);
+            }
+        }
+        return pathEnd < 0 ? length : pathEnd;
+    }
+
+    static String decodeQuery(String rawQuery) throws UnsupportedEncodingException {
+        if (rawQuery == null || rawQuery.indexOf('%') < 0) {
+            return rawQuery;
+        }
+        // unlike URLDecoder, URI decoding keeps '+' as it is
+        return URLDecoder.decode(rawQuery.replace("+", "%2B"), StandardCharsets.UTF_8.name());
     }
 
     public static URI getValidatedURI(String uriStr) {
@@ -249,7 +334,12 @@ public class HttpDispatcher {
         return null;
     }
 
-    private static Object getRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) {
+    private static Object getRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) throws IOException {
+        if (UTF8JSONParser.isDirectlyBindable(entityBodyType) &&
+                EntityBodyHandler.getByteChannel(inRequestEntity) != null &&
+                EntityBodyHandler.isUTF8Encoded(inRequestEntity)) {
+            return bindRecordEntity(inRequestEntity, entityBodyType);
+        }
         Object result = getRecord(entityBodyType, getBJsonValue(inRequestEntity));
         if (result instanceof ErrorValue) {
             throw (ErrorValue) result;
@@ -257,6 +347,32 @@ public class HttpDispatcher {
         return result;
     }
 
+    /**
+     * Bind the UTF-8 encoded json payload of the entity directly to the record type, without constructing the json
+     * value. The payload is kept as a blob, so that it can still be read in other forms. If the payload cannot be
+     * bound, it is converted through a json value to report the same error.
+     *
+     * @param inRequestEntity Represents inbound request entity
+     * @param entityBodyType  Represents entity body type
+     * @return the relevant ballerina record or array of records
+     */
+    private static Object bindRecordEntity(ObjectValue inRequestEntity, BType entityBodyType) throws IOException {
+        ArrayValue payload = EntityBodyHandler.constructBlobDataSource(inRequestEntity);
+        EntityBodyHandler.addMessageDataSource(inRequestEntity, payload);
+        byte[] bytes = payload.getBytes();
+        try {
+            return UTF8JSONParser.parse(bytes, 0, bytes.length, entityBodyType);
+        } catch (ErrorValue | BallerinaException e) {
+            Object bjson = UTF8JSONParser.parse(bytes, 0, bytes.length);
+            EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
+            Object result = getRecord(entityBodyType, bjson);
+            if (result instanceof ErrorValue) {
+                throw (ErrorValue) result;
+            }
+            return result;
+        }
+    }
+
     /**
      * Convert a json to the relevant record type.
      *
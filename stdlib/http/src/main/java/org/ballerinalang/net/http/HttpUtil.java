@@ -1397,7 +1397,7 @@ public class HttpUtil {
     public static void serializeDataSource(Object outboundMessageSource, ObjectValue entity,
                                            OutputStream messageOutputStream) throws IOException {
         if (MimeUtil.generateAsJSON(outboundMessageSource, entity)) {
-            JSONGenerator gen = new JSONGenerator(messageOutputStream);
+            JSONGenerator gen = JSONGenerator.newGenerator(messageOutputStream);
             gen.serialize(outboundMessageSource);
             gen.flush();
         } else {
@@ -49,7 +49,7 @@ public class URIUtil {
     }
 
     public static String getSubPath(String path, String basePath) {
-        if (path.length() == basePath.length()) {
+        if (path.length() <= basePath.length()) {
             return URI_PATH_DELIMITER;
         }
 
@@ -81,12 +81,9 @@ public abstract class Node<DataType, InboundMsgType> {
         boolean isFound;
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
-                        continue;
-                    }
+                String token = childNode.getToken();
+                if (token.equals("*")) {
+                    // the wildcard literal matches any sub path, so there is no need to match it as a regex
                     isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
                                                  dataReturnAgent);
                     if (isFound) {
@@ -95,7 +92,7 @@ public abstract class Node<DataType, InboundMsgType> {
                     }
                     continue;
                 }
-                if (!subPath.contains(regex)) {
+                if (!subPath.contains(token)) {
                     continue;
                 }
                 isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
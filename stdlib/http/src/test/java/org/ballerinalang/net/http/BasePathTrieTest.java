@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for matching request paths against the base paths of the services.
+ */
+public class BasePathTrieTest {
+
+    @Test(description = "Test a base path covering the whole request path is matched ignoring case")
+    public void testCaseInsensitiveExactMatch() {
+        BasePathTrie basePathTrie = new BasePathTrie();
+        basePathTrie.add("/Hello");
+        basePathTrie.add("/Hello/World");
+        Assert.assertEquals(basePathTrie.match("/Hello"), "/Hello");
+        Assert.assertEquals(basePathTrie.match("/hello"), "/Hello");
+        Assert.assertEquals(basePathTrie.match("/HELLO/world"), "/Hello/World");
+        // only a base path covering the whole request path is matched ignoring case
+        Assert.assertNull(basePathTrie.match("/hello/there"));
+    }
+
+    @Test(description = "Test the most specific base path is matched at a segment boundary")
+    public void testSegmentBoundaryMatch() {
+        BasePathTrie basePathTrie = new BasePathTrie();
+        basePathTrie.add("/foo");
+        basePathTrie.add("/foo/bar");
+        Assert.assertEquals(basePathTrie.match("/foo/baz"), "/foo");
+        Assert.assertEquals(basePathTrie.match("/foo/"), "/foo");
+        Assert.assertEquals(basePathTrie.match("/foo/bar/baz"), "/foo/bar");
+        Assert.assertNull(basePathTrie.match("/foobar"));
+        Assert.assertNull(basePathTrie.match("/fo"));
+    }
+
+    @Test(description = "Test the root base path is matched when no other base path matches")
+    public void testRootBasePathFallback() {
+        BasePathTrie basePathTrie = new BasePathTrie();
+        basePathTrie.add("/foo");
+        Assert.assertNull(basePathTrie.match("/"));
+        basePathTrie.add("/");
+        Assert.assertEquals(basePathTrie.match("/"), "/");
+        Assert.assertEquals(basePathTrie.match(""), "/");
+        Assert.assertEquals(basePathTrie.match("/foobar"), "/");
+        Assert.assertEquals(basePathTrie.match("/bar/foo"), "/");
+        Assert.assertEquals(basePathTrie.match("/foo/bar"), "/foo");
+    }
+
+    @Test(description = "Test a removed base path is no longer matched")
+    public void testRemoveBasePath() {
+        BasePathTrie basePathTrie = new BasePathTrie();
+        basePathTrie.add("/");
+        basePathTrie.add("/foo");
+        basePathTrie.add("/foo/bar");
+        basePathTrie.remove("/foo");
+        Assert.assertEquals(basePathTrie.match("/foo"), "/");
+        Assert.assertEquals(basePathTrie.match("/FOO"), "/");
+        Assert.assertEquals(basePathTrie.match("/foo/bar"), "/foo/bar");
+        basePathTrie.remove("/");
+        Assert.assertNull(basePathTrie.match("/foo"));
+        // removing a base path which is not registered leaves the others as they are
+        basePathTrie.remove("/foo/baz");
+        Assert.assertEquals(basePathTrie.match("/foo/bar"), "/foo/bar");
+    }
+}
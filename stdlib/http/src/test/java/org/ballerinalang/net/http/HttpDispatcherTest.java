@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaConnectorException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Test class for splitting and validating request targets in the HTTP dispatcher.
+ */
+public class HttpDispatcherTest {
+
+    @Test(description = "Test the start of the path of request targets in different forms")
+    public void testGetPathStart() {
+        Assert.assertEquals(HttpDispatcher.getPathStart("/hello/sayHello"), 0);
+        Assert.assertEquals(HttpDispatcher.getPathStart("http://localhost:9090/hello/sayHello"), 21);
+        Assert.assertEquals(HttpDispatcher.getPathStart("http://localhost:9090?name=ballerina"), 21);
+        Assert.assertEquals(HttpDispatcher.getPathStart("http://localhost:9090"), 21);
+        Assert.assertEquals(HttpDispatcher.getPathStart("*"), 1);
+        Assert.assertEquals(HttpDispatcher.getPathStart("localhost:9090"), 14);
+    }
+
+    @Test(description = "Test the end of the path of valid request targets")
+    public void testValidateRequestTarget() {
+        Assert.assertEquals(HttpDispatcher.validateRequestTarget("/hello"), 6);
+        Assert.assertEquals(HttpDispatcher.validateRequestTarget("/hello?name=ballerina"), 6);
+        Assert.assertEquals(HttpDispatcher.validateRequestTarget("/hello#greeting"), 6);
+        Assert.assertEquals(HttpDispatcher.validateRequestTarget("/hello%20world?name=a%20b"), 14);
+        Assert.assertEquals(HttpDispatcher.validateRequestTarget(""), 0);
+    }
+
+    @Test(description = "Test a truncated escape in the query",
+          expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "Malformed escape pair at index 12: /hello\\?name=%2")
+    public void testTruncatedEscape() {
+        HttpDispatcher.validateRequestTarget("/hello?name=%2");
+    }
+
+    @Test(description = "Test an escape with non hexadecimal digits in the path",
+          expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "Malformed escape pair at index 6: /hello%zz")
+    public void testNonHexEscape() {
+        HttpDispatcher.validateRequestTarget("/hello%zz");
+    }
+
+    @Test(description = "Test an illegal character in the path",
+          expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "Illegal character in path at index 4: /hel lo")
+    public void testIllegalCharacterInPath() {
+        HttpDispatcher.validateRequestTarget("/hel lo");
+    }
+
+    @Test(description = "Test an illegal character in the query",
+          expectedExceptions = BallerinaConnectorException.class,
+          expectedExceptionsMessageRegExp = "Illegal character in query at index 10: /hello\\?a=b\\|c")
+    public void testIllegalCharacterInQuery() {
+        HttpDispatcher.validateRequestTarget("/hello?a=b|c");
+    }
+
+    @Test(description = "Test decoding the query keeps '+' as it is")
+    public void testDecodeQuery() throws UnsupportedEncodingException {
+        Assert.assertNull(HttpDispatcher.decodeQuery(null));
+        Assert.assertEquals(HttpDispatcher.decodeQuery("name=a+b"), "name=a+b");
+        Assert.assertEquals(HttpDispatcher.decodeQuery("name=a%20b+c%2B"), "name=a b+c+");
+    }
+
+    @Test(description = "Test decoding a query with a malformed escape",
+          expectedExceptions = IllegalArgumentException.class)
+    public void testDecodeMalformedQuery() throws UnsupportedEncodingException {
+        HttpDispatcher.decodeQuery("name=%zz");
+    }
+}
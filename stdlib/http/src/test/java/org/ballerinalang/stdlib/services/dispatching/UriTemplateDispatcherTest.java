@@ -180,6 +180,21 @@ public class UriTemplateDispatcherTest {
                 , "RegID variable not set properly.");
     }
 
+    @Test(description = "Test dispatching a request target in absolute form. Ex: http://localhost:9090/products")
+    public void testAbsoluteFormRequestTargetDispatching() {
+        String path = "http://localhost:9090/ecommerceservice/products?prodID=PID123&regID=RID123";
+        HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, "GET");
+        HttpCarbonMessage response = Services.invoke(TEST_EP_PORT, cMsg);
+        Assert.assertNotNull(response, "Response message not found");
+        BValue bJson = JsonParser.parse(new HttpMessageDataStreamer(response).getInputStream());
+        Assert.assertEquals(((BMap<String, BValue>) bJson).get("Template").stringValue(), "T6"
+                , "Resource dispatched to wrong template");
+        Assert.assertEquals(((BMap<String, BValue>) bJson).get("ProductID").stringValue(), "PID123"
+                , "ProductID variable not set properly.");
+        Assert.assertEquals(((BMap<String, BValue>) bJson).get("RegID").stringValue(), "RID123"
+                , "RegID variable not set properly.");
+    }
+
 
     @DataProvider(name = "validUrl")
     public static Object[][] validUrl() {
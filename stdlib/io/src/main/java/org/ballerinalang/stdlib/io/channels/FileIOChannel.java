@@ -55,6 +55,16 @@ public class FileIOChannel extends Channel {
         }
     }
 
+    /**
+     * Calculates the remaining bytes from the size of the file and the current position.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRemainingBytes() throws IOException {
+        return Math.max(channel.size() - channel.position(), 0);
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
@@ -161,29 +161,13 @@ public class Buffer {
         }
     }
 
-    /**
-     * <p>
-     * Deep copies a byte buffer with it's underlying array.
-     * </p>
-     *
-     * @param srcBuffer the source buffer which should be copied.
-     * @return the buffer which is duplicated.
-     */
-    private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
-        srcBuffer.rewind();
-        dstBuffer.put(srcBuffer);
-        srcBuffer.rewind();
-        dstBuffer.flip();
-        return dstBuffer;
-    }
-
     /**
      * <p>
      * Retrieves the required content from the existing buffer.
      * </p>
      * <p>
-     * In this case it will not be required to do another channel call.
+     * In this case it will not be required to do another channel call. The returned buffer shares the content of
+     * the existing buffer, hence it should be consumed before the next read through this buffer.
      * </p>
      *
      * @param numberOfBytesRequested number of bytes required.
@@ -198,7 +182,7 @@ public class Buffer {
         capacity = slicedBuffer.capacity();
         int offset = slicedBuffer.arrayOffset();
         byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
+        return slicedBuffer;
     }
 
     /**
@@ -230,18 +214,15 @@ public class Buffer {
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
             return copyRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
+                //The remaining bytes are moved to the beginning of the current buffer without an intermediate copy
+                byteBuffer.compact();
             } else {
-                //In this case we re-allocate
+                //In this case we re-allocate and place the remaining bytes directly into the new buffer
                 byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+                if (null != remainingContent && remainingContent.hasRemaining()) {
+                    byteBuffer.put(remainingContent);
+                }
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
@@ -110,6 +110,16 @@ public abstract class Channel implements IOChannel {
         return byteChannel;
     }
 
+    /**
+     * Returns the number of bytes which are known to be left in the channel.
+     *
+     * @return the number of bytes left to be read, or -1 if it cannot be determined without reading.
+     * @throws IOException errors occur while determining the position of the channel.
+     */
+    public long getRemainingBytes() throws IOException {
+        return -1;
+    }
+
     /**
      * <p>
      * Async read bytes from the channel.
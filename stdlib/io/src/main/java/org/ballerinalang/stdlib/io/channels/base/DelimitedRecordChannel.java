@@ -23,7 +23,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -55,6 +58,22 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private StringBuilder persistentCharSequence;
 
+    /**
+     * Index of the first character in the persistentCharSequence which is not yet returned as part of a record. The
+     * characters before it are discarded only when more characters are read from the channel.
+     */
+    private int recordStart = 0;
+
+    /**
+     * Index up to which the current record has been scanned for its end, when reading CSV records.
+     */
+    private int scanIndex = 0;
+
+    /**
+     * State of the CSV scanner at the scanIndex.
+     */
+    private int scanState = FIELD_START;
+
     /**
      * A rough character count which will contain a record. This will be resized dynamically if the length of the
      * record is long.
@@ -92,7 +111,27 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * Precompiled separators, which are used when the records are not read as CSV.
+     */
+    private Pattern recordSeparatorPattern;
+    private Pattern fieldSeparatorPattern;
+    private Matcher recordSeparatorMatcher;
+
+    /**
+     * Minimum number of characters read from the channel at once.
+     */
+    private static final int MIN_READ_CHARACTER_COUNT = 8192;
+
+    // States of the CSV scanner
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED_FIELD = 1;
+    private static final int QUOTED_FIELD = 2;
+    private static final int QUOTE_IN_QUOTED_FIELD = 3;
+
+    private static final char CSV_QUOTE = '"';
+    private static final char CSV_FIELD_SEPARATOR = ',';
+    private static final char CSV_RECORD_SEPARATOR = '\n';
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
@@ -166,6 +205,31 @@ public class DelimitedRecordChannel implements IOChannel {
         return format.getWriteFieldSeparator();
     }
 
+    /**
+     * Specifies whether the records are read as RFC 4180 CSV, where quoted fields may contain field and record
+     * separators.
+     *
+     * @return true if the records are read as CSV.
+     */
+    private boolean isCsv() {
+        return format == Format.CSV;
+    }
+
+    private Matcher getRecordSeparatorMatcher() {
+        if (null == recordSeparatorMatcher) {
+            recordSeparatorPattern = Pattern.compile(getRecordSeparatorForReading());
+            recordSeparatorMatcher = recordSeparatorPattern.matcher(persistentCharSequence);
+        }
+        return recordSeparatorMatcher;
+    }
+
+    private Pattern getFieldSeparatorPattern() {
+        if (null == fieldSeparatorPattern) {
+            fieldSeparatorPattern = Pattern.compile(getFieldSeparatorForReading());
+        }
+        return fieldSeparatorPattern;
+    }
+
     /**
      * <p>
      * Gets record from specified sequence of characters.
@@ -175,38 +239,117 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException during I/O error.
      */
     private String readRecord() throws BallerinaIOException {
-        String record = null;
-        final int minimumRecordCount = 1;
-        final int numberOfSplits = 2;
-        do {
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
+        String record = nextRecord();
+        while (null == record) {
+            if (channel.hasReachedEnd()) {
+                return readFinalRecord();
             }
-            //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
-            if (delimitedRecord.length > minimumRecordCount) {
-                record = processIdentifiedRecord(delimitedRecord);
-                int recordCharacterLength = record.length();
-                if (recordCharacterLength > recordCharacterCount) {
-                    recordCharacterCount = record.length();
-                }
-            } else {
-                readRecordFromChannel();
-                if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
-                    record = (delimitedRecord.length == numberOfSplits) ?
-                            processIdentifiedRecord(delimitedRecord) :
-                            readFinalRecord();
+            readRecordFromChannel();
+            record = nextRecord();
+        }
+        if (record.length() > recordCharacterCount) {
+            recordCharacterCount = record.length();
+        }
+        if (log.isTraceEnabled()) {
+            log.trace(String.format("Record identified from remaining char[] in memory %s", record));
+        }
+        return record;
+    }
+
+    /**
+     * Identifies the next complete record in the characters read so far.
+     *
+     * @return the record, or null if the characters read so far do not contain a complete record.
+     */
+    private String nextRecord() {
+        return isCsv() ? nextCsvRecord() : nextDelimitedRecord();
+    }
+
+    /**
+     * Identifies the next record using the record separator, with the same semantics as splitting the remaining
+     * characters into two with {@link String#split(String, int)}.
+     */
+    private String nextDelimitedRecord() {
+        Matcher matcher = getRecordSeparatorMatcher();
+        matcher.reset();
+        matcher.region(recordStart, persistentCharSequence.length());
+        while (matcher.find()) {
+            // a zero-width match at the beginning does not produce an empty leading record
+            if (matcher.end() == recordStart) {
+                continue;
+            }
+            String record = persistentCharSequence.substring(recordStart, matcher.start());
+            consume(matcher.end());
+            return record;
+        }
+        return null;
+    }
+
+    /**
+     * Identifies the next CSV record, which ends with a line break outside a quoted field. The scan continues from
+     * where the previous call stopped, so each character is scanned once.
+     */
+    private String nextCsvRecord() {
+        int length = persistentCharSequence.length();
+        int state = scanState;
+        for (int i = scanIndex; i < length; i++) {
+            char ch = persistentCharSequence.charAt(i);
+            if (ch == CSV_RECORD_SEPARATOR && state != QUOTED_FIELD) {
+                int end = i;
+                if (end > recordStart && persistentCharSequence.charAt(end - 1) == '\r') {
+                    end--;
                 }
+                String record = persistentCharSequence.substring(recordStart, end);
+                consume(i + 1);
+                return record;
             }
-        } while (record == null && !channel.hasReachedEnd());
+            state = nextCsvState(state, ch);
+        }
+        scanIndex = length;
+        scanState = state;
+        return null;
+    }
 
-        if (null == record) {
-            record = readFinalRecord();
+    private static int nextCsvState(int state, char ch) {
+        switch (state) {
+            case QUOTED_FIELD:
+                return ch == CSV_QUOTE ? QUOTE_IN_QUOTED_FIELD : QUOTED_FIELD;
+            case QUOTE_IN_QUOTED_FIELD:
+                if (ch == CSV_QUOTE) {
+                    // escaped quote
+                    return QUOTED_FIELD;
+                }
+                return ch == CSV_FIELD_SEPARATOR ? FIELD_START : UNQUOTED_FIELD;
+            case FIELD_START:
+                if (ch == CSV_QUOTE) {
+                    return QUOTED_FIELD;
+                }
+                return ch == CSV_FIELD_SEPARATOR ? FIELD_START : UNQUOTED_FIELD;
+            default:
+                return ch == CSV_FIELD_SEPARATOR ? FIELD_START : UNQUOTED_FIELD;
+        }
+    }
+
+    /**
+     * Marks the characters up to the given index as read.
+     *
+     * @param index index of the first character of the next record.
+     */
+    private void consume(int index) {
+        recordStart = index;
+        scanIndex = index;
+        scanState = FIELD_START;
+    }
+
+    /**
+     * Discards the characters which are already returned as records.
+     */
+    private void discardConsumedCharacters() {
+        if (recordStart > 0) {
+            persistentCharSequence.delete(0, recordStart);
+            scanIndex -= recordStart;
+            recordStart = 0;
         }
-        return record;
     }
 
     /**
@@ -227,10 +370,11 @@ public class DelimitedRecordChannel implements IOChannel {
         //This means this will be the last record which could be get
         this.remaining = false;
         //If there're any remaining characters left we provide it as the last record
-        if (persistentCharSequence.length() > minimumRemainingLength) {
-            record = persistentCharSequence.toString();
+        if (persistentCharSequence.length() > recordStart) {
+            record = persistentCharSequence.substring(recordStart);
             //Once the final record is processed there will be no chars left
             persistentCharSequence.setLength(minimumRemainingLength);
+            consume(minimumRemainingLength);
             if (log.isTraceEnabled()) {
                 log.trace(String.format("char [] remaining in memory, will be marked as the last record %s", record));
             }
@@ -251,7 +395,8 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private String readRecordFromChannel() throws BallerinaIOException {
         String readCharacters;
-        readCharacters = channel.read(recordCharacterCount);
+        discardConsumedCharacters();
+        readCharacters = channel.read(Math.max(recordCharacterCount, MIN_READ_CHARACTER_COUNT));
         if (log.isTraceEnabled()) {
             log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
         }
@@ -264,57 +409,60 @@ public class DelimitedRecordChannel implements IOChannel {
 
     /**
      * <p>
-     * Identifies the record from the provided collection.
+     * Splits a CSV record into fields as specified in RFC 4180.
      * </p>
      * <p>
-     * <b>Note :</b> This operation would append the remaining content to the string.
+     * Quotes around a field are removed and escaped quotes within it are unescaped. Blank fields are returned as null
+     * and trailing blank fields are omitted, as when splitting the record with {@link Pattern#split(CharSequence)}.
      * </p>
      *
-     * @param delimitedRecords collection of records which required to be split.
-     * @return the record content value.
+     * @param record record which should be separated.
+     * @return the list of fields
      */
-    private String processIdentifiedRecord(String[] delimitedRecords) {
-        String record;
-        final int minimumRemainingLength = 0;
-        final int delimitedRecordIndex = 0;
-        final int delimitedRemainingIndex = 1;
-        String recordContent = delimitedRecords[delimitedRemainingIndex];
-        record = delimitedRecords[delimitedRecordIndex];
-        persistentCharSequence.setLength(minimumRemainingLength);
-        persistentCharSequence.append(recordContent);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("Record identified from remaining char[] in memory %s", record));
-            log.trace(String.format("The char[] left after split %s", persistentCharSequence));
+    private String[] getCsvFields(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int state = FIELD_START;
+        int length = record.length();
+        int fieldStart = 0;
+        int nonBlankFieldCount = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = record.charAt(i);
+            int nextState = nextCsvState(state, ch);
+            if (nextState == FIELD_START) {
+                nonBlankFieldCount = addCsvField(fields, field, i == fieldStart, nonBlankFieldCount);
+                fieldStart = i + 1;
+            } else if (state == UNQUOTED_FIELD || nextState == UNQUOTED_FIELD ||
+                    (state == QUOTED_FIELD && nextState == QUOTED_FIELD)) {
+                field.append(ch);
+            } else if (state == QUOTE_IN_QUOTED_FIELD && nextState == QUOTED_FIELD) {
+                field.append(CSV_QUOTE);
+            }
+            state = nextState;
         }
-        return record;
+        if (fields.isEmpty()) {
+            // the record does not contain a field separator
+            return new String[]{fieldStart == length ? null : field.toString()};
+        }
+        nonBlankFieldCount = addCsvField(fields, field, fieldStart == length, nonBlankFieldCount);
+        return fields.subList(0, nonBlankFieldCount).toArray(new String[0]);
     }
 
     /**
-     * <p>
-     * Split based on given regEx.
-     * </p>
-     * <p>
-     * This operation will produce null for blanks.
-     * </p>
+     * Adds the field content collected so far to the list of fields.
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
+     * @return the number of fields up to and including the last field which is not blank.
      */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = null;
-                continue;
-            }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
-            }
+    private static int addCsvField(List<String> fields, StringBuilder field, boolean blank,
+                                   int nonBlankFieldCount) {
+        if (blank) {
+            fields.add(null);
+        } else {
+            fields.add(field.toString());
+            nonBlankFieldCount = fields.size();
         }
-        return split;
+        field.setLength(0);
+        return nonBlankFieldCount;
     }
 
     /**
@@ -324,12 +472,18 @@ public class DelimitedRecordChannel implements IOChannel {
      * @return fields which are separated as records.
      */
     private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
+        if (isCsv()) {
+            return getCsvFields(record);
+        }
+        String[] fields = getFieldSeparatorPattern().split(record);
         if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].isEmpty()) {
+                    fields[i] = null;
+                }
+            }
         }
+        return fields;
     }
 
     /**
@@ -460,7 +614,7 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return persistentCharSequence.length() > recordStart;
     }
 
     /**
@@ -470,7 +624,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
-        if (remaining && persistentCharSequence.length() == 0) {
+        if (remaining && persistentCharSequence.length() == recordStart) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
             String readChars = readRecordFromChannel();
@@ -66,11 +66,17 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     public static Object read(ObjectValue channel, long nBytes) {
         int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
             try {
+                //When the remaining amount is known the array is sized to it, so the content is returned without
+                //copying it into a smaller array
+                long remainingBytes = byteChannel.getRemainingBytes();
+                if (remainingBytes > 0 && remainingBytes < arraySize) {
+                    arraySize = (int) remainingBytes;
+                }
+                ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
                 byteChannel.read(content);
                 return BValueCreator.createArrayValue(getContentData(content));
             } catch (Exception e) {
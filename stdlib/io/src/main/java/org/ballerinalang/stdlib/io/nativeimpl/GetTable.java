@@ -37,10 +37,7 @@ import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Extern function ballerina/io#loadToTable.
@@ -63,11 +60,7 @@ public class GetTable {
             if (delimitedChannel.hasReachedEnd()) {
                 return IOUtils.createEoFError();
             }
-            List<String[]> records = new ArrayList<>();
-            while (delimitedChannel.hasNext()) {
-                records.add(delimitedChannel.read());
-            }
-            return getTable(typedescValue, records);
+            return getTable(typedescValue, delimitedChannel);
         } catch (BallerinaIOException | BallerinaException e) {
             String msg = "failed to process the delimited file: " + e.getMessage();
             log.error(msg, e);
@@ -75,12 +68,14 @@ public class GetTable {
         }
     }
 
-    private static TableValue getTable(TypedescValue typedescValue, List<String[]> records) {
+    private static TableValue getTable(TypedescValue typedescValue, DelimitedRecordChannel delimitedChannel) {
         BType describingType = typedescValue.getDescribingType();
         TableValue table = (TableValue) BValueCreator.createTableValue(new BTableType(describingType), null, null);
         BStructureType structType = (BStructureType) describingType;
-        for (String[] fields : records) {
-            final MapValueImpl<String, Object> struct = getStruct(fields, structType);
+        BField[] structFields = structType.getFields().values().toArray(new BField[0]);
+        // each record is added to the table as it is read, rather than after reading the whole content
+        while (delimitedChannel.hasNext()) {
+            final MapValueImpl<String, Object> struct = getStruct(delimitedChannel.read(), structType, structFields);
             if (struct != null) {
                 table.addData(struct);
             }
@@ -88,15 +83,14 @@ public class GetTable {
         return table;
     }
 
-    private static MapValueImpl<String, Object> getStruct(String[] fields, final BStructureType structType) {
-        Map<String, BField> internalStructFields = structType.getFields();
-        int fieldLength = internalStructFields.size();
+    private static MapValueImpl<String, Object> getStruct(String[] fields, final BStructureType structType,
+                                                          BField[] structFields) {
+        int fieldLength = structFields.length;
         MapValueImpl<String, Object> struct = null;
         if (fields.length > 0) {
-            Iterator<Map.Entry<String, BField>> itr = internalStructFields.entrySet().iterator();
             struct = new MapValueImpl<>(structType);
             for (int i = 0; i < fieldLength; i++) {
-                final BField internalStructField = itr.next().getValue();
+                final BField internalStructField = structFields[i];
                 final int type = internalStructField.getFieldType().getTag();
                 String fieldName = internalStructField.getFieldName();
                 if (fields.length > i) {
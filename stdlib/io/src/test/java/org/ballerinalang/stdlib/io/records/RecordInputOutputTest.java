@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -103,6 +104,24 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Reads RFC 4180 records with escaped quotes and line breaks in quoted fields")
+    public void readRfc4180Records() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcEscaped.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"User1", "WSO2 \"Inc\"", "07xxxxxx"});
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"User2", "Multi\nline, address"});
+        Assert.assertTrue(recordChannel.hasNext());
+        Assert.assertEquals(recordChannel.read(), new String[]{"User3", null, "07xxxxxxx"});
+        Assert.assertFalse(recordChannel.hasNext());
+
+        recordChannel.close();
+    }
+
     @Test(description = "Read lengthy records")
     public void readLongRecord() throws IOException, URISyntaxException, BallerinaIOException {
         int expectedFieldCount = 18;
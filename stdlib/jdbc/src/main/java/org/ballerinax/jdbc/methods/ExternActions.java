@@ -17,6 +17,7 @@
  */
 package org.ballerinax.jdbc.methods;
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.MapValue;
@@ -44,7 +45,7 @@ public class ExternActions {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement batchUpdateStatement = new BatchUpdateStatement(client, datasource, sqlQuery,
                 rollbackAllInFailure, Scheduler.getStrand(), parameters);
-        return (MapValue<String, Object>) batchUpdateStatement.execute();
+        return (MapValue<String, Object>) BRuntime.runBlocking(batchUpdateStatement::execute);
     }
 
     public static Object nativeCall(ObjectValue client, String sqlQuery, Object recordType,
@@ -52,7 +53,7 @@ public class ExternActions {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement callStatement = new CallStatement(client, datasource, sqlQuery, (ArrayValue) recordType,
                 parameters, Scheduler.getStrand());
-        return callStatement.execute();
+        return BRuntime.runBlocking(callStatement::execute);
     }
 
     public static Object nativeSelect(ObjectValue client, String query, Object recordType,
@@ -60,13 +61,13 @@ public class ExternActions {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement selectStatement = new SelectStatement(client, sqlDatasource, query, parameters,
                 (TypedescValue) recordType, Scheduler.getStrand());
-        return selectStatement.execute();
+        return BRuntime.runBlocking(selectStatement::execute);
     }
 
     public static Object nativeUpdate(ObjectValue client, String query, ArrayValue parameters) {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
         SQLStatement updateStatement = new UpdateStatement(client, sqlDatasource, query, parameters,
                 Scheduler.getStrand());
-        return updateStatement.execute();
+        return BRuntime.runBlocking(updateStatement::execute);
     }
 }
@@ -55,10 +55,17 @@ import ballerinax/java;
 # + pollingIntervalInMillis - Polling interval for the consumer.
 # + concurrentConsumers - Number of concurrent consumers.
 # + defaultApiTimeoutInMillis - Default API timeout value for APIs with duration.
+# + maxInFlightBatches - Maximum number of polled batches of a partition which are being processed or waiting to be
+#       processed, before the partition is paused. Should be greater than zero. Used only when `dispatchPerPartition`
+#       is enabled.
 # + autoCommit - Enables auto committing offsets.
 # + checkCRCS - Check the CRC32 of the records consumed.
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer.
 # + decoupleProcessing - Decouples processing.
+# + dispatchPerPartition - Dispatches the records of each partition to the service concurrently, while processing
+#       the records of a single partition in order. Offsets of the processed records are committed by the listener,
+#       and a partition is consumed again from a batch whose processing failed. Hence, committing, seeking, pausing
+#       and resuming the consumer from the resources return an error.
 # + secureSocket - Configurations related to SSL/TLS.
 public type ConsumerConfig record {|
     string? bootstrapServers = ();
@@ -97,11 +104,13 @@ public type ConsumerConfig record {|
     int pollingIntervalInMillis = -1;
     int concurrentConsumers = -1;
     int defaultApiTimeoutInMillis = 30000;
+    int maxInFlightBatches = -1;
 
     boolean autoCommit = true;
     boolean checkCRCS = true;
     boolean excludeInternalTopics = true;
     boolean decoupleProcessing = false;
+    boolean dispatchPerPartition = false;
 
     SecureSocket secureSocket?;
 |};
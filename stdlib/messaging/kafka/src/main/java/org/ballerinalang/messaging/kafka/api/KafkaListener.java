@@ -20,7 +20,7 @@ package org.ballerinalang.messaging.kafka.api;
 
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.ballerinalang.messaging.kafka.impl.KafkaPollCycleFutureListener;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
 /**
  * This interface defines listener which can be registered, to retrieve Kafka records returned from single poll cycle.
@@ -41,13 +41,13 @@ public interface KafkaListener {
      *
      * @param records       Kafka records
      * @param kafkaConsumer consumer on which poll is called upon
-     * @param listener      which control the flow of poll cycle
+     * @param listener      which gets notified once the records are processed
      * @param groupID       ID of the consumer group in which the consumer belongs
      */
     void onRecordsReceived(ConsumerRecords records,
                            KafkaConsumer kafkaConsumer,
                            String groupID,
-                           KafkaPollCycleFutureListener listener);
+                           CallableUnitCallback listener);
 
     /**
      * If there are errors, Kafka connector will trigger this method.
@@ -70,7 +70,7 @@ public class KafkaListenerImpl implements KafkaListener {
     public void onRecordsReceived(ConsumerRecords records,
                                   KafkaConsumer kafkaConsumer,
                                   String groupID,
-                                  KafkaPollCycleFutureListener consumer) {
+                                  CallableUnitCallback consumer) {
         listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
         Executor.submit(this.scheduler, service, KAFKA_RESOURCE_ON_MESSAGE, consumer, null,
                 getResourceParameters(service, this.listener, records, groupID));
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.api.KafkaListener;
+import org.ballerinalang.messaging.kafka.utils.KafkaUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code KafkaPartitionDispatcher} dispatches the records of each partition to the Ballerina service concurrently,
+ * while the records of a single partition are processed one batch after the other.
+ * <p>
+ * Partitions which have {@code maxInFlightBatches} batches being processed or waiting to be processed are paused,
+ * and resumed once the service catches up. The offsets of the processed batches are committed asynchronously.
+ * If the processing of a batch fails, its offset is not committed and the partition is consumed again from the first
+ * record of that batch.
+ * <p>
+ * All the operations on the Kafka consumer are done in the polling thread, since Kafka consumer does not support
+ * multiple thread access. Hence the consumer operations which would change the offsets or the paused partitions are
+ * rejected when they are called from the resources, see {@link KafkaUtils#isDispatchedPerPartition}.
+ */
+public class KafkaPartitionDispatcher implements ConsumerRebalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaPartitionDispatcher.class);
+
+    private final KafkaListener kafkaListener;
+    private final KafkaConsumer<byte[], byte[]> kafkaConsumer;
+    private final String groupId;
+    private final String serviceId;
+    private final int maxInFlightBatches;
+    private final Map<TopicPartition, PartitionQueue> partitionQueues = new ConcurrentHashMap<>();
+    // Offsets of the processed records which are not committed yet. Updated by the strands processing the records.
+    private final Map<TopicPartition, OffsetAndMetadata> completedOffsets = new ConcurrentHashMap<>();
+    // Accessed only by the polling thread.
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+
+    public KafkaPartitionDispatcher(KafkaListener kafkaListener,
+                                    KafkaConsumer<byte[], byte[]> kafkaConsumer,
+                                    String groupId,
+                                    String serviceId,
+                                    int maxInFlightBatches) {
+        this.kafkaListener = kafkaListener;
+        this.kafkaConsumer = kafkaConsumer;
+        this.groupId = groupId;
+        this.serviceId = serviceId;
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    /**
+     * Splits the polled records by partition and hands each partition's records over to its queue. Partitions
+     * which reached the maximum number of in-flight batches are paused.
+     *
+     * @param records records returned from the poll cycle
+     */
+    public void dispatch(ConsumerRecords<byte[], byte[]> records) {
+        for (TopicPartition partition : records.partitions()) {
+            PartitionQueue queue = partitionQueues.computeIfAbsent(partition, PartitionQueue::new);
+            // A partition assigned back while its previous batch is still being processed keeps its queue, so that
+            // the new batches are processed after the in-flight one.
+            queue.assign();
+            int inFlightBatches = queue.enqueue(records.records(partition));
+            if (inFlightBatches >= maxInFlightBatches && pausedPartitions.add(partition)) {
+                kafkaConsumer.pause(Collections.singleton(partition));
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Partition " + partition + " of Kafka service " + serviceId + " is paused with "
+                            + inFlightBatches + " batches in flight.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Commits the offsets of the records processed since the previous poll cycle, rewinds the partitions of the
+     * failed batches and resumes the paused partitions which have caught up. Queues of the revoked partitions are
+     * dropped once their in-flight batch is processed. This should be called from the polling thread before each poll.
+     */
+    public void commitAndResume() {
+        partitionQueues.values().removeIf(PartitionQueue::isRevokedAndIdle);
+        Map<TopicPartition, OffsetAndMetadata> offsets = drainCompletedOffsets(completedOffsets.keySet());
+        if (!offsets.isEmpty()) {
+            kafkaConsumer.commitAsync(offsets, (committedOffsets, exception) -> {
+                if (exception != null) {
+                    kafkaListener.onError(exception);
+                }
+            });
+        }
+        for (PartitionQueue queue : partitionQueues.values()) {
+            long offset = queue.takeSeekOffset();
+            if (offset >= 0) {
+                kafkaConsumer.seek(queue.partition, offset);
+            }
+        }
+        Iterator<TopicPartition> iterator = pausedPartitions.iterator();
+        while (iterator.hasNext()) {
+            TopicPartition partition = iterator.next();
+            PartitionQueue queue = partitionQueues.get(partition);
+            if (queue == null || queue.inFlightBatches() < maxInFlightBatches) {
+                kafkaConsumer.resume(Collections.singleton(partition));
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Commits the processed offsets of the revoked partitions and drops their pending batches, as those records
+     * will be delivered to the new owner of the partition. The queue of a revoked partition is kept until its
+     * in-flight batch is processed, in case the partition is assigned back in the meantime.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            PartitionQueue queue = partitionQueues.get(partition);
+            if (queue != null) {
+                queue.revoke();
+            }
+        }
+        pausedPartitions.removeAll(partitions);
+        Map<TopicPartition, OffsetAndMetadata> offsets = drainCompletedOffsets(partitions);
+        if (!offsets.isEmpty()) {
+            kafkaConsumer.commitSync(offsets);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        // Queues of the assigned partitions are created once records are received for them.
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> drainCompletedOffsets(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = completedOffsets.remove(partition);
+            if (offset != null) {
+                offsets.put(partition, offset);
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Holds the batches of a single partition, making sure only one of them is processed at a time.
+     */
+    private class PartitionQueue {
+
+        private final TopicPartition partition;
+        private final Deque<List<ConsumerRecord<byte[], byte[]>>> pendingBatches = new ArrayDeque<>();
+        private boolean processing = false;
+        private boolean revoked = false;
+        // Incremented on each revocation and failure, so that the dropped batches do not commit their offsets.
+        private int generation = 0;
+        // Offset of the first record of a failed batch, which the partition should be rewound to. -1 if none.
+        private long seekOffset = -1;
+
+        PartitionQueue(TopicPartition partition) {
+            this.partition = partition;
+        }
+
+        /**
+         * Adds a batch to the queue and starts processing it if the partition is idle. Batches polled before the
+         * partition is rewound after a failure are dropped, as they will be polled again.
+         *
+         * @param batch records of the partition returned from a poll cycle
+         * @return number of batches being processed or waiting to be processed
+         */
+        int enqueue(List<ConsumerRecord<byte[], byte[]>> batch) {
+            int inFlightBatches;
+            boolean dispatchNow;
+            int batchGeneration;
+            synchronized (this) {
+                if (seekOffset >= 0) {
+                    return 0;
+                }
+                dispatchNow = !processing;
+                if (dispatchNow) {
+                    processing = true;
+                } else {
+                    pendingBatches.add(batch);
+                }
+                inFlightBatches = pendingBatches.size() + 1;
+                batchGeneration = generation;
+            }
+            if (dispatchNow) {
+                process(batch, batchGeneration);
+            }
+            return inFlightBatches;
+        }
+
+        synchronized int inFlightBatches() {
+            return processing ? pendingBatches.size() + 1 : 0;
+        }
+
+        synchronized void assign() {
+            revoked = false;
+        }
+
+        synchronized void revoke() {
+            revoked = true;
+            generation++;
+            // the new owner of the partition consumes it from the last committed offset
+            seekOffset = -1;
+            pendingBatches.clear();
+        }
+
+        synchronized long takeSeekOffset() {
+            long offset = seekOffset;
+            seekOffset = -1;
+            return offset;
+        }
+
+        synchronized boolean isRevokedAndIdle() {
+            return revoked && !processing;
+        }
+
+        private void process(List<ConsumerRecord<byte[], byte[]>> batch, int batchGeneration) {
+            ConsumerRecords<byte[], byte[]> records =
+                    new ConsumerRecords<>(Collections.singletonMap(partition, batch));
+            kafkaListener.onRecordsReceived(records, kafkaConsumer, groupId,
+                    new BatchCompletionListener(batch, batchGeneration));
+        }
+
+        private void onBatchProcessed(List<ConsumerRecord<byte[], byte[]>> batch, int batchGeneration,
+                                      boolean succeeded) {
+            List<ConsumerRecord<byte[], byte[]>> nextBatch;
+            int nextGeneration;
+            synchronized (this) {
+                if (batchGeneration == generation) {
+                    if (succeeded) {
+                        long lastOffset = batch.get(batch.size() - 1).offset();
+                        completedOffsets.put(partition, new OffsetAndMetadata(lastOffset + 1));
+                    } else {
+                        // The offset of the failed batch is never committed. The partition is rewound to it by the
+                        // polling thread, and the batches polled after it are dropped to be polled again.
+                        seekOffset = batch.get(0).offset();
+                        generation++;
+                        pendingBatches.clear();
+                    }
+                }
+                nextBatch = pendingBatches.poll();
+                if (nextBatch == null) {
+                    processing = false;
+                }
+                nextGeneration = generation;
+            }
+            if (nextBatch != null) {
+                process(nextBatch, nextGeneration);
+            }
+        }
+
+        /**
+         * Gets notified from the Ballerina engine once a batch of this partition is processed.
+         */
+        private class BatchCompletionListener implements CallableUnitCallback {
+
+            private final List<ConsumerRecord<byte[], byte[]>> batch;
+            private final int batchGeneration;
+
+            BatchCompletionListener(List<ConsumerRecord<byte[], byte[]>> batch, int batchGeneration) {
+                this.batch = batch;
+                this.batchGeneration = batchGeneration;
+            }
+
+            @Override
+            public void notifySuccess() {
+                onBatchProcessed(batch, batchGeneration, true);
+            }
+
+            @Override
+            public void notifyFailure(ErrorValue error) {
+                logger.error("Ballerina engine has completed resource invocation with exception for service "
+                        + serviceId + " on partition " + partition + ". " + error.stringValue());
+                onBatchProcessed(batch, batchGeneration, false);
+            }
+        }
+    }
+}
@@ -55,12 +55,15 @@ public class KafkaRecordConsumer {
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
     private boolean decoupleProcessing = true;
+    private boolean dispatchPerPartition = false;
+    private int maxInFlightBatches = 2;
     private String groupId;
     private KafkaListener kafkaListener;
     private String serviceId;
     private int consumerId;
     private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
     private ScheduledFuture pollTaskFuture;
+    private KafkaPartitionDispatcher partitionDispatcher;
 
     public KafkaRecordConsumer(KafkaListener kafkaListener,
                                Properties configParams,
@@ -69,6 +72,9 @@ public class KafkaRecordConsumer {
                                KafkaConsumer<byte[], byte[]> kafkaConsumer) {
         this.serviceId = serviceId;
         this.consumerId = consumerId;
+        if (configParams.get(KafkaConstants.ALIAS_DISPATCH_PER_PARTITION) != null) {
+            this.dispatchPerPartition = (Boolean) configParams.get(KafkaConstants.ALIAS_DISPATCH_PER_PARTITION);
+        }
         // Initialize Kafka Consumer.
         if (Objects.isNull(kafkaConsumer)) {
             this.kafkaConsumer = new KafkaConsumer<>(configParams);
@@ -76,9 +82,20 @@ public class KafkaRecordConsumer {
             this.kafkaConsumer = kafkaConsumer;
         }
         List<String> topics = (ArrayList<String>) configParams.get(KafkaConstants.ALIAS_TOPICS);
-        // Subscribe Kafka Consumer to given topics.
-        this.kafkaConsumer.subscribe(topics);
         this.kafkaListener = kafkaListener;
+        this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
+        if (this.dispatchPerPartition) {
+            if (configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES) != null) {
+                this.maxInFlightBatches = (Integer) configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES);
+            }
+            this.partitionDispatcher = new KafkaPartitionDispatcher(kafkaListener, this.kafkaConsumer, this.groupId,
+                    serviceId, this.maxInFlightBatches);
+            // Subscribe Kafka Consumer to given topics, committing processed offsets of the revoked partitions.
+            this.kafkaConsumer.subscribe(topics, this.partitionDispatcher);
+        } else {
+            // Subscribe Kafka Consumer to given topics.
+            this.kafkaConsumer.subscribe(topics);
+        }
         if (configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT) != null) {
             this.pollingTimeout = Duration.ofMillis((Integer) configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT));
         }
@@ -92,7 +109,6 @@ public class KafkaRecordConsumer {
         if (configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING) != null) {
             this.decoupleProcessing = (Boolean) configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING);
         }
-        this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
     }
 
     private void poll() {
@@ -101,6 +117,9 @@ public class KafkaRecordConsumer {
             try {
                 // Make thread-safe as kafka does not support multiple thread access
                 if (!closed.get()) {
+                    if (this.dispatchPerPartition) {
+                        this.partitionDispatcher.commitAndResume();
+                    }
                     recordsRetrieved = this.kafkaConsumer.poll(this.pollingTimeout);
                 }
             } catch (WakeupException e) {
@@ -127,7 +146,11 @@ public class KafkaRecordConsumer {
             // When decoupleProcessing == 'true' Kafka records set will be dispatched and processed in
             // Parallel threads.
             // Otherwise dispatching and processing will have single threaded semantics.
-            if (this.decoupleProcessing) {
+            // When dispatchPerPartition == 'true' records of different partitions are processed in parallel, while
+            // records of a partition are processed in order without blocking the poll cycle.
+            if (this.dispatchPerPartition) {
+                this.partitionDispatcher.dispatch(consumerRecords);
+            } else if (this.decoupleProcessing) {
                 this.kafkaListener.onRecordsReceived(consumerRecords, kafkaConsumer, groupId);
             } else {
                 Semaphore sem = new Semaphore(0);
@@ -57,6 +57,11 @@ public class KafkaServerConnectorImpl implements KafkaServerConnector {
             throw new KafkaConnectorException("Number of Concurrent consumers should be a positive " +
                     "integer value greater than zero.");
         }
+        if (configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES) != null &&
+                (Integer) configParams.get(KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES) <= 0) {
+            throw new KafkaConnectorException("Maximum number of in-flight batches should be a positive " +
+                    "integer value greater than zero.");
+        }
         this.configParams = configParams;
         this.kafkaConsumer = kafkaConsumer;
     }
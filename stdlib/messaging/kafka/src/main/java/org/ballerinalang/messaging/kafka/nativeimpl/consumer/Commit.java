@@ -25,6 +25,8 @@ import org.ballerinalang.jvm.values.ObjectValue;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createPerPartitionDispatchError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isDispatchedPerPartition;
 
 /**
  * Native function commits a given consumer offsets to offset topic.
@@ -32,6 +34,9 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaErro
 public class Commit {
 
     public static Object commit(ObjectValue consumerObject) {
+        if (isDispatchedPerPartition(consumerObject)) {
+            return createPerPartitionDispatchError("commit offsets");
+        }
         KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         try {
             kafkaConsumer.commitSync();
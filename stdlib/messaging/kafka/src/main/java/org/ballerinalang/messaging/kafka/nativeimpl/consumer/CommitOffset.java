@@ -37,9 +37,11 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.DURATION_UN
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createPerPartitionDispatchError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getDefaultApiTimeout;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntFromLong;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getPartitionToMetadataMap;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isDispatchedPerPartition;
 
 /**
  * Native function commits given offsets of consumer to offset topic.
@@ -49,6 +51,9 @@ public class CommitOffset {
     private static final Logger logger = LoggerFactory.getLogger(Close.class);
 
     public static Object commitOffset(ObjectValue consumerObject, ArrayValue offsets, long duration) {
+        if (isDispatchedPerPartition(consumerObject)) {
+            return createPerPartitionDispatchError("commit the offset");
+        }
         KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
 
         Properties consumerProperties = (Properties) consumerObject.getNativeData(NATIVE_CONSUMER_CONFIG);
@@ -31,7 +31,9 @@ import java.util.ArrayList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createPerPartitionDispatchError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isDispatchedPerPartition;
 
 /**
  * Native function resumes given paused partitions to continue receiving messages.
@@ -41,6 +43,9 @@ public class Resume {
     private static final Logger logger = LoggerFactory.getLogger(Resume.class);
 
     public static Object resume(ObjectValue consumerObject, ArrayValue topicPartitions) {
+        if (isDispatchedPerPartition(consumerObject)) {
+            return createPerPartitionDispatchError("resume topic partitions for the consumer");
+        }
         KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
 
@@ -28,7 +28,9 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSE
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createPerPartitionDispatchError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createTopicPartitionFromPartitionOffset;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isDispatchedPerPartition;
 
 /**
  * Native function seeks given consumer to given offset reside in partition.
@@ -36,6 +38,9 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createTopicPart
 public class Seek {
 
     public static Object seek(ObjectValue consumerObject, MapValue<String, Object> partitionOffset) {
+        if (isDispatchedPerPartition(consumerObject)) {
+            return createPerPartitionDispatchError("seek the consumer");
+        }
         KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         TopicPartition topicPartition = createTopicPartitionFromPartitionOffset(partitionOffset);
         Long offset = partitionOffset.getIntValue(ALIAS_OFFSET);
@@ -31,7 +31,9 @@ import java.util.ArrayList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createPerPartitionDispatchError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isDispatchedPerPartition;
 
 /**
  * Native function seeks given partitions to the beginning offset.
@@ -41,6 +43,9 @@ public class SeekToBeginning {
     private static final Logger logger = LoggerFactory.getLogger(SeekToBeginning.class);
 
     public static Object seekToBeginning(ObjectValue consumerObject, ArrayValue topicPartitions) {
+        if (isDispatchedPerPartition(consumerObject)) {
+            return createPerPartitionDispatchError("seek the consumer to the beginning");
+        }
         KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
         try {
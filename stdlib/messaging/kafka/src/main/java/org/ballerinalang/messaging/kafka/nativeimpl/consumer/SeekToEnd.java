@@ -32,7 +32,9 @@ import java.util.ArrayList;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createPerPartitionDispatchError;
 import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getTopicPartitionList;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.isDispatchedPerPartition;
 
 /**
  * Native function seeks given partitions to the end offset.
@@ -42,6 +44,9 @@ public class SeekToEnd {
     private static final Logger logger = LoggerFactory.getLogger(SeekToEnd.class);
 
     public static Object seekToEnd(ObjectValue consumerObject, ArrayValue topicPartitions) {
+        if (isDispatchedPerPartition(consumerObject)) {
+            return createPerPartitionDispatchError("seek the consumer to the end");
+        }
         KafkaConsumer<byte[], byte[]> kafkaConsumer = (KafkaConsumer) consumerObject.getNativeData(NATIVE_CONSUMER);
         ArrayList<TopicPartition> partitionList = getTopicPartitionList(topicPartitions, logger);
         try {
@@ -33,9 +33,11 @@ import org.ballerinalang.messaging.kafka.utils.KafkaUtils;
 import java.util.Objects;
 import java.util.Properties;
 
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DISPATCH_PER_PARTITION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_CONFIG_FIELD_NAME;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.CONSUMER_ERROR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_CONSUMER;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_DISPATCH_PER_PARTITION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.SERVER_CONNECTOR;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.UNCHECKED;
 
@@ -60,6 +62,10 @@ public class Register {
             KafkaServerConnector serverConnector = new KafkaServerConnectorImpl(serviceId, configs, kafkaListener,
                     kafkaConsumer);
             listener.addNativeData(SERVER_CONNECTOR, serverConnector);
+            if (Boolean.TRUE.equals(configs.get(ALIAS_DISPATCH_PER_PARTITION))) {
+                // The consumer passed to the resources is used by the polling thread while they are running.
+                listener.addNativeData(NATIVE_DISPATCH_PER_PARTITION, true);
+            }
         } catch (KafkaConnectorException e) {
             return KafkaUtils.createKafkaError(e.getMessage(), CONSUMER_ERROR);
         }
@@ -54,6 +54,7 @@ public class KafkaConstants {
     public static final String NATIVE_PRODUCER = "KafkaProducer";
     public static final String NATIVE_PRODUCER_CONFIG = "KafkaProducerConfig";
     public static final String NATIVE_CONSUMER_CONFIG = "KafkaConsumerConfig";
+    public static final String NATIVE_DISPATCH_PER_PARTITION = "KafkaDispatchPerPartition";
     public static final String CONNECTOR_ID = "connectorId";
 
     public static final String TRANSACTION_CONTEXT = "TransactionInitiated";
@@ -89,6 +90,8 @@ public class KafkaConstants {
     public static final String ALIAS_POLLING_TIMEOUT = "pollingTimeoutInMillis";
     public static final String ALIAS_POLLING_INTERVAL = "pollingIntervalInMillis";
     public static final String ALIAS_DECOUPLE_PROCESSING = "decoupleProcessing";
+    public static final String ALIAS_DISPATCH_PER_PARTITION = "dispatchPerPartition";
+    public static final String ALIAS_MAX_IN_FLIGHT_BATCHES = "maxInFlightBatches";
     public static final String ALIAS_TOPIC = "topic";
     public static final String ALIAS_PARTITION = "partition";
     public static final String ALIAS_OFFSET = "offset";
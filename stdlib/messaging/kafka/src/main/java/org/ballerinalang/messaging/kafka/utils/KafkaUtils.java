@@ -48,6 +48,8 @@ import java.util.Properties;
 import static org.ballerinalang.jvm.BallerinaValues.createRecord;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_CONCURRENT_CONSUMERS;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DECOUPLE_PROCESSING;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_DISPATCH_PER_PARTITION;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_MAX_IN_FLIGHT_BATCHES;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_OFFSET;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_POLLING_INTERVAL;
@@ -101,6 +103,7 @@ import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KEYMANAGER_
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KEYSTORE_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KEYSTORE_TYPE_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.LOCATION_CONFIG;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_DISPATCH_PER_PARTITION;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_PRODUCER;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_PRODUCER_CONFIG;
 import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.OFFSET_STRUCT_NAME;
@@ -273,6 +276,7 @@ public class KafkaUtils {
         addIntParamIfPresent(ALIAS_POLLING_TIMEOUT, configurations, properties, ALIAS_POLLING_TIMEOUT);
         addIntParamIfPresent(ALIAS_POLLING_INTERVAL, configurations, properties, ALIAS_POLLING_INTERVAL);
         addIntParamIfPresent(ALIAS_CONCURRENT_CONSUMERS, configurations, properties, ALIAS_CONCURRENT_CONSUMERS);
+        addIntParamIfPresent(ALIAS_MAX_IN_FLIGHT_BATCHES, configurations, properties, ALIAS_MAX_IN_FLIGHT_BATCHES);
 
         addBooleanParamIfPresent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, configurations, properties,
                 CONSUMER_ENABLE_AUTO_COMMIT_CONFIG, true);
@@ -283,6 +287,12 @@ public class KafkaUtils {
 
         addBooleanParamIfPresent(ALIAS_DECOUPLE_PROCESSING, configurations, properties,
                 ALIAS_DECOUPLE_PROCESSING, false);
+        addBooleanParamIfPresent(ALIAS_DISPATCH_PER_PARTITION, configurations, properties,
+                ALIAS_DISPATCH_PER_PARTITION, false);
+        if (Boolean.TRUE.equals(properties.get(ALIAS_DISPATCH_PER_PARTITION))) {
+            // Offsets are committed once the records of a partition are processed, hence auto commit is disabled.
+            properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        }
         if (Objects.nonNull(configurations.get(SECURE_SOCKET))) {
             processSSLProperties(configurations, properties);
         }
@@ -545,6 +555,23 @@ public class KafkaUtils {
         return createKafkaRecord(TOPIC_PARTITION_STRUCT_NAME);
     }
 
+    /**
+     * Checks whether the records of the given consumer are dispatched to a service per partition. The Kafka consumer
+     * of such a listener is used by its polling thread while the resources are running, and the polling thread
+     * manages the committed offsets and the paused partitions of the consumer.
+     *
+     * @param consumerObject consumer object
+     * @return true if the listener dispatches the records per partition
+     */
+    public static boolean isDispatchedPerPartition(ObjectValue consumerObject) {
+        return Boolean.TRUE.equals(consumerObject.getNativeData(NATIVE_DISPATCH_PER_PARTITION));
+    }
+
+    public static ErrorValue createPerPartitionDispatchError(String operation) {
+        return createKafkaError("Failed to " + operation + ": offsets and partitions of a consumer which dispatches "
+                + "records per partition are managed by the listener", CONSUMER_ERROR);
+    }
+
     public static ErrorValue createKafkaError(String message) {
         return createKafkaError(message, CONSUMER_ERROR);
     }
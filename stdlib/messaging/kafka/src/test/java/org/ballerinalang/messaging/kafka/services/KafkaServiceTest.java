@@ -20,6 +20,11 @@ package org.ballerinalang.messaging.kafka.services;
 
 import io.debezium.kafka.KafkaCluster;
 import io.debezium.util.Testing;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
@@ -34,6 +39,7 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
@@ -113,6 +119,94 @@ public class KafkaServiceTest {
         }
     }
 
+    @Test(description = "Test endpoint bind to a service dispatching records per partition")
+    public void testKafkaServicePartitionDispatch() {
+        String topic = "partition-dispatch-test";
+        kafkaCluster.createTopic(topic, 3, 1);
+        compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(Paths.get(TEST_SRC, TEST_SERVICES, "kafka_service_partition_dispatch.bal")));
+        produceToKafkaCluster(kafkaCluster, topic, "test_string");
+
+        try {
+            await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> {
+                BValue[] returnBValues = BRunUtil.invoke(compileResult, "funcKafkaGetResult");
+                Assert.assertEquals(returnBValues.length, 1);
+                Assert.assertTrue(returnBValues[0] instanceof BInteger);
+                return (((BInteger) returnBValues[0]).intValue() == 10);
+            });
+        } catch (Throwable e) {
+            Assert.fail(e.getMessage());
+        }
+        BValue[] returnBValues = BRunUtil.invoke(compileResult, "funcKafkaIsInOrder");
+        Assert.assertTrue(((BBoolean) returnBValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test offsets are committed only after the records of a partition are processed")
+    public void testKafkaServicePartitionDispatchCommit() throws InterruptedException {
+        String topic = "partition-dispatch-commit-test";
+        TopicPartition partition = new TopicPartition(topic, 0);
+        kafkaCluster.createTopic(topic, 1, 1);
+        compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(Paths.get(TEST_SRC, TEST_SERVICES, "kafka_service_partition_dispatch_commit.bal")));
+        produceToKafkaCluster(kafkaCluster, topic, "test_string");
+
+        try (KafkaConsumer<byte[], byte[]> offsetReader = createOffsetReader("partition-dispatch-commit-test-group")) {
+            // The service holds on to the records, hence nothing should be committed even though auto commit runs
+            // every 100 milliseconds.
+            Thread.sleep(3000);
+            BValue[] processedCount = BRunUtil.invoke(compileResult, "funcKafkaGetResult");
+            Assert.assertEquals(((BInteger) processedCount[0]).intValue(), 0);
+            Assert.assertNull(offsetReader.committed(partition));
+
+            BRunUtil.invoke(compileResult, "funcKafkaRelease");
+            try {
+                await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> {
+                    BValue[] returnBValues = BRunUtil.invoke(compileResult, "funcKafkaGetResult");
+                    OffsetAndMetadata committed = offsetReader.committed(partition);
+                    return ((BInteger) returnBValues[0]).intValue() == 10 && committed != null &&
+                            committed.offset() == 10;
+                });
+            } catch (Throwable e) {
+                Assert.fail(e.getMessage());
+            }
+        }
+    }
+
+    @Test(description = "Test records of a failed batch are consumed again and consumer commits are rejected")
+    public void testKafkaServicePartitionDispatchFailure() {
+        String topic = "partition-dispatch-failure-test";
+        TopicPartition partition = new TopicPartition(topic, 0);
+        kafkaCluster.createTopic(topic, 1, 1);
+        compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(Paths.get(TEST_SRC, TEST_SERVICES, "kafka_service_partition_dispatch_failure.bal")));
+        produceToKafkaCluster(kafkaCluster, topic, "test_string");
+
+        try (KafkaConsumer<byte[], byte[]> offsetReader = createOffsetReader("partition-dispatch-failure-test-group")) {
+            try {
+                // The first batch fails, hence all 10 records are processed only if it is consumed again.
+                await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> {
+                    BValue[] returnBValues = BRunUtil.invoke(compileResult, "funcKafkaGetResult");
+                    OffsetAndMetadata committed = offsetReader.committed(partition);
+                    return ((BInteger) returnBValues[0]).intValue() == 10 && committed != null &&
+                            committed.offset() == 10;
+                });
+            } catch (Throwable e) {
+                Assert.fail(e.getMessage());
+            }
+        }
+        BValue[] returnBValues = BRunUtil.invoke(compileResult, "funcKafkaIsCommitRejected");
+        Assert.assertTrue(((BBoolean) returnBValues[0]).booleanValue());
+    }
+
+    private static KafkaConsumer<byte[], byte[]> createOffsetReader(String groupId) {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:14110");
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new KafkaConsumer<>(properties);
+    }
+
     @AfterClass
     public void tearDown() {
         if (kafkaCluster != null) {
@@ -0,0 +1,64 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/kafka;
+import ballerina/runtime;
+
+string topic = "partition-dispatch-commit-test";
+
+kafka:ConsumerConfig consumerConfigs = {
+    bootstrapServers: "localhost:14110",
+    groupId: "partition-dispatch-commit-test-group",
+    clientId: "partition-dispatch-commit-consumer",
+    offsetReset: "earliest",
+    topics: [topic],
+    autoCommitIntervalInMillis: 100,
+    dispatchPerPartition: true
+};
+
+listener kafka:Consumer kafkaConsumer = new(consumerConfigs);
+
+int count = 0;
+boolean released = false;
+
+service kafkaTestService on kafkaConsumer {
+    resource function onMessage(kafka:Consumer consumer, kafka:ConsumerRecord[] records) {
+        while (!isReleased()) {
+            runtime:sleep(100);
+        }
+        lock {
+            count += records.length();
+        }
+    }
+}
+
+function isReleased() returns boolean {
+    boolean result = false;
+    lock {
+        result = released;
+    }
+    return result;
+}
+
+public function funcKafkaRelease() {
+    lock {
+        released = true;
+    }
+}
+
+public function funcKafkaGetResult() returns int {
+    return count;
+}
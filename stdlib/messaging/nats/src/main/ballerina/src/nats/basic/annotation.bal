@@ -20,10 +20,14 @@
 # + queueName - Name of the queue group.
 # + pendingLimits - Parameters to set limits on the maximum number of pending messages,
 #                               or maximum size of pending messages.
+# + maxConcurrency - Maximum number of messages dispatched to the resource functions concurrently. Messages are
+#                    processed in the order they are received only when this is 1, which is the default. Messages
+#                    which arrive while the limit is reached are held as pending messages.
 public type SubscriptionConfigData record {|
     string subject;
     string queueName?;
     PendingLimits pendingLimits?;
+    int maxConcurrency = 1;
 |};
 
 # Parameters to set limits on the maximum number of messages, or maximum size of messages this consumer will
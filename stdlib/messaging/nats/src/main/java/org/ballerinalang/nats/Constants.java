@@ -115,6 +115,7 @@ public class Constants {
     public static final String PENDING_LIMITS = "pendingLimits";
     public static final String MAX_MESSAGES = "maxMessages";
     public static final String MAX_BYTES = "maxBytes";
+    public static final String MAX_CONCURRENCY = "maxConcurrency";
 
     private Constants() {
     }
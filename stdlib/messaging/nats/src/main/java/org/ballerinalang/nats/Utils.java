@@ -21,9 +21,9 @@ package org.ballerinalang.nats;
 import io.nats.client.Message;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.BallerinaValues;
-import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.JSONUtils;
 import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.UTF8JSONParser;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.types.AttachedFunction;
 import org.ballerinalang.jvm.types.BRecordType;
@@ -68,7 +68,7 @@ public class Utils {
                 break;
             case TypeTags.JSON_TAG:
                 try {
-                    dispatchedData = JSONParser.parse(new String(data, StandardCharsets.UTF_8));
+                    dispatchedData = UTF8JSONParser.parse(data, 0, data.length);
                 } catch (BallerinaException e) {
                     throw createNatsError("Error occurred in converting message content to json: " +
                             e.getMessage());
@@ -93,8 +93,8 @@ public class Utils {
                 dispatchedData = XMLFactory.parse(new String(data, StandardCharsets.UTF_8));
                 break;
             case TypeTags.RECORD_TYPE_TAG:
-                dispatchedData = JSONUtils.convertJSONToRecord(JSONParser.parse(new String(data,
-                                StandardCharsets.UTF_8)), (BRecordType) intendedType);
+                dispatchedData = JSONUtils.convertJSONToRecord(UTF8JSONParser.parse(data, 0, data.length),
+                                                               (BRecordType) intendedType);
                 break;
             default:
                 throw Utils.createNatsError("Unable to find a supported data type to bind the message data");
@@ -33,7 +33,7 @@ import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 import org.ballerinalang.nats.Constants;
 import org.ballerinalang.nats.Utils;
 
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
 import static org.ballerinalang.nats.Constants.ON_MESSAGE_RESOURCE;
 import static org.ballerinalang.nats.Utils.bindDataToIntendedType;
@@ -41,6 +41,10 @@ import static org.ballerinalang.nats.Utils.getAttachedFunction;
 
 /**
  * Handles incoming message for a given subscription.
+ * <p>
+ * Messages are dispatched to the resource functions asynchronously. The number of messages being processed at a
+ * time is limited by the maximum concurrency of the subscription. Once the limit is reached the dispatcher thread
+ * waits, letting the messages accumulate within the pending limits of the subscription.
  *
  * @since 1.0.0
  */
@@ -49,10 +53,13 @@ public class DefaultMessageHandler implements MessageHandler {
     // Resource which the message should be dispatched.
     private ObjectValue serviceObject;
     private BRuntime runtime;
+    // Permits for the messages which can be processed concurrently.
+    private Semaphore inFlightPermits;
 
-    DefaultMessageHandler(ObjectValue serviceObject, BRuntime runtime) {
+    DefaultMessageHandler(ObjectValue serviceObject, BRuntime runtime, int maxConcurrency) {
         this.serviceObject = serviceObject;
         this.runtime = runtime;
+        this.inFlightPermits = new Semaphore(maxConcurrency);
     }
 
     /**
@@ -60,18 +67,29 @@ public class DefaultMessageHandler implements MessageHandler {
      */
     @Override
     public void onMessage(Message message) {
-        ArrayValue msgData = new ArrayValueImpl(message.getData());
-        ObjectValue msgObj = BallerinaValues.createObjectValue(Constants.NATS_PACKAGE_ID,
-                Constants.NATS_MESSAGE_OBJ_NAME, message.getSubject(), msgData, message.getReplyTo());
-        AttachedFunction onMessage = getAttachedFunction(serviceObject, ON_MESSAGE_RESOURCE);
-        BType[] parameterTypes = onMessage.getParameterType();
-        if (parameterTypes.length == 1) {
-            dispatch(msgObj);
-        } else {
-            BType intendedTypeForData = parameterTypes[1];
-            dispatchWithDataBinding(msgObj, intendedTypeForData, message.getData());
+        try {
+            inFlightPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR);
+        }
+        try {
+            ArrayValue msgData = new ArrayValueImpl(message.getData());
+            ObjectValue msgObj = BallerinaValues.createObjectValue(Constants.NATS_PACKAGE_ID,
+                    Constants.NATS_MESSAGE_OBJ_NAME, message.getSubject(), msgData, message.getReplyTo());
+            AttachedFunction onMessage = getAttachedFunction(serviceObject, ON_MESSAGE_RESOURCE);
+            BType[] parameterTypes = onMessage.getParameterType();
+            if (parameterTypes.length == 1) {
+                dispatch(msgObj);
+            } else {
+                BType intendedTypeForData = parameterTypes[1];
+                dispatchWithDataBinding(msgObj, intendedTypeForData, message.getData());
+            }
+        } catch (RuntimeException e) {
+            // No callback has been scheduled for the message, hence the permit has to be released here.
+            inFlightPermits.release();
+            throw e;
         }
-
     }
 
     /**
@@ -80,15 +98,8 @@ public class DefaultMessageHandler implements MessageHandler {
      * @param msgObj Message object
      */
     private void dispatch(ObjectValue msgObj) {
-        CountDownLatch countDownLatch = new CountDownLatch(1);
         runtime.invokeMethodAsync(serviceObject, ON_MESSAGE_RESOURCE,
-                new ResponseCallback(countDownLatch), msgObj, Boolean.TRUE);
-        try {
-            countDownLatch.await();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR);
-        }
+                new ResponseCallback(inFlightPermits), msgObj, Boolean.TRUE);
     }
 
     /**
@@ -99,32 +110,36 @@ public class DefaultMessageHandler implements MessageHandler {
      * @param data         Message data
      */
     private void dispatchWithDataBinding(ObjectValue msgObj, BType intendedType, byte[] data) {
+        Object typeBoundData;
         try {
-            Object typeBoundData = bindDataToIntendedType(data, intendedType);
-            CountDownLatch countDownLatch = new CountDownLatch(1);
-            runtime.invokeMethodAsync(serviceObject, ON_MESSAGE_RESOURCE, new ResponseCallback(countDownLatch),
-                    msgObj, true, typeBoundData, true);
-            countDownLatch.await();
+            typeBoundData = bindDataToIntendedType(data, intendedType);
         } catch (NumberFormatException e) {
             ErrorValue dataBindError = Utils
                     .createNatsError("The received message is unsupported by the resource signature");
-            ErrorHandler.dispatchError(serviceObject, msgObj, dataBindError, runtime);
+            ErrorHandler.dispatchError(serviceObject, msgObj, dataBindError, runtime, inFlightPermits);
+            return;
         } catch (ErrorValue e) {
-            ErrorHandler.dispatchError(serviceObject, msgObj, e, runtime);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR);
+            ErrorHandler.dispatchError(serviceObject, msgObj, e, runtime, inFlightPermits);
+            return;
+        } catch (RuntimeException e) {
+            ErrorValue dataBindError = Utils
+                    .createNatsError("Error occurred in data binding the received message: " + e.getMessage());
+            ErrorHandler.dispatchError(serviceObject, msgObj, dataBindError, runtime, inFlightPermits);
+            return;
         }
+        runtime.invokeMethodAsync(serviceObject, ON_MESSAGE_RESOURCE, new ResponseCallback(inFlightPermits),
+                msgObj, true, typeBoundData, true);
     }
 
     /**
-     * Represents the callback which will be triggered upon submitting to resource.
+     * Represents the callback which will be triggered upon submitting to resource. Releases the permit acquired for
+     * the message once the resource completes.
      */
     public static class ResponseCallback implements CallableUnitCallback {
-        private CountDownLatch countDownLatch;
+        private Semaphore inFlightPermits;
 
-        ResponseCallback(CountDownLatch countDownLatch) {
-            this.countDownLatch = countDownLatch;
+        ResponseCallback(Semaphore inFlightPermits) {
+            this.inFlightPermits = inFlightPermits;
         }
 
         /**
@@ -132,7 +147,7 @@ public class DefaultMessageHandler implements MessageHandler {
          */
         @Override
         public void notifySuccess() {
-            countDownLatch.countDown();
+            inFlightPermits.release();
         }
 
         /**
@@ -141,7 +156,7 @@ public class DefaultMessageHandler implements MessageHandler {
         @Override
         public void notifyFailure(ErrorValue error) {
             ErrorHandlerUtils.printError(error);
-            countDownLatch.countDown();
+            inFlightPermits.release();
         }
     }
 }
@@ -21,11 +21,9 @@ package org.ballerinalang.nats.basic.consumer;
 import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.ObjectValue;
-import org.ballerinalang.nats.Constants;
-import org.ballerinalang.nats.Utils;
 
 import java.util.Arrays;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
 import static org.ballerinalang.nats.Constants.ON_ERROR_RESOURCE;
 
@@ -39,23 +37,21 @@ public class ErrorHandler {
     /**
      * Dispatch errors to the onError resource, if the onError resource is available.
      *
-     * @param serviceObject ObjectValue service
-     * @param msgObj        Message object
-     * @param e             ErrorValue
+     * @param serviceObject   ObjectValue service
+     * @param msgObj          Message object
+     * @param e               ErrorValue
+     * @param runtime         Ballerina runtime
+     * @param inFlightPermits Permits of the subscription, released once the error is handled
      */
-    static void dispatchError(ObjectValue serviceObject, ObjectValue msgObj, ErrorValue e, BRuntime runtime) {
+    static void dispatchError(ObjectValue serviceObject, ObjectValue msgObj, ErrorValue e, BRuntime runtime,
+                              Semaphore inFlightPermits) {
         boolean onErrorResourcePresent = Arrays.stream(serviceObject.getType().getAttachedFunctions())
                 .anyMatch(resource -> resource.getName().equals(ON_ERROR_RESOURCE));
         if (onErrorResourcePresent) {
-            CountDownLatch countDownLatch = new CountDownLatch(1);
             runtime.invokeMethodAsync(serviceObject, ON_ERROR_RESOURCE,
-                    new DefaultMessageHandler.ResponseCallback(countDownLatch), msgObj, true, e, true);
-            try {
-                countDownLatch.await();
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw Utils.createNatsError(Constants.THREAD_INTERRUPTED_ERROR);
-            }
+                    new DefaultMessageHandler.ResponseCallback(inFlightPermits), msgObj, true, e, true);
+        } else {
+            inFlightPermits.release();
         }
     }
 
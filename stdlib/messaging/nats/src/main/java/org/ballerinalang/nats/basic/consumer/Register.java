@@ -58,7 +58,13 @@ public class Register {
         String queueName = subscriptionConfig.getStringValue(Constants.QUEUE_NAME);
         String subject = subscriptionConfig.getStringValue(Constants.SUBJECT);
         BRuntime runtime = BRuntime.getCurrentRuntime();
-        Dispatcher dispatcher = natsConnection.createDispatcher(new DefaultMessageHandler(service, runtime));
+        int maxConcurrency = Math.toIntExact(subscriptionConfig.getIntValue(Constants.MAX_CONCURRENCY));
+        if (maxConcurrency < 1) {
+            return BallerinaErrors.createError(Constants.NATS_ERROR_CODE,
+                    errorMessage + " Maximum concurrency should be a positive integer.");
+        }
+        Dispatcher dispatcher = natsConnection.createDispatcher(new DefaultMessageHandler(service, runtime,
+                maxConcurrency));
         // Add dispatcher. This is needed when closing the connection.
         @SuppressWarnings("unchecked")
         ConcurrentHashMap<String, Dispatcher> dispatcherList = (ConcurrentHashMap<String, Dispatcher>)
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.nats.basic.consumer;
+
+import io.nats.client.Connection;
+import io.nats.client.Message;
+import io.nats.client.Subscription;
+import org.ballerinalang.jvm.BRuntime;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests dispatching messages through the NATS message handler.
+ */
+public class DefaultMessageHandlerTest {
+    private static final Path BASIC_TEST_SRC_PATH = Paths.get("src", "test", "resources", "test-src", "basic");
+    private static CountDownLatch processedLatch;
+
+    @Test(description = "Test whether a message is dispatched after a message which fails data binding")
+    public void testDispatchAfterMalformedMessage() {
+        CompileResult compileResult = BCompileUtil.compile(
+                BASIC_TEST_SRC_PATH.resolve("nats_dispatch_failure.bal").toAbsolutePath().toString());
+        BValue[] result = BRunUtil.invoke(compileResult, "testDispatchAfterMalformedMessage");
+        Assert.assertTrue(((BBoolean) result[0]).booleanValue(), "Messages were not dispatched in time");
+        result = BRunUtil.invoke(compileResult, "getErrorCount");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 1);
+        result = BRunUtil.invoke(compileResult, "getReceivedCount");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 1);
+    }
+
+    /**
+     * Dispatches a malformed message followed by a valid one from a separate thread, as the NATS dispatcher does.
+     * Only a single message is allowed in flight, so the valid message is dispatched only if the permit of the
+     * malformed message is released.
+     *
+     * @param serviceObject service to dispatch the messages to
+     * @return true if both messages were processed
+     */
+    public static boolean dispatchMessages(ObjectValue serviceObject) {
+        DefaultMessageHandler messageHandler = new DefaultMessageHandler(serviceObject,
+                BRuntime.getCurrentRuntime(), 1);
+        processedLatch = new CountDownLatch(2);
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        try {
+            dispatcher.submit(() -> messageHandler.onMessage(new TestMessage("{\"id\": 1, \"name\": ")));
+            dispatcher.submit(() -> messageHandler.onMessage(new TestMessage("{\"id\": 2, \"name\": \"nats\"}")));
+            return processedLatch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    public static void markProcessed() {
+        processedLatch.countDown();
+    }
+
+    private static class TestMessage implements Message {
+        private final byte[] data;
+
+        TestMessage(String data) {
+            this.data = data.getBytes(StandardCharsets.UTF_8);
+        }
+
+        public String getSubject() {
+            return "dispatch-test";
+        }
+
+        public String getReplyTo() {
+            return null;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public Subscription getSubscription() {
+            return null;
+        }
+
+        public String getSID() {
+            return null;
+        }
+
+        public Connection getConnection() {
+            return null;
+        }
+    }
+}
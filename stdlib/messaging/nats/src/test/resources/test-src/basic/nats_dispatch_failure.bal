@@ -0,0 +1,58 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/nats;
+import ballerinax/java;
+
+type Entry record {|
+    int id;
+    string name;
+|};
+
+int receivedCount = 0;
+int errorCount = 0;
+
+service entryService = service {
+    resource function onMessage(nats:Message message, Entry data) {
+        receivedCount = receivedCount + 1;
+        markProcessed();
+    }
+
+    resource function onError(nats:Message message, error errorVal) {
+        errorCount = errorCount + 1;
+        markProcessed();
+    }
+};
+
+function testDispatchAfterMalformedMessage() returns boolean {
+    return dispatchMessages(entryService);
+}
+
+function getReceivedCount() returns int {
+    return receivedCount;
+}
+
+function getErrorCount() returns int {
+    return errorCount;
+}
+
+function dispatchMessages(service serviceObject) returns boolean = @java:Method {
+    class: "org.ballerinalang.nats.basic.consumer.DefaultMessageHandlerTest"
+} external;
+
+function markProcessed() = @java:Method {
+    class: "org.ballerinalang.nats.basic.consumer.DefaultMessageHandlerTest"
+} external;
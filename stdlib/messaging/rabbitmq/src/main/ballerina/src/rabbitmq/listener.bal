@@ -98,11 +98,14 @@ public type Listener object {
 # + prefetchCount - Maximum number of messages that the server will deliver, 0 if unlimited.
 #                      Unless explicitly given, this value is 10 by default.
 # + prefetchSize - Maximum amount of content (measured in octets) that the server will deliver, 0 if unlimited.
+# + maxConcurrency - Maximum number of messages dispatched to the resource functions concurrently. Messages are
+#                    processed in the order they are delivered only when this is 1, which is the default.
 public type RabbitMQServiceConfig record {|
     QueueConfiguration queueConfig;
     AcknowledgementMode ackMode = AUTO_ACK;
     int prefetchCount?;
     int prefetchSize?;
+    int maxConcurrency = 1;
 |};
 
 # Service descriptor data generated at compile time.
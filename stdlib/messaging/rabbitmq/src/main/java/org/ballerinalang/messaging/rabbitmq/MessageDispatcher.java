@@ -25,8 +25,8 @@ import com.rabbitmq.client.DefaultConsumer;
 import com.rabbitmq.client.Envelope;
 import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
-import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.JSONUtils;
+import org.ballerinalang.jvm.UTF8JSONParser;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.AttachedFunction;
@@ -46,10 +46,14 @@ import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
 /**
  * Handles and dispatched messages with data binding.
+ * <p>
+ * Messages are dispatched to the resource functions asynchronously. The number of messages being processed at a
+ * time is limited by the maximum concurrency of the service. Once the limit is reached the consumer thread waits,
+ * so the server stops delivering when the prefetch count of unacknowledged messages is reached.
  *
  * @since 0.995
  */
@@ -61,6 +65,8 @@ public class MessageDispatcher {
     private ObjectValue service;
     private String queueName;
     private BRuntime runtime;
+    // Permits for the messages which can be processed concurrently.
+    private Semaphore inFlightPermits;
 
     public MessageDispatcher(ObjectValue service, Channel channel, boolean autoAck, BRuntime runtime) {
         this.channel = channel;
@@ -69,6 +75,7 @@ public class MessageDispatcher {
         this.queueName = getQueueNameFromConfig(service);
         this.consumerTag = service.getType().getName();
         this.runtime = runtime;
+        this.inFlightPermits = new Semaphore(getMaxConcurrencyFromConfig(service));
     }
 
     private String getQueueNameFromConfig(ObjectValue service) {
@@ -80,6 +87,16 @@ public class MessageDispatcher {
         return queueConfig.getStringValue(RabbitMQConstants.QUEUE_NAME);
     }
 
+    private int getMaxConcurrencyFromConfig(ObjectValue service) {
+        MapValue serviceConfig = (MapValue) service.getType().getAnnotation(RabbitMQConstants.PACKAGE_RABBITMQ,
+                RabbitMQConstants.SERVICE_CONFIG);
+        long maxConcurrency = serviceConfig.getIntValue(RabbitMQConstants.ALIAS_MAX_CONCURRENCY);
+        if (maxConcurrency < 1 || maxConcurrency > Integer.MAX_VALUE) {
+            throw RabbitMQUtils.returnErrorValue("Maximum concurrency should be a positive integer");
+        }
+        return (int) maxConcurrency;
+    }
+
     /**
      * Start receiving messages and dispatch the messages to the attached service.
      *
@@ -93,7 +110,19 @@ public class MessageDispatcher {
                                        Envelope envelope,
                                        AMQP.BasicProperties properties,
                                        byte[] body) {
-                handleDispatch(body, envelope.getDeliveryTag(), properties);
+                try {
+                    inFlightPermits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RabbitMQConnectorException(RabbitMQConstants.THREAD_INTERRUPTED);
+                }
+                try {
+                    handleDispatch(body, envelope.getDeliveryTag(), properties);
+                } catch (RuntimeException e) {
+                    // No callback has been scheduled for the message, hence the permit has to be released here.
+                    inFlightPermits.release();
+                    throw e;
+                }
             }
         };
         try {
@@ -116,6 +145,7 @@ public class MessageDispatcher {
         } else if (RabbitMQConstants.FUNC_ON_MESSAGE.equals(attachedFunctions[1].getName())) {
             onMessageFunction = attachedFunctions[1];
         } else {
+            inFlightPermits.release();
             return;
         }
         BType[] paramTypes = onMessageFunction.paramTypes;
@@ -128,15 +158,10 @@ public class MessageDispatcher {
     }
 
     private void dispatchMessage(byte[] message, long deliveryTag, AMQP.BasicProperties properties) {
-        CountDownLatch countDownLatch = new CountDownLatch(1);
         try {
             runtime.invokeMethodAsync(service, RabbitMQConstants.FUNC_ON_MESSAGE,
-                    new RabbitMQResourceCallback(countDownLatch),
+                    new RabbitMQResourceCallback(inFlightPermits),
                     getMessageObjectValue(message, deliveryTag, properties), true);
-            countDownLatch.await();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RabbitMQConnectorException(RabbitMQConstants.THREAD_INTERRUPTED);
         } catch (AlreadyClosedException | BallerinaConnectorException exception) {
             handleError(message, deliveryTag, properties);
         }
@@ -145,18 +170,19 @@ public class MessageDispatcher {
     private void dispatchMessageWithDataBinding(byte[] message, long deliveryTag, AttachedFunction onMessage,
                                                 AMQP.BasicProperties properties) {
         BType[] paramTypes = onMessage.paramTypes;
+        Object forContent;
+        try {
+            forContent = getMessageContentForType(message, paramTypes[1]);
+        } catch (UnsupportedEncodingException | RuntimeException exception) {
+            handleError(message, deliveryTag, properties);
+            return;
+        }
         try {
-            Object forContent = getMessageContentForType(message, paramTypes[1]);
             ObjectValue messageObjectValue = getMessageObjectValue(message, deliveryTag, properties);
-            CountDownLatch countDownLatch = new CountDownLatch(1);
             runtime.invokeMethodAsync(service, RabbitMQConstants.FUNC_ON_MESSAGE,
-                    new RabbitMQResourceCallback(countDownLatch), messageObjectValue, true, forContent, true);
-            countDownLatch.await();
-        } catch (BallerinaConnectorException | UnsupportedEncodingException exception) {
+                    new RabbitMQResourceCallback(inFlightPermits), messageObjectValue, true, forContent, true);
+        } catch (AlreadyClosedException | BallerinaConnectorException exception) {
             handleError(message, deliveryTag, properties);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RabbitMQConnectorException(RabbitMQConstants.THREAD_INTERRUPTED);
         }
     }
 
@@ -166,7 +192,7 @@ public class MessageDispatcher {
             case TypeTags.STRING_TAG:
                 return new String(message, StandardCharsets.UTF_8.name());
             case TypeTags.JSON_TAG:
-                return JSONParser.parse(new String(message, StandardCharsets.UTF_8.name()));
+                return UTF8JSONParser.parse(message, 0, message.length);
             case TypeTags.XML_TAG:
                 return XMLFactory.parse(new String(message, StandardCharsets.UTF_8.name()));
             case TypeTags.FLOAT_TAG:
@@ -174,8 +200,8 @@ public class MessageDispatcher {
             case TypeTags.INT_TAG:
                 return Integer.parseInt(new String(message, StandardCharsets.UTF_8.name()));
             case TypeTags.RECORD_TYPE_TAG:
-                return JSONUtils.convertJSONToRecord(JSONParser.parse(new String(message,
-                        StandardCharsets.UTF_8.name())), (BStructureType) dataType);
+                return JSONUtils.convertJSONToRecord(UTF8JSONParser.parse(message, 0, message.length),
+                                                     (BStructureType) dataType);
             case TypeTags.ARRAY_TAG:
                 if (((BArrayType) dataType).getElementType().getTag() == TypeTags.BYTE_TAG) {
                     return message;
@@ -219,15 +245,11 @@ public class MessageDispatcher {
     private void handleError(byte[] message, long deliveryTag, AMQP.BasicProperties properties) {
         ErrorValue error = RabbitMQUtils.returnErrorValue(RabbitMQConstants.DISPATCH_ERROR);
         ObjectValue messageObjectValue = getMessageObjectValue(message, deliveryTag, properties);
-        CountDownLatch countDownLatch = new CountDownLatch(1);
         try {
             runtime.invokeMethodAsync(service, RabbitMQConstants.FUNC_ON_ERROR,
-                    new RabbitMQResourceCallback(countDownLatch), messageObjectValue, true, error, true);
-            countDownLatch.await();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RabbitMQConnectorException(RabbitMQConstants.THREAD_INTERRUPTED);
+                    new RabbitMQResourceCallback(inFlightPermits), messageObjectValue, true, error, true);
         } catch (AlreadyClosedException | BallerinaConnectorException exception) {
+            // The permit is released by the consumer once this propagates.
             throw new RabbitMQConnectorException("Error occurred in RabbitMQ service. ");
         }
     }
@@ -100,6 +100,7 @@ public class RabbitMQConstants {
     public static final String ALIAS_ACK_MODE = "ackMode";
     public static final String ALIAS_PREFETCH_COUNT = "prefetchCount";
     public static final String ALIAS_PREFETCH_SIZE = "prefetchSize";
+    public static final String ALIAS_MAX_CONCURRENCY = "maxConcurrency";
     public static final String AUTO_ACKMODE = "auto";
     public static final String CLIENT_ACKMODE = "client";
     public static final int DEFAULT_PREFETCH = 10;
@@ -22,28 +22,29 @@ import org.ballerinalang.jvm.services.ErrorHandlerUtils;
 import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 
 /**
- * The resource call back implementation for RabbitMQ async consumer.
+ * The resource call back implementation for RabbitMQ async consumer. Releases the permit acquired for the message
+ * once the resource completes.
  *
  * @since 0.995.0
  */
 public class RabbitMQResourceCallback implements CallableUnitCallback {
-    private CountDownLatch countDownLatch;
+    private Semaphore inFlightPermits;
 
-    RabbitMQResourceCallback(CountDownLatch countDownLatch) {
-        this.countDownLatch = countDownLatch;
+    RabbitMQResourceCallback(Semaphore inFlightPermits) {
+        this.inFlightPermits = inFlightPermits;
     }
 
     @Override
     public void notifySuccess() {
-        countDownLatch.countDown();
+        inFlightPermits.release();
     }
 
     @Override
     public void notifyFailure(ErrorValue error) {
-        countDownLatch.countDown();
+        inFlightPermits.release();
         ErrorHandlerUtils.printError("RabbitMQ Error: " + error.getPrintableStackTrace());
     }
 }
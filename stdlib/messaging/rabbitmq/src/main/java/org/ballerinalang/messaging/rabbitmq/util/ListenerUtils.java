@@ -93,14 +93,11 @@ public class ListenerUtils {
                 MapValue serviceConfig =
                         (MapValue) service.getType().getAnnotation(RabbitMQConstants.PACKAGE_RABBITMQ,
                                 RabbitMQConstants.SERVICE_CONFIG);
-                @SuppressWarnings(RabbitMQConstants.UNCHECKED)
-                MapValue<String, Object> queueConfig =
-                        (MapValue<String, Object>) serviceConfig.getMapValue(RabbitMQConstants.ALIAS_QUEUE_CONFIG);
                 autoAck = getAckMode(service);
                 boolean isQosSet = channelObject.getNativeData(RabbitMQConstants.QOS_STATUS) != null;
                 if (!isQosSet) {
                     try {
-                        handleBasicQos(channel, queueConfig);
+                        handleBasicQos(channel, serviceConfig);
                     } catch (RabbitMQConnectorException exception) {
                         return RabbitMQUtils.returnErrorValue("Error occurred while setting the QoS settings."
                                 + exception.getDetail());
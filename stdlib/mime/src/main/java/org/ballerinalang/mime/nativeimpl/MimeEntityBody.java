@@ -28,6 +28,7 @@ import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.OverflowOutputStream;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
@@ -35,8 +36,7 @@ import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Locale;
 
 import static org.ballerinalang.mime.nativeimpl.AbstractGetPayloadHandler.getErrorMsg;
@@ -101,25 +101,35 @@ public class MimeEntityBody {
     }
 
     public static Object getBodyPartsAsChannel(ObjectValue entityObj) {
+        OverflowOutputStream outputStream = null;
         try {
             String contentType = getContentTypeWithParameters(entityObj);
             if (isMultipart(contentType)) {
                 String boundaryValue = HeaderUtil.extractBoundaryParameter(contentType);
                 String multipartDataBoundary = boundaryValue != null ? boundaryValue : getNewMultipartDelimiter();
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                //Serialized parts are kept in memory up to the threshold and moved to a temporary file beyond it
+                outputStream = new OverflowOutputStream(MimeUtil.getMemoryThreshold());
                 MultipartDataSource multipartDataSource = new MultipartDataSource(entityObj, multipartDataBoundary);
                 multipartDataSource.serialize(outputStream);
-                EntityBodyChannel entityBodyChannel = new EntityBodyChannel(new ByteArrayInputStream(
-                        outputStream.toByteArray()));
                 MimeUtil.closeOutputStream(outputStream);
                 ObjectValue byteChannelObj = BallerinaValues.createObjectValue(IOConstants.IO_PACKAGE_ID,
                                                                                READABLE_BYTE_CHANNEL_STRUCT);
-                byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, new EntityWrapper(entityBodyChannel));
+                Channel byteChannel = outputStream.getChannel();
+                //From here on the temporary file is deleted once the channel is closed
+                outputStream = null;
+                byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, byteChannel);
                 return byteChannelObj;
             } else {
                 return MimeUtil.createError(PARSING_ENTITY_BODY_FAILED, "Entity doesn't contain body parts");
             }
         } catch (Throwable err) {
+            if (outputStream != null) {
+                try {
+                    outputStream.discard();
+                } catch (IOException e) {
+                    log.error("Error occurred while discarding the serialized body parts", e);
+                }
+            }
             log.error("Error occurred while constructing a byte channel out of body parts", err);
             return MimeUtil.createError(PARSING_ENTITY_BODY_FAILED, "Error occurred while constructing a byte " +
                     "channel out of body parts : " + getErrorMsg(err));
@@ -23,6 +23,7 @@ import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.JSONParser;
 import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.UTF8JSONParser;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BObjectType;
@@ -43,6 +44,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -58,6 +60,7 @@ import static org.ballerinalang.mime.util.MimeConstants.CHARSET;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_PRESIZED_CONTENT_LENGTH;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
@@ -156,7 +159,13 @@ public class EntityBodyHandler {
             return new ArrayValueImpl(new byte[0]);
         }
         try {
-            return constructBlobDataSource(byteChannel.getInputStream());
+            long expectedLength = byteChannel.getRemainingBytes();
+            if (expectedLength < 0) {
+                //The content-length header is only a hint, hence the array allocated up front is bounded and it
+                //grows beyond that as the content is read
+                expectedLength = Math.min(getContentLength(entityObj), MAX_PRESIZED_CONTENT_LENGTH);
+            }
+            return constructBlobDataSource(byteChannel.getInputStream(), expectedLength);
         } finally {
             closeByteChannel(byteChannel);
         }
@@ -169,15 +178,38 @@ public class EntityBodyHandler {
      * @return Data source for binary data which is kept in memory
      */
     public static ArrayValue constructBlobDataSource(InputStream inputStream) {
+        return constructBlobDataSource(inputStream, -1);
+    }
+
+    /**
+     * Construct BlobDataSource from the given input stream, reading it straight into an array of the expected size.
+     *
+     * @param inputStream    Represent the input stream
+     * @param expectedLength Number of bytes expected in the stream, or a negative value if it is not known
+     * @return Data source for binary data which is kept in memory
+     */
+    public static ArrayValue constructBlobDataSource(InputStream inputStream, long expectedLength) {
         byte[] byteData;
         try {
-            byteData = MimeUtil.getByteArray(inputStream);
+            byteData = MimeUtil.getByteArray(inputStream, expectedLength);
         } catch (IOException ex) {
             throw BallerinaErrors.createError("Error occurred while reading input stream :" + ex.getMessage());
         }
         return new ArrayValueImpl(byteData);
     }
 
+    private static long getContentLength(ObjectValue entityObj) {
+        String contentLength = HeaderUtil.getHeaderValue(entityObj, HttpHeaderNames.CONTENT_LENGTH.toString());
+        if (isNotNullAndEmpty(contentLength)) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                log.debug("Invalid content-length header value " + contentLength);
+            }
+        }
+        return -1;
+    }
+
     /**
      * Construct JsonDataSource from the underneath byte channel which is associated with the entity object.
      *
@@ -206,19 +238,40 @@ public class EntityBodyHandler {
      * @return BJSON data source which is kept in memory
      */
     public static Object constructJsonDataSource(ObjectValue entity, InputStream inputStream) {
-        Object jsonData;
+        String charsetName = getCharset(entity);
+        // UTF-8 content is parsed from the bytes, without decoding it to characters
+        return isUTF8(charsetName) ? UTF8JSONParser.parse(inputStream) : JSONParser.parse(inputStream, charsetName);
+    }
+
+    /**
+     * Check whether the text content of the given entity is UTF-8 encoded. The default charset is assumed when the
+     * content type does not specify a charset.
+     *
+     * @param entity Represent an entity object
+     * @return true if the content is UTF-8 encoded
+     */
+    public static boolean isUTF8Encoded(ObjectValue entity) {
+        return isUTF8(getCharset(entity));
+    }
+
+    private static String getCharset(ObjectValue entity) {
         String contentTypeValue = HeaderUtil.getHeaderValue(entity, HttpHeaderNames.CONTENT_TYPE.toString());
         if (isNotNullAndEmpty(contentTypeValue)) {
             String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
             if (isNotNullAndEmpty(charsetValue)) {
-                jsonData = JSONParser.parse(inputStream, charsetValue);
-            } else {
-                jsonData = JSONParser.parse(inputStream);
+                return charsetValue;
             }
-        } else {
-            jsonData = JSONParser.parse(inputStream);
         }
-        return jsonData;
+        return Charset.defaultCharset().name();
+    }
+
+    private static boolean isUTF8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // unknown charsets are reported by the JSON parser
+            return false;
+        }
     }
 
     /**
@@ -153,7 +153,10 @@ public class MimeConstants {
 
     public static final short ONE_BYTE = 1;
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
+    public static final int MAX_PRESIZED_CONTENT_LENGTH = 4194304; //4MB
     public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
+    public static final long MAX_MEMORY_THRESHOLD = Integer.MAX_VALUE - 8; //largest array a JVM can allocate
+    public static final String MEMORY_THRESHOLD_CONFIG = "b7a.mime.memory.threshold";
 
     public static final String UTF_8 = "UTF-8";
     public static final String CONTENT_TRANSFER_ENCODING_7_BIT = "7bit";
@@ -20,6 +20,7 @@ package org.ballerinalang.mime.util;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.util.internal.PlatformDependent;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.TypeChecker;
@@ -41,6 +42,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 import javax.activation.MimeType;
@@ -62,8 +64,11 @@ import static org.ballerinalang.mime.util.MimeConstants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.MimeConstants.FORM_DATA_PARAM;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_LENGTH;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_MEMORY_THRESHOLD;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.MEMORY_THRESHOLD_CONFIG;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_FORM_DATA;
 import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
@@ -384,6 +389,62 @@ public class MimeUtil {
         }
     }
 
+    /**
+     * Given an input stream and the number of bytes it is expected to contain, get a byte array. When the expected
+     * length is known the content is read straight into an array of that size, without an intermediate buffer.
+     *
+     * @param input          Represent an input stream
+     * @param expectedLength Number of bytes expected in the stream, or a negative value if it is not known
+     * @return A byte array
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static byte[] getByteArray(InputStream input, long expectedLength) throws IOException {
+        if (expectedLength < 0 || expectedLength > Integer.MAX_VALUE - READABLE_BUFFER_SIZE) {
+            return getByteArray(input);
+        }
+        byte[] content = new byte[(int) expectedLength];
+        int offset = 0;
+        int len;
+        while (offset < content.length && (len = input.read(content, offset, content.length - offset)) != -1) {
+            offset += len;
+        }
+        if (offset < content.length) {
+            return Arrays.copyOf(content, offset);
+        }
+        int next = input.read();
+        if (next == -1) {
+            return content;
+        }
+        //The stream is longer than expected, hence the rest is read through the growing buffer
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream(content.length + READABLE_BUFFER_SIZE)) {
+            output.write(content);
+            output.write(next);
+            writeInputToOutputStream(input, output);
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * Get the number of bytes which may be kept in memory while buffering an entity body or a body part. Content
+     * beyond this threshold is written to a temporary file. The threshold can be set in bytes through the
+     * {@code b7a.mime.memory.threshold} configuration, otherwise a percentage of the free memory is used. Content in
+     * memory is held in a single byte array, so the threshold never exceeds the maximum size of an array.
+     *
+     * @return memory threshold in bytes
+     */
+    public static long getMemoryThreshold() {
+        String threshold = ConfigRegistry.getInstance().getConfigOrDefault(MEMORY_THRESHOLD_CONFIG, null);
+        if (isNotNullAndEmpty(threshold)) {
+            try {
+                return Math.min(Long.parseLong(threshold.trim()), MAX_MEMORY_THRESHOLD);
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value '" + threshold + "' for " + MEMORY_THRESHOLD_CONFIG +
+                                 ", hence the default memory threshold is used");
+            }
+        }
+        return Math.min((long) (Runtime.getRuntime().freeMemory() * MAX_THRESHOLD_PERCENTAGE), MAX_MEMORY_THRESHOLD);
+    }
+
     /**
      * Check whether the given string is not null and empty.
      *
@@ -39,7 +39,6 @@ import static org.ballerinalang.mime.util.MimeConstants.CONTENT_ID_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_HEADERS;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_ELEMENT;
-import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PARSING_ENTITY_BODY_FAILED;
@@ -93,21 +92,10 @@ public class MultipartDecoder {
      */
     private static MIMEConfig getMimeConfig() {
         MIMEConfig mimeConfig = new MIMEConfig();
-        mimeConfig.setMemoryThreshold(getMemoryThreshold());
+        mimeConfig.setMemoryThreshold(MimeUtil.getMemoryThreshold());
         return mimeConfig;
     }
 
-    /**
-     * Get the maximum memory threshold value to be used with multiparts.
-     *
-     * @return max threshold value
-     */
-    private static Long getMemoryThreshold() {
-        Long freeMemorySize = Runtime.getRuntime().freeMemory();
-        Double maxThreshold = freeMemorySize * MAX_THRESHOLD_PERCENTAGE;
-        return maxThreshold.longValue();
-    }
-
     /**
      * Populate ballerina body parts from the given mime parts and set it to top level entity.
      *  @param entity    Represent top level entity that the body parts needs to be attached to
@@ -0,0 +1,138 @@
+/*
+*  Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.mime.util;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.ballerinalang.mime.util.MimeConstants.READABLE_BUFFER_SIZE;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_EXTENSION;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_NAME;
+
+/**
+ * Output stream which keeps the written content in memory until it exceeds the given threshold, after which the
+ * content is moved to a temporary file and the rest is written there.
+ *
+ * @since 1.1.0
+ */
+public class OverflowOutputStream extends OutputStream {
+
+    private final long memoryThreshold;
+    private MemoryBuffer memoryBuffer = new MemoryBuffer();
+    private Path tempFile;
+    private OutputStream fileOutputStream;
+
+    public OverflowOutputStream(long memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        getOutputStream(1).write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        getOutputStream(len).write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileOutputStream != null) {
+            fileOutputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileOutputStream != null) {
+            fileOutputStream.close();
+        }
+    }
+
+    /**
+     * Check whether the written content has been moved to a temporary file.
+     *
+     * @return true if the content is in a temporary file
+     */
+    public boolean isInFile() {
+        return tempFile != null;
+    }
+
+    /**
+     * Discard the written content. The stream is closed and the temporary file, if the content was moved to one, is
+     * deleted.
+     *
+     * @throws IOException if an error occurs while closing the stream or deleting the temporary file
+     */
+    public void discard() throws IOException {
+        memoryBuffer = null;
+        try {
+            close();
+        } finally {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Get a channel to read the written content. The stream should be closed before calling this. If the content is
+     * in a temporary file, the file is deleted once the returned channel is closed.
+     *
+     * @return Channel which represent the written content
+     */
+    public Channel getChannel() {
+        if (tempFile != null) {
+            return EntityBodyHandler.getByteChannelForTempFile(tempFile.toString());
+        }
+        return new EntityWrapper(new EntityBodyChannel(memoryBuffer.getInputStream()));
+    }
+
+    private OutputStream getOutputStream(int len) throws IOException {
+        if (fileOutputStream != null) {
+            return fileOutputStream;
+        }
+        if (memoryBuffer.size() + (long) len <= memoryThreshold) {
+            return memoryBuffer;
+        }
+        tempFile = Files.createTempFile(TEMP_FILE_NAME, TEMP_FILE_EXTENSION);
+        fileOutputStream = new BufferedOutputStream(Files.newOutputStream(tempFile), READABLE_BUFFER_SIZE);
+        memoryBuffer.writeTo(fileOutputStream);
+        memoryBuffer = null;
+        return fileOutputStream;
+    }
+
+    /**
+     * In memory buffer which exposes its content as an input stream without copying it.
+     */
+    private static class MemoryBuffer extends ByteArrayOutputStream {
+
+        ByteArrayInputStream getInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
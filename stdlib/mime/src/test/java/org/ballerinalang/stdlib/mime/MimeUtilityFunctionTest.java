@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.mime;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BTypes;
@@ -28,6 +29,7 @@ import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDecoder;
+import org.ballerinalang.mime.util.OverflowOutputStream;
 import org.ballerinalang.model.util.JsonParser;
 import org.ballerinalang.model.util.StringUtils;
 import org.ballerinalang.model.util.XMLUtils;
@@ -49,10 +51,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.activation.MimeTypeParseException;
@@ -62,7 +68,9 @@ import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_FILE
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_NAME_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_STRUCT;
 import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_MEMORY_THRESHOLD;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.MEMORY_THRESHOLD_CONFIG;
 import static org.ballerinalang.mime.util.MimeConstants.PARAMETER_MAP_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PARSING_ENTITY_BODY_FAILED;
 import static org.ballerinalang.mime.util.MimeConstants.PRIMARY_TYPE_FIELD;
@@ -71,6 +79,7 @@ import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
 import static org.ballerinalang.mime.util.MimeConstants.READABLE_BYTE_CHANNEL_STRUCT;
 import static org.ballerinalang.mime.util.MimeConstants.SUBTYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.SUFFIX_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_NAME;
 import static org.ballerinalang.stdlib.common.CommonTestUtils.assertJBytesWithBBytes;
 import static org.ballerinalang.stdlib.mime.Util.getTemporaryFile;
 import static org.ballerinalang.stdlib.mime.Util.validateBodyPartContent;
@@ -770,6 +779,77 @@ public class MimeUtilityFunctionTest {
         }
     }
 
+    @Test(description = "Content which exceeds the memory threshold should be moved to a temp file, which gets " +
+            "deleted once the channel is closed")
+    public void testOverflowToTempFile() throws IOException {
+        File tempDirectory = new File(System.getProperty("java.io.tmpdir"));
+        List<String> existingTempFiles = Arrays.asList(tempDirectory.list());
+        OverflowOutputStream outputStream = new OverflowOutputStream(8);
+        outputStream.write("Small".getBytes(StandardCharsets.UTF_8));
+        Assert.assertFalse(outputStream.isInFile());
+        outputStream.write(" content in file".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(outputStream.isInFile());
+        List<File> createdTempFiles = getCreatedTempFiles(tempDirectory, existingTempFiles);
+        Assert.assertFalse(createdTempFiles.isEmpty(), "Content was not moved to a temp file");
+        outputStream.close();
+        Channel channel = outputStream.getChannel();
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        MimeUtil.writeInputToOutputStream(channel.getInputStream(), result);
+        Assert.assertEquals(result.toString("UTF-8"), "Small content in file");
+        channel.close();
+        for (File file : createdTempFiles) {
+            Assert.assertFalse(file.exists(), "Temp file was not deleted");
+        }
+    }
+
+    @Test(description = "Discarding the content should delete the temp file it was moved to")
+    public void testDiscardOverflowedContent() throws IOException {
+        File tempDirectory = new File(System.getProperty("java.io.tmpdir"));
+        List<String> existingTempFiles = Arrays.asList(tempDirectory.list());
+        OverflowOutputStream outputStream = new OverflowOutputStream(8);
+        outputStream.write("Content in file".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(outputStream.isInFile());
+        List<File> createdTempFiles = getCreatedTempFiles(tempDirectory, existingTempFiles);
+        Assert.assertFalse(createdTempFiles.isEmpty(), "Content was not moved to a temp file");
+        outputStream.discard();
+        for (File file : createdTempFiles) {
+            Assert.assertFalse(file.exists(), "Temp file was not deleted");
+        }
+    }
+
+    @Test(description = "Memory threshold should not exceed the maximum size of an array")
+    public void testMemoryThresholdLimit() {
+        ConfigRegistry registry = ConfigRegistry.getInstance();
+        try {
+            registry.addConfiguration(MEMORY_THRESHOLD_CONFIG, "1024");
+            Assert.assertEquals(MimeUtil.getMemoryThreshold(), 1024);
+            registry.addConfiguration(MEMORY_THRESHOLD_CONFIG, String.valueOf(Long.MAX_VALUE));
+            Assert.assertEquals(MimeUtil.getMemoryThreshold(), MAX_MEMORY_THRESHOLD);
+        } finally {
+            registry.removeConfiguration(MEMORY_THRESHOLD_CONFIG);
+        }
+        Assert.assertTrue(MimeUtil.getMemoryThreshold() <= MAX_MEMORY_THRESHOLD);
+    }
+
+    @Test(description = "Reading a byte array should not depend on the expected length being accurate")
+    public void testGetByteArrayWithExpectedLength() throws IOException {
+        byte[] content = "Byte array content".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), content.length), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), 4), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), 100), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), -1), content);
+    }
+
+    private static List<File> getCreatedTempFiles(File tempDirectory, List<String> existingTempFiles) {
+        List<File> createdTempFiles = new ArrayList<>();
+        for (File file : tempDirectory.listFiles((directory, name) -> name.startsWith(TEMP_FILE_NAME))) {
+            if (!existingTempFiles.contains(file.getName())) {
+                createdTempFiles.add(file);
+            }
+        }
+        return createdTempFiles;
+    }
+
     @SuppressWarnings("unchecked")
     private void assertErrorDetail(BValue error, String expectedMsg) {
         BMap<String, BValue> err = (BMap<String, BValue>) ((BError) error).getDetails();
@@ -47,12 +47,15 @@ public class ChannelRegisterCallback {
     }
 
     /**
-     * Notifies the worker to resume the hold thread.
+     * Notifies the worker to resume the hold thread. There is no worker to notify for the clients accepted by a
+     * server socket.
      *
      * @param serviceAttached whether to invoke onConnect or not.
      */
     public void notifyRegister(boolean serviceAttached) {
-        callback.notifySuccess();
+        if (callback != null) {
+            callback.notifySuccess();
+        }
         if (serviceAttached) {
             SelectorDispatcher.invokeOnConnect(socketService);
         }
@@ -64,6 +67,10 @@ public class ChannelRegisterCallback {
      * @param errorMsg the error message
      */
     public void notifyFailure(String errorMsg) {
+        if (callback == null) {
+            SelectorDispatcher.invokeOnError(socketService, errorMsg);
+            return;
+        }
         ErrorValue error = SocketUtils.createSocketError(errorMsg);
         callback.notifyFailure(error);
         // We don't need to dispatch the error to the onError here.
@@ -23,8 +23,9 @@ import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.ballerinalang.stdlib.socket.SocketConstants;
 
 import java.nio.ByteBuffer;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This will hold information related to the pending read actions.
@@ -33,12 +34,15 @@ import java.util.TimerTask;
  */
 public class ReadPendingCallback {
 
+    // Read timeouts of all the sockets are scheduled in a single thread rather than a timer thread per read.
+    private static final ScheduledThreadPoolExecutor timeoutScheduler = createTimeoutScheduler();
+
     private NonBlockingCallback callback;
     private final int expectedLength;
     private int currentLength;
     private ByteBuffer buffer;
     private int socketHash;
-    private Timer timer;
+    private ScheduledFuture<?> timeoutFuture;
     private long timeout;
 
     public ReadPendingCallback(NonBlockingCallback callback, int expectedLength, int socketHash, long timeout) {
@@ -74,40 +78,40 @@ public class ReadPendingCallback {
     }
 
     private void scheduleTimeout(long timeout) {
-        timer = getTimer();
-        timer.schedule(getTimerTask(), timeout);
+        timeoutFuture = timeoutScheduler.schedule(this::onTimeout, timeout, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Reset the timer to original time. This will create a new timer instance and start the count down.
+     * Reset the timer to original time. This will cancel the scheduled timeout and start the count down again.
      */
     void resetTimeout() {
-        timer.cancel();
-        timer = getTimer();
-        timer.schedule(getTimerTask(), this.timeout);
+        timeoutFuture.cancel(false);
+        scheduleTimeout(this.timeout);
     }
 
     /**
      * Cancel already running timer.
      */
     void cancelTimeout() {
-        timer.cancel();
+        timeoutFuture.cancel(false);
     }
 
-    private Timer getTimer() {
-        return new Timer("B7aSocketTimeoutTimer");
+    private void onTimeout() {
+        ReadPendingSocketMap.getInstance().remove(socketHash);
+        final ErrorValue timeoutError =
+                SocketUtils.createSocketError(SocketConstants.ErrorCode.ReadTimedOutError, "read timed out");
+        callback.setReturnValues(timeoutError);
+        callback.notifySuccess();
     }
 
-    private TimerTask getTimerTask() {
-        return new TimerTask() {
-            public void run() {
-                ReadPendingSocketMap.getInstance().remove(socketHash);
-                final ErrorValue timeoutError =
-                        SocketUtils.createSocketError(SocketConstants.ErrorCode.ReadTimedOutError, "read timed out");
-                callback.setReturnValues(timeoutError);
-                callback.notifySuccess();
-                cancel();
-            }
-        };
+    private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "B7aSocketTimeoutTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Cancelled timeouts are removed right away, since most reads complete before they time out.
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.socket.tcp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+
+/**
+ * This will run a single selector and handle the accept and read ready events of the channels registered with it.
+ * {@link SelectorManager} spreads the channels over a number of these loops.
+ *
+ * @since 1.1.0
+ */
+class SelectorLoop implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(SelectorLoop.class);
+
+    private final SelectorManager selectorManager;
+    private final Selector selector;
+    private volatile boolean executing = true;
+    private ConcurrentLinkedQueue<ChannelRegisterCallback> registerPendingSockets = new ConcurrentLinkedQueue<>();
+    private ConcurrentLinkedQueue<Integer> readReadySockets = new ConcurrentLinkedQueue<>();
+
+    SelectorLoop(SelectorManager selectorManager) throws IOException {
+        this.selectorManager = selectorManager;
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Add channel to register pending socket queue. Socket registration has to be happen in the same thread
+     * that selector loop execute.
+     *
+     * @param callback A {@link ChannelRegisterCallback} instance which contains the {@link SocketService}
+     */
+    void registerChannel(ChannelRegisterCallback callback) {
+        registerPendingSockets.add(callback);
+        selector.wakeup();
+    }
+
+    /**
+     * Unregister the given channel if it is registered with this selector.
+     *
+     * @param channel {@link SelectableChannel} that about to unregister.
+     */
+    void unRegisterChannel(SelectableChannel channel) {
+        final SelectionKey selectionKey = channel.keyFor(selector);
+        if (selectionKey != null) {
+            selectionKey.cancel();
+        }
+    }
+
+    /**
+     * Adding onReadReady finish notification to the queue and wakeup the selector.
+     *
+     * @param socketHashCode hashCode of the read ready socket.
+     */
+    void invokePendingReadReadyResources(int socketHashCode) {
+        readReadySockets.add(socketHashCode);
+        selector.wakeup();
+    }
+
+    void start() {
+        executing = true;
+    }
+
+    void stop() {
+        executing = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        while (executing) {
+            try {
+                registerChannels();
+                invokeReadReadyResources();
+                if (selector.select() == 0) {
+                    continue;
+                }
+                Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
+                while (keyIterator.hasNext()) {
+                    SelectionKey key = keyIterator.next();
+                    keyIterator.remove();
+                    performAction(key);
+                }
+            } catch (Throwable e) {
+                log.error("An error occurred in selector loop: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /*
+    Channel registration has to be done in the same thread that selector loops runs.
+     */
+    private void registerChannels() {
+        ChannelRegisterCallback channelRegisterCallback;
+        while ((channelRegisterCallback = registerPendingSockets.poll()) != null) {
+            SocketService socketService = channelRegisterCallback.getSocketService();
+            try {
+                socketService.getSocketChannel()
+                        .register(selector, channelRegisterCallback.getInitialInterest(), socketService);
+            } catch (ClosedChannelException e) {
+                channelRegisterCallback.notifyFailure("socket already closed");
+                continue;
+            }
+            // Notification needs to happen to the client connection in the socket server only if the client has
+            // a callback service.
+            boolean serviceAttached = (socketService.getService() != null
+                    && channelRegisterCallback.getInitialInterest() == OP_READ);
+            channelRegisterCallback.notifyRegister(serviceAttached);
+        }
+    }
+
+    private void invokeReadReadyResources() {
+        final Iterator<Integer> iterator = readReadySockets.iterator();
+        while (iterator.hasNext()) {
+            Integer socketHashCode = iterator.next();
+            // Removing an entry from the readReadySockets queue is fine. This will cleanup the last entry that add due
+            // execution of TCPSocketReadCallback.
+            final SocketReader socketReader = ReadReadySocketMap.getInstance().get(socketHashCode);
+            // SocketReader can be null if there is no new read ready notification.
+            if (socketReader == null) {
+                continue;
+            }
+            iterator.remove();
+            final SocketService socketService = socketReader.getSocketService();
+            SelectorManager.invokeReadReadyResource(socketService);
+        }
+    }
+
+    private void performAction(SelectionKey key) {
+        if (!key.isValid()) {
+            key.cancel();
+        } else if (key.isAcceptable()) {
+            onAccept(key);
+        } else if (key.isReadable()) {
+            onReadReady(key);
+        }
+    }
+
+    private void onAccept(SelectionKey key) {
+        SocketService socketService = (SocketService) key.attachment();
+        ServerSocketChannel server = (ServerSocketChannel) socketService.getSocketChannel();
+        try {
+            SocketChannel client = server.accept();
+            // Accept can return null if another client was served already.
+            if (client == null) {
+                return;
+            }
+            client.configureBlocking(false);
+            // Creating a new SocketService instance with the newly accepted client.
+            // We don't need the ServerSocketChannel in here since we have all the necessary resources.
+            SocketService clientSocketService = new SocketService(client, socketService.getScheduler(),
+                    socketService.getService(), socketService.getReadTimeout());
+            // Accepted clients are spread over the selector loops. The onConnect resource is dispatched once the
+            // client is registered.
+            selectorManager.registerChannel(new ChannelRegisterCallback(clientSocketService, null, OP_READ));
+        } catch (ClosedByInterruptException e) {
+            SelectorDispatcher
+                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                    "client accept interrupt by another process");
+        } catch (AsynchronousCloseException e) {
+            SelectorDispatcher
+                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                            "client closed by another process");
+        } catch (ClosedChannelException e) {
+            SelectorDispatcher
+                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                            "client is already closed");
+        } catch (IOException e) {
+            log.error("An error occurred while accepting new client", e);
+            SelectorDispatcher
+                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                            "unable to accept a new client. " +  e.getMessage());
+        }
+    }
+
+    private void onReadReady(SelectionKey key) {
+        SocketService socketService = (SocketService) key.attachment();
+        // Remove further interest on future read ready requests until this one is served.
+        // This will prevent the busy loop.
+        key.interestOps(0);
+        // Add to the read ready queue. The content will be read through the caller->read action.
+        ReadReadySocketMap.getInstance().add(new SocketReader(socketService, key));
+        selectorManager.invokeRead(key.channel().hashCode(), socketService.getService() != null);
+    }
+}
@@ -36,23 +36,18 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
-import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.CancelledKeyException;
-import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.NotYetConnectedException;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
-import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.Arrays;
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.channels.SelectionKey.OP_READ;
 import static org.ballerinalang.stdlib.socket.SocketConstants.DEFAULT_EXPECTED_READ_LENGTH;
@@ -60,7 +55,8 @@ import static org.ballerinalang.stdlib.socket.SocketConstants.ErrorCode.ReadTime
 import static org.ballerinalang.stdlib.socket.SocketConstants.SOCKET_PACKAGE_ID;
 
 /**
- * This will manage the Selector instance and handle the accept, read and write operations.
+ * This will manage the selector loops and handle the read operations. Channels are registered with the selector
+ * loops in round robin order, so the accept and read ready events are handled by a number of threads.
  *
  * @since 0.985.0
  */
@@ -68,13 +64,16 @@ public class SelectorManager {
 
     private static final Logger log = LoggerFactory.getLogger(SelectorManager.class);
 
-    private Selector selector;
+    private static final int SELECTOR_LOOP_COUNT = Runtime.getRuntime().availableProcessors();
+    // Read buffers up to this size are kept per thread and reused for subsequent reads.
+    private static final int MAX_POOLED_READ_BUFFER_SIZE = 256 * 1024;
+    private static final ThreadLocal<ByteBuffer> readBuffers = new ThreadLocal<>();
+
+    private SelectorLoop[] selectorLoops;
+    private final AtomicInteger nextSelectorLoop = new AtomicInteger();
     private ThreadFactory threadFactory = new BLangThreadFactory("socket-selector");
     private ExecutorService executor = null;
     private boolean running = false;
-    private boolean executing = true;
-    private ConcurrentLinkedQueue<ChannelRegisterCallback> registerPendingSockets = new ConcurrentLinkedQueue<>();
-    private ConcurrentLinkedQueue<Integer> readReadySockets = new ConcurrentLinkedQueue<>();
     private final Object startStopLock = new Object();
     private static final BTupleType receiveFromResultTuple = new BTupleType(
             Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt,
@@ -83,7 +82,10 @@ public class SelectorManager {
             Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt));
 
     private SelectorManager() throws IOException {
-        selector = Selector.open();
+        selectorLoops = new SelectorLoop[SELECTOR_LOOP_COUNT];
+        for (int i = 0; i < selectorLoops.length; i++) {
+            selectorLoops[i] = new SelectorLoop(this);
+        }
     }
 
     /**
@@ -111,15 +113,15 @@ public class SelectorManager {
     }
 
     /**
-     * Add channel to register pending socket queue. Socket registration has to be happen in the same thread
-     * that selector loop execute.
+     * Add channel to the register pending socket queue of the next selector loop. Socket registration has to be
+     * happen in the same thread that selector loop execute.
      *
      * @param callback A {@link ChannelRegisterCallback} instance which contains the resources,
      *                      packageInfo and A {@link SelectableChannel}.
      */
     public void registerChannel(ChannelRegisterCallback callback) {
-        registerPendingSockets.add(callback);
-        selector.wakeup();
+        int index = Math.floorMod(nextSelectorLoop.getAndIncrement(), selectorLoops.length);
+        selectorLoops[index].registerChannel(callback);
     }
 
     /**
@@ -128,9 +130,8 @@ public class SelectorManager {
      * @param channel {@link SelectableChannel} that about to unregister.
      */
     public void unRegisterChannel(SelectableChannel channel) {
-        final SelectionKey selectionKey = channel.keyFor(selector);
-        if (selectionKey != null) {
-            selectionKey.cancel();
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            selectorLoop.unRegisterChannel(channel);
         }
     }
 
@@ -140,12 +141,12 @@ public class SelectorManager {
      * @param socketHashCode hashCode of the read ready socket.
      */
     void invokePendingReadReadyResources(int socketHashCode) {
-        readReadySockets.add(socketHashCode);
-        selector.wakeup();
+        selectorLoops[Math.floorMod(socketHashCode, selectorLoops.length)]
+                .invokePendingReadReadyResources(socketHashCode);
     }
 
     /**
-     * Start the selector loop.
+     * Start the selector loops.
      */
     public void start() {
         synchronized (startStopLock) {
@@ -153,127 +154,16 @@ public class SelectorManager {
                 return;
             }
             if (executor == null || executor.isTerminated()) {
-                executor = Executors.newSingleThreadExecutor(threadFactory);
+                executor = Executors.newFixedThreadPool(selectorLoops.length, threadFactory);
             }
             running = true;
-            executing = true;
-            executor.execute(this::execute);
-        }
-    }
-
-    private void execute() {
-        while (executing) {
-            try {
-                registerChannels();
-                invokeReadReadyResources();
-                if (selector.select() == 0) {
-                    continue;
-                }
-                Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
-                while (keyIterator.hasNext()) {
-                    SelectionKey key = keyIterator.next();
-                    keyIterator.remove();
-                    performAction(key);
-                }
-            } catch (Throwable e) {
-                log.error("An error occurred in selector loop: " + e.getMessage(), e);
-            }
-        }
-    }
-
-    /*
-    Channel registration has to be done in the same thread that selector loops runs.
-     */
-    private void registerChannels() {
-        ChannelRegisterCallback channelRegisterCallback;
-        while ((channelRegisterCallback = registerPendingSockets.poll()) != null) {
-            SocketService socketService = channelRegisterCallback.getSocketService();
-            try {
-                socketService.getSocketChannel()
-                        .register(selector, channelRegisterCallback.getInitialInterest(), socketService);
-            } catch (ClosedChannelException e) {
-                channelRegisterCallback.notifyFailure("socket already closed");
-                continue;
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                selectorLoop.start();
+                executor.execute(selectorLoop);
             }
-            // Notification needs to happen to the client connection in the socket server only if the client has
-            // a callback service.
-            boolean serviceAttached = (socketService.getService() != null
-                    && channelRegisterCallback.getInitialInterest() == OP_READ);
-            channelRegisterCallback.notifyRegister(serviceAttached);
-        }
-    }
-
-    private void invokeReadReadyResources() {
-        final Iterator<Integer> iterator = readReadySockets.iterator();
-        while (iterator.hasNext()) {
-            Integer socketHashCode = iterator.next();
-            // Removing an entry from the readReadySockets queue is fine. This will cleanup the last entry that add due
-            // execution of TCPSocketReadCallback.
-            final SocketReader socketReader = ReadReadySocketMap.getInstance().get(socketHashCode);
-            // SocketReader can be null if there is no new read ready notification.
-            if (socketReader == null) {
-                continue;
-            }
-            iterator.remove();
-            final SocketService socketService = socketReader.getSocketService();
-            invokeReadReadyResource(socketService);
-        }
-    }
-
-    private void performAction(SelectionKey key) {
-        if (!key.isValid()) {
-            key.cancel();
-        } else if (key.isAcceptable()) {
-            onAccept(key);
-        } else if (key.isReadable()) {
-            onReadReady(key);
         }
     }
 
-    private void onAccept(SelectionKey key) {
-        SocketService socketService = (SocketService) key.attachment();
-        ServerSocketChannel server = (ServerSocketChannel) socketService.getSocketChannel();
-        try {
-            SocketChannel client = server.accept();
-            client.configureBlocking(false);
-            // Creating a new SocketService instance with the newly accepted client.
-            // We don't need the ServerSocketChannel in here since we have all the necessary resources.
-            SocketService clientSocketService = new SocketService(client, socketService.getScheduler(),
-                    socketService.getService(), socketService.getReadTimeout());
-            // Registering the channel against the selector directly without going through the queue,
-            // since we are in same thread.
-            client.register(selector, OP_READ, clientSocketService);
-            SelectorDispatcher.invokeOnConnect(clientSocketService);
-        } catch (ClosedByInterruptException e) {
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                    "client accept interrupt by another process");
-        } catch (AsynchronousCloseException e) {
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                            "client closed by another process");
-        } catch (ClosedChannelException e) {
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                            "client is already closed");
-        } catch (IOException e) {
-            log.error("An error occurred while accepting new client", e);
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                            "unable to accept a new client. " +  e.getMessage());
-        }
-    }
-
-    private void onReadReady(SelectionKey key) {
-        SocketService socketService = (SocketService) key.attachment();
-        // Remove further interest on future read ready requests until this one is served.
-        // This will prevent the busy loop.
-        key.interestOps(0);
-        // Add to the read ready queue. The content will be read through the caller->read action.
-        ReadReadySocketMap.getInstance().add(new SocketReader(socketService, key));
-        invokeRead(key.channel().hashCode(), socketService.getService() != null);
-    }
-
     /**
      * Perform the read operation for the given socket. This will either read data from the socket channel or dispatch
      * to the onReadReady resource if resource's lock available.
@@ -319,13 +209,12 @@ public class SelectorManager {
             final int bufferPosition = buffer.position();
             callback.updateCurrentLength(bufferPosition);
             // Re-register for read ready events.
-            socketReader.getSelectionKey().interestOps(OP_READ);
-            selector.wakeup();
+            reRegisterReadInterest(socketReader);
+            buffer.flip();
             if (callback.getExpectedLength() != DEFAULT_EXPECTED_READ_LENGTH) {
                 if (callback.getBuffer() == null) {
-                    callback.setBuffer(ByteBuffer.allocate(buffer.capacity()));
+                    callback.setBuffer(ByteBuffer.allocate(callback.getExpectedLength()));
                 }
-                buffer.flip();
                 callback.getBuffer().put(buffer);
             }
             if (callback.getExpectedLength() != DEFAULT_EXPECTED_READ_LENGTH && callback.getExpectedLength() != callback
@@ -334,8 +223,7 @@ public class SelectorManager {
                 invokeRead(channel.hashCode(), false);
                 return;
             }
-            byte[] bytes = SocketUtils
-                    .getByteArrayFromByteBuffer(callback.getBuffer() == null ? buffer : callback.getBuffer());
+            byte[] bytes = getReadContent(callback, buffer);
             callback.getCallback().setReturnValues(createUdpSocketReturnValue(callback, bytes, remoteAddress));
             callback.getCallback().notifySuccess();
             callback.cancelTimeout();
@@ -356,27 +244,29 @@ public class SelectorManager {
             ByteBuffer buffer = createBuffer(callback, socketChannel);
             int read = socketChannel.read(buffer);
             callback.resetTimeout();
+            buffer.flip();
             if (read < 0) {
                 SelectorManager.getInstance().unRegisterChannel(socketChannel);
             } else {
                 callback.updateCurrentLength(read);
                 // Re-register for read ready events.
-                socketReader.getSelectionKey().interestOps(OP_READ);
-                selector.wakeup();
-                if (callback.getBuffer() == null) {
-                    callback.setBuffer(ByteBuffer.allocate(buffer.capacity()));
-                }
-                buffer.flip();
-                callback.getBuffer().put(buffer);
+                reRegisterReadInterest(socketReader);
                 if (callback.getExpectedLength() != DEFAULT_EXPECTED_READ_LENGTH
                         && callback.getExpectedLength() != callback.getCurrentLength()) {
+                    // Partially read content is kept in the callback until the expected length is read.
+                    if (callback.getBuffer() == null) {
+                        callback.setBuffer(ByteBuffer.allocate(callback.getExpectedLength()));
+                    }
+                    callback.getBuffer().put(buffer);
                     ReadPendingSocketMap.getInstance().add(socketChannel.hashCode(), callback);
                     invokeRead(socketChannel.hashCode(), socketReader.getSocketService().getService() != null);
                     return;
                 }
+                if (callback.getBuffer() != null) {
+                    callback.getBuffer().put(buffer);
+                }
             }
-            byte[] bytes = SocketUtils
-                    .getByteArrayFromByteBuffer(callback.getBuffer() == null ? buffer : callback.getBuffer());
+            byte[] bytes = getReadContent(callback, buffer);
             callback.getCallback().setReturnValues(createTcpSocketReturnValue(callback, bytes));
             callback.getCallback().notifySuccess();
             callback.cancelTimeout();
@@ -393,6 +283,25 @@ public class SelectorManager {
         }
     }
 
+    private void reRegisterReadInterest(SocketReader socketReader) {
+        SelectionKey selectionKey = socketReader.getSelectionKey();
+        selectionKey.interestOps(OP_READ);
+        selectionKey.selector().wakeup();
+    }
+
+    /*
+    Returns the content read so far. The read buffer is flipped and may be reused by the thread for the next read,
+    hence its content is copied.
+     */
+    private byte[] getReadContent(ReadPendingCallback callback, ByteBuffer buffer) {
+        if (callback.getBuffer() != null) {
+            return SocketUtils.getByteArrayFromByteBuffer(callback.getBuffer());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
     private void processError(ReadPendingCallback callback, SocketConstants.ErrorCode code, String msg) {
         ErrorValue socketError =
                 code == null ? SocketUtils.createSocketError(msg) : SocketUtils.createSocketError(code, msg);
@@ -420,15 +329,26 @@ public class SelectorManager {
     }
 
     private ByteBuffer createBuffer(ReadPendingCallback callback, int osBufferSize) {
-        ByteBuffer buffer;
+        int bufferSize;
         // If the length is not specified in the read action then create a byte buffer to match the size of
         // the receiver buffer.
         if (callback.getExpectedLength() == DEFAULT_EXPECTED_READ_LENGTH) {
-            buffer = ByteBuffer.allocate(osBufferSize);
+            bufferSize = osBufferSize;
         } else {
-            int newBufferSize = callback.getExpectedLength() - callback.getCurrentLength();
-            buffer = ByteBuffer.allocate(newBufferSize);
+            bufferSize = callback.getExpectedLength() - callback.getCurrentLength();
+        }
+        if (bufferSize > MAX_POOLED_READ_BUFFER_SIZE) {
+            return ByteBuffer.allocate(bufferSize);
         }
+        // Reading into a direct buffer avoids the temporary direct buffer the channel would otherwise copy through.
+        ByteBuffer buffer = readBuffers.get();
+        if (buffer == null || buffer.capacity() < bufferSize) {
+            buffer = ByteBuffer.allocateDirect(
+                    Math.max(bufferSize, Math.min(osBufferSize, MAX_POOLED_READ_BUFFER_SIZE)));
+            readBuffers.set(buffer);
+        }
+        buffer.clear();
+        buffer.limit(bufferSize);
         return buffer;
     }
 
@@ -441,7 +361,7 @@ public class SelectorManager {
         return createBuffer(callback, socketChannel.socket().getReceiveBufferSize());
     }
 
-    private void invokeReadReadyResource(SocketService socketService) {
+    static void invokeReadReadyResource(SocketService socketService) {
         // If lock is not available then already inside the resource.
         // If lock is available then invoke the resource dispatch.
         if (socketService.getResourceLock().tryAcquire()) {
@@ -450,7 +370,7 @@ public class SelectorManager {
     }
 
     /**
-     * Stop the selector loop.
+     * Stop the selector loops.
      *
      * @param graceful whether to shutdown executor gracefully or not
      */
@@ -469,9 +389,10 @@ public class SelectorManager {
 
     private void stop() {
         synchronized (startStopLock) {
-            executing = false;
             running = false;
-            selector.wakeup();
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                selectorLoop.stop();
+            }
         }
     }
 }
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.system.nativeimpl;
 
+import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.stdlib.system.utils.SystemConstants;
 import org.ballerinalang.stdlib.system.utils.SystemUtils;
@@ -35,11 +36,13 @@ public class WaitForExit {
 
     public static Object waitForExit(ObjectValue objVal) {
         Process process = SystemUtils.processFromObject(objVal);
-        try {
-            return process.waitFor();
-        } catch (InterruptedException e) {
-            log.error("Interrupted error while process wait for exit", e);
-            return SystemUtils.getBallerinaError(SystemConstants.PROCESS_EXEC_ERROR, e);
-        }
+        return BRuntime.runBlocking(() -> {
+            try {
+                return process.waitFor();
+            } catch (InterruptedException e) {
+                log.error("Interrupted error while process wait for exit", e);
+                return SystemUtils.getBallerinaError(SystemConstants.PROCESS_EXEC_ERROR, e);
+            }
+        });
     }
 }
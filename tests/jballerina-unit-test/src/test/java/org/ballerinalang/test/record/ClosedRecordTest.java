@@ -27,6 +27,7 @@ import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -323,4 +324,16 @@ public class ClosedRecordTest {
         BAssertUtil.validateError(result, index++, "undefined field 'z' in record 'Foo'", 46, 48);
         Assert.assertEquals(result.getErrorCount(), index);
     }
+
+    @Test
+    public void testPrimitiveFieldAccess() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testPrimitiveFieldAccess");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*modification not allowed on readonly value.*")
+    public void testPrimitiveFieldUpdateOfFrozenRecord() {
+        BRunUtil.invoke(compileResult, "testPrimitiveFieldUpdateOfFrozenRecord");
+    }
 }
@@ -18,6 +18,17 @@
 
 package org.ballerinalang.test.types.table;
 
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.query.TableQuery;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.util.BCompileUtil;
@@ -27,18 +38,47 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Testcase for table sql queries.
  */
 public class TableSqlQueryTest {
 
+    private static final BPackage QUERY_PKG = new BPackage("ballerina", "tablequerytest");
+
     private CompileResult result;
     private CompileResult resultHelper;
+    private BRecordType employeeType;
+    private InMemoryTable employeeTable;
+    private InMemoryTable departmentTable;
 
     @BeforeClass
     public void setup() {
         result = BCompileUtil.compile("test-src/types/table/table_sql.bal");
 //        resultHelper = BCompileUtil.compile("test-src/types/table/table_test_helper.bal");
+
+        employeeType = createRecordType("Employee", "id", BTypes.typeInt, "name", BTypes.typeString, "deptId",
+                                        new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)),
+                                        "salary", BTypes.typeInt);
+        employeeTable = new InMemoryTable(employeeType, new ArrayValueImpl(new String[]{"id"}));
+        employeeTable.add(createRecord(employeeType, 1L, "jane", 1L, 100L));
+        employeeTable.add(createRecord(employeeType, 2L, "kane", 1L, 200L));
+        employeeTable.add(createRecord(employeeType, 3L, "jack", 2L, 300L));
+        employeeTable.add(createRecord(employeeType, 4L, "alex", null, 400L));
+
+        // department ids are not unique, so that joins produce a row for each matching department
+        BRecordType departmentType = createRecordType("Department", "id", BTypes.typeInt, "name",
+                                                      BTypes.typeString);
+        departmentTable = new InMemoryTable(departmentType, null);
+        departmentTable.add(createRecord(departmentType, 1L, "eng"));
+        departmentTable.add(createRecord(departmentType, 1L, "research"));
+        departmentTable.add(createRecord(departmentType, 2L, "sales"));
     }
 
     @Test(groups = "TableQueryTest", description = "Do a simple select all")
@@ -103,6 +143,131 @@ public class TableSqlQueryTest {
         Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
     }
 
+    @Test(groups = "TableQueryTest", description = "Do a select with a condition on the primary key")
+    public void testSelectWithPrimaryKeyCondition() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithPrimaryKeyCondition");
+        Assert.assertEquals(returns[0].stringValue(), "kane");
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a select with order by")
+    public void testSelectWithOrderBy() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithOrderBy");
+        Assert.assertEquals(returns[0].stringValue(), "kane jack jane");
+    }
+
+
+    @Test(groups = "TableQueryTest", description = "Do a hash join with duplicate keys and nil join columns")
+    public void testHashJoinWithDuplicateKeys() {
+        List<String> rows = executeQuery("(project (((col e name) -) ((col d name) -)) " +
+                                                 "(hashjoin ((col e deptId)) ((col d id)) - (scan 0 e) (scan 1 d)))",
+                                         createNamePairType());
+        Collections.sort(rows);
+        Assert.assertEquals(rows, Arrays.asList("jack:sales", "jane:eng", "jane:research", "kane:eng",
+                                                "kane:research"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a hash join with a residual condition")
+    public void testHashJoinWithCondition() {
+        List<String> rows = executeQuery("(project (((col e name) -) ((col d name) -)) " +
+                                                 "(hashjoin ((col e deptId)) ((col d id)) " +
+                                                 "(> (col e salary) (param 0)) (scan 0 e) (scan 1 d)))",
+                                         createNamePairType(), 150L);
+        Collections.sort(rows);
+        Assert.assertEquals(rows, Arrays.asList("jack:sales", "kane:eng", "kane:research"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a nested loop join with duplicate keys")
+    public void testNestedLoopJoinWithDuplicateKeys() {
+        List<String> rows = executeQuery("(project (((col e name) -) ((col d name) -)) " +
+                                                 "(join (== (col e deptId) (col d id)) (scan 0 e) (scan 1 d)))",
+                                         createNamePairType());
+        Collections.sort(rows);
+        Assert.assertEquals(rows, Arrays.asList("jack:sales", "jane:eng", "jane:research", "kane:eng",
+                                                "kane:research"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a nested loop join with a non equality condition")
+    public void testNestedLoopJoinWithInequality() {
+        List<String> rows = executeQuery("(project (((col e name) -) ((col d name) -)) " +
+                                                 "(join (< (col e deptId) (col d id)) (scan 0 e) (scan 1 d)))",
+                                         createNamePairType());
+        Collections.sort(rows);
+        Assert.assertEquals(rows, Arrays.asList("jane:sales", "kane:sales"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a group by with aggregates and having")
+    public void testGroupByWithHaving() {
+        BRecordType resultType = createRecordType("DepartmentSummary", "deptId",
+                                                  new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)),
+                                                  "employeeCount", BTypes.typeInt, "totalSalary", BTypes.typeInt);
+        String plan = "(project (((col e deptId) -) ((call count *) -) ((call sum (col e salary)) -)) " +
+                "(having (> (call count *) (param 0)) (group ((col e deptId)) (scan 0 e))))";
+        Assert.assertEquals(executeQuery(plan, resultType, 1L), Collections.singletonList("1:2:300"));
+        Assert.assertEquals(executeQuery(plan, resultType, 0L), Arrays.asList("1:2:300", "2:1:300", "():1:400"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do aggregates without a group by")
+    public void testAggregateWithoutGroupBy() {
+        BRecordType resultType = createRecordType("SalarySummary", "employeeCount", BTypes.typeInt, "maxSalary",
+                                                  BTypes.typeInt);
+        String plan = "(project (((call count *) -) ((call max (col e salary)) -)) " +
+                "(filter (> (col e salary) (param 0)) (scan 0 e)))";
+        Assert.assertEquals(executeQuery(plan, resultType, 150L), Collections.singletonList("3:400"));
+        // all the rows form a single group, hence there is a row even if no row matches
+        Assert.assertEquals(executeQuery(plan, resultType, 1000L), Collections.singletonList("0:()"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a select with conditions on a nil column")
+    public void testNilThreeValuedLogic() {
+        // nil == 2 is unknown, so the row of alex matches only because of the other operand of or
+        Assert.assertEquals(executeQuery("(filter (or (== (col e deptId) (param 0)) (> (col e salary) (param 1))) " +
+                                                 "(scan 0 e))", employeeType, 2L, 350L),
+                            Arrays.asList("3:jack:2:300", "4:alex:():400"));
+        // not of unknown is unknown, hence alex is not selected by either of the conditions
+        Assert.assertEquals(executeQuery("(filter (not (== (col e deptId) (param 0))) (scan 0 e))", employeeType,
+                                         1L), Collections.singletonList("3:jack:2:300"));
+        Assert.assertEquals(executeQuery("(filter (== (col e deptId) (param 0)) (scan 0 e))", employeeType, 1L),
+                            Arrays.asList("1:jane:1:100", "2:kane:1:200"));
+        // and is unknown if an operand is unknown and the other one is not false
+        Assert.assertEquals(executeQuery("(filter (not (and (== (col e deptId) (param 0)) (> (col e salary) " +
+                                                 "(param 1)))) (scan 0 e))", employeeType, 1L, 150L),
+                            Arrays.asList("1:jane:1:100", "3:jack:2:300"));
+        // nothing equals nil, not even a nil column
+        Assert.assertEquals(executeQuery("(filter (== (col e deptId) (param 0)) (scan 0 e))", employeeType,
+                                         (Object) null), Collections.emptyList());
+        // arithmetic on nil gives nil, which does not even equal itself
+        Assert.assertEquals(executeQuery("(filter (== (+ (col e deptId) (param 0)) (+ (col e deptId) (param 0))) " +
+                                                 "(scan 0 e))", employeeType, 1L),
+                            Arrays.asList("1:jane:1:100", "2:kane:1:200", "3:jack:2:300"));
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do an index scan on the primary key")
+    public void testIndexScanWithPrimaryKey() {
+        String plan = "(indexscan 0 e ((id (param 0))) " +
+                "(and (== (col e id) (param 0)) (> (col e salary) (param 1))))";
+        Assert.assertEquals(executeQuery(plan, employeeType, 3L, 0L), Collections.singletonList("3:jack:2:300"));
+        // the row found using the key is dropped if the rest of the condition does not hold
+        Assert.assertEquals(executeQuery(plan, employeeType, 3L, 300L), Collections.emptyList());
+        Assert.assertEquals(executeQuery(plan, employeeType, 5L, 0L), Collections.emptyList());
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do an index scan on a column which is not a primary key")
+    public void testIndexScanFallbackToScan() {
+        // deptId is not indexed, so all the rows with the given department are found by scanning the table
+        String plan = "(indexscan 0 e ((deptId (param 0))) (== (col e deptId) (param 0)))";
+        Assert.assertEquals(executeQuery(plan, employeeType, 1L), Arrays.asList("1:jane:1:100", "2:kane:1:200"));
+        Assert.assertEquals(executeQuery(plan, employeeType, (Object) null), Collections.emptyList());
+    }
+
+    @Test(groups = "TableQueryTest", description = "Do a select with order by and limit")
+    public void testOrderByWithLimit() {
+        Assert.assertEquals(executeQuery("(limit 2 (order (((col e salary) desc)) (scan 0 e)))", employeeType),
+                            Arrays.asList("4:alex:():400", "3:jack:2:300"));
+        Assert.assertEquals(executeQuery("(limit 10 (filter (> (col e salary) (param 0)) (scan 0 e)))",
+                                         employeeType, 150L),
+                            Arrays.asList("2:kane:1:200", "3:jack:2:300", "4:alex:():400"));
+        Assert.assertEquals(executeQuery("(limit 0 (scan 0 e))", employeeType), Collections.emptyList());
+    }
 
     //TODO: This works and should be enabled when BVM table impl is removed. Right now tables with same name cannot
     // co-exist in the same in-memory H2
@@ -116,4 +281,49 @@ public class TableSqlQueryTest {
                 + "married:false}, {id:3, age:27, salary:500.5, name:\"jack\", married:true}, {id:4, age:28, "
                 + "salary:600.5, name:\"alex\", married:false}]}");
     }
+
+    /**
+     * Executes a query plan over the employee and department tables, and returns each row of the result with the
+     * column values separated by ':'.
+     */
+    private List<String> executeQuery(String plan, BRecordType resultType, Object... params) {
+        InMemoryTable table = TableQuery.getQuery(plan).execute(employeeTable, departmentTable, resultType,
+                                                                new ArrayValueImpl(params,
+                                                                                   new BArrayType(BTypes.typeAnydata)));
+        String[] columns = resultType.getFields().keySet().toArray(new String[0]);
+        List<String> rows = new ArrayList<>();
+        for (Object[] row : table.getRows(columns)) {
+            StringBuilder builder = new StringBuilder();
+            for (Object value : row) {
+                if (builder.length() > 0) {
+                    builder.append(':');
+                }
+                builder.append(value == null ? "()" : value.toString());
+            }
+            rows.add(builder.toString());
+        }
+        return rows;
+    }
+
+    private static BRecordType createNamePairType() {
+        return createRecordType("NamePair", "employee", BTypes.typeString, "department", BTypes.typeString);
+    }
+
+    private static BRecordType createRecordType(String name, Object... fieldNamesAndTypes) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNamesAndTypes.length; i += 2) {
+            String fieldName = (String) fieldNamesAndTypes[i];
+            fields.put(fieldName, new BField((BType) fieldNamesAndTypes[i + 1], fieldName, 0));
+        }
+        return new BRecordType(name, QUERY_PKG, 0, fields, null, true, 0);
+    }
+
+    private static MapValueImpl<String, Object> createRecord(BRecordType type, Object... values) {
+        MapValueImpl<String, Object> record = new MapValueImpl<>(type);
+        String[] fieldNames = type.getFields().keySet().toArray(new String[0]);
+        for (int i = 0; i < values.length; i++) {
+            record.put(fieldNames[i], values[i]);
+        }
+        return record;
+    }
 }
@@ -301,3 +301,38 @@ function addStringToMapValue(string s) returns string {
     mapValue = mapValue + s;
     return mapValue;
 }
+
+type Counter record {|
+    int count;
+    float average;
+    boolean active;
+    int total?;
+    byte flags = 0;
+|};
+
+type CounterRef record {
+    int count;
+    float average;
+    boolean active;
+};
+
+function testPrimitiveFieldAccess() returns boolean {
+    Counter c = { count: 1, average: 1.5, active: false };
+    c.count = c.count + 2;
+    c.average = c.average * 2;
+    c.active = !c.active;
+    c.total = c.count;
+    int flags = c.flags;
+
+    // access the same fields through a structurally equivalent record type
+    CounterRef ref = c;
+    ref.count = ref.count + 1;
+    return c.count == 4 && c.average == 3.0 && c.active && c?.total == 3 && flags == 0 && ref.average == 3.0 &&
+            ref.active;
+}
+
+function testPrimitiveFieldUpdateOfFrozenRecord() {
+    Counter c = { count: 1, average: 1.5, active: false };
+    Counter frozen = c.cloneReadOnly();
+    frozen.count = 2;
+}
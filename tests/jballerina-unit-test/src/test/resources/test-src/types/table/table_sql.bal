@@ -358,3 +358,39 @@ function joinWithBallerinaSQLQuery(table<Person>|error personTable, table<Order>
     }
     return orderDetailsTable;
 }
+
+function testSelectWithPrimaryKeyCondition() returns string {
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 26, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 27, salary: 500.50, name: "jack", married: true };
+
+    table<Person> personTable = table {
+        { key id, age, salary, name, married, amount },
+        [p1, p2, p3]
+    };
+
+    table<Person> personTableCopy = from personTable where id == 2 && married == false select *;
+    string names = "";
+    foreach var p in personTableCopy {
+        names = names + p.name;
+    }
+    return names;
+}
+
+function testSelectWithOrderBy() returns string {
+    table<Person> personTable = table{};
+    Person p1 = { id: 1, age: 25, salary: 300.50, name: "jane", married: true };
+    Person p2 = { id: 2, age: 27, salary: 400.50, name: "kane", married: false };
+    Person p3 = { id: 3, age: 26, salary: 500.50, name: "jack", married: true };
+
+    checkpanic personTable.add(p1);
+    checkpanic personTable.add(p2);
+    checkpanic personTable.add(p3);
+
+    table<Person> personTableCopy = from personTable select * order by age descending;
+    string names = "";
+    foreach var p in personTableCopy {
+        names = names + p.name + " ";
+    }
+    return names.trim();
+}